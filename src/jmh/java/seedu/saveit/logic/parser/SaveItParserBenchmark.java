@@ -0,0 +1,51 @@
+package seedu.saveit.logic.parser;
+
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_NEW_TAG;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_SOLUTION_LINK;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_STATEMENT;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.saveit.logic.commands.Command;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the parsing of typical user input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaveItParserBenchmark {
+
+    @Param({"add i/NullPointer #1 d/cannot find object t/java t/solved",
+            "edit 1 i/ClassCast #2 d/wrong cast t/java",
+            "find null pointer exception",
+            "findtag t/java t/solved",
+            "sort freq",
+            "list"})
+    private String userInput;
+
+    private final SaveItParser parser = new SaveItParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(userInput, PREFIX_STATEMENT, PREFIX_SOLUTION_LINK, PREFIX_REMARK,
+                PREFIX_DESCRIPTION, PREFIX_TAG, PREFIX_NEW_TAG);
+    }
+}
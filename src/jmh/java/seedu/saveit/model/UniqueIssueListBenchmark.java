@@ -0,0 +1,67 @@
+package seedu.saveit.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the operations of {@code UniqueIssueList}, which check every issue for duplicates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueIssueListBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int issueCount;
+
+    private UniqueIssueList issueList;
+    private Issue lastIssue;
+    private Issue newIssue;
+    private Issue middleIssue;
+    private Issue editedMiddleIssue;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        issueList = new UniqueIssueList();
+        issueList.setIssues(generator.generateIssues(issueCount));
+        lastIssue = issueList.asUnmodifiableObservableList().get(issueCount - 1);
+        middleIssue = issueList.asUnmodifiableObservableList().get(issueCount / 2);
+        editedMiddleIssue = new Issue(middleIssue.getStatement(), middleIssue.getDescription(),
+                middleIssue.getSolutions(), middleIssue.getTags());
+        newIssue = generator.generateIssue(issueCount);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return issueList.contains(lastIssue);
+    }
+
+    /**
+     * Removes the issue again, so that every invocation adds to a list of the same size.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        issueList.add(newIssue);
+        issueList.remove(newIssue);
+    }
+
+    /**
+     * Sets the issue back, so that every invocation sets the same issue.
+     */
+    @Benchmark
+    public void setIssue() {
+        issueList.setIssue(middleIssue, editedMiddleIssue);
+        issueList.setIssue(editedMiddleIssue, middleIssue);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.saveit.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving and restoring the states of {@code VersionedSaveIt} for undo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedSaveItBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int issueCount;
+
+    private VersionedSaveIt versionedSaveIt;
+
+    @Setup
+    public void setUp() {
+        versionedSaveIt = new VersionedSaveIt(new SyntheticDataGenerator(1).generateSaveIt(issueCount));
+    }
+
+    /**
+     * Undoes the commit, so that the undone state is dropped by the next commit and the state list does not grow.
+     */
+    @Benchmark
+    public void commitAndUndo() {
+        versionedSaveIt.commit();
+        versionedSaveIt.undo();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.saveit.model.issue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures filtering all the issues with the predicates of the find commands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssuePredicateBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int issueCount;
+
+    private List<Issue> issues;
+    private IssueContainsKeywordsPredicate keywordsPredicate;
+    private IssueHasTagsPredicate tagsPredicate;
+
+    @Setup
+    public void setUp() {
+        issues = new SyntheticDataGenerator(1).generateIssues(issueCount);
+        keywordsPredicate = new IssueContainsKeywordsPredicate(Arrays.asList("null", "cast"));
+        tagsPredicate = new IssueHasTagsPredicate(Arrays.asList("java", "solved"));
+    }
+
+    @Benchmark
+    public long filterByKeywords() {
+        return issues.stream().filter(keywordsPredicate).count();
+    }
+
+    @Benchmark
+    public long filterByTags() {
+        return issues.stream().filter(tagsPredicate).count();
+    }
+}
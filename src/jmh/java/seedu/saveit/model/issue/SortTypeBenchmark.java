@@ -0,0 +1,49 @@
+package seedu.saveit.model.issue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures sorting all the issues with the comparator of each {@code SortType}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SortTypeBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int issueCount;
+
+    @Param({SortType.FREQUENCY_SORT, SortType.CHRONOLOGICAL_SORT, SortType.TAG_SORT})
+    private String sortType;
+
+    private List<Issue> issues;
+
+    @Setup
+    public void setUp() {
+        issues = new SyntheticDataGenerator(1).generateIssues(issueCount);
+    }
+
+    /**
+     * Includes the cost of copying the issues, so that every invocation sorts the issues in the same order.
+     */
+    @Benchmark
+    public List<Issue> sort() {
+        List<Issue> sortedIssues = new ArrayList<>(issues);
+        sortedIssues.sort(new SortType(sortType).getComparator());
+        return sortedIssues;
+    }
+}
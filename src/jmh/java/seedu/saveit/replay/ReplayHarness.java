@@ -0,0 +1,235 @@
+package seedu.saveit.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import seedu.saveit.commons.core.Config;
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.core.LatencyHistogram;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.logic.LogicManager;
+import seedu.saveit.logic.SuggestionLogicManager;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.logic.parser.SaveItParser;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.ModelManager;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+import seedu.saveit.storage.TextCommandHistoryStorage;
+
+/**
+ * Replays a script of commands through {@code LogicManager} and {@code SuggestionLogicManager}, without the GUI,
+ * against issues generated by {@code SyntheticDataGenerator}, and reports the throughput and latencies of each type
+ * of command.
+ *
+ * The script is a command history file, i.e. one command per line. While a command is "typed", its suggestions are
+ * evaluated at the end of every word, as the user typically pauses there. Nothing is saved to the hard disk.
+ */
+public class ReplayHarness {
+
+    public static final String MESSAGE_USAGE = "Usage: ReplayHarness SCRIPT [--issues COUNT] [--seed SEED] "
+            + "[--warmup RUNS] [--repeat TIMES]";
+
+    private static final String SUGGESTION_TYPE = "(suggestion)";
+    private static final String OTHER_TYPE = "(other input)";
+    private static final String REPORT_HEADER_FORMAT = "%-24s %8s %8s %10s %10s %10s %10s%n";
+    private static final String REPORT_ROW_FORMAT = "%-24s %8d %8d %10.1f %10d %10d %10d%n";
+
+    private final List<String> script;
+    private final int issueCount;
+    private final long seed;
+    private final SaveItParser parser = new SaveItParser();
+
+    public ReplayHarness(List<String> script, int issueCount, long seed) {
+        this.script = script;
+        this.issueCount = issueCount;
+        this.seed = seed;
+    }
+
+    /**
+     * Replays the script {@code times} times against freshly generated issues, and returns the statistics of each
+     * type of command. Generating the issues is not included in the elapsed time.
+     */
+    public Report replay(int times) {
+        // the handlers of earlier replays would otherwise keep receiving events
+        EventsCenter.clearSubscribers();
+        Model model = new ModelManager(new SyntheticDataGenerator(seed).generateSaveIt(issueCount), new UserPrefs());
+        LogicManager logic = new LogicManager(model);
+        SuggestionLogicManager suggestionLogic = new SuggestionLogicManager(model);
+
+        Map<String, TypeStatistics> statistics = new TreeMap<>();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < times; i++) {
+            for (String commandText : script) {
+                type(suggestionLogic, commandText, statistics.computeIfAbsent(SUGGESTION_TYPE,
+                        unused -> new TypeStatistics()));
+                execute(logic, commandText, statistics.computeIfAbsent(getType(commandText),
+                        unused -> new TypeStatistics()));
+            }
+        }
+        return new Report(statistics, System.nanoTime() - startTime, script.size() * times);
+    }
+
+    /**
+     * Evaluates the suggestions of {@code commandText} at the end of each word, as if it was being typed.
+     */
+    private void type(SuggestionLogicManager suggestionLogic, String commandText, TypeStatistics statistics) {
+        for (int end = 1; end <= commandText.length(); end++) {
+            if (end < commandText.length() && commandText.charAt(end) != ' ') {
+                continue;
+            }
+            long startTime = System.nanoTime();
+            try {
+                suggestionLogic.evaluate(commandText.substring(0, end), end);
+                statistics.record(System.nanoTime() - startTime, false);
+            } catch (RuntimeException e) {
+                statistics.record(System.nanoTime() - startTime, true);
+            }
+        }
+    }
+
+    private void execute(LogicManager logic, String commandText, TypeStatistics statistics) {
+        long startTime = System.nanoTime();
+        try {
+            logic.execute(commandText);
+            statistics.record(System.nanoTime() - startTime, false);
+        } catch (CommandException | ParseException e) {
+            statistics.record(System.nanoTime() - startTime, true);
+        }
+    }
+
+    /**
+     * Returns the name of the command class of {@code commandText}, or {@code OTHER_TYPE} if it is not a command,
+     * e.g. if it confirms a command or is invalid.
+     */
+    private String getType(String commandText) {
+        try {
+            return parser.parseCommand(commandText).getClass().getSimpleName();
+        } catch (ParseException e) {
+            return OTHER_TYPE;
+        }
+    }
+
+    /**
+     * Replays the script given in {@code args}, first without measuring it to warm up the JVM.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length % 2 == 0) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path scriptFile = Paths.get(args[0]);
+        int issueCount = 10000;
+        long seed = 1;
+        int warmupRuns = 1;
+        int repeatCount = 1;
+        for (int i = 1; i < args.length; i += 2) {
+            switch (args[i]) {
+            case "--issues":
+                issueCount = Integer.parseInt(args[i + 1]);
+                break;
+            case "--seed":
+                seed = Long.parseLong(args[i + 1]);
+                break;
+            case "--warmup":
+                warmupRuns = Integer.parseInt(args[i + 1]);
+                break;
+            case "--repeat":
+                repeatCount = Integer.parseInt(args[i + 1]);
+                break;
+            default:
+                System.err.println(MESSAGE_USAGE);
+                System.exit(1);
+            }
+        }
+
+        // the log messages of every command would drown the report
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        List<String> script = new TextCommandHistoryStorage(scriptFile).readCommandHistory(Integer.MAX_VALUE);
+        System.out.printf("Replaying %d commands from %s against %d issues (seed %d)%n", script.size(), scriptFile,
+                issueCount, seed);
+        ReplayHarness harness = new ReplayHarness(script, issueCount, seed);
+        for (int i = 0; i < warmupRuns; i++) {
+            harness.replay(repeatCount);
+        }
+
+        harness.replay(repeatCount).print();
+        System.exit(0);
+    }
+
+    /**
+     * The latencies of one type of command.
+     */
+    public static class TypeStatistics {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long totalNanos;
+        private long failedCount;
+
+        void record(long nanos, boolean hasFailed) {
+            histogram.record(nanos);
+            totalNanos += nanos;
+            if (hasFailed) {
+                failedCount++;
+            }
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public long getFailedCount() {
+            return failedCount;
+        }
+    }
+
+    /**
+     * The statistics of a replay.
+     */
+    public static class Report {
+        private final Map<String, TypeStatistics> statistics;
+        private final long elapsedNanos;
+        private final int commandCount;
+
+        Report(Map<String, TypeStatistics> statistics, long elapsedNanos, int commandCount) {
+            this.statistics = statistics;
+            this.elapsedNanos = elapsedNanos;
+            this.commandCount = commandCount;
+        }
+
+        /**
+         * Returns the statistics of each type of command, keyed by type.
+         */
+        public Map<String, TypeStatistics> getStatistics() {
+            return statistics;
+        }
+
+        /**
+         * Prints the overall throughput, and the throughput and latencies of each type of command.
+         */
+        public void print() {
+            double elapsedSeconds = elapsedNanos / 1e9;
+            System.out.printf("Executed %d commands in %.2f s: %.1f commands/s%n%n", commandCount, elapsedSeconds,
+                    commandCount / elapsedSeconds);
+            System.out.printf(REPORT_HEADER_FORMAT, "Type", "Count", "Failed", "Ops/s", "p50 (us)", "p99 (us)",
+                    "p999 (us)");
+            statistics.forEach((type, typeStatistics) -> {
+                LatencyHistogram histogram = typeStatistics.histogram;
+                System.out.printf(REPORT_ROW_FORMAT, type, histogram.getCount(), typeStatistics.failedCount,
+                        histogram.getCount() / (typeStatistics.totalNanos / 1e9),
+                        TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(50)),
+                        TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(99)),
+                        TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(99.9)));
+            });
+        }
+    }
+}
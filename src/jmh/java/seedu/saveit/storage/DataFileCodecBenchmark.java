@@ -0,0 +1,82 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.DataFileCodec;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving SaveIt to and loading it from an XML file with each codec, along with the size of the file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataFileCodecBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int issueCount;
+
+    @Param({"NONE", "DEFLATE_FAST", "DEFLATE_BEST"})
+    private DataFileCodec codec;
+
+    private SaveIt saveIt;
+    private Path file;
+    private XmlSaveItStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        saveIt = new SyntheticDataGenerator(1).generateSaveIt(issueCount);
+        file = Files.createTempFile("saveit", ".xml");
+        storage = new XmlSaveItStorage(file, codec);
+        storage.saveSaveIt(saveIt);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save(FileSize fileSize) throws IOException {
+        storage.saveSaveIt(saveIt);
+        fileSize.bytes = Files.size(file);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlySaveIt> load() throws DataConversionException, IOException {
+        return storage.readSaveIt();
+    }
+
+    /**
+     * Reports the size of the saved file alongside the time of {@link #save}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving SaveIt to and loading it from shard files, to be compared with {@code XmlSaveItStorageBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShardedXmlSaveItStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int issueCount;
+
+    @Param({"16", "64"})
+    private int shardCount;
+
+    private SaveIt saveIt;
+    private Path folder;
+    private ShardedXmlSaveItStorage storage;
+    private int editCount;
+
+    @Setup
+    public void setUp() throws IOException {
+        saveIt = new SyntheticDataGenerator(1).generateSaveIt(issueCount);
+        folder = Files.createTempDirectory("saveit");
+        storage = new ShardedXmlSaveItStorage(folder.resolve("saveit.xml"), shardCount);
+        storage.saveSaveIt(saveIt);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    /**
+     * Saves after a single issue is edited, as after most commands.
+     */
+    @Benchmark
+    public void saveOneChanged() throws IOException {
+        Issue target = saveIt.getIssueList().get(editCount % issueCount);
+        saveIt.updateIssue(target, new Issue(target.getStatement(), new Description("edit " + editCount++),
+                target.getSolutions(), target.getTags(), target.getFrequency(), target.getCreatedTime()));
+        storage.saveSaveIt(saveIt);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlySaveIt> load() throws DataConversionException, IOException {
+        return storage.readSaveIt();
+    }
+}
@@ -2,7 +2,16 @@ package seedu.saveit;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,27 +22,40 @@ import javafx.stage.Stage;
 import seedu.saveit.commons.core.Config;
 import seedu.saveit.commons.core.EventsCenter;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.commons.core.ModelThread;
 import seedu.saveit.commons.core.Version;
+import seedu.saveit.commons.events.storage.DataLoadingStateChangedEvent;
 import seedu.saveit.commons.events.ui.ExitAppRequestEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.util.ConfigUtil;
 import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.logic.CommandHistory;
 import seedu.saveit.logic.Logic;
 import seedu.saveit.logic.LogicManager;
 import seedu.saveit.logic.SuggestionLogic;
 import seedu.saveit.logic.SuggestionLogicManager;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.Model;
-import seedu.saveit.model.ModelManager;
+import seedu.saveit.model.NotebookManager;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 import seedu.saveit.model.UserPrefs;
 import seedu.saveit.model.util.SampleDataUtil;
+import seedu.saveit.storage.CommandHistoryStorage;
+import seedu.saveit.storage.DataFileWatcher;
 import seedu.saveit.storage.JsonUserPrefsStorage;
 import seedu.saveit.storage.SaveItStorage;
+import seedu.saveit.storage.ShardedXmlSaveItStorage;
 import seedu.saveit.storage.Storage;
 import seedu.saveit.storage.StorageManager;
+import seedu.saveit.storage.TextCommandHistoryStorage;
 import seedu.saveit.storage.UserPrefsStorage;
 import seedu.saveit.storage.XmlSaveItStorage;
+import seedu.saveit.storage.pagecache.PageCache;
+import seedu.saveit.storage.pageindex.PageCrawler;
+import seedu.saveit.storage.pageindex.PageIndex;
 import seedu.saveit.ui.Ui;
 import seedu.saveit.ui.UiManager;
 
@@ -45,65 +67,195 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 4, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String PAGE_CACHE_FOLDER = "pagecache";
+    private static final String PAGE_INDEX_FILE = "pageindex.gz";
+    private static final String COMMAND_HISTORY_FILE = "history.txt";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final Path METRICS_FILE = Paths.get("saveit-metrics.json");
+    private static final Duration METRICS_DUMP_INTERVAL = Duration.ofMinutes(1);
+    private static final String STARTUP_THREAD_NAME = "SaveIt-startup";
+    private static final String STARTUP_METRIC_PREFIX = "startup.";
 
     protected Ui ui;
     protected Logic logic;
     protected SuggestionLogic suggestionLogic;
     protected Storage storage;
     protected Model model;
+    protected NotebookManager notebooks;
+    protected PageCache pageCache;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected DataFileWatcher dataFileWatcher;
+    /** Runs tasks on the thread that owns the model */
+    protected Executor modelExecutor;
+    /** Completes on the thread that owns the model once the data is loaded into the model */
+    protected CompletableFuture<Void> dataLoading;
+    private volatile boolean isDataLoaded;
+    private long initStartTime;
 
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing SaveIt ]===========================");
         super.init();
+        initStartTime = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        SaveItStorage saveItStorage = new XmlSaveItStorage(userPrefs.getSaveItFilePath());
-        storage = new StorageManager(saveItStorage, userPrefsStorage);
+        SaveItStorage saveItStorage = userPrefs.getSaveItShardCount() > 0
+                ? new ShardedXmlSaveItStorage(userPrefs.getSaveItFilePath(), userPrefs.getSaveItShardCount(),
+                        userPrefs.getSaveItCodec())
+                : new XmlSaveItStorage(userPrefs.getSaveItFilePath(), userPrefs.getSaveItCodec());
+        CommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(userPrefs.getSaveItFilePath().resolveSibling(COMMAND_HISTORY_FILE));
+        storage = new StorageManager(saveItStorage, userPrefsStorage, commandHistoryStorage);
+        dataFileWatcher = new DataFileWatcher(saveItStorage);
 
         initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model);
+        // before any thread is started, as they all post events
+        initEventsCenter();
+        MetricsCenter.getInstance().startPeriodicDump(METRICS_FILE, METRICS_DUMP_INTERVAL);
+        logStartupPhase("prefs", initStartTime);
+
+        modelExecutor = ModelThread.getInstance();
+        // the issues are added as they are read, so that the window need not wait for the whole data file
+        notebooks = new NotebookManager(new SaveIt(), userPrefs, storage::readSaveIt);
+        model = notebooks;
+        pageCache = new PageCache(userPrefs.getSaveItFilePath().resolveSibling(PAGE_CACHE_FOLDER));
+
+        // the data file, the page index and the command history do not depend on each other
+        ExecutorService startupExecutor =
+                Executors.newCachedThreadPool(ThreadUtil.newDaemonThreadFactory(STARTUP_THREAD_NAME));
+        CompletableFuture<Void> pageIndexLoading =
+                CompletableFuture.runAsync(() -> loadPageIndex(userPrefs), startupExecutor);
+        dataLoading = CompletableFuture.supplyAsync(this::readData, startupExecutor)
+                .thenAcceptAsync(this::completeLoading, modelExecutor);
+        // the crawl only reads the latest snapshot of the model, so it need not hold up the model thread
+        dataLoading.runAfterBothAsync(pageIndexLoading, () -> initPageIndex(userPrefs));
+        CompletableFuture<CommandHistory> historyReading =
+                CompletableFuture.supplyAsync(() -> initCommandHistory(storage), startupExecutor);
+        startupExecutor.shutdown();
+
+        logic = new LogicManager(model, historyReading.join(), modelExecutor, MainApp::runOnFxThread);
 
         suggestionLogic = new SuggestionLogicManager(model);
 
-        ui = new UiManager(logic, suggestionLogic, config, userPrefs);
-
-        initEventsCenter();
+        ui = new UiManager(logic, suggestionLogic, config, userPrefs, pageCache);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s saveIt and {@code userPrefs}. <br>
-     * The data from the sample saveIt will be used instead if {@code storage}'s saveIt is not found,
-     * or an empty saveIt will be used instead if errors occur when reading {@code storage}'s saveIt.
+     * Reads the issues in {@code storage}'s saveIt and adds them to the model on the thread that owns it,
+     * batch by batch, so that each batch is shown as soon as it is read. <br>
+     * Returns the data from the sample saveIt if {@code storage}'s saveIt is not found, or an empty saveIt if errors
+     * occur when reading {@code storage}'s saveIt, to be used instead of the issues added.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlySaveIt> saveItOptional;
-        ReadOnlySaveIt initialData;
+    private Optional<ReadOnlySaveIt> readData() {
+        long startTime = System.nanoTime();
+        ReadOnlySaveIt replacementData = null;
         try {
-            saveItOptional = storage.readSaveIt();
-            if (!saveItOptional.isPresent()) {
+            boolean isFound = storage.readIssues(batch -> modelExecutor.execute(() -> appendLoadedIssues(batch)));
+            if (!isFound) {
                 logger.info("Data file not found. Will be starting with a sample SaveIt");
+                replacementData = SampleDataUtil.getSampleSaveIt();
             }
-            initialData = saveItOptional.orElseGet(SampleDataUtil::getSampleSaveIt);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty SaveIt");
-            initialData = new SaveIt();
+            replacementData = new SaveIt();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty SaveIt");
-            initialData = new SaveIt();
+            replacementData = new SaveIt();
         }
+        logStartupPhase("data", startTime);
+        return Optional.ofNullable(replacementData);
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Adds a batch of issues read from the data file to the model.
+     */
+    private void appendLoadedIssues(List<Issue> batch) {
+        if (model.getSaveIt().getIssueList().isEmpty()) {
+            logStartupPhase("firstIssues", initStartTime);
+        }
+        model.appendLoadedIssues(batch);
+        indicateDataLoadingState();
+    }
+
+    /**
+     * Replaces the issues added with {@code replacementData} if present, and makes the result the initial state.
+     */
+    private void completeLoading(Optional<ReadOnlySaveIt> replacementData) {
+        replacementData.ifPresent(data -> {
+            model.discardLoadedIssues();
+            model.appendLoadedIssues(new ArrayList<>(data.getIssueList()));
+        });
+        model.completeLoading();
+        isDataLoaded = true;
+        try {
+            dataFileWatcher.start(model.getSnapshot());
+        } catch (IOException e) {
+            logger.warning("Could not watch the data file for changes made outside of SaveIt "
+                    + StringUtil.getDetails(e));
+        }
+        indicateDataLoadingState();
+        logStartupPhase("interactive", initStartTime);
+    }
+
+    /** Raises an event with the progress of loading the data */
+    private void indicateDataLoadingState() {
+        EventsCenter.getInstance().post(
+                new DataLoadingStateChangedEvent(!isDataLoaded, model.getSnapshot().size()));
+    }
+
+    /**
+     * Logs the time taken by the phase of the startup that started at {@code startTime}, and records it in the
+     * latency metric of the phase.
+     */
+    private void logStartupPhase(String phase, long startTime) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        MetricsCenter.getInstance().recordLatencySince(STARTUP_METRIC_PREFIX + phase, startTime);
+        logger.info(() -> "Startup phase " + phase + " completed in " + elapsedMillis + "ms");
+    }
+
+    /**
+     * Loads the index of solution page contents kept next to the data file of {@code userPrefs}.
+     * Starts with an empty index if the saved index cannot be read.
+     */
+    private void loadPageIndex(UserPrefs userPrefs) {
+        Path indexFile = userPrefs.getSaveItFilePath().resolveSibling(PAGE_INDEX_FILE);
+        try {
+            PageIndex.getInstance().load(indexFile);
+        } catch (DataConversionException e) {
+            logger.warning("Page index file is not in the correct format. Will be starting with an empty index");
+        }
+    }
+
+    /**
+     * Starts indexing the pages of the solutions in {@code model} that are not in the page index kept next to the
+     * data file of {@code userPrefs} yet. The index must already be loaded.
+     */
+    protected void initPageIndex(UserPrefs userPrefs) {
+        long startTime = System.nanoTime();
+        Path indexFile = userPrefs.getSaveItFilePath().resolveSibling(PAGE_INDEX_FILE);
+        PageCrawler pageCrawler = new PageCrawler(PageIndex.getInstance(), pageCache, indexFile);
+        pageCrawler.crawl(model.getSnapshot());
+        logStartupPhase("indexes", startTime);
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the latest commands entered in earlier sessions, read from
+     * {@code storage}. Starts with an empty history if the history file cannot be read.
+     */
+    protected CommandHistory initCommandHistory(Storage storage) {
+        CommandHistory history = new CommandHistory();
+        try {
+            storage.readCommandHistory(CommandHistory.DEFAULT_CAPACITY).forEach(history::add);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history file. Will be starting with an empty history");
+        }
+        return history;
     }
 
     private void initLogging(Config config) {
@@ -179,19 +331,33 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        // the model is always changed on the model thread, so the UI must only handle its events on the UI thread
+        eventsCenter.setThreadConfined(true);
+        eventsCenter.setAsynchronous(config.isAsynchronousEventDispatch());
+        eventsCenter.registerHandler(this, EventsCenter.Dispatch.UI_THREAD);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting SaveIt " + MainApp.VERSION);
         ui.start(primaryStage);
+        logStartupPhase("window", initStartTime);
+        // the loading state may have changed before the window could show it
+        indicateDataLoadingState();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SaveIt ] =============================");
         ui.stop();
+        dataFileWatcher.stop();
+        // lets the commands already entered complete
+        ModelThread.getInstance().shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        notebooks.shutdown();
+        // lets the storage save the changes that are still being dispatched
+        EventsCenter.getInstance().shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+        MetricsCenter.getInstance().stopPeriodicDump();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -201,9 +367,20 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    /**
+     * Runs {@code task} on the JavaFX application thread, at once if it is the current thread.
+     */
+    private static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         stop();
     }
 
@@ -0,0 +1,141 @@
+package seedu.saveit.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler that hands the records over to a background thread, which formats and writes them with the
+ * {@code targets} handlers. Logging only costs the thread that logs the time to add the record to a
+ * {@code RingBuffer}.
+ *
+ * When the buffer is full, records at or above the {@code writeThroughLevel} are written on the thread that logs
+ * them, so that they are never lost; lower records are dropped, and the number of dropped records is logged once
+ * the background thread catches up.
+ *
+ * The source class of a record is taken to be the name of its logger, as finding the actual caller would cost a
+ * walk of the stack of the thread that logs.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final String THREAD_NAME = "SaveIt-logging";
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> targets;
+    private final RingBuffer<LogRecord> buffer;
+    private final Level writeThroughLevel;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread flusher;
+    private volatile boolean isFlusherWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that buffers at most {@code capacity} records for the {@code targets}.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, Level writeThroughLevel) {
+        requireNonNull(targets);
+        requireNonNull(writeThroughLevel);
+        this.targets = new ArrayList<>(targets);
+        this.buffer = new RingBuffer<>(capacity);
+        this.writeThroughLevel = writeThroughLevel;
+        flusher = new Thread(this::runFlusher, THREAD_NAME);
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+
+        if (buffer.offer(record)) {
+            if (isFlusherWaiting) {
+                LockSupport.unpark(flusher);
+            }
+        } else if (record.getLevel().intValue() >= writeThroughLevel.intValue()) {
+            writeToTargets(record);
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped as the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits until the records published so far are written, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        while (!buffer.isEmpty() && flusher.isAlive()) {
+            LockSupport.unpark(flusher);
+            Thread.yield();
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records published so far, stops the background thread and closes the targets.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void runFlusher() {
+        long reportedDroppedCount = 0;
+        while (!isClosed || !buffer.isEmpty()) {
+            LogRecord record = buffer.poll();
+            if (record != null) {
+                writeToTargets(record);
+                continue;
+            }
+
+            long dropped = droppedCount.get();
+            if (dropped > reportedDroppedCount) {
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        (dropped - reportedDroppedCount) + " log records dropped as logging could not keep up");
+                droppedRecord.setSourceClassName(AsyncLogHandler.class.getSimpleName());
+                writeToTargets(droppedRecord);
+                reportedDroppedCount = dropped;
+            }
+
+            // records published while the flag was being set are found by the check before waiting
+            isFlusherWaiting = true;
+            if (buffer.isEmpty() && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+            }
+            isFlusherWaiting = false;
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+}
@@ -17,9 +17,21 @@ public abstract class ComponentManager {
         this(EventsCenter.getInstance());
     }
 
+    /**
+     * Uses default {@link EventsCenter}, which dispatches events to this component according to {@code dispatch}
+     * in asynchronous mode.
+     */
+    public ComponentManager(EventsCenter.Dispatch dispatch) {
+        this(EventsCenter.getInstance(), dispatch);
+    }
+
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.Dispatch.POSTING_THREAD);
+    }
+
+    public ComponentManager(EventsCenter eventsCenter, EventsCenter.Dispatch dispatch) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, dispatch);
     }
 
     protected void raise(BaseEvent event) {
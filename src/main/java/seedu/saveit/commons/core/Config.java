@@ -16,6 +16,7 @@ public class Config {
     private String appTitle = "SaveIt";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean asynchronousEventDispatch = true;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +42,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAsynchronousEventDispatch() {
+        return asynchronousEventDispatch;
+    }
+
+    public void setAsynchronousEventDispatch(boolean asynchronousEventDispatch) {
+        this.asynchronousEventDispatch = asynchronousEventDispatch;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +63,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && asynchronousEventDispatch == o.asynchronousEventDispatch;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, asynchronousEventDispatch);
     }
 
     @Override
@@ -68,6 +78,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAsynchronous event dispatch : " + asynchronousEventDispatch);
         return sb.toString();
     }
 
@@ -0,0 +1,74 @@
+package seedu.saveit.commons.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the dispatch of one type of event to its subscribers.
+ *
+ * The latency of a dispatch is the time from the post of the event to the end of its handling by one subscriber,
+ * including the time it waited to be dispatched. The queue depth is the number of dispatches of the event type
+ * that are waiting or running. The counters can be updated and read from any thread.
+ */
+public class EventStatistics {
+
+    private final LongAdder postCount = new LongAdder();
+    private final LongAdder dispatchCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    void recordPost() {
+        postCount.increment();
+    }
+
+    void recordDispatchQueued() {
+        int depth = queueDepth.incrementAndGet();
+        maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void recordDispatchCompleted(long latencyNanos) {
+        queueDepth.decrementAndGet();
+        dispatchCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public long getPostCount() {
+        return postCount.sum();
+    }
+
+    public long getDispatchCount() {
+        return dispatchCount.sum();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the average latency of the completed dispatches in microseconds, or 0 if there is none.
+     */
+    public long getAverageLatencyMicros() {
+        long count = getDispatchCount();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatencyNanos.sum() / count);
+    }
+
+    public long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "posted " + getPostCount() + ", dispatched " + getDispatchCount()
+                + ", queued " + getQueueDepth() + " (max " + getMaxQueueDepth() + ")"
+                + ", latency avg " + getAverageLatencyMicros() + "us (max " + getMaxLatencyMicros() + "us)";
+    }
+}
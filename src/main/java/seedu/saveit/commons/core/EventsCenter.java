@@ -1,45 +1,296 @@
 package seedu.saveit.commons.core;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 
+import javafx.application.Platform;
 import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.commons.util.ThreadUtil;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Handlers declare the events they handle with {@code @Subscribe} methods, which also receive the subtypes of the
+ * event type. By default, an event is dispatched to every subscriber on the thread that posts it; events posted
+ * while handling an event are dispatched after the subscribers of that event, as with Guava's {@code EventBus}.
+ * Once the threads are confined, the handlers registered to the UI thread or to the model thread are only dispatched
+ * events on that thread, and in asynchronous mode, the background handlers are dispatched events on threads of their
+ * own, so that a slow handler does not block the thread that posts the event.
+ *
+ * The instance is created with the class, so that it is safely shared by the threads that post events from the start.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private static EventsCenter instance;
-    private final EventBus eventBus;
+    private static final long SLOW_SUBSCRIBER_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final String BACKGROUND_THREAD_NAME = "SaveIt-events-";
+    private static final EventsCenter INSTANCE = new EventsCenter();
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Subscriber>> subscribersByEventType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EventStatistics> statisticsByEventType = new ConcurrentHashMap<>();
+    private final List<ExecutorService> backgroundExecutors = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Queue<Runnable>> queuedDispatches = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+    private volatile boolean isThreadConfined;
+    private volatile boolean isAsynchronous;
+
+    /**
+     * Where a handler is dispatched events, when the threads are confined or in asynchronous mode.
+     */
+    public enum Dispatch {
+        /** On the thread that posts the event. */
+        POSTING_THREAD,
+        /** On the JavaFX application thread, once the threads are confined. */
+        UI_THREAD,
+        /** On the {@link ModelThread}, after the tasks already submitted to it, once the threads are confined. */
+        MODEL_THREAD,
+        /** On a background thread of the handler in asynchronous mode, one event at a time in the order posted. */
+        BACKGROUND
+    }
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
-        if (instance == null) {
-            instance = new EventsCenter();
-        }
-        return instance;
+        return INSTANCE;
     }
 
+    /**
+     * Unregisters every handler, clears the statistics and sets the events center back to dispatching every event on
+     * the posting thread.
+     */
     public static void clearSubscribers() {
-        instance = null;
+        synchronized (INSTANCE) {
+            INSTANCE.subscribers.clear();
+            INSTANCE.subscribersByEventType.clear();
+            INSTANCE.statisticsByEventType.clear();
+            // lets the background threads finish the events already posted
+            INSTANCE.backgroundExecutors.forEach(ExecutorService::shutdown);
+            INSTANCE.backgroundExecutors.clear();
+            INSTANCE.isThreadConfined = false;
+            INSTANCE.isAsynchronous = false;
+        }
+    }
+
+    /**
+     * Sets whether the handlers registered to the UI thread or to the model thread are only dispatched events on
+     * that thread. This must be set before the threads start posting events.
+     */
+    public void setThreadConfined(boolean isThreadConfined) {
+        this.isThreadConfined = isThreadConfined;
+    }
+
+    /**
+     * Sets whether background handlers are dispatched events on threads of their own, or on the posting thread.
+     */
+    public void setAsynchronous(boolean isAsynchronous) {
+        this.isAsynchronous = isAsynchronous;
     }
 
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, Dispatch.POSTING_THREAD);
+    }
+
+    /**
+     * Registers the {@code @Subscribe} methods of {@code handler}, to be dispatched events according to
+     * {@code dispatch}. Registering a handler more than once has no effect.
+     */
+    public synchronized void registerHandler(Object handler, Dispatch dispatch) {
+        if (subscribers.stream().anyMatch(subscriber -> subscriber.handler == handler)) {
+            return;
+        }
+
+        ExecutorService executor = null;
+        if (dispatch == Dispatch.BACKGROUND) {
+            executor = ThreadUtil.newSingleDaemonThreadExecutor(
+                    BACKGROUND_THREAD_NAME + handler.getClass().getSimpleName());
+            backgroundExecutors.add(executor);
+        }
+
+        Set<String> overriddenMethods = new HashSet<>();
+        for (Class<?> type : TypeToken.of(handler.getClass()).getTypes().rawTypes()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1
+                        && overriddenMethods.add(method.getName() + method.getParameterTypes()[0].getName())) {
+                    method.setAccessible(true);
+                    subscribers.add(new Subscriber(handler, method, dispatch, executor));
+                }
+            }
+        }
+        subscribersByEventType.clear();
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        long postTime = System.nanoTime();
+        EventStatistics statistics =
+                statisticsByEventType.computeIfAbsent(event.getClass(), unused -> new EventStatistics());
+        statistics.recordPost();
+
+        for (Subscriber subscriber : getSubscribers(event.getClass())) {
+            statistics.recordDispatchQueued();
+            Runnable dispatch = () -> subscriber.dispatch(event, statistics, postTime);
+            if (isThreadConfined && subscriber.dispatch == Dispatch.UI_THREAD
+                    && !Platform.isFxApplicationThread()) {
+                Platform.runLater(dispatch);
+            } else if (isThreadConfined && subscriber.dispatch == Dispatch.MODEL_THREAD
+                    && !ModelThread.getInstance().isCurrentThread()) {
+                ModelThread.getInstance().execute(dispatch);
+            } else if (isAsynchronous && subscriber.dispatch == Dispatch.BACKGROUND) {
+                dispatchInBackground(subscriber, dispatch, statistics);
+            } else {
+                queuedDispatches.get().add(dispatch);
+            }
+        }
+
+        dispatchQueuedEvents();
         return this;
     }
 
+    private void dispatchInBackground(Subscriber subscriber, Runnable dispatch, EventStatistics statistics) {
+        try {
+            subscriber.executor.execute(dispatch);
+        } catch (RejectedExecutionException e) {
+            statistics.recordDispatchCompleted(0);
+            logger.warning("Event not dispatched to " + subscriber + " as the events center is shut down");
+        }
+    }
+
+    /**
+     * Runs the dispatches queued on the current thread, unless it is already running them.
+     */
+    private void dispatchQueuedEvents() {
+        if (isDispatching.get()) {
+            return;
+        }
+        isDispatching.set(true);
+        try {
+            Queue<Runnable> queue = queuedDispatches.get();
+            Runnable dispatch;
+            while ((dispatch = queue.poll()) != null) {
+                dispatch.run();
+            }
+        } finally {
+            isDispatching.remove();
+            queuedDispatches.remove();
+        }
+    }
+
+    private List<Subscriber> getSubscribers(Class<?> eventType) {
+        return subscribersByEventType.computeIfAbsent(eventType, unused -> {
+            Set<? extends Class<?>> eventTypes = TypeToken.of(eventType).getTypes().rawTypes();
+            List<Subscriber> eventSubscribers = new ArrayList<>();
+            for (Subscriber subscriber : subscribers) {
+                if (eventTypes.contains(subscriber.eventType)) {
+                    eventSubscribers.add(subscriber);
+                }
+            }
+            return eventSubscribers;
+        });
+    }
+
+    /**
+     * Returns the dispatch counters of each type of event posted so far, keyed by the simple name of the type.
+     */
+    public Map<String, EventStatistics> getStatistics() {
+        Map<String, EventStatistics> statistics = new TreeMap<>();
+        statisticsByEventType.forEach((eventType, eventStatistics) ->
+                statistics.put(eventType.getSimpleName(), eventStatistics));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Waits at most {@code timeoutMillis} for the events already dispatched to background handlers to be handled,
+     * and stops their threads. Events posted afterwards are no longer dispatched to background handlers.
+     */
+    public void shutdown(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (ExecutorService executor : backgroundExecutors) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    logger.warning("Timed out waiting for background event handlers to complete");
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A {@code @Subscribe} method of a handler.
+     */
+    private static class Subscriber {
+        private final Object handler;
+        private final Method method;
+        private final Class<?> eventType;
+        private final Dispatch dispatch;
+        private final ExecutorService executor;
+
+        Subscriber(Object handler, Method method, Dispatch dispatch, ExecutorService executor) {
+            this.handler = handler;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.dispatch = dispatch;
+            this.executor = executor;
+        }
+
+        /**
+         * Calls the method with {@code event}, one event at a time, and records the dispatch in
+         * {@code statistics}. Exceptions thrown by the method are logged, but errors are rethrown.
+         */
+        void dispatch(BaseEvent event, EventStatistics statistics, long postTime) {
+            long startTime = System.nanoTime();
+            try {
+                synchronized (this) {
+                    method.invoke(handler, event);
+                }
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                logger.log(Level.SEVERE, "Exception thrown by subscriber " + this + " when handling " + event,
+                        e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            } finally {
+                long endTime = System.nanoTime();
+                statistics.recordDispatchCompleted(endTime - postTime);
+                if (endTime - startTime > SLOW_SUBSCRIBER_NANOS) {
+                    logger.warning(() -> "Subscriber " + this + " took "
+                            + TimeUnit.NANOSECONDS.toMillis(endTime - startTime) + "ms to handle "
+                            + event.getClass().getSimpleName());
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return handler.getClass().getSimpleName() + "#" + method.getName();
+        }
+    }
 }
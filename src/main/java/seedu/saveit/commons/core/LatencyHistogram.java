@@ -0,0 +1,167 @@
+package seedu.saveit.commons.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts latencies in buckets, to find their percentiles without keeping every latency.
+ *
+ * As in HdrHistogram, each power of two of latencies is divided into {@code SUB_BUCKET_COUNT} buckets of equal
+ * width, so that a percentile is known to within about 3% of its value whatever the magnitude of the latencies.
+ * Recording a latency only increments counters, so it can be done from any thread without locking.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        counts.incrementAndGet(getBucketIndex(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the latency in nanoseconds that {@code percentile} percent of the recorded latencies are at or below,
+     * or 0 if no latency is recorded.
+     * The latency returned is the highest latency of its bucket, so it is never below the actual percentile.
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = getCounts();
+        return getPercentileNanos(snapshot, sum(snapshot), percentile);
+    }
+
+    /**
+     * Returns a summary of the latencies recorded so far.
+     */
+    public Summary getSummary() {
+        long[] snapshot = getCounts();
+        long total = sum(snapshot);
+        long max = maxNanos.get();
+        return new Summary(total, total == 0 ? 0 : totalNanos.sum() / total,
+                Math.min(max, getPercentileNanos(snapshot, total, 50)),
+                Math.min(max, getPercentileNanos(snapshot, total, 90)),
+                Math.min(max, getPercentileNanos(snapshot, total, 99)), max);
+    }
+
+    private long getPercentileNanos(long[] snapshot, long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return getHighestLatency(i);
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns a copy of the bucket counts. Latencies recorded while copying may or may not be included.
+     */
+    private long[] getCounts() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    private static long sum(long[] snapshot) {
+        long total = 0;
+        for (long bucketCount : snapshot) {
+            total += bucketCount;
+        }
+        return total;
+    }
+
+    static int getBucketIndex(long nanos) {
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        if (highestBit < SUB_BUCKET_BITS) {
+            return (int) nanos;
+        }
+        int shift = highestBit - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((nanos >> shift) - SUB_BUCKET_COUNT);
+    }
+
+    static long getHighestLatency(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = (bucketIndex >> SUB_BUCKET_BITS) - 1;
+        long subBucket = (bucketIndex & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * The count and percentiles of the latencies recorded in a {@code LatencyHistogram} at some point.
+     * The latencies are in microseconds.
+     */
+    public static class Summary {
+        private final long count;
+        private final long meanMicros;
+        private final long p50Micros;
+        private final long p90Micros;
+        private final long p99Micros;
+        private final long maxMicros;
+
+        Summary(long count, long meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+            this.count = count;
+            this.meanMicros = TimeUnit.NANOSECONDS.toMicros(meanNanos);
+            this.p50Micros = TimeUnit.NANOSECONDS.toMicros(p50Nanos);
+            this.p90Micros = TimeUnit.NANOSECONDS.toMicros(p90Nanos);
+            this.p99Micros = TimeUnit.NANOSECONDS.toMicros(p99Nanos);
+            this.maxMicros = TimeUnit.NANOSECONDS.toMicros(maxNanos);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanMicros() {
+            return meanMicros;
+        }
+
+        public long getP50Micros() {
+            return p50Micros;
+        }
+
+        public long getP90Micros() {
+            return p90Micros;
+        }
+
+        public long getP99Micros() {
+            return p99Micros;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        @Override
+        public String toString() {
+            return "count " + count + ", mean " + meanMicros + "us, p50 " + p50Micros + "us, p90 " + p90Micros
+                    + "us, p99 " + p99Micros + "us, max " + maxMicros + "us";
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.saveit.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,15 +20,18 @@ import seedu.saveit.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * The records are written to the console and the file by an {@link AsyncLogHandler} on a background thread, so
+ *   that logging does not slow down the thread that logs.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "saveit.log";
+    private static final int LOG_BUFFER_CAPACITY = 8192;
+    private static final Level WRITE_THROUGH_LEVEL = Level.WARNING;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -34,6 +41,11 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        synchronized (LogsCenter.class) {
+            if (asyncHandler != null) {
+                asyncHandler.setLevel(currentLogLevel);
+            }
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
@@ -45,8 +57,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -61,17 +72,6 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
-    }
-
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -81,18 +81,29 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the number of log records dropped so far as logging could not keep up.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    public static synchronized long getDroppedLogRecordCount() {
+        return asyncHandler == null ? 0 : asyncHandler.getDroppedCount();
+    }
+
+    /**
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
+     */
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                logger.warning("Error adding file handler for logger.");
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncLogHandler(targets, LOG_BUFFER_CAPACITY, WRITE_THROUGH_LEVEL);
+            asyncHandler.setLevel(currentLogLevel);
         }
+        logger.addHandler(asyncHandler);
     }
 
     /**
@@ -112,6 +123,21 @@ public class LogsCenter {
         return consoleHandler;
     }
 
+    /**
+     * Logs {@code message} with the {@code keyValues} appended as {@code key=value}, if {@code level} is logged.
+     * The record is only formatted when it is written, on the logging thread, so the values should not be modified
+     * after they are logged.
+     * @param keyValues the keys followed by their values, i.e. {@code key1, value1, key2, value2, ...}
+     */
+    public static void log(Logger logger, Level level, String message, Object... keyValues) {
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+        LogRecord record = new KeyValueLogRecord(level, message, keyValues);
+        record.setLoggerName(logger.getName());
+        logger.log(record);
+    }
+
     /**
      * Decorates the given string to create a log message suitable for logging event handling methods.
      */
@@ -125,4 +151,29 @@ public class LogsCenter {
     public static String getEventHandlingLogMessage(BaseEvent e) {
         return getEventHandlingLogMessage(e, "");
     }
+
+    /**
+     * A log record whose message is followed by key/value pairs, formatted when the message is first needed.
+     */
+    private static class KeyValueLogRecord extends LogRecord {
+        private final Object[] keyValues;
+        private String formattedMessage;
+
+        KeyValueLogRecord(Level level, String message, Object[] keyValues) {
+            super(level, message);
+            this.keyValues = keyValues;
+        }
+
+        @Override
+        public synchronized String getMessage() {
+            if (formattedMessage == null) {
+                StringBuilder builder = new StringBuilder(super.getMessage());
+                for (int i = 0; i + 1 < keyValues.length; i += 2) {
+                    builder.append(' ').append(keyValues[i]).append('=').append(keyValues[i + 1]);
+                }
+                formattedMessage = builder.toString();
+            }
+            return formattedMessage;
+        }
+    }
 }
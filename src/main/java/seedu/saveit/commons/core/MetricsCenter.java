@@ -0,0 +1,170 @@
+package seedu.saveit.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+
+/**
+ * Keeps the latency histograms and counters of the app, by name.
+ *
+ * Names are dot-separated, starting with the component that records them, e.g. {@code storage.save}.
+ * Metrics can be recorded from any thread without locking. The metrics, together with the {@code EventsCenter}
+ * statistics and the number of dropped log records, can be dumped to a JSON file periodically.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final String DUMP_THREAD_NAME = "SaveIt-metrics";
+    private static MetricsCenter instance;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFile;
+
+    private MetricsCenter() {
+    }
+
+    public static synchronized MetricsCenter getInstance() {
+        if (instance == null) {
+            instance = new MetricsCenter();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the histogram named {@code name}, creating it if it does not exist yet.
+     */
+    public LatencyHistogram getHistogram(String name) {
+        requireNonNull(name);
+        return histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Records the time since {@code startNanos}, a value of {@code System.nanoTime()}, in the histogram named
+     * {@code name}.
+     */
+    public void recordLatencySince(String name, long startNanos) {
+        getHistogram(name).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Adds one to the counter named {@code name}.
+     */
+    public void incrementCounter(String name) {
+        requireNonNull(name);
+        counters.computeIfAbsent(name, unused -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the summaries of the histograms, sorted by name.
+     */
+    public SortedMap<String, LatencyHistogram.Summary> getLatencySummaries() {
+        SortedMap<String, LatencyHistogram.Summary> summaries = new TreeMap<>();
+        histograms.forEach((name, histogram) -> summaries.put(name, histogram.getSummary()));
+        return Collections.unmodifiableSortedMap(summaries);
+    }
+
+    /**
+     * Returns the values of the counters, sorted by name.
+     */
+    public SortedMap<String, Long> getCounters() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return Collections.unmodifiableSortedMap(values);
+    }
+
+    /**
+     * Writes the metrics to {@code file} as JSON, replacing the previous content of the file at once.
+     */
+    public void dump(Path file) throws IOException {
+        requireNonNull(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        FileUtil.writeToFile(temporaryFile, JsonUtil.toJsonString(new Report(this)));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Dumps the metrics to {@code file} every {@code interval} on a background thread, until
+     * {@link #stopPeriodicDump()} is called. Replaces the periodic dump started before, if any.
+     */
+    public synchronized void startPeriodicDump(Path file, Duration interval) {
+        requireNonNull(file);
+        requireNonNull(interval);
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+        }
+        dumpFile = file;
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(ThreadUtil.newDaemonThreadFactory(DUMP_THREAD_NAME));
+        dumpExecutor.scheduleWithFixedDelay(() -> dumpQuietly(file), interval.toNanos(), interval.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the periodic dump, after dumping the metrics one last time.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        dumpQuietly(dumpFile);
+    }
+
+    private void dumpQuietly(Path file) {
+        try {
+            dump(file);
+        } catch (IOException e) {
+            logger.warning("Failed to dump metrics to " + file + " : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * The metrics at some point, in the form written to the dump file.
+     */
+    private static class Report {
+        private final String time;
+        private final Map<String, LatencyHistogram.Summary> latencies;
+        private final Map<String, Long> counters;
+        private final Map<String, Map<String, Long>> events = new TreeMap<>();
+        private final long droppedLogRecords;
+
+        Report(MetricsCenter metricsCenter) {
+            time = Instant.now().toString();
+            latencies = metricsCenter.getLatencySummaries();
+            counters = metricsCenter.getCounters();
+            EventsCenter.getInstance().getStatistics().forEach((eventType, statistics) -> {
+                Map<String, Long> values = new LinkedHashMap<>();
+                values.put("postCount", statistics.getPostCount());
+                values.put("dispatchCount", statistics.getDispatchCount());
+                values.put("queueDepth", (long) statistics.getQueueDepth());
+                values.put("maxQueueDepth", (long) statistics.getMaxQueueDepth());
+                values.put("averageLatencyMicros", statistics.getAverageLatencyMicros());
+                values.put("maxLatencyMicros", statistics.getMaxLatencyMicros());
+                events.put(eventType, values);
+            });
+            droppedLogRecords = LogsCenter.getDroppedLogRecordCount();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.saveit.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.util.ThreadUtil;
+
+/**
+ * The thread that owns the model of the app.
+ *
+ * Commands are executed and the model is changed on this thread, one task at a time in the order they were
+ * submitted, so that a slow command does not block the JavaFX application thread. The UI only reads the model
+ * through copies that are handed to the JavaFX application thread.
+ */
+public class ModelThread implements Executor {
+    private static final Logger logger = LogsCenter.getLogger(ModelThread.class);
+    private static final String THREAD_NAME = "SaveIt-model";
+    private static ModelThread instance;
+
+    private final ExecutorService executor;
+    private volatile Thread thread;
+
+    private ModelThread() {
+        ThreadFactory threadFactory = ThreadUtil.newDaemonThreadFactory(THREAD_NAME);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            thread = threadFactory.newThread(runnable);
+            return thread;
+        });
+    }
+
+    public static synchronized ModelThread getInstance() {
+        if (instance == null) {
+            instance = new ModelThread();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns true if the current thread is the model thread.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs {@code task} on the model thread after the tasks already submitted.
+     * Exceptions thrown by the task are logged, so that they do not stop the tasks that follow.
+     * Tasks submitted after {@link #shutdown} are dropped.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, "Exception thrown by a task on the model thread", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Task not run as the model thread is shut down");
+        }
+    }
+
+    /**
+     * Waits at most {@code timeoutMillis} for the tasks already submitted to complete, and stops the model thread.
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.warning("Timed out waiting for the tasks on the model thread to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
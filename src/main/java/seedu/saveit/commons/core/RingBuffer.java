@@ -0,0 +1,89 @@
+package seedu.saveit.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue that any number of threads can add to without locking, and one thread takes from.
+ *
+ * Each slot has a sequence number that tells whether the slot is free for the producer at a position, or holds
+ * the element of a position for the consumer. A producer claims a position with a compare-and-set on the tail, so
+ * producers only contend for the tail and never wait for each other.
+ */
+class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /** Only updated by the consumer */
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer that holds at most {@code capacity} elements, rounded up to a power of two.
+     */
+    RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mask = size - 1;
+        elements = new AtomicReferenceArray<>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds {@code element} to the end of the buffer. Returns false if the buffer is full.
+     * Can be called from any thread.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                // another producer claimed this position
+                position = tail.get();
+            }
+        }
+
+        int index = (int) position & mask;
+        elements.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element of the buffer, or null if the buffer is empty.
+     * Must only be called by the consumer thread.
+     */
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, position + capacity());
+        head = position + 1;
+        return element;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
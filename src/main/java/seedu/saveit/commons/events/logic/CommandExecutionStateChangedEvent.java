@@ -0,0 +1,23 @@
+package seedu.saveit.commons.events.logic;
+
+import seedu.saveit.commons.events.BaseEvent;
+
+/**
+ * Indicates that the command pipeline has become busy or idle.
+ */
+public class CommandExecutionStateChangedEvent extends BaseEvent {
+
+    public final boolean isBusy;
+    /** The command that caused the state change */
+    public final String commandText;
+
+    public CommandExecutionStateChangedEvent(boolean isBusy, String commandText) {
+        this.isBusy = isBusy;
+        this.commandText = commandText;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + (isBusy ? "busy" : "idle");
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.saveit.commons.events.logic;
+
+import seedu.saveit.commons.events.BaseEvent;
+
+/**
+ * Indicates that a command has been added to the command history.
+ */
+public class CommandHistoryChangedEvent extends BaseEvent {
+
+    public final String commandText;
+
+    public CommandHistoryChangedEvent(String commandText) {
+        this.commandText = commandText;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + commandText;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.saveit.commons.events.model;
+
+import java.nio.file.Path;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+
+/**
+ * Indicates the model now represents another notebook, whose data file is {@code filePath}.
+ */
+public class NotebookSwitchedEvent extends BaseEvent {
+
+    public final String previousNotebookName;
+    public final String notebookName;
+    public final Path filePath;
+    /** The data of the notebook switched to, as an immutable snapshot */
+    public final ReadOnlySaveIt data;
+
+    public NotebookSwitchedEvent(String previousNotebookName, String notebookName, Path filePath,
+            ReadOnlySaveIt data) {
+        this.previousNotebookName = previousNotebookName;
+        this.notebookName = notebookName;
+        this.filePath = filePath;
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + previousNotebookName + " -> " + notebookName;
+    }
+}
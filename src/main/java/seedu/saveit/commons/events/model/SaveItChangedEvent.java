@@ -6,6 +6,7 @@ import seedu.saveit.model.ReadOnlySaveIt;
 /** Indicates the SaveIt in the model has changed*/
 public class SaveItChangedEvent extends BaseEvent {
 
+    /** The changed data, as an immutable snapshot when raised by the model */
     public final ReadOnlySaveIt data;
 
     public SaveItChangedEvent(ReadOnlySaveIt data) {
@@ -0,0 +1,26 @@
+package seedu.saveit.commons.events.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.IssueChange;
+
+/**
+ * Indicates the data file at {@code filePath} was changed outside of the app, with the {@code changes} to its issues.
+ */
+public class DataFileChangedEvent extends BaseEvent {
+
+    public final Path filePath;
+    public final List<IssueChange> changes;
+
+    public DataFileChangedEvent(Path filePath, List<IssueChange> changes) {
+        this.filePath = filePath;
+        this.changes = changes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + changes.size() + " issues changed in " + filePath;
+    }
+}
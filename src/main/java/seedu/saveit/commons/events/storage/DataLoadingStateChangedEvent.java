@@ -0,0 +1,24 @@
+package seedu.saveit.commons.events.storage;
+
+import seedu.saveit.commons.events.BaseEvent;
+
+/**
+ * Indicates the progress of loading the data file while SaveIt starts.
+ */
+public class DataLoadingStateChangedEvent extends BaseEvent {
+
+    public final boolean isLoading;
+    /** The number of issues loaded so far */
+    public final int loadedIssueCount;
+
+    public DataLoadingStateChangedEvent(boolean isLoading, int loadedIssueCount) {
+        this.isLoading = isLoading;
+        this.loadedIssueCount = loadedIssueCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + (isLoading ? "loading" : "loaded") + ", " + loadedIssueCount
+                + " issues";
+    }
+}
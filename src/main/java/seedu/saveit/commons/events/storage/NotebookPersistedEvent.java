@@ -0,0 +1,21 @@
+package seedu.saveit.commons.events.storage;
+
+import seedu.saveit.commons.events.BaseEvent;
+
+/**
+ * Indicates the changes made to a notebook before it was last switched away from have been written to its data file,
+ * or have failed to be written.
+ */
+public class NotebookPersistedEvent extends BaseEvent {
+
+    public final String notebookName;
+
+    public NotebookPersistedEvent(String notebookName) {
+        this.notebookName = notebookName;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + notebookName;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.saveit.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+
+/**
+ * Indicates {@code data} has been written to the data file at {@code filePath}.
+ */
+public class SaveItSavedEvent extends BaseEvent {
+
+    public final Path filePath;
+    public final ReadOnlySaveIt data;
+
+    public SaveItSavedEvent(Path filePath, ReadOnlySaveIt data) {
+        this.filePath = filePath;
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + filePath;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The parsing and execution of a command entered by the user.
+ */
+@Name("seedu.saveit.CommandExecution")
+@Label("Command Execution")
+@Category({"SaveIt", "Logic"})
+@Description("Parsing and execution of a command entered by the user")
+public class CommandExecutionEvent extends Event {
+
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,29 @@
+package seedu.saveit.commons.jfr;
+
+import java.util.function.Consumer;
+
+import jdk.jfr.Event;
+
+/**
+ * Times and commits the Flight Recorder events. The only class apart from the events that refers to
+ * {@code jdk.jfr}, so that it is only loaded if {@link JfrEvents#isAvailable()}.
+ */
+final class EventRecorder {
+
+    private EventRecorder() {}
+
+    static Object begin(Object event) {
+        ((Event) event).begin();
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> void end(Object event, Consumer<E> fieldSetter) {
+        Event jfrEvent = (Event) event;
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            fieldSetter.accept((E) event);
+            jfrEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The filtering of the issue list.
+ */
+@Name("seedu.saveit.Filter")
+@Label("Issue Filter")
+@Category({"SaveIt", "Model"})
+@Description("Filtering of the issue list")
+public class FilterEvent extends Event {
+
+    @Label("Result Size")
+    public int resultSize;
+
+    @Label("Total Size")
+    public int totalSize;
+}
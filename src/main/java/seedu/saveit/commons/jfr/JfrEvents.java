@@ -0,0 +1,51 @@
+package seedu.saveit.commons.jfr;
+
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+
+/**
+ * Begins the Flight Recorder events of the app, if the runtime has the Flight Recorder.
+ *
+ * The events extend {@code jdk.jfr.Event}, which is only found from JDK 11 on, so they are only ever created through
+ * this class, which checks once whether {@code jdk.jfr.Event} can be loaded. Otherwise the spans it returns do
+ * nothing, and the events are never loaded.
+ */
+public final class JfrEvents {
+    private static final Logger logger = LogsCenter.getLogger(JfrEvents.class);
+    private static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+    private static final boolean IS_AVAILABLE = isEventClassLoadable();
+
+    private JfrEvents() {}
+
+    private static boolean isEventClassLoadable() {
+        try {
+            Class.forName(EVENT_CLASS_NAME, false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.info("The Flight Recorder is not available, its events are not emitted");
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if the runtime has the Flight Recorder.
+     */
+    public static boolean isAvailable() {
+        return IS_AVAILABLE;
+    }
+
+    /**
+     * Begins the event created by {@code eventFactory}, or returns a span that does nothing if the runtime has no
+     * Flight Recorder.
+     * {@code eventFactory} must be a lambda rather than a constructor reference, as linking a constructor reference
+     * loads the event even if it is never called.
+     */
+    public static <E> JfrSpan<E> begin(Supplier<E> eventFactory) {
+        if (!IS_AVAILABLE) {
+            return JfrSpan.none();
+        }
+        return new JfrSpan<>(EventRecorder.begin(eventFactory.get()));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.saveit.commons.jfr;
+
+import java.util.function.Consumer;
+
+/**
+ * A Flight Recorder event that was begun by {@link JfrEvents#begin}, or nothing if the runtime has no Flight
+ * Recorder.
+ */
+public class JfrSpan<E> {
+    private static final JfrSpan<?> NONE = new JfrSpan<>(null);
+
+    /** The event, which is a {@code jdk.jfr.Event}, or null if there is none */
+    private final Object event;
+
+    JfrSpan(Object event) {
+        this.event = event;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> JfrSpan<E> none() {
+        return (JfrSpan<E>) NONE;
+    }
+
+    /**
+     * Ends the event, and commits it once {@code fieldSetter} has set its fields, if it is being recorded.
+     * Nothing is computed for the fields while no recording is running.
+     */
+    public void end(Consumer<E> fieldSetter) {
+        if (event != null) {
+            EventRecorder.end(event, fieldSetter);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A commit, undo or redo of the versioned SaveIt.
+ */
+@Name("seedu.saveit.ModelVersion")
+@Label("Model Version Change")
+@Category({"SaveIt", "Model"})
+@Description("Commit, undo or redo of the versioned SaveIt")
+public class ModelVersionEvent extends Event {
+
+    public static final String COMMIT = "commit";
+    public static final String UNDO = "undo";
+    public static final String REDO = "redo";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("State Index")
+    public int stateIndex;
+
+    @Label("State Count")
+    public int stateCount;
+
+    @Label("Issue Count")
+    public int issueCount;
+}
@@ -0,0 +1,23 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The sorting of the filtered issue list.
+ */
+@Name("seedu.saveit.Sort")
+@Label("Issue Sort")
+@Category({"SaveIt", "Model"})
+@Description("Sorting of the filtered issue list")
+public class SortEvent extends Event {
+
+    @Label("Sort Type")
+    public String sortType;
+
+    @Label("Result Size")
+    public int resultSize;
+}
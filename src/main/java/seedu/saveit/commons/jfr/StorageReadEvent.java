@@ -0,0 +1,25 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The reading of the SaveIt data file.
+ */
+@Name("seedu.saveit.StorageRead")
+@Label("Storage Read")
+@Category({"SaveIt", "Storage"})
+@Description("Reading of the SaveIt data file")
+public class StorageReadEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long bytes;
+}
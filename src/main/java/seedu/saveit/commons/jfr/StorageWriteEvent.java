@@ -0,0 +1,25 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The writing of the SaveIt data file.
+ */
+@Name("seedu.saveit.StorageWrite")
+@Label("Storage Write")
+@Category({"SaveIt", "Storage"})
+@Description("Writing of the SaveIt data file")
+public class StorageWriteEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,23 @@
+package seedu.saveit.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The evaluation of the suggestions for the user input.
+ */
+@Name("seedu.saveit.SuggestionEvaluation")
+@Label("Suggestion Evaluation")
+@Category({"SaveIt", "Logic"})
+@Description("Evaluation of the suggestions for the user input")
+public class SuggestionEvaluationEvent extends Event {
+
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Suggestion Count")
+    public int suggestionCount;
+}
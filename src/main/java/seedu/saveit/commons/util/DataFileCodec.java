@@ -0,0 +1,149 @@
+package seedu.saveit.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The ways the xml of a data file can be encoded on the hard disk.
+ *
+ * A compressed data file starts with a header of {@code HEADER_MAGIC} followed by the id of its codec, so that it
+ * can be read whatever codec the user prefs select for saving. Files without the header are plain xml, so the data
+ * files saved before compression was added, or saved with {@code NONE}, are read as before.
+ *
+ * The data is compressed and decompressed as it is written and read, so the whole file is never held in memory.
+ */
+public enum DataFileCodec {
+    /** Plain xml, which can still be edited by hand */
+    NONE(0, Deflater.NO_COMPRESSION),
+    /** Deflate at the fastest level, which takes little more time than plain xml to write */
+    DEFLATE_FAST(1, Deflater.BEST_SPEED),
+    /** Deflate at the best level, which writes the smallest files */
+    DEFLATE_BEST(2, Deflater.BEST_COMPRESSION);
+
+    public static final String MESSAGE_UNKNOWN_CODEC = "Unknown data file codec: %1$d";
+
+    /** Cannot start an xml file, which starts with a '<' or a byte order mark */
+    private static final byte[] HEADER_MAGIC = {(byte) 0x89, 'S', 'I', 'T'};
+    private static final int HEADER_LENGTH = HEADER_MAGIC.length + 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int id;
+    private final int level;
+
+    DataFileCodec(int id, int level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    /**
+     * Returns a stream that writes the data given to it to {@code out} in this codec, after the header.
+     * Closing the stream closes {@code out}.
+     */
+    public OutputStream encode(OutputStream out) throws IOException {
+        requireNonNull(out);
+        if (this == NONE) {
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+
+        out.write(HEADER_MAGIC);
+        out.write(id);
+        Deflater deflater = new Deflater(level);
+        // buffered, as deflating the many small writes of the xml one at a time is slow
+        return new BufferedOutputStream(new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        }, BUFFER_SIZE);
+    }
+
+    /**
+     * Returns a stream of the data in {@code in}, decoded with the codec named by its header, or as it is if it has
+     * no header. Closing the stream closes {@code in}.
+     *
+     * @throws IOException if the header names an unknown codec, or {@code in} cannot be read.
+     */
+    public static InputStream decode(InputStream in) throws IOException {
+        requireNonNull(in);
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        bufferedIn.mark(HEADER_LENGTH);
+        DataFileCodec codec = readHeader(bufferedIn);
+        if (codec == null) {
+            bufferedIn.reset();
+            return bufferedIn;
+        }
+        if (codec == NONE) {
+            return bufferedIn;
+        }
+
+        Inflater inflater = new Inflater();
+        return new InflaterInputStream(bufferedIn, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Opens {@code file} for reading, decoded as in {@link #decode(InputStream)}.
+     */
+    public static InputStream openDecoded(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            return decode(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the header at the start of {@code in}, and returns the codec it names, or null if {@code in} does not
+     * start with a header.
+     */
+    private static DataFileCodec readHeader(InputStream in) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        int length = 0;
+        while (length < HEADER_LENGTH) {
+            int read = in.read(header, length, HEADER_LENGTH - length);
+            if (read < 0) {
+                return null;
+            }
+            length += read;
+        }
+        if (!Arrays.equals(Arrays.copyOf(header, HEADER_MAGIC.length), HEADER_MAGIC)) {
+            return null;
+        }
+        return fromId(header[HEADER_MAGIC.length]);
+    }
+
+    private static DataFileCodec fromId(int id) throws IOException {
+        for (DataFileCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_UNKNOWN_CODEC, id));
+    }
+}
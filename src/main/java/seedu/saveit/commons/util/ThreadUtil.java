@@ -0,0 +1,35 @@
+package seedu.saveit.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helper functions for creating background threads.
+ */
+public class ThreadUtil {
+
+    /**
+     * Returns a {@code ThreadFactory} that creates daemon threads named {@code name-1}, {@code name-2}, ...
+     * Daemon threads do not prevent the application from exiting.
+     */
+    public static ThreadFactory newDaemonThreadFactory(String name) {
+        requireNonNull(name);
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns a single-threaded executor that runs its tasks one at a time on a daemon thread.
+     */
+    public static ExecutorService newSingleDaemonThreadExecutor(String name) {
+        return Executors.newSingleThreadExecutor(newDaemonThreadFactory(name));
+    }
+}
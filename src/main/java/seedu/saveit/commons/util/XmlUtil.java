@@ -3,6 +3,9 @@ package seedu.saveit.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -10,6 +13,10 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helps with reading from and writing to XML files.
@@ -43,6 +50,100 @@ public class XmlUtil {
         return ((T) um.unmarshal(file.toFile()));
     }
 
+    /**
+     * Returns the xml data read from {@code in} as an object of the specified type, without closing {@code in}.
+     *
+     * @throws JAXBException Thrown if the data is empty or does not have the correct format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getDataFromStream(InputStream in, Class<T> classToConvert) throws JAXBException {
+
+        requireNonNull(in);
+        requireNonNull(classToConvert);
+
+        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        Unmarshaller um = context.createUnmarshaller();
+
+        return ((T) um.unmarshal(in));
+    }
+
+    /**
+     * Reads the elements named {@code elementName} directly under the root element of the xml file, as objects of
+     * the specified type, and hands each to {@code elementHandler} as soon as it is read, so that the elements can be
+     * used before the whole file is read and the file is never held in memory as a whole.
+     *
+     * @param file           Points to a valid xml file. Cannot be null.
+     * @param rootName       The name that the root element of the file must have.
+     * @param elementName    The name of the elements to read.
+     * @param classToConvert The class corresponding to each element.
+     *                       Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if the file cannot be read.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     * @throws E                     Thrown if {@code elementHandler} throws it, which stops the reading.
+     */
+    public static <T, E extends Exception> void streamDataFromFile(Path file, String rootName, String elementName,
+            Class<T> classToConvert, ElementHandler<T, E> elementHandler) throws IOException, JAXBException, E {
+
+        requireNonNull(file);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(classToConvert);
+        requireNonNull(elementHandler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            streamDataFromStream(in, rootName, elementName, classToConvert, elementHandler);
+        }
+    }
+
+    /**
+     * Reads the elements like {@link #streamDataFromFile}, but from {@code in}, without closing it.
+     *
+     * @throws IOException   Thrown if {@code in} cannot be read.
+     * @throws JAXBException Thrown if the data is empty or does not have the correct format.
+     * @throws E             Thrown if {@code elementHandler} throws it, which stops the reading.
+     */
+    public static <T, E extends Exception> void streamDataFromStream(InputStream in, String rootName,
+            String elementName, Class<T> classToConvert, ElementHandler<T, E> elementHandler)
+            throws IOException, JAXBException, E {
+
+        requireNonNull(in);
+        requireNonNull(rootName);
+        requireNonNull(elementName);
+        requireNonNull(classToConvert);
+        requireNonNull(elementHandler);
+
+        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        Unmarshaller um = context.createUnmarshaller();
+
+        try {
+            XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getLocalName().equals(rootName)) {
+                    throw new JAXBException("Unexpected root element : " + reader.getLocalName());
+                }
+                reader.next();
+                while (reader.getEventType() != XMLStreamConstants.END_DOCUMENT) {
+                    if (reader.isStartElement() && reader.getLocalName().equals(elementName)) {
+                        // leaves the reader after the end of the element
+                        elementHandler.handle(um.unmarshal(reader, classToConvert).getValue());
+                    } else {
+                        reader.next();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
     /**
      * Saves the data in the file in xml format.
      *
@@ -68,4 +169,72 @@ public class XmlUtil {
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Writes the data to {@code out} in xml format, without closing it.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data
+     *                       into xml and writing to the stream.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data) throws JAXBException {
+
+        requireNonNull(out);
+        requireNonNull(data);
+
+        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        Marshaller m = context.createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+        m.marshal(data, out);
+    }
+
+    /**
+     * Returns the name of the root element of the xml file, without reading the rest of the file.
+     *
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if the file cannot be read.
+     * @throws JAXBException         Thrown if the file is empty or is not xml.
+     */
+    public static String getRootElementName(Path file) throws IOException, JAXBException {
+
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return getRootElementName(in);
+        }
+    }
+
+    /**
+     * Returns the name of the root element of the xml data in {@code in}, reading no further than that element
+     * and without closing {@code in}.
+     *
+     * @throws JAXBException Thrown if the data is empty or is not xml.
+     */
+    public static String getRootElementName(InputStream in) throws JAXBException {
+
+        requireNonNull(in);
+
+        try {
+            XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                return reader.getLocalName();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+    }
+
+    /**
+     * Handles an element read by {@link #streamDataFromFile} or {@link #streamDataFromStream}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.saveit.commons.web;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out requests to the same host, so that background network work does not hammer any single site.
+ * Requests to different hosts are not delayed by each other.
+ * Only the hosts that were requested within the last interval are remembered, so the limiter stays small however
+ * many hosts are requested.
+ */
+public class HostRateLimiter {
+
+    /** The number of hosts remembered before those whose interval has passed are forgotten */
+    private static final int MIN_PURGE_SIZE = 64;
+
+    private final long minIntervalNanos;
+    // guarded by this
+    private final Map<String, Long> nextSlotByHost = new HashMap<>();
+    private int purgeSize = MIN_PURGE_SIZE;
+
+    /**
+     * Creates a limiter that allows at most one request to each host every {@code minInterval}.
+     */
+    public HostRateLimiter(Duration minInterval) {
+        requireNonNull(minInterval);
+        this.minIntervalNanos = minInterval.toNanos();
+    }
+
+    /**
+     * Blocks until a request to {@code host} is allowed, and reserves that request.
+     */
+    public void acquire(String host) throws InterruptedException {
+        requireNonNull(host);
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextSlotByHost.size() >= purgeSize) {
+                purgeFreeHosts(now);
+            }
+            long slot = Math.max(now, nextSlotByHost.getOrDefault(host, now));
+            nextSlotByHost.put(host, slot + minIntervalNanos);
+            waitNanos = slot - now;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Forgets the hosts that may be requested again at {@code now}, as they are no different from hosts never
+     * requested. The next purge is when the hosts remembered have doubled, so that purges take constant amortized
+     * time.
+     */
+    private synchronized void purgeFreeHosts(long now) {
+        nextSlotByHost.values().removeIf(nextSlot -> nextSlot - now <= 0);
+        purgeSize = Math.max(MIN_PURGE_SIZE, nextSlotByHost.size() * 2);
+    }
+
+    /**
+     * Returns the number of hosts remembered.
+     */
+    synchronized int getHostCount() {
+        return nextSlotByHost.size();
+    }
+}
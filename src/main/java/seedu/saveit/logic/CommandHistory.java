@@ -1,37 +1,100 @@
 package seedu.saveit.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.AbstractList;
+import java.util.RandomAccess;
 
 /**
  * Stores the history of commands executed.
+ *
+ * Only the latest {@code capacity} commands are kept. The commands are stored in a ring of fixed-size chunks that
+ * are never modified once a command is written in them; a new chunk replaces the oldest one, in a copy of the
+ * table of chunks. A {@code Snapshot} of the history therefore only needs to keep the current table of chunks, and
+ * taking one does not copy the commands.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+    public static final int DEFAULT_CAPACITY = 10000;
+    public static final String MESSAGE_CONSTRAINTS = "The capacity of the history should be positive";
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final int capacity;
+    private final HistorySearchIndex searchIndex;
+    private String[][] chunks;
+    /** Sequence number of the oldest command kept */
+    private int firstSequence;
+    /** Sequence number of the next command added */
+    private int endSequence;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history that keeps the latest {@code capacity} commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+        searchIndex = new HistorySearchIndex(capacity);
+        chunks = new String[(capacity + CHUNK_SIZE - 1) / CHUNK_SIZE + 1][];
     }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        this(commandHistory.capacity);
+        commandHistory.getHistory().forEach(this::add);
     }
 
     /**
      * Appends {@code userInput} to the list of user input entered.
+     * The oldest input is dropped if the history is full.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        int sequence = endSequence;
+        int chunkIndex = getChunkIndex(sequence);
+        if (sequence % CHUNK_SIZE == 0) {
+            // snapshots may still read the chunk being replaced
+            chunks = chunks.clone();
+            chunks[chunkIndex] = new String[CHUNK_SIZE];
+        }
+        chunks[chunkIndex][sequence % CHUNK_SIZE] = userInput;
+
+        endSequence++;
+        firstSequence = Math.max(firstSequence, endSequence - capacity);
+        searchIndex.add(sequence, userInput, firstSequence);
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Returns an unmodifiable snapshot of the user input entered, from the earliest to the latest.
+     * The snapshot is not affected by input added later.
      */
-    public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+    public synchronized Snapshot getHistory() {
+        return new Snapshot(this, chunks, firstSequence, endSequence);
+    }
+
+    /**
+     * Returns the sequence number of the latest input from {@code firstSequenceToSearch} to {@code fromSequence}
+     * (both inclusive) that contains {@code substring}, ignoring case, or -1 if there is none.
+     * Only the input that is still kept is searched.
+     */
+    private synchronized int findLastContaining(String substring, int fromSequence, int firstSequenceToSearch) {
+        return searchIndex.findLast(substring, fromSequence, Math.max(firstSequence, firstSequenceToSearch),
+                sequence -> get(chunks, sequence));
+    }
+
+    private synchronized int getFirstSequence() {
+        return firstSequence;
+    }
+
+    private int getChunkIndex(int sequence) {
+        return (sequence / CHUNK_SIZE) % chunks.length;
+    }
+
+    private static String get(String[][] chunks, int sequence) {
+        return chunks[(sequence / CHUNK_SIZE) % chunks.length][sequence % CHUNK_SIZE];
     }
 
     @Override
@@ -48,11 +111,64 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
+    }
+
+    /**
+     * The user input entered up to the moment a {@code CommandHistory} snapshot was taken.
+     */
+    public static class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final CommandHistory history;
+        private final String[][] chunks;
+        private final int firstSequence;
+        private final int endSequence;
+
+        private Snapshot(CommandHistory history, String[][] chunks, int firstSequence, int endSequence) {
+            this.history = history;
+            this.chunks = chunks;
+            this.firstSequence = firstSequence;
+            this.endSequence = endSequence;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return CommandHistory.get(chunks, firstSequence + index);
+        }
+
+        @Override
+        public int size() {
+            return endSequence - firstSequence;
+        }
+
+        /**
+         * Returns the index of the latest input at or before {@code fromIndex} that contains {@code substring},
+         * ignoring case, or -1 if there is none.
+         */
+        public int findLastContaining(String substring, int fromIndex) {
+            requireNonNull(substring);
+            int lastIndex = Math.min(fromIndex, size() - 1);
+            int sequence = history.findLastContaining(substring, firstSequence + lastIndex, firstSequence);
+            if (sequence >= 0) {
+                return sequence - firstSequence;
+            }
+
+            // the input dropped from the history since this snapshot was taken is not indexed anymore
+            String needle = substring.toLowerCase();
+            int lastDroppedIndex = history.getFirstSequence() - firstSequence - 1;
+            for (int index = Math.min(lastIndex, lastDroppedIndex); index >= 0; index--) {
+                if (get(index).toLowerCase().contains(needle)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
     }
 }
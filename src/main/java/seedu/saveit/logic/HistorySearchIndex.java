@@ -0,0 +1,156 @@
+package seedu.saveit.logic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * An index of the commands in a {@code CommandHistory} by the substrings they contain, ignoring case.
+ *
+ * Every command is indexed by each sequence of {@value #GRAM_LENGTH} characters in it. To find the latest command
+ * that contains a substring, only the commands in the shortest list of one of the substring's sequences are
+ * checked, instead of all the commands. Substrings shorter than that are looked up by checking every command,
+ * which is fast as such short substrings are found within the latest few commands.
+ */
+class HistorySearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /** Sequence numbers of the commands that contain a sequence of characters, keyed by the packed sequence */
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final int capacity;
+    private int addedSinceSweep;
+
+    HistorySearchIndex(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Indexes {@code command}, the command with sequence number {@code sequence}.
+     * Sequence numbers must be added in increasing order. Commands before {@code firstSequence} are no longer in
+     * the history, and are dropped from the index.
+     */
+    void add(int sequence, String command, int firstSequence) {
+        for (long gram : getGrams(command.toLowerCase())) {
+            postings.computeIfAbsent(gram, unused -> new Postings()).add(sequence, firstSequence);
+        }
+
+        // drop the lists of the sequences that are no longer used, at most once per capacity of commands added
+        if (++addedSinceSweep >= capacity) {
+            addedSinceSweep = 0;
+            Iterator<Postings> iterator = postings.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().removeBefore(firstSequence)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence number of the latest command from {@code firstSequence} to {@code fromSequence}
+     * (both inclusive) that contains {@code substring}, ignoring case, or -1 if there is none.
+     * @param commands returns the command with a given sequence number.
+     */
+    int findLast(String substring, int fromSequence, int firstSequence, IntFunction<String> commands) {
+        String needle = substring.toLowerCase();
+        if (needle.length() < GRAM_LENGTH) {
+            for (int sequence = fromSequence; sequence >= firstSequence; sequence--) {
+                if (commands.apply(sequence).toLowerCase().contains(needle)) {
+                    return sequence;
+                }
+            }
+            return -1;
+        }
+
+        Postings candidates = null;
+        for (long gram : getGrams(needle)) {
+            Postings gramPostings = postings.get(gram);
+            if (gramPostings == null) {
+                return -1;
+            }
+            if (candidates == null || gramPostings.size() < candidates.size()) {
+                candidates = gramPostings;
+            }
+        }
+
+        for (int i = candidates.lastIndexAtOrBefore(fromSequence); i >= candidates.start; i--) {
+            int sequence = candidates.sequences[i];
+            if (sequence < firstSequence) {
+                break;
+            }
+            if (commands.apply(sequence).toLowerCase().contains(needle)) {
+                return sequence;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distinct sequences of {@value #GRAM_LENGTH} characters in {@code text}, each packed in a long.
+     */
+    private static Set<Long> getGrams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long gram = 0;
+            for (int j = i; j < i + GRAM_LENGTH; j++) {
+                gram = (gram << Character.SIZE) | text.charAt(j);
+            }
+            grams.add(gram);
+        }
+        return grams;
+    }
+
+    /**
+     * The increasing sequence numbers of the commands that contain one sequence of characters.
+     * The numbers from {@code start} to {@code end} (exclusive) of {@code sequences} are in use.
+     */
+    private static class Postings {
+        private int[] sequences = new int[2];
+        private int start;
+        private int end;
+
+        int size() {
+            return end - start;
+        }
+
+        void add(int sequence, int firstSequence) {
+            if (end > start && sequences[end - 1] == sequence) {
+                return;
+            }
+            removeBefore(firstSequence);
+            if (end == sequences.length) {
+                // reclaim the space of the removed numbers before growing the array
+                int[] newSequences = size() * 2 <= sequences.length ? sequences : new int[sequences.length * 2];
+                System.arraycopy(sequences, start, newSequences, 0, size());
+                sequences = newSequences;
+                end -= start;
+                start = 0;
+            }
+            sequences[end++] = sequence;
+        }
+
+        /**
+         * Removes the numbers before {@code firstSequence}. Returns true if no number is left.
+         */
+        boolean removeBefore(int firstSequence) {
+            while (start < end && sequences[start] < firstSequence) {
+                start++;
+            }
+            return start == end;
+        }
+
+        /**
+         * Returns the index in {@code sequences} of the greatest number that is at most {@code sequence},
+         * or {@code start - 1} if there is none.
+         */
+        int lastIndexAtOrBefore(int sequence) {
+            int index = Arrays.binarySearch(sequences, start, end, sequence);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
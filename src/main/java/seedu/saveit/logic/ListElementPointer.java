@@ -13,7 +13,8 @@ import java.util.NoSuchElementException;
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
  */
 public class ListElementPointer {
-    private List<String> list;
+    private final List<String> list;
+    private final List<String> addedElements = new ArrayList<>();
     private int index;
 
     /**
@@ -25,11 +26,20 @@ public class ListElementPointer {
         index = this.list.size() - 1;
     }
 
+    /**
+     * Constructs {@code ListElementPointer} which is backed by {@code snapshot}, without copying it as it is
+     * unmodifiable. The cursor points to the last element in {@code snapshot}.
+     */
+    public ListElementPointer(CommandHistory.Snapshot snapshot) {
+        this.list = snapshot;
+        index = snapshot.size() - 1;
+    }
+
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
@@ -56,7 +66,15 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
     }
 
     /**
@@ -67,7 +85,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +96,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +107,49 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
+    }
+
+    /**
+     * Moves the cursor backwards to the closest element before it that contains {@code substring}, ignoring case,
+     * and returns that element.
+     * @throws NoSuchElementException if no element before the cursor contains {@code substring}.
+     */
+    public String previousContaining(String substring) {
+        String needle = substring.toLowerCase();
+        for (int i = index - 1; i >= list.size(); i--) {
+            if (get(i).toLowerCase().contains(needle)) {
+                index = i;
+                return get(index);
+            }
+        }
+
+        int found = findLastContaining(needle, Math.min(index, list.size()) - 1);
+        if (found < 0) {
+            throw new NoSuchElementException();
+        }
+        index = found;
+        return get(index);
+    }
+
+    /**
+     * Returns the index of the last element of {@code list} at or before {@code fromIndex} that contains
+     * {@code needle}, which is in lower case, or -1 if there is none.
+     */
+    private int findLastContaining(String needle, int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        if (list instanceof CommandHistory.Snapshot) {
+            // look up the index of the history instead of checking every element
+            return ((CommandHistory.Snapshot) list).findLastContaining(needle, fromIndex);
+        }
+        for (int i = fromIndex; i >= 0; i--) {
+            if (list.get(i).toLowerCase().contains(needle)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
@@ -106,6 +166,14 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        if (size() != iterator.size() || index != iterator.index) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            if (!get(i).equals(iterator.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 }
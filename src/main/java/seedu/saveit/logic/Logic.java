@@ -1,5 +1,7 @@
 package seedu.saveit.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.directory.Directory;
 import seedu.saveit.logic.commands.CommandResult;
@@ -22,15 +24,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command for execution and returns immediately.
+     * Commands are executed one at a time, in the order they were queued.
+     * @param commandText The command as entered by the user.
+     * @return a future that completes with the result of the command execution, or completes exceptionally
+     *     with a {@code CommandException} or {@code ParseException} wrapped in a {@code CompletionException}.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
-    /** Returns an unmodifiable view of the filtered list of issues */
+    /**
+     * Returns an unmodifiable view of the filtered list of issues.
+     * The list is updated on the UI thread after the model changes, and stays the same list across notebooks.
+     */
     ObservableList<Issue> getFilteredAndSortedIssueList();
 
-    /** Returns an unmodifiable view of the filtered list of solutions of the selected issue */
+    /**
+     * Returns an unmodifiable view of the filtered list of solutions of the selected issue, which is empty when no
+     * issue is selected. The list is updated on the UI thread after the model changes.
+     */
     ObservableList<Solution> getFilteredSolutionList();
 
-    /** Reset the directory of current model */
-    void resetDirectory(Directory directory);
+    /**
+     * Resets the directory of the current model after the commands already queued.
+     * @return a future that completes once the directory is reset.
+     */
+    CompletableFuture<Void> resetDirectory(Directory directory);
 }
@@ -1,11 +1,32 @@
 package seedu.saveit.logic;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.ComponentManager;
+import seedu.saveit.commons.core.EventsCenter;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
 import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.commons.events.logic.CommandExecutionStateChangedEvent;
+import seedu.saveit.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
+import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.jfr.CommandExecutionEvent;
+import seedu.saveit.commons.jfr.JfrEvents;
+import seedu.saveit.commons.jfr.JfrSpan;
 import seedu.saveit.logic.commands.Command;
 import seedu.saveit.logic.commands.CommandResult;
 import seedu.saveit.logic.commands.DangerCommand;
@@ -18,60 +39,225 @@ import seedu.saveit.model.issue.Solution;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands are executed on the model executor, the thread that owns the model, one at a time. The lists shown by
+ * the UI are copies of the lists of the model, which are handed to the UI executor after every change, so that the
+ * UI never reads the model while a command is changing it.
  */
 public class LogicManager extends ComponentManager implements Logic {
     public static final String CONFIRM_WORD = "Yes";
     public static final String CONFIRM_ALIAS = "Y";
 
+    private static final String COMMAND_METRIC_PREFIX = "command.";
+    private static final String INVALID_COMMAND_METRIC = COMMAND_METRIC_PREFIX + "invalid";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final SaveItParser saveItParser;
+    private final Executor modelExecutor;
+    private final Executor uiExecutor;
+    private final AtomicInteger pendingCommandCount;
+    /** The issues and solutions shown by the UI, only changed on the UI executor */
+    private final ObservableList<Issue> displayedIssues = FXCollections.observableArrayList();
+    private final ObservableList<Solution> displayedSolutions = FXCollections.observableArrayList();
+    private final ListChangeListener<Issue> issueListListener = change -> publishIssues();
+    /** The issue list of the model being shown, held so that its listener is not dropped */
+    private ObservableList<Issue> observedIssues;
     private DangerCommand bufferedCommand;
 
+    /**
+     * Creates a LogicManager whose commands are executed, and whose lists are updated, on the calling thread.
+     */
     public LogicManager(Model model) {
+        this(model, new CommandHistory(), Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Creates a LogicManager that continues the given {@code history}, e.g. the history of earlier sessions.
+     * Its commands are executed on {@code modelExecutor}, which should run tasks one at a time on the thread that
+     * owns the model, and its lists are updated on {@code uiExecutor}, which should run tasks on the thread that
+     * shows them.
+     */
+    public LogicManager(Model model, CommandHistory history, Executor modelExecutor, Executor uiExecutor) {
+        super(EventsCenter.Dispatch.MODEL_THREAD);
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
+        this.modelExecutor = modelExecutor;
+        this.uiExecutor = uiExecutor;
         saveItParser = new SaveItParser();
         bufferedCommand = null;
+        pendingCommandCount = new AtomicInteger();
+        modelExecutor.execute(this::observeModel);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        LogsCenter.log(logger, Level.INFO, "----------------[USER COMMAND]", "command", commandText);
         try {
-            // handle buffered command before executing other command
-            if (requireConfirmationBeforeExecution(bufferedCommand)) {
-                return handleBufferedCommand(commandText);
-            }
+            return prepare(commandText).run();
+        } finally {
+            addToHistory(commandText);
+        }
+    }
 
-            Command command = saveItParser.parseCommand(commandText);
-            if (requireConfirmationBeforeExecution(command)) {
-                setBufferedCommand((DangerCommand) command);
-                return bufferedCommand.askForConfirmation();
-            } else {
-                return command.execute(model, history);
-            }
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        LogsCenter.log(logger, Level.INFO, "----------------[USER COMMAND]", "command", commandText);
+        indicateCommandSubmitted(commandText);
+        CompletableFuture<CommandResult> result =
+                CompletableFuture.supplyAsync(() -> executeOnModelThread(commandText), modelExecutor);
+        result.whenComplete((unusedResult, unusedError) -> indicateCommandCompleted(commandText));
+        return result;
+    }
+
+    /**
+     * Parses and executes {@code commandText}, and records it in the history.
+     * Checked exceptions are wrapped in a {@code CompletionException}.
+     */
+    private CommandResult executeOnModelThread(String commandText) {
+        try {
+            return prepare(commandText).run();
+        } catch (CommandException | ParseException e) {
+            throw new CompletionException(e);
         } finally {
-            history.add(commandText);
+            addToHistory(commandText);
+        }
+    }
+
+    /** Records {@code commandText} in the history and raises an event so that it is saved */
+    private void addToHistory(String commandText) {
+        history.add(commandText);
+        raise(new CommandHistoryChangedEvent(commandText));
+    }
+
+    /**
+     * Parses {@code commandText} and returns the action to be run against the model.
+     * Updates {@code bufferedCommand} if the command requires or provides a confirmation.
+     * The time from now until the action completes is recorded in the latency metric of the command.
+     */
+    private PreparedCommand prepare(String commandText) throws ParseException {
+        long startTime = System.nanoTime();
+        // handle buffered command before executing other command
+        if (requireConfirmationBeforeExecution(bufferedCommand)) {
+            Command confirmedCommand = bufferedCommand;
+            return timed(confirmedCommand, startTime, handleBufferedCommand(commandText));
+        }
+
+        Command command;
+        try {
+            command = saveItParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            MetricsCenter.getInstance().recordLatencySince(INVALID_COMMAND_METRIC, startTime);
+            throw pe;
         }
+        if (requireConfirmationBeforeExecution(command)) {
+            DangerCommand dangerCommand = (DangerCommand) command;
+            setBufferedCommand(dangerCommand);
+            return timed(command, startTime, dangerCommand::askForConfirmation);
+        } else {
+            return timed(command, startTime, () -> command.execute(model, history));
+        }
+    }
+
+    /**
+     * Returns {@code preparedCommand}, recording the time from {@code startTime} until it completes in the latency
+     * metric of {@code command}, and in a {@code CommandExecutionEvent} if it is being recorded.
+     */
+    private static PreparedCommand timed(Command command, long startTime, PreparedCommand preparedCommand) {
+        String metricName = COMMAND_METRIC_PREFIX + command.getClass().getSimpleName();
+        return () -> {
+            JfrSpan<CommandExecutionEvent> span = JfrEvents.begin(() -> new CommandExecutionEvent());
+            boolean hasSucceeded = false;
+            try {
+                CommandResult result = preparedCommand.run();
+                hasSucceeded = true;
+                return result;
+            } finally {
+                MetricsCenter.getInstance().recordLatencySince(metricName, startTime);
+                boolean succeeded = hasSucceeded;
+                span.end(event -> {
+                    event.commandType = command.getClass().getSimpleName();
+                    event.succeeded = succeeded;
+                });
+            }
+        };
     }
 
     @Override
     public ObservableList<Issue> getFilteredAndSortedIssueList() {
-        return model.getFilteredAndSortedIssueList();
+        return FXCollections.unmodifiableObservableList(displayedIssues);
     }
 
     @Override
     public ObservableList<Solution> getFilteredSolutionList() {
-        ObservableList<Solution> k = model.getFilteredAndSortedSolutionList();
-        return k;
+        return FXCollections.unmodifiableObservableList(displayedSolutions);
     }
 
     @Override
-    public void resetDirectory(Directory directory) {
-        model.resetDirectory(directory);
+    public CompletableFuture<Void> resetDirectory(Directory directory) {
+        return CompletableFuture.runAsync(() -> model.resetDirectory(directory), modelExecutor);
+    }
+
+    /**
+     * Starts showing the issue list of the model, which is replaced when another notebook is switched to.
+     */
+    private void observeModel() {
+        if (observedIssues != null) {
+            observedIssues.removeListener(issueListListener);
+        }
+        observedIssues = model.getFilteredAndSortedIssueList();
+        observedIssues.addListener(issueListListener);
+        publishIssues();
+        publishSolutions();
+    }
+
+    /**
+     * Hands a copy of the issue list of the model to the UI. The copy is shared with the other readers of
+     * {@link Model#getFilteredAndSortedIssueSnapshot()}, so the list is copied once per change.
+     */
+    private void publishIssues() {
+        List<Issue> issues = model.getFilteredAndSortedIssueSnapshot();
+        uiExecutor.execute(() -> replaceChangedRange(displayedIssues, issues));
+    }
+
+    /** Hands a copy of the solutions of the selected issue to the UI, which are empty at the root level */
+    private void publishSolutions() {
+        Directory directory = model.getCurrentDirectory();
+        List<Solution> solutions = directory.isRootLevel() || directory.getIssue() > observedIssues.size()
+                ? Collections.emptyList()
+                : new ArrayList<>(model.getFilteredAndSortedSolutionList());
+        uiExecutor.execute(() -> replaceChangedRange(displayedSolutions, solutions));
+    }
+
+    /**
+     * Makes {@code displayed} hold the elements of {@code latest}, only replacing the range of elements that
+     * changed, so that the selection and the scroll position of the list shown are kept.
+     */
+    private static <T> void replaceChangedRange(ObservableList<T> displayed, List<T> latest) {
+        int start = 0;
+        int displayedEnd = displayed.size();
+        int latestEnd = latest.size();
+        while (start < displayedEnd && start < latestEnd && displayed.get(start) == latest.get(start)) {
+            start++;
+        }
+        while (displayedEnd > start && latestEnd > start
+                && displayed.get(displayedEnd - 1) == latest.get(latestEnd - 1)) {
+            displayedEnd--;
+            latestEnd--;
+        }
+
+        if (displayedEnd - start == 1 && latestEnd - start == 1) {
+            displayed.set(start, latest.get(start));
+            return;
+        }
+        if (displayedEnd > start) {
+            displayed.remove(start, displayedEnd);
+        }
+        if (latestEnd > start) {
+            displayed.addAll(start, latest.subList(start, latestEnd));
+        }
     }
 
     @Override
@@ -83,14 +269,14 @@ public class LogicManager extends ComponentManager implements Logic {
      * Check if a buffered command can be executed based on {@code commandText}.
      * Update {@code bufferedCommand} to null.
      */
-    private CommandResult handleBufferedCommand(String commandText) throws CommandException, ParseException {
+    private PreparedCommand handleBufferedCommand(String commandText) {
         DangerCommand command = bufferedCommand;
         resetBufferedCommand();
 
         if (commandText.equals(CONFIRM_WORD) || commandText.equals(CONFIRM_ALIAS)) {
-            return command.execute(model, history);
+            return () -> command.execute(model, history);
         } else {
-            return command.failedConfirmation();
+            return command::failedConfirmation;
         }
     }
 
@@ -108,4 +294,37 @@ public class LogicManager extends ComponentManager implements Logic {
     private void resetBufferedCommand() {
         bufferedCommand = null;
     }
+
+    /** Raises an event if the pipeline has become busy */
+    private void indicateCommandSubmitted(String commandText) {
+        if (pendingCommandCount.getAndIncrement() == 0) {
+            raise(new CommandExecutionStateChangedEvent(true, commandText));
+        }
+    }
+
+    /** Raises an event if the pipeline has become idle */
+    private void indicateCommandCompleted(String commandText) {
+        if (pendingCommandCount.decrementAndGet() == 0) {
+            raise(new CommandExecutionStateChangedEvent(false, commandText));
+        }
+    }
+
+    @Subscribe
+    private void handleSaveItChangedEvent(SaveItChangedEvent event) {
+        // the directory may have changed, and with it the issue whose solutions are shown
+        publishSolutions();
+    }
+
+    @Subscribe
+    private void handleNotebookSwitchedEvent(NotebookSwitchedEvent event) {
+        observeModel();
+    }
+
+    /**
+     * A parsed command that is ready to be run against the model.
+     */
+    @FunctionalInterface
+    private interface PreparedCommand {
+        CommandResult run() throws CommandException, ParseException;
+    }
 }
@@ -0,0 +1,126 @@
+package seedu.saveit.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.logic.suggestion.SuggestionResult;
+
+/**
+ * Evaluates suggestions for the user input in the background, so that typing never waits for them.
+ *
+ * Evaluation is debounced: it only starts once the input has not changed for the debounce delay. Every new input
+ * supersedes the previous one, so a stale evaluation is cancelled if it has not started yet and its result is
+ * discarded if it has. Only the result of the latest input is delivered, on the result executor.
+ */
+public class SuggestionEngine {
+
+    public static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.ofMillis(80);
+
+    private static final String SUGGESTION_THREAD_NAME = "SaveIt-suggestion";
+    private static final String EVALUATION_METRIC = "suggestion.evaluate";
+    private static final String DISCARDED_METRIC = "suggestion.discarded";
+
+    private static final Logger logger = LogsCenter.getLogger(SuggestionEngine.class);
+
+    private final SuggestionLogic suggestionLogic;
+    private final Executor resultExecutor;
+    private final Duration debounceDelay;
+    private final ScheduledExecutorService suggestionExecutor;
+    private final AtomicLong latestRequest = new AtomicLong();
+    private Future<?> pendingEvaluation;
+
+    /**
+     * Creates a SuggestionEngine that delivers results on {@code resultExecutor}, which should run tasks on the
+     * thread that displays them.
+     */
+    public SuggestionEngine(SuggestionLogic suggestionLogic, Executor resultExecutor) {
+        this(suggestionLogic, resultExecutor, DEFAULT_DEBOUNCE_DELAY,
+                Executors.newSingleThreadScheduledExecutor(ThreadUtil.newDaemonThreadFactory(SUGGESTION_THREAD_NAME)));
+    }
+
+    SuggestionEngine(SuggestionLogic suggestionLogic, Executor resultExecutor, Duration debounceDelay,
+            ScheduledExecutorService suggestionExecutor) {
+        requireNonNull(suggestionLogic);
+        requireNonNull(resultExecutor);
+        requireNonNull(debounceDelay);
+        requireNonNull(suggestionExecutor);
+        this.suggestionLogic = suggestionLogic;
+        this.resultExecutor = resultExecutor;
+        this.debounceDelay = debounceDelay;
+        this.suggestionExecutor = suggestionExecutor;
+    }
+
+    /**
+     * Schedules the evaluation of {@code userInput} with the caret at {@code caretPosition}, superseding every
+     * previously submitted input. {@code onResult} receives the result on the result executor, unless another
+     * input is submitted or the engine is cancelled before then.
+     */
+    public synchronized void submit(String userInput, int caretPosition, Consumer<SuggestionResult> onResult) {
+        requireNonNull(userInput);
+        requireNonNull(onResult);
+        long request = latestRequest.incrementAndGet();
+        cancelPendingEvaluation();
+        pendingEvaluation = suggestionExecutor.schedule(() -> evaluate(request, userInput, caretPosition, onResult),
+                debounceDelay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Discards the latest submitted input, so that no result is delivered until the next input is submitted.
+     */
+    public synchronized void cancel() {
+        latestRequest.incrementAndGet();
+        cancelPendingEvaluation();
+    }
+
+    private void cancelPendingEvaluation() {
+        if (pendingEvaluation != null) {
+            // an evaluation that has already started runs to completion, its result is discarded as stale
+            pendingEvaluation.cancel(false);
+            pendingEvaluation = null;
+        }
+    }
+
+    private void evaluate(long request, String userInput, int caretPosition, Consumer<SuggestionResult> onResult) {
+        if (isStale(request)) {
+            return;
+        }
+
+        SuggestionResult result;
+        long startTime = System.nanoTime();
+        try {
+            result = suggestionLogic.evaluate(userInput, caretPosition);
+        } catch (RuntimeException e) {
+            logger.warning("Could not evaluate suggestions for [" + userInput + "]: " + StringUtil.getDetails(e));
+            return;
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince(EVALUATION_METRIC, startTime);
+        }
+
+        if (isStale(request)) {
+            MetricsCenter.getInstance().incrementCounter(DISCARDED_METRIC);
+            return;
+        }
+        resultExecutor.execute(() -> {
+            if (!isStale(request)) {
+                onResult.accept(result);
+            }
+        });
+    }
+
+    private boolean isStale(long request) {
+        return request != latestRequest.get();
+    }
+}
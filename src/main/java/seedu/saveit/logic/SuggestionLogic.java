@@ -9,9 +9,15 @@ import seedu.saveit.logic.suggestion.SuggestionResult;
  */
 public interface SuggestionLogic {
 
-    void updateCaretPosition(int position);
+    /**
+     * Instantiates a {@code Suggestion} for {@code userInput} with the caret at {@code caretPosition}, or returns
+     * null if there is none.
+     */
+    Suggestion parseUserInput(String userInput, int caretPosition);
 
-    Suggestion parseUserInput(String input);
-
-    SuggestionResult evaluate(String userInput);
+    /**
+     * Generates a {@code SuggestionResult} for {@code userInput} with the caret at {@code caretPosition},
+     * against the latest snapshot of the model. Can be called from any thread.
+     */
+    SuggestionResult evaluate(String userInput, int caretPosition);
 }
@@ -11,11 +11,14 @@ import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG_STRING;
 import static seedu.saveit.logic.parser.SaveItParser.BASIC_COMMAND_FORMAT;
 
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
 import seedu.saveit.commons.core.index.Index;
+import seedu.saveit.commons.jfr.JfrEvents;
+import seedu.saveit.commons.jfr.JfrSpan;
+import seedu.saveit.commons.jfr.SuggestionEvaluationEvent;
 import seedu.saveit.logic.commands.AddCommand;
 import seedu.saveit.logic.commands.EditCommand;
 import seedu.saveit.logic.commands.FindByTagCommand;
@@ -37,40 +40,34 @@ import seedu.saveit.model.Model;
  */
 public class SuggestionLogicManager implements SuggestionLogic {
 
-    private static final int INITIAL_CARET_POSITION = 0;
-
     private final Model model;
-    private int caretPosition;
 
     public SuggestionLogicManager(Model model) {
         this.model = model;
-        this.caretPosition = INITIAL_CARET_POSITION;
     }
 
-    /**
-     * Generates a {@code SuggestionResult} based on the {@code userInput}
-     */
     @Override
-    public SuggestionResult evaluate(String userInput) {
-        Suggestion suggestion = parseUserInput(userInput);
+    public SuggestionResult evaluate(String userInput, int caretPosition) {
+        JfrSpan<SuggestionEvaluationEvent> span = JfrEvents.begin(() -> new SuggestionEvaluationEvent());
+        SuggestionResult result = evaluateSuggestion(userInput, caretPosition);
+        span.end(event -> {
+            event.inputLength = userInput.length();
+            event.suggestionCount = result.getSuggestionValue().size();
+        });
+        return result;
+    }
+
+    private SuggestionResult evaluateSuggestion(String userInput, int caretPosition) {
+        Suggestion suggestion = parseUserInput(userInput, caretPosition);
         // Autosuggestions should only be at the root level - for issues
-        if (suggestion == null || !model.getCurrentDirectory().isRootLevel()) {
-            return new SuggestionResult(new LinkedList<>(), "", "", 0, 0);
+        if (suggestion == null || !model.getSnapshot().getCurrentDirectory().isRootLevel()) {
+            return new SuggestionResult(Collections.emptyList(), "", "", 0, 0);
         }
         return suggestion.evaluate();
     }
 
-    /**
-     * Called by the UI component
-     */
-    public void updateCaretPosition(int position) {
-        this.caretPosition = position;
-    }
-
-    /**
-     * Instantiates a {@code Suggestion} based on the {@code userInput}
-     */
-    public Suggestion parseUserInput(String userInput) {
+    @Override
+    public Suggestion parseUserInput(String userInput, int caretPosition) {
         Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput);
 
         if (!matcher.matches()) {
@@ -0,0 +1,96 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.events.ui.NewResultAvailableEvent;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.links.LinkChecker;
+import seedu.saveit.logic.links.LinkStatus;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.issue.Solution;
+
+/**
+ * Checks in the background whether every solution link can still be reached, and reports the broken ones.
+ */
+public class CheckLinksCommand extends Command {
+
+    public static final String COMMAND_WORD = "checklinks";
+    public static final String COMMAND_ALIAS = "cl";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Checks whether every solution link can still be "
+            + "reached, and lists the broken ones.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_LINKS = "There are no solution links to check";
+    public static final String MESSAGE_CHECKING = "Checking %1$d solution links...";
+    public static final String MESSAGE_SUCCESS = "Checked %1$d solution links, %2$d broken";
+    public static final String MESSAGE_BROKEN_LINK = "%1$s: %2$s (%3$s)";
+    public static final String MESSAGE_CHECK_FAILED = "Could not check solution links: %1$s";
+
+    private final LinkChecker linkChecker;
+
+    public CheckLinksCommand() {
+        this(LinkChecker.getInstance());
+    }
+
+    CheckLinksCommand(LinkChecker linkChecker) {
+        requireNonNull(linkChecker);
+        this.linkChecker = linkChecker;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Map<String, List<String>> statementsByLink = new LinkedHashMap<>();
+        for (Issue issue : model.getSnapshot().getIssues()) {
+            for (Solution solution : issue.getSolutions()) {
+                statementsByLink.computeIfAbsent(solution.getLink().getValue(), unused -> new ArrayList<>())
+                        .add(issue.getStatement().getValue());
+            }
+        }
+
+        if (statementsByLink.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_LINKS);
+        }
+
+        linkChecker.checkAll(statementsByLink.keySet()).whenComplete((statuses, error) -> {
+            String result = error == null
+                    ? formatReport(statuses, statementsByLink)
+                    : String.format(MESSAGE_CHECK_FAILED, error.getMessage());
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(result));
+        });
+        return new CommandResult(String.format(MESSAGE_CHECKING, statementsByLink.size()));
+    }
+
+    /**
+     * Returns a report of the broken links in {@code statuses}, each labelled with the issues it belongs to.
+     */
+    static String formatReport(Map<String, LinkStatus> statuses, Map<String, List<String>> statementsByLink) {
+        StringBuilder brokenLinks = new StringBuilder();
+        int brokenCount = 0;
+        for (Map.Entry<String, LinkStatus> entry : statuses.entrySet()) {
+            if (!entry.getValue().isBroken()) {
+                continue;
+            }
+            brokenCount++;
+            for (String statement : statementsByLink.get(entry.getKey())) {
+                brokenLinks.append('\n')
+                        .append(String.format(MESSAGE_BROKEN_LINK, statement, entry.getKey(), entry.getValue()));
+            }
+        }
+        return String.format(MESSAGE_SUCCESS, statuses.size(), brokenCount) + brokenLinks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof CheckLinksCommand; // instanceof handles nulls
+    }
+}
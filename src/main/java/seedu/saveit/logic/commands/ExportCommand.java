@@ -0,0 +1,102 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.ui.NewResultAvailableEvent;
+import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.Model;
+import seedu.saveit.storage.exporter.ExportFormat;
+import seedu.saveit.storage.exporter.IssueExporter;
+
+/**
+ * Exports all issues, or the issues in the current view, to a JSON, CSV or HTML file.
+ * The file is written in the background; the result is shown once the export completes.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String COMMAND_ALIAS = "ex";
+    public static final String CURRENT_VIEW_KEYWORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports issues to a .json, .csv or .html file. "
+            + "Only the issues in the current view are exported if " + CURRENT_VIEW_KEYWORD + " is specified.\n"
+            + "Parameters: [" + CURRENT_VIEW_KEYWORD + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + CURRENT_VIEW_KEYWORD + " issues.html";
+
+    public static final String MESSAGE_EXPORTING = "Exporting %1$d issues to %2$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d issues to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+    private static final Executor exportExecutor = ThreadUtil.newSingleDaemonThreadExecutor("SaveIt-export");
+
+    private final Path file;
+    private final ExportFormat format;
+    private final boolean isCurrentView;
+    private final Executor executor;
+
+    /**
+     * Creates an ExportCommand to export issues to {@code file} in the given {@code format}.
+     */
+    public ExportCommand(Path file, ExportFormat format, boolean isCurrentView) {
+        this(file, format, isCurrentView, exportExecutor);
+    }
+
+    /**
+     * Creates an ExportCommand that writes the file on {@code executor}.
+     */
+    ExportCommand(Path file, ExportFormat format, boolean isCurrentView, Executor executor) {
+        requireNonNull(file);
+        requireNonNull(format);
+        requireNonNull(executor);
+        this.file = file;
+        this.format = format;
+        this.isCurrentView = isCurrentView;
+        this.executor = executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        // the snapshot is immutable; the current view is copied since it may change while the export runs
+        List<Issue> issues = isCurrentView
+                ? new ArrayList<>(model.getFilteredAndSortedIssueList())
+                : model.getSnapshot().getIssues();
+
+        executor.execute(() -> exportIssues(issues));
+        return new CommandResult(String.format(MESSAGE_EXPORTING, issues.size(), file));
+    }
+
+    private void exportIssues(List<Issue> issues) {
+        String result;
+        try {
+            int count = IssueExporter.export(issues, file, format);
+            result = String.format(MESSAGE_SUCCESS, count, file);
+        } catch (IOException ioe) {
+            logger.warning("Export failed: " + StringUtil.getDetails(ioe));
+            result = String.format(MESSAGE_EXPORT_FAILED, file, ioe.getMessage());
+        }
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(result));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && file.equals(((ExportCommand) other).file)
+                && format == ((ExportCommand) other).format
+                && isCurrentView == ((ExportCommand) other).isCurrentView);
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.events.ui.NewResultAvailableEvent;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.NotebookManager;
+import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.model.issue.IssueHasSolutionLinkPredicate;
+import seedu.saveit.storage.pageindex.PageIndex;
+
+/**
+ * Finds the issues of every notebook whose name, or the indexed pages of whose solutions, contain any of the
+ * argument keywords, and lists them by notebook once the search completes in the background. The issues listed in
+ * the active notebook are not changed. Keyword matching is case insensitive.
+ */
+public class FindAllCommand extends NotebookCommand {
+
+    public static final String COMMAND_WORD = "findall";
+    public static final String COMMAND_ALIAS = "fa";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the issues of all notebooks whose statements "
+            + "or solution pages contain any of the specified keywords (case-insensitive) and lists them by "
+            + "notebook.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie";
+
+    public static final String MESSAGE_SEARCHING = "Searching %1$d notebooks...";
+    public static final String MESSAGE_SUCCESS = "%1$d issues found in %2$d notebooks";
+    public static final String MESSAGE_NOTEBOOK_RESULTS = "%1$s (%2$d):";
+    public static final String MESSAGE_MORE_ISSUES = "  ... and %1$d more";
+    public static final String MESSAGE_UNREADABLE_NOTEBOOKS = "Could not read notebooks: %1$s";
+    public static final String MESSAGE_SEARCH_FAILED = "Could not search the notebooks: %1$s";
+
+    /** The number of issues listed for each notebook */
+    public static final int MAX_LISTED_ISSUES = 5;
+
+    private final IssueContainsKeywordsPredicate predicate;
+    private final PageIndex pageIndex;
+
+    public FindAllCommand(IssueContainsKeywordsPredicate predicate) {
+        this(predicate, PageIndex.getInstance());
+    }
+
+    /**
+     * Creates a FindAllCommand that also matches the solution pages indexed in {@code pageIndex}.
+     */
+    FindAllCommand(IssueContainsKeywordsPredicate predicate, PageIndex pageIndex) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.pageIndex = pageIndex;
+    }
+
+    @Override
+    protected CommandResult execute(NotebookManager notebooks, CommandHistory history) {
+        search(notebooks).whenComplete((report, error) -> {
+            String result = error == null ? report : String.format(MESSAGE_SEARCH_FAILED, error.getMessage());
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(result));
+        });
+        return new CommandResult(String.format(MESSAGE_SEARCHING, notebooks.getNotebookNames().size()));
+    }
+
+    /**
+     * Returns a future that completes with the report of the issues found in {@code notebooks}.
+     */
+    CompletableFuture<String> search(NotebookManager notebooks) {
+        IssueHasSolutionLinkPredicate hasMatchingSolutionPage =
+                new IssueHasSolutionLinkPredicate(pageIndex.findUrls(predicate.getKeywords()));
+        // the names are read here, as the notebooks are only changed on this thread
+        Set<String> notebookNames = notebooks.getNotebookNames();
+        return notebooks.findInAllNotebooks(predicate.or(hasMatchingSolutionPage))
+                .thenApply(results -> formatReport(results, notebookNames));
+    }
+
+    /**
+     * Returns a report of the issues in {@code results}, listed by notebook, and of the notebooks in
+     * {@code notebookNames} that could not be read.
+     */
+    static String formatReport(SortedMap<String, List<Issue>> results, Set<String> notebookNames) {
+        int issueCount = results.values().stream().mapToInt(List::size).sum();
+        long matchingNotebookCount = results.values().stream().filter(issues -> !issues.isEmpty()).count();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, issueCount, matchingNotebookCount));
+        results.forEach((name, issues) -> {
+            if (issues.isEmpty()) {
+                return;
+            }
+            builder.append('\n').append(String.format(MESSAGE_NOTEBOOK_RESULTS, name, issues.size()));
+            issues.stream().limit(MAX_LISTED_ISSUES)
+                    .forEach(issue -> builder.append("\n  ").append(issue.getStatement()));
+            if (issues.size() > MAX_LISTED_ISSUES) {
+                builder.append('\n').append(String.format(MESSAGE_MORE_ISSUES, issues.size() - MAX_LISTED_ISSUES));
+            }
+        });
+
+        Set<String> unreadableNotebooks = new TreeSet<>(notebookNames);
+        unreadableNotebooks.removeAll(results.keySet());
+        if (!unreadableNotebooks.isEmpty()) {
+            builder.append('\n').append(String.format(MESSAGE_UNREADABLE_NOTEBOOKS,
+                    String.join(", ", unreadableNotebooks)));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindAllCommand // instanceof handles nulls
+                && predicate.equals(((FindAllCommand) other).predicate)); // state check
+    }
+}
@@ -7,9 +7,12 @@ import seedu.saveit.logic.CommandHistory;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.model.Model;
 import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.model.issue.IssueHasSolutionLinkPredicate;
+import seedu.saveit.storage.pageindex.PageIndex;
 
 /**
- * Finds and lists all issues in saveIt whose name contains any of the argument keywords.
+ * Finds and lists all issues in saveIt whose name, or the indexed pages of whose solutions,
+ * contain any of the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -17,22 +20,34 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
     public static final String COMMAND_ALIAS = "f";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all issues whose statements contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all issues whose statements or "
+            + "solution pages contain any of the specified keywords (case-insensitive) and displays them as a list "
+            + "with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final IssueContainsKeywordsPredicate predicate;
+    private final PageIndex pageIndex;
 
     public FindCommand(IssueContainsKeywordsPredicate predicate) {
+        this(predicate, PageIndex.getInstance());
+    }
+
+    /**
+     * Creates a FindCommand that also matches the solution pages indexed in {@code pageIndex}.
+     */
+    FindCommand(IssueContainsKeywordsPredicate predicate, PageIndex pageIndex) {
         this.predicate = predicate;
+        this.pageIndex = pageIndex;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
         if (model.getCurrentDirectory().isRootLevel()) {
-            model.filterIssues(predicate);
+            IssueHasSolutionLinkPredicate hasMatchingSolutionPage =
+                    new IssueHasSolutionLinkPredicate(pageIndex.findUrls(predicate.getKeywords()));
+            model.filterIssues(predicate.or(hasMatchingSolutionPage));
             return new CommandResult(
                     String.format(Messages.MESSAGE_ISSUES_LISTED_OVERVIEW,
                             model.getFilteredAndSortedIssueList().size()));
@@ -2,6 +2,7 @@ package seedu.saveit.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -9,7 +10,7 @@ import seedu.saveit.logic.CommandHistory;
 import seedu.saveit.model.Model;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists all the commands entered by user, including those of earlier sessions that are still in the history.
  */
 public class HistoryCommand extends Command {
 
@@ -22,7 +23,7 @@ public class HistoryCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(history);
-        List<String> previousCommands = history.getHistory();
+        List<String> previousCommands = new ArrayList<>(history.getHistory());
 
         if (previousCommands.isEmpty()) {
             return new CommandResult(MESSAGE_NO_HISTORY);
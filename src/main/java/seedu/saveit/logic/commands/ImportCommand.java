@@ -0,0 +1,101 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.core.Messages.MESSAGE_WRONG_DIRECTORY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+import seedu.saveit.storage.importer.ImportFormat;
+import seedu.saveit.storage.importer.ImportResult;
+import seedu.saveit.storage.importer.IssueImporter;
+
+/**
+ * Imports issues in bulk from a CSV, JSON or Markdown file.
+ * All valid issues are added as a single change, which can be undone with a single undo.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String COMMAND_ALIAS = "im";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports issues from a .csv, .json or .md file. "
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " bookmarks.md";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d issues from %2$s, rejected %3$d rows";
+    public static final String MESSAGE_MORE_REJECTIONS = "... and %1$d more";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_ISSUE = "Some of the imported issues already exist in the saveIt, "
+            + "nothing was imported";
+
+    private final Path file;
+    private final ImportFormat format;
+
+    /**
+     * Creates an ImportCommand to import the issues in {@code file}, which is in the given {@code format}.
+     */
+    public ImportCommand(Path file, ImportFormat format) {
+        requireNonNull(file);
+        requireNonNull(format);
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.getCurrentDirectory().isRootLevel()) {
+            throw new CommandException(MESSAGE_WRONG_DIRECTORY);
+        }
+
+        // the statements are compared as the issue list compares them, which is case-sensitive
+        Set<IssueStatement> existingStatements = model.getSaveIt().getIssueList().stream()
+                .map(Issue::getStatement)
+                .collect(Collectors.toSet());
+        ImportResult result;
+        try {
+            result = IssueImporter.importIssues(file, format, existingStatements);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, file, ioe.getMessage()), ioe);
+        }
+
+        if (!result.getIssues().isEmpty()) {
+            try {
+                model.addIssues(result.getIssues());
+            } catch (DuplicateIssueException die) {
+                throw new CommandException(MESSAGE_DUPLICATE_ISSUE);
+            }
+            model.commitSaveIt();
+        }
+        return new CommandResult(formatResult(result));
+    }
+
+    private String formatResult(ImportResult result) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getIssues().size(), file,
+                result.getRejectedCount()));
+        result.getRejections().forEach(rejection -> builder.append('\n').append(rejection));
+
+        int unreported = result.getRejectedCount() - result.getRejections().size();
+        if (unreported > 0) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_REJECTIONS, unreported));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file)
+                && format == ((ImportCommand) other).format);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.NotebookManager;
+
+/**
+ * Represents a command that works on the notebooks, rather than on the active notebook only.
+ * The model must be a {@code NotebookManager}.
+ */
+public abstract class NotebookCommand extends Command {
+    public static final String MESSAGE_NOTEBOOKS_UNAVAILABLE = "Notebooks are not available";
+    public static final String MESSAGE_READ_FAILED = "Could not read notebook %1$s: %2$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!(model instanceof NotebookManager)) {
+            throw new CommandException(MESSAGE_NOTEBOOKS_UNAVAILABLE);
+        }
+        return execute((NotebookManager) model, history);
+    }
+
+    /**
+     * Executes the command on the given {@code notebooks} and returns the result message.
+     */
+    protected abstract CommandResult execute(NotebookManager notebooks, CommandHistory history)
+            throws CommandException;
+
+    /**
+     * Makes the notebook named {@code name}, which must exist, the active one.
+     * @throws CommandException if the notebook cannot be read.
+     */
+    protected static void switchNotebook(NotebookManager notebooks, String name) throws CommandException {
+        try {
+            notebooks.switchNotebook(name);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, name, e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.core.Messages.MESSAGE_WRONG_DIRECTORY;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.NotebookManager;
+
+/**
+ * Opens a notebook kept in its own data file, creating it if needed, and switches to it.
+ * The notebook is remembered, so that it can be switched to in later sessions.
+ */
+public class OpenCommand extends NotebookCommand {
+
+    public static final String COMMAND_WORD = "open";
+    public static final String COMMAND_ALIAS = "o";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Opens a notebook and switches to it. "
+            + "A new notebook is kept in FILE_PATH, or next to the default data file if FILE_PATH is not given.\n"
+            + "Parameters: NOTEBOOK_NAME [FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " team-alpha data/alpha.xml";
+
+    public static final String MESSAGE_SUCCESS = "Opened notebook %1$s (%2$d issues) from %3$s";
+    public static final String MESSAGE_DIFFERENT_FILE = "Notebook %1$s is already kept in %2$s";
+
+    private final String notebookName;
+    private final Optional<Path> filePath;
+
+    /**
+     * Creates an OpenCommand to open the notebook named {@code notebookName}, which is kept in {@code filePath}
+     * if it is new and {@code filePath} is present.
+     */
+    public OpenCommand(String notebookName, Optional<Path> filePath) {
+        requireNonNull(notebookName);
+        requireNonNull(filePath);
+        this.notebookName = notebookName;
+        this.filePath = filePath;
+    }
+
+    @Override
+    protected CommandResult execute(NotebookManager notebooks, CommandHistory history) throws CommandException {
+        if (!notebooks.getCurrentDirectory().isRootLevel()) {
+            throw new CommandException(MESSAGE_WRONG_DIRECTORY);
+        }
+
+        Optional<Path> existingFilePath = notebooks.getNotebookFilePath(notebookName);
+        if (existingFilePath.isPresent()) {
+            if (filePath.isPresent() && !filePath.equals(existingFilePath)) {
+                throw new CommandException(String.format(MESSAGE_DIFFERENT_FILE, notebookName,
+                        existingFilePath.get()));
+            }
+            switchNotebook(notebooks, notebookName);
+        } else {
+            notebooks.addNotebook(notebookName, filePath.orElse(notebooks.getDefaultNotebookFilePath(notebookName)));
+            try {
+                switchNotebook(notebooks, notebookName);
+            } catch (CommandException ce) {
+                // an unreadable notebook is not remembered
+                notebooks.removeNotebook(notebookName);
+                throw ce;
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, notebookName,
+                notebooks.getSaveIt().getIssueList().size(), notebooks.getNotebookFilePath(notebookName).get()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OpenCommand // instanceof handles nulls
+                && notebookName.equals(((OpenCommand) other).notebookName)
+                && filePath.equals(((OpenCommand) other).filePath));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.saveit.logic.commands;
+
+import java.util.Map;
+
+import seedu.saveit.commons.core.EventStatistics;
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.core.LatencyHistogram;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.Model;
+
+/**
+ * Shows how long commands, saves, loads, suggestions and indexing have taken since SaveIt was started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_ALIAS = "st";
+
+    public static final String MESSAGE_SUCCESS = "Statistics since SaveIt was started:\n"
+            + "Latencies:\n%1$s"
+            + "Counters:\n%2$s"
+            + "Events:\n%3$s"
+            + "Log records dropped: %4$d";
+    public static final String MESSAGE_NONE = "  (none)\n";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        MetricsCenter metricsCenter = MetricsCenter.getInstance();
+        Map<String, LatencyHistogram.Summary> latencies = metricsCenter.getLatencySummaries();
+        Map<String, Long> counters = metricsCenter.getCounters();
+        Map<String, EventStatistics> events = EventsCenter.getInstance().getStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format(latencies), format(counters), format(events),
+                LogsCenter.getDroppedLogRecordCount()));
+    }
+
+    /**
+     * Formats each entry of {@code values} on its own indented line.
+     */
+    private static String format(Map<String, ?> values) {
+        if (values.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        StringBuilder builder = new StringBuilder();
+        values.forEach((name, value) -> builder.append("  ").append(name).append(": ").append(value).append('\n'));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.saveit.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.core.Messages.MESSAGE_WRONG_DIRECTORY;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.NotebookManager;
+
+/**
+ * Switches to a notebook that has been opened before.
+ */
+public class SwitchCommand extends NotebookCommand {
+
+    public static final String COMMAND_WORD = "switch";
+    public static final String COMMAND_ALIAS = "sw";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to a notebook that has been opened before. "
+            + "Parameters: NOTEBOOK_NAME\n"
+            + "Example: " + COMMAND_WORD + " " + NotebookManager.DEFAULT_NOTEBOOK_NAME;
+
+    public static final String MESSAGE_SUCCESS = "Switched to notebook %1$s (%2$d issues)";
+    public static final String MESSAGE_NOTEBOOK_NOT_FOUND = NotebookManager.MESSAGE_NOTEBOOK_NOT_FOUND
+            + ". The notebooks are: %2$s";
+
+    private final String notebookName;
+
+    public SwitchCommand(String notebookName) {
+        requireNonNull(notebookName);
+        this.notebookName = notebookName;
+    }
+
+    @Override
+    protected CommandResult execute(NotebookManager notebooks, CommandHistory history) throws CommandException {
+        if (!notebooks.getCurrentDirectory().isRootLevel()) {
+            throw new CommandException(MESSAGE_WRONG_DIRECTORY);
+        }
+        if (!notebooks.getNotebookFilePath(notebookName).isPresent()) {
+            throw new CommandException(String.format(MESSAGE_NOTEBOOK_NOT_FOUND, notebookName,
+                    String.join(", ", notebooks.getNotebookNames())));
+        }
+
+        switchNotebook(notebooks, notebookName);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, notebookName,
+                notebooks.getSaveIt().getIssueList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SwitchCommand // instanceof handles nulls
+                && notebookName.equals(((SwitchCommand) other).notebookName));
+    }
+}
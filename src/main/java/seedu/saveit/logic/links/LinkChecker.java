@@ -0,0 +1,194 @@
+package seedu.saveit.logic.links;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.commons.web.HostRateLimiter;
+import seedu.saveit.logic.links.LinkStatus.State;
+
+/**
+ * Checks whether links can still be reached.
+ *
+ * Links are checked asynchronously on a fixed number of threads, and requests to the same host are spaced out.
+ * Each link is first requested with HEAD; servers that reject HEAD are retried with GET.
+ * Results are cached for a limited time, and concurrent checks of the same link share one request.
+ * The results are only reported to the caller, and are not kept with the solutions.
+ */
+public class LinkChecker {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    public static final Duration DEFAULT_HOST_INTERVAL = Duration.ofMillis(250);
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(1);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger logger = LogsCenter.getLogger(LinkChecker.class);
+    private static LinkChecker instance;
+
+    private final ExecutorService executor;
+    private final HostRateLimiter rateLimiter;
+    private final Duration cacheTtl;
+    private final int timeoutMillis;
+    private final Clock clock;
+    private final Map<String, LinkStatus> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<LinkStatus>> pendingChecks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a LinkChecker that makes at most {@code maxConcurrency} requests at a time, at most one request to
+     * each host every {@code hostInterval}, and caches results for {@code cacheTtl} according to {@code clock}.
+     */
+    public LinkChecker(int maxConcurrency, Duration hostInterval, Duration cacheTtl, Duration timeout, Clock clock) {
+        requireNonNull(cacheTtl);
+        requireNonNull(timeout);
+        requireNonNull(clock);
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, ThreadUtil.newDaemonThreadFactory("SaveIt-link"));
+        this.rateLimiter = new HostRateLimiter(hostInterval);
+        this.cacheTtl = cacheTtl;
+        this.timeoutMillis = (int) timeout.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the LinkChecker shared by the app.
+     */
+    public static synchronized LinkChecker getInstance() {
+        if (instance == null) {
+            instance = new LinkChecker(DEFAULT_MAX_CONCURRENCY, DEFAULT_HOST_INTERVAL, DEFAULT_CACHE_TTL,
+                    DEFAULT_TIMEOUT, Clock.systemUTC());
+        }
+        return instance;
+    }
+
+    /**
+     * Checks {@code url}, using the cached result if it has not expired.
+     */
+    public CompletableFuture<LinkStatus> check(String url) {
+        requireNonNull(url);
+        LinkStatus cached = cache.get(url);
+        if (cached != null && !isExpired(cached)) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<LinkStatus> check = new CompletableFuture<>();
+        CompletableFuture<LinkStatus> pendingCheck = pendingChecks.putIfAbsent(url, check);
+        if (pendingCheck != null) {
+            return pendingCheck;
+        }
+
+        CompletableFuture.supplyAsync(() -> fetchStatus(url), executor).whenComplete((status, error) -> {
+            if (status != null) {
+                cache.put(url, status);
+            }
+            pendingChecks.remove(url, check);
+            if (error != null) {
+                check.completeExceptionally(error);
+            } else {
+                check.complete(status);
+            }
+        });
+        return check;
+    }
+
+    /**
+     * Checks all {@code urls} and returns their statuses, in the iteration order of {@code urls}.
+     * The expired results of any links are dropped from the cache first.
+     */
+    public CompletableFuture<Map<String, LinkStatus>> checkAll(Collection<String> urls) {
+        // the links checked once are not necessarily checked again, so their expired results are dropped here
+        cache.values().removeIf(this::isExpired);
+        List<String> distinctUrls = urls.stream().distinct().collect(Collectors.toList());
+        List<CompletableFuture<LinkStatus>> checks = distinctUrls.stream()
+                .map(this::check)
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0])).thenApply(unused -> {
+            Map<String, LinkStatus> statuses = new LinkedHashMap<>();
+            for (int i = 0; i < distinctUrls.size(); i++) {
+                statuses.put(distinctUrls.get(i), checks.get(i).join());
+            }
+            return statuses;
+        });
+    }
+
+    /**
+     * Returns the cached status of {@code url}, or null if it has not been checked or the result has expired.
+     */
+    public LinkStatus getCachedStatus(String url) {
+        LinkStatus cached = cache.get(url);
+        return cached == null || isExpired(cached) ? null : cached;
+    }
+
+    private boolean isExpired(LinkStatus status) {
+        return status.getCheckedAt().plus(cacheTtl).isBefore(clock.instant());
+    }
+
+    /**
+     * Requests {@code url} with HEAD, falling back to GET if the server responds with an error.
+     */
+    private LinkStatus fetchStatus(String url) {
+        URL target;
+        try {
+            target = new URL(url);
+        } catch (MalformedURLException mue) {
+            return new LinkStatus(State.BROKEN, LinkStatus.NO_STATUS_CODE, "Malformed link", clock.instant());
+        }
+
+        try {
+            rateLimiter.acquire(target.getHost());
+            int statusCode = request(target, "HEAD");
+            if (statusCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                // some servers do not support HEAD, or answer it differently
+                rateLimiter.acquire(target.getHost());
+                statusCode = request(target, "GET");
+            }
+
+            State state = statusCode < HttpURLConnection.HTTP_BAD_REQUEST ? State.OK : State.BROKEN;
+            return new LinkStatus(state, statusCode, state == State.OK ? "OK" : "Error", clock.instant());
+        } catch (IOException ioe) {
+            logger.fine("Could not reach " + url + ": " + ioe);
+            return new LinkStatus(State.UNREACHABLE, LinkStatus.NO_STATUS_CODE, "Unreachable", clock.instant());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return new LinkStatus(State.UNREACHABLE, LinkStatus.NO_STATUS_CODE, "Interrupted", clock.instant());
+        }
+    }
+
+    private int request(URL target, String method) throws IOException {
+        URLConnection connection = target.openConnection();
+        if (!(connection instanceof HttpURLConnection)) {
+            // e.g. file: links, which are reachable if they can be opened
+            connection.connect();
+            return HttpURLConnection.HTTP_OK;
+        }
+
+        HttpURLConnection httpConnection = (HttpURLConnection) connection;
+        try {
+            httpConnection.setRequestMethod(method);
+            httpConnection.setConnectTimeout(timeoutMillis);
+            httpConnection.setReadTimeout(timeoutMillis);
+            httpConnection.setInstanceFollowRedirects(true);
+            return httpConnection.getResponseCode();
+        } finally {
+            httpConnection.disconnect();
+        }
+    }
+}
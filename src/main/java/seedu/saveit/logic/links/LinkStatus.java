@@ -0,0 +1,92 @@
+package seedu.saveit.logic.links;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The result of checking whether a solution link can still be reached.
+ * Guarantees: immutable.
+ */
+public class LinkStatus {
+
+    /**
+     * The possible outcomes of a link check.
+     */
+    public enum State {
+        /** The server responded with a success or redirect status */
+        OK,
+        /** The server responded with an error status, e.g. 404 */
+        BROKEN,
+        /** The server could not be reached, e.g. because of a DNS failure or a timeout */
+        UNREACHABLE
+    }
+
+    public static final int NO_STATUS_CODE = -1;
+
+    private final State state;
+    private final int statusCode;
+    private final String message;
+    private final Instant checkedAt;
+
+    public LinkStatus(State state, int statusCode, String message, Instant checkedAt) {
+        requireNonNull(state);
+        requireNonNull(message);
+        requireNonNull(checkedAt);
+        this.state = state;
+        this.statusCode = statusCode;
+        this.message = message;
+        this.checkedAt = checkedAt;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the HTTP status code, or {@link #NO_STATUS_CODE} if the server did not respond.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Instant getCheckedAt() {
+        return checkedAt;
+    }
+
+    public boolean isBroken() {
+        return state != State.OK;
+    }
+
+    @Override
+    public String toString() {
+        return statusCode == NO_STATUS_CODE ? message : statusCode + " " + message;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LinkStatus)) {
+            return false;
+        }
+
+        LinkStatus otherStatus = (LinkStatus) other;
+        return state == otherStatus.state
+                && statusCode == otherStatus.statusCode
+                && message.equals(otherStatus.message)
+                && checkedAt.equals(otherStatus.checkedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, statusCode, message, checkedAt);
+    }
+}
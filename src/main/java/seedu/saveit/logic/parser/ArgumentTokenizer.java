@@ -1,9 +1,15 @@
 package seedu.saveit.logic.parser;
 
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_NEW_TAG;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_SOLUTION_LINK;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_STATEMENT;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -18,6 +24,12 @@ public class ArgumentTokenizer {
     public static final String START_MARKER = "";
     public static final String END_MARKER = "END";
 
+    /** Finds every prefix of the command syntax, so that its results can be shared by all users of an input */
+    private static final PrefixMatcher COMMAND_PREFIX_MATCHER = new PrefixMatcher(PREFIX_STATEMENT,
+            PREFIX_SOLUTION_LINK, PREFIX_REMARK, PREFIX_DESCRIPTION, PREFIX_TAG, PREFIX_NEW_TAG);
+
+    private static volatile PrefixTokens lastTokens;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -27,80 +39,62 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<Prefix> positions = findAllPrefixPositions(argsString, 0, prefixes);
-        return extractArguments(argsString, positions, 0);
+        return tokenizeAndOffset(argsString, 0, prefixes);
     }
 
     /**
-     * Tokenizes the
+     * Tokenizes the arguments string like {@link #tokenize(String, Prefix...)}, but with the positions of the
+     * prefixes shifted by {@code offset}, i.e. relative to the start of the whole user input.
      */
     public static ArgumentMultimap tokenizeAndOffset(String argsString, int offset, Prefix... prefixes) {
-        List<Prefix> positions = findAllPrefixPositions(argsString, offset, prefixes);
+        PrefixTokens tokens = COMMAND_PREFIX_MATCHER.matchesAll(prefixes)
+                ? scan(argsString)
+                : new PrefixMatcher(prefixes).scan(argsString);
+        List<Prefix> positions = findPrefixPositions(tokens, offset, prefixes);
         return extractArguments(argsString, positions, offset);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
+     * Finds all the prefixes of the command syntax in {@code argsString}.
+     * The input is scanned only once however many times it is tokenized: the tokens of the last scanned input are
+     * reused while the input does not change, e.g. by the highlighter, the suggestions and the parser.
      */
-    private static List<Prefix> findAllPrefixPositions(String argsString, int offset, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix, offset).stream())
-                .collect(Collectors.toList());
+    public static PrefixTokens scan(String argsString) {
+        PrefixTokens tokens = lastTokens;
+        if (tokens == null || !tokens.getArgsString().equals(argsString)) {
+            tokens = COMMAND_PREFIX_MATCHER.scan(argsString);
+            lastTokens = tokens;
+        }
+        return tokens;
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Returns the prefixes in {@code tokens} that are among {@code prefixes}, with their positions shifted by
+     * {@code offset}, in the order of their positions.
      */
-    private static List<Prefix> findPrefixPositions(String argsString, Prefix prefix, int offset) {
-        List<Prefix> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            // Create a new Prefix with the position it is found at
-            Prefix extendedPrefix = new Prefix(prefix.getPrefix(), prefixPosition + offset);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition + offset);
+    private static List<Prefix> findPrefixPositions(PrefixTokens tokens, int offset, Prefix... prefixes) {
+        List<Prefix> recognizedPrefixes = Arrays.asList(prefixes);
+        List<Prefix> positions = new ArrayList<>(tokens.size() + 2);
+        for (int i = 0; i < tokens.size(); i++) {
+            Prefix prefix = tokens.getPrefix(i);
+            if (recognizedPrefixes.contains(prefix)) {
+                positions.add(new Prefix(prefix.getPrefix(), tokens.getPosition(i) + offset));
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
      * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, in order
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
     private static ArgumentMultimap extractArguments(String argsString, List<Prefix> prefixPositions, int offset) {
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getPosition() - prefix2.getPosition());
-
         // Insert a PrefixPosition to represent the preamble
         Prefix preambleMarker = new Prefix(START_MARKER, offset);
         prefixPositions.add(0, preambleMarker);
@@ -0,0 +1,52 @@
+package seedu.saveit.logic.parser;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.saveit.commons.core.Messages;
+import seedu.saveit.logic.commands.ExportCommand;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.storage.exporter.ExportFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "Issues can only be exported to .json, .csv and .html files";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        String fileArgs = args.trim();
+        boolean isCurrentView = false;
+        String[] words = fileArgs.split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(ExportCommand.CURRENT_VIEW_KEYWORD)) {
+            isCurrentView = true;
+            fileArgs = words[1].trim();
+        }
+
+        if (fileArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(fileArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), ipe);
+        }
+
+        ExportFormat format = ExportFormat.fromPath(file)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNSUPPORTED_FORMAT));
+        return new ExportCommand(file, format, isCurrentView);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.saveit.logic.parser;
+
+import java.util.Arrays;
+
+import seedu.saveit.commons.core.Messages;
+import seedu.saveit.logic.commands.FindAllCommand;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindAllCommand object
+ */
+public class FindAllCommandParser implements Parser<FindAllCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindAllCommand
+     * and returns a FindAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindAllCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindAllCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+        return new FindAllCommand(new IssueContainsKeywordsPredicate(Arrays.asList(keywords)));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.saveit.logic.parser;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.saveit.commons.core.Messages;
+import seedu.saveit.logic.commands.OpenCommand;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.model.NotebookManager;
+
+/**
+ * Parses input arguments and creates a new OpenCommand object
+ */
+public class OpenCommandParser implements Parser<OpenCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OpenCommand
+     * and returns an OpenCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public OpenCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameAndFilePath = trimmedArgs.split("\\s+", 2);
+        String notebookName = nameAndFilePath[0];
+        if (!NotebookManager.isValidNotebookName(notebookName)) {
+            throw new ParseException(NotebookManager.MESSAGE_NOTEBOOK_NAME_CONSTRAINTS);
+        }
+        if (nameAndFilePath.length == 1) {
+            return new OpenCommand(notebookName, Optional.empty());
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(nameAndFilePath[1]);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE), ipe);
+        }
+        return new OpenCommand(notebookName, Optional.of(filePath));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.saveit.logic.parser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds the occurrences of several prefixes in an arguments string in a single pass.
+ *
+ * The prefixes are stored in a trie. An occurrence is only valid if there is a whitespace before the prefix,
+ * so the trie is walked from every position that follows a whitespace, and every prefix that ends along the
+ * walk is reported. Each character is therefore compared against all prefixes at once, instead of scanning the
+ * string once per prefix.
+ */
+class PrefixMatcher {
+
+    private final Prefix[] prefixes;
+    private final Node root = new Node();
+
+    PrefixMatcher(Prefix... prefixes) {
+        this.prefixes = prefixes.clone();
+        for (int id = 0; id < prefixes.length; id++) {
+            String prefix = prefixes[id].getPrefix();
+            if (prefix.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), unused -> new Node());
+            }
+            if (node.prefixId == Node.NO_PREFIX) {
+                node.prefixId = id;
+            }
+        }
+    }
+
+    /**
+     * Returns true if this matcher finds every one of {@code otherPrefixes}.
+     */
+    boolean matchesAll(Prefix... otherPrefixes) {
+        return Arrays.stream(otherPrefixes).allMatch(prefix -> Arrays.asList(prefixes).contains(prefix));
+    }
+
+    /**
+     * Returns the zero-based positions of all the prefix occurrences in {@code argsString}, in order.
+     */
+    PrefixTokens scan(String argsString) {
+        int[] positions = new int[4];
+        int[] prefixIds = new int[4];
+        int count = 0;
+
+        for (int start = 1; start < argsString.length(); start++) {
+            if (argsString.charAt(start - 1) != ' ') {
+                continue;
+            }
+            Node node = root;
+            for (int i = start; i < argsString.length(); i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefixId == Node.NO_PREFIX) {
+                    continue;
+                }
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, count * 2);
+                    prefixIds = Arrays.copyOf(prefixIds, count * 2);
+                }
+                positions[count] = start;
+                prefixIds[count] = node.prefixId;
+                count++;
+            }
+        }
+
+        return new PrefixTokens(argsString, prefixes, Arrays.copyOf(positions, count),
+                Arrays.copyOf(prefixIds, count));
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the prefix that ends at it, if any.
+     */
+    private static class Node {
+        private static final int NO_PREFIX = -1;
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private int prefixId = NO_PREFIX;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.saveit.logic.parser;
+
+/**
+ * The prefixes found in an arguments string, in the order of their positions.
+ *
+ * The tokens are kept in two parallel arrays instead of one object per token, and are never modified once
+ * created, so they can be shared between threads and between the parser, the suggestions and the highlighter.
+ */
+public class PrefixTokens {
+
+    private final String argsString;
+    private final Prefix[] prefixes;
+    private final int[] positions;
+    private final int[] prefixIds;
+
+    PrefixTokens(String argsString, Prefix[] prefixes, int[] positions, int[] prefixIds) {
+        this.argsString = argsString;
+        this.prefixes = prefixes;
+        this.positions = positions;
+        this.prefixIds = prefixIds;
+    }
+
+    public String getArgsString() {
+        return argsString;
+    }
+
+    /**
+     * Returns the number of prefixes found.
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * Returns the zero-based position in the arguments string of the {@code index}-th prefix found.
+     */
+    public int getPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Returns the {@code index}-th prefix found. The returned {@code Prefix} does not hold its position.
+     */
+    public Prefix getPrefix(int index) {
+        return prefixes[prefixIds[index]];
+    }
+}
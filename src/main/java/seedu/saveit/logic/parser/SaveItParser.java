@@ -6,17 +6,22 @@ import java.util.regex.Pattern;
 import seedu.saveit.commons.core.Messages;
 import seedu.saveit.logic.commands.AddCommand;
 import seedu.saveit.logic.commands.AddTagCommand;
+import seedu.saveit.logic.commands.CheckLinksCommand;
 import seedu.saveit.logic.commands.ClearCommand;
 import seedu.saveit.logic.commands.Command;
 import seedu.saveit.logic.commands.DeleteCommand;
 import seedu.saveit.logic.commands.EditCommand;
 import seedu.saveit.logic.commands.ExitCommand;
+import seedu.saveit.logic.commands.ExportCommand;
+import seedu.saveit.logic.commands.FindAllCommand;
 import seedu.saveit.logic.commands.FindByTagCommand;
 import seedu.saveit.logic.commands.FindCommand;
 import seedu.saveit.logic.commands.HelpCommand;
 import seedu.saveit.logic.commands.HistoryCommand;
 import seedu.saveit.logic.commands.HomeCommand;
+import seedu.saveit.logic.commands.ImportCommand;
 import seedu.saveit.logic.commands.ListCommand;
+import seedu.saveit.logic.commands.OpenCommand;
 import seedu.saveit.logic.commands.RedoCommand;
 import seedu.saveit.logic.commands.RefactorTagCommand;
 import seedu.saveit.logic.commands.ResetPrimaryCommand;
@@ -24,6 +29,8 @@ import seedu.saveit.logic.commands.RetrieveCommand;
 import seedu.saveit.logic.commands.SelectCommand;
 import seedu.saveit.logic.commands.SetPrimaryCommand;
 import seedu.saveit.logic.commands.SortCommand;
+import seedu.saveit.logic.commands.StatsCommand;
+import seedu.saveit.logic.commands.SwitchCommand;
 import seedu.saveit.logic.commands.UndoCommand;
 import seedu.saveit.logic.parser.exceptions.ParseException;
 
@@ -98,10 +105,38 @@ public class SaveItParser {
         case HistoryCommand.COMMAND_ALIAS:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+        case StatsCommand.COMMAND_ALIAS:
+            return new StatsCommand();
+
         case RetrieveCommand.COMMAND_WORD:
         case RetrieveCommand.COMMAND_ALIAS:
             return new RetrieveCommandParser().parse(arguments);
 
+        case CheckLinksCommand.COMMAND_WORD:
+        case CheckLinksCommand.COMMAND_ALIAS:
+            return new CheckLinksCommand();
+
+        case ImportCommand.COMMAND_WORD:
+        case ImportCommand.COMMAND_ALIAS:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+        case ExportCommand.COMMAND_ALIAS:
+            return new ExportCommandParser().parse(arguments);
+
+        case OpenCommand.COMMAND_WORD:
+        case OpenCommand.COMMAND_ALIAS:
+            return new OpenCommandParser().parse(arguments);
+
+        case SwitchCommand.COMMAND_WORD:
+        case SwitchCommand.COMMAND_ALIAS:
+            return new SwitchCommandParser().parse(arguments);
+
+        case FindAllCommand.COMMAND_WORD:
+        case FindAllCommand.COMMAND_ALIAS:
+            return new FindAllCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_ALIAS:
             return new ExitCommand();
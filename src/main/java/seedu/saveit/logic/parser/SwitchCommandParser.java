@@ -0,0 +1,30 @@
+package seedu.saveit.logic.parser;
+
+import seedu.saveit.commons.core.Messages;
+import seedu.saveit.logic.commands.SwitchCommand;
+import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.model.NotebookManager;
+
+/**
+ * Parses input arguments and creates a new SwitchCommand object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchCommand
+     * and returns a SwitchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SwitchCommand parse(String args) throws ParseException {
+        String notebookName = args.trim();
+        if (notebookName.isEmpty()) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        }
+        if (!NotebookManager.isValidNotebookName(notebookName)) {
+            throw new ParseException(NotebookManager.MESSAGE_NOTEBOOK_NAME_CONSTRAINTS);
+        }
+        return new SwitchCommand(notebookName);
+    }
+}
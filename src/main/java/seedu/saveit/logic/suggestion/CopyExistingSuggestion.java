@@ -3,8 +3,8 @@ package seedu.saveit.logic.suggestion;
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_DESCRIPTION_STRING;
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_STATEMENT_STRING;
 
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.List;
 
 import seedu.saveit.commons.core.index.Index;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
@@ -39,7 +39,7 @@ public class CopyExistingSuggestion implements Suggestion {
     public SuggestionResult evaluate() {
         String result = getValueFromIdentifier(index, startPrefix.getPrefix());
         SuggestionValue value = new SuggestionValue(COPY_EXISTING_PROMPT, result);
-        LinkedList<SuggestionValue> values = new LinkedList<>(Arrays.asList(value));
+        List<SuggestionValue> values = Collections.singletonList(value);
         int startPosition = startPrefix.getPosition() + startPrefix.getPrefix().length();
         int endPosition = endPrefix.getPrefix() == ArgumentTokenizer.END_MARKER
                 ? endPrefix.getPosition() : endPrefix.getPosition() - 1;
@@ -51,11 +51,11 @@ public class CopyExistingSuggestion implements Suggestion {
      * Get value based on identifier
      */
     public String getValueFromIdentifier(Index startIndex, String identifier) {
-        int listSize = model.getFilteredAndSortedIssueList().size();
-        if (listSize < startIndex.getOneBased()) {
+        List<Issue> issues = model.getFilteredAndSortedIssueSnapshot();
+        if (issues.size() < startIndex.getOneBased()) {
             return "";
         }
-        Issue issue = model.getFilteredAndSortedIssueList().get(startIndex.getZeroBased());
+        Issue issue = issues.get(startIndex.getZeroBased());
 
         switch (identifier) {
 
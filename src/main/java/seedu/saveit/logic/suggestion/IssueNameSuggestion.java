@@ -1,10 +1,8 @@
 package seedu.saveit.logic.suggestion;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
 import seedu.saveit.logic.parser.Prefix;
 import seedu.saveit.model.Model;
@@ -30,17 +28,14 @@ public class IssueNameSuggestion implements Suggestion {
     }
 
     /**
-     * Compares and match the keywords.
+     * Matches the keywords and ranks the matching statements by the search frequency of their issues.
      */
     @Override
     public SuggestionResult evaluate() {
-        List<String> statements = model.getCurrentIssueStatementSet()
-                .stream()
-                .filter(statement -> StringUtil.partialMatchFromStart(statement, argument))
-                .collect(Collectors.toList());
-        statements.sort(String.CASE_INSENSITIVE_ORDER);
+        List<String> statements = SuggestionVocabulary.of(model.getSnapshot())
+                .getTopStatements(argument, MAX_NUMBER_SUGGESTIONS);
 
-        LinkedList<SuggestionValue> values = new LinkedList<>();
+        List<SuggestionValue> values = new ArrayList<>(statements.size());
         for (String statement : statements) {
             values.add(new SuggestionValue(statement, statement));
         }
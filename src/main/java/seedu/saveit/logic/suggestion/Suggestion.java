@@ -5,6 +5,9 @@ package seedu.saveit.logic.suggestion;
  */
 public interface Suggestion {
 
+    /** The maximum number of values in a {@code SuggestionResult} */
+    int MAX_NUMBER_SUGGESTIONS = 5;
+
     /**
      * Returns a {@code SuggestionResult}
      */
@@ -1,13 +1,15 @@
 package seedu.saveit.logic.suggestion;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents the result of a {@code Suggestion}
  */
 public class SuggestionResult {
 
-    private final LinkedList<SuggestionValue> values;
+    private final List<SuggestionValue> values;
 
     // start & end positions between which to replace the String with a selected option
     private final int startPosition;
@@ -15,9 +17,9 @@ public class SuggestionResult {
     private final String feedbackToUser;
     private final String oldValue;
 
-    public SuggestionResult(LinkedList<SuggestionValue> values, String feedbackToUser, String oldValue,
+    public SuggestionResult(List<SuggestionValue> values, String feedbackToUser, String oldValue,
             int startPosition, int endPosition) {
-        this.values = values;
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
         this.oldValue = oldValue;
         this.feedbackToUser = feedbackToUser;
         this.startPosition = startPosition;
@@ -36,7 +38,7 @@ public class SuggestionResult {
         return feedbackToUser;
     }
 
-    public LinkedList<SuggestionValue> getSuggestionValue() {
+    public List<SuggestionValue> getSuggestionValue() {
         return values;
     }
 
@@ -0,0 +1,133 @@
+package seedu.saveit.logic.suggestion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveItSnapshot;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * The tag names and issue statements of a {@code SaveItSnapshot} that can be suggested, ranked by how likely the
+ * user wants them.
+ *
+ * Tags are ranked by the number of issues that have them and statements by the search frequency of their issue.
+ * Ties are broken by the most recent modification of those issues, then alphabetically. Words are kept sorted
+ * case-insensitively, so the words that start with a prefix are found without scanning the whole vocabulary.
+ */
+public class SuggestionVocabulary {
+
+    private static volatile SuggestionVocabulary cachedVocabulary;
+
+    private final SaveItSnapshot snapshot;
+    private final NavigableMap<String, RankedWord> tags = new TreeMap<>();
+    private final NavigableMap<String, RankedWord> statements = new TreeMap<>();
+
+    private SuggestionVocabulary(SaveItSnapshot snapshot) {
+        this.snapshot = snapshot;
+        for (Issue issue : snapshot.getIssues()) {
+            long lastModifiedTime = issue.getLastModifiedTime().getTime();
+            for (Tag tag : issue.getTags()) {
+                addUse(tags, tag.tagName, 1, lastModifiedTime);
+            }
+            addUse(statements, issue.getStatement().getValue(), issue.getFrequency().getValue(), lastModifiedTime);
+        }
+    }
+
+    /**
+     * Returns the vocabulary of {@code snapshot}.
+     * The vocabulary is only built once for the latest snapshot, and reused until the model changes.
+     */
+    public static SuggestionVocabulary of(SaveItSnapshot snapshot) {
+        requireNonNull(snapshot);
+        SuggestionVocabulary vocabulary = cachedVocabulary;
+        if (vocabulary == null || vocabulary.snapshot != snapshot) {
+            vocabulary = new SuggestionVocabulary(snapshot);
+            cachedVocabulary = vocabulary;
+        }
+        return vocabulary;
+    }
+
+    /**
+     * Returns at most {@code limit} tag names that start with {@code prefix} (case-insensitive), best ranked first.
+     */
+    public List<String> getTopTags(String prefix, int limit) {
+        return getTopMatches(tags, prefix, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} issue statements that start with {@code prefix} (case-insensitive),
+     * best ranked first.
+     */
+    public List<String> getTopStatements(String prefix, int limit) {
+        return getTopMatches(statements, prefix, limit);
+    }
+
+    /**
+     * Counts {@code uses} more uses of {@code word}. Words that only differ in case are the same word, spelt the way
+     * it was first added.
+     */
+    private static void addUse(NavigableMap<String, RankedWord> words, String word, int uses, long lastUsedTime) {
+        words.computeIfAbsent(toKey(word), unused -> new RankedWord(word)).addUse(uses, lastUsedTime);
+    }
+
+    /**
+     * Selects the best ranked words in the range of {@code words} that start with {@code prefix}, keeping only
+     * {@code limit} candidates in a heap whose head is the worst of them.
+     */
+    private static List<String> getTopMatches(NavigableMap<String, RankedWord> words, String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = toKey(prefix.trim());
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<RankedWord> topWords = new PriorityQueue<>(limit, RankedWord.BEST_FIRST.reversed());
+        for (RankedWord word : words.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            topWords.offer(word);
+            if (topWords.size() > limit) {
+                topWords.poll();
+            }
+        }
+
+        List<RankedWord> sortedWords = new ArrayList<>(topWords);
+        sortedWords.sort(RankedWord.BEST_FIRST);
+        List<String> result = new ArrayList<>(sortedWords.size());
+        sortedWords.forEach(word -> result.add(word.word));
+        return result;
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase();
+    }
+
+    /**
+     * A word with the number of times it is used and when it was last used.
+     */
+    private static class RankedWord {
+        private static final Comparator<RankedWord> BEST_FIRST = Comparator
+                .comparingLong((RankedWord word) -> word.uses).reversed()
+                .thenComparing(Comparator.comparingLong((RankedWord word) -> word.lastUsedTime).reversed())
+                .thenComparing(word -> word.word, String.CASE_INSENSITIVE_ORDER);
+
+        private final String word;
+        private long uses;
+        private long lastUsedTime = Long.MIN_VALUE;
+
+        RankedWord(String word) {
+            this.word = word;
+        }
+
+        void addUse(int moreUses, long usedTime) {
+            uses += moreUses;
+            lastUsedTime = Math.max(lastUsedTime, usedTime);
+        }
+    }
+}
@@ -2,11 +2,9 @@ package seedu.saveit.logic.suggestion;
 
 import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
 import seedu.saveit.logic.parser.Prefix;
 import seedu.saveit.model.Model;
@@ -32,17 +30,13 @@ public class TagNameSuggestion implements Suggestion {
     }
 
     /**
-     * Compares and match the keywords.
+     * Matches the keywords and ranks the matching tags by the number of issues that have them.
      */
     @Override
     public SuggestionResult evaluate() {
-        List<String> tags = model.getCurrentTagSet()
-                .stream()
-                .filter(tagName -> StringUtil.partialMatchFromStart(tagName, argument))
-                .collect(Collectors.toList());
-        tags.sort(String.CASE_INSENSITIVE_ORDER);
+        List<String> tags = SuggestionVocabulary.of(model.getSnapshot()).getTopTags(argument, MAX_NUMBER_SUGGESTIONS);
 
-        LinkedList<SuggestionValue> values = new LinkedList<>();
+        List<SuggestionValue> values = new ArrayList<>(tags.size());
         for (String tag : tags) {
             values.add(new SuggestionValue(tag, tag));
         }
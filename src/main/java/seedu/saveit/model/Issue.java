@@ -95,10 +95,11 @@ public class Issue {
     }
 
     /**
-     * Returns ab observableList of solutions.
+     * Returns an unmodifiable observableList of solutions, which throws {@code UnsupportedOperationException}
+     * if modification, including sorting, is attempted.
      */
     public ObservableList<Solution> getObservableSolutions() {
-        return FXCollections.observableList(solutions);
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(solutions));
     }
 
     public Description getDescription() {
@@ -135,10 +136,12 @@ public class Issue {
     }
 
     /**
-     * Updates the search frequency of the current issue
+     * Returns a copy of this issue that was searched for once more.
+     * The time of its last modification is kept, as searching does not modify the issue.
      */
-    public void updateFrequency() {
-        frequency.increment();
+    public Issue incrementFrequency() {
+        return new Issue(statement, description, solutions, tags, frequency.increment(), createdTime,
+                lastModifiedTime);
     }
 
     /**
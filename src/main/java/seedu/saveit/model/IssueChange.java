@@ -0,0 +1,75 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import seedu.saveit.model.issue.IssueStatement;
+
+/**
+ * A change made to an issue outside of the app, e.g. by editing the data file.
+ * The issue with the {@code statement} changed from the content with {@code previousContentHash}, or from not
+ * existing, to {@code newIssue}, or to not existing.
+ */
+public class IssueChange {
+
+    private final IssueStatement statement;
+    private final OptionalLong previousContentHash;
+    private final Optional<Issue> newIssue;
+
+    public IssueChange(IssueStatement statement, OptionalLong previousContentHash, Optional<Issue> newIssue) {
+        requireNonNull(statement);
+        requireNonNull(previousContentHash);
+        requireNonNull(newIssue);
+        this.statement = statement;
+        this.previousContentHash = previousContentHash;
+        this.newIssue = newIssue;
+    }
+
+    public IssueStatement getStatement() {
+        return statement;
+    }
+
+    /**
+     * Returns the content hash of the issue before the change, or an empty {@code OptionalLong} if it was added.
+     */
+    public OptionalLong getPreviousContentHash() {
+        return previousContentHash;
+    }
+
+    /**
+     * Returns the issue after the change, or an empty {@code Optional} if it was removed.
+     */
+    public Optional<Issue> getNewIssue() {
+        return newIssue;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof IssueChange)) {
+            return false;
+        }
+
+        IssueChange otherChange = (IssueChange) other;
+        return statement.equals(otherChange.statement)
+                && previousContentHash.equals(otherChange.previousContentHash)
+                && newIssue.equals(otherChange.newIssue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statement, previousContentHash, newIssue);
+    }
+
+    @Override
+    public String toString() {
+        return statement + (newIssue.isPresent() ? (previousContentHash.isPresent() ? " edited" : " added")
+                : " removed");
+    }
+}
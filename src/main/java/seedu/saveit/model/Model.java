@@ -1,6 +1,7 @@
 package seedu.saveit.model;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -34,6 +35,12 @@ public interface Model {
     /** Returns the SaveIt */
     ReadOnlySaveIt getSaveIt();
 
+    /**
+     * Returns the most recently published immutable snapshot of the SaveIt.
+     * Unlike {@link #getSaveIt()}, the snapshot can be safely read from any thread.
+     */
+    SaveItSnapshot getSnapshot();
+
     /**
      * Returns true if an issue with the same identity as {@code issue} exists in the saveIt.
      */
@@ -62,6 +69,28 @@ public interface Model {
      */
     void addIssue(Issue issue);
 
+    /**
+     * Adds all the given issues as a single change.
+     * None of the {@code issues} may already exist in the saveIt.
+     */
+    void addIssues(List<Issue> issues);
+
+    /**
+     * Adds the given issues, read from the hard disk while SaveIt starts, without saving them or recording a state
+     * to undo to. None of the {@code issues} may already exist in the saveIt.
+     */
+    void appendLoadedIssues(List<Issue> issues);
+
+    /**
+     * Removes the issues added by {@link #appendLoadedIssues(List)}, e.g. if the rest of them cannot be read.
+     */
+    void discardLoadedIssues();
+
+    /**
+     * Makes the loaded issues the initial saveIt state, which cannot be undone.
+     */
+    void completeLoading();
+
     /**
      * Replaces the given issue {@code target} with {@code editedIssue}.
      * {@code target} must exist in the saveIt.
@@ -86,6 +115,14 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered or sorted issue list */
     ObservableList<Issue> getFilteredAndSortedIssueList();
 
+    /**
+     * Returns an immutable copy of the filtered or sorted issue list.
+     * Unlike {@link #getFilteredAndSortedIssueList()}, the copy can be safely read from any thread. The list is only
+     * copied when the thread that changes it asks for the copy after a change; the other threads are given the latest
+     * copy made.
+     */
+    List<Issue> getFilteredAndSortedIssueSnapshot();
+
     /**
      * Updates the filter of the filtered issue list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -104,11 +141,13 @@ public interface Model {
 
     /**
      * Returns a Set of strings representing all the Tag(s) contained in the issues
+     * of the latest snapshot. Can be called from any thread.
      */
     TreeSet<String> getCurrentTagSet();
 
     /**
      * Returns a Set of strings representing all the IssueStatement(s) contained in the issues
+     * of the latest snapshot. Can be called from any thread.
      */
     TreeSet<String> getCurrentIssueStatementSet();
 
@@ -3,15 +3,23 @@ package seedu.saveit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -20,9 +28,15 @@ import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.commons.core.directory.Directory;
 import seedu.saveit.commons.core.index.Index;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.jfr.FilterEvent;
+import seedu.saveit.commons.jfr.JfrEvents;
+import seedu.saveit.commons.jfr.JfrSpan;
+import seedu.saveit.commons.jfr.SortEvent;
+import seedu.saveit.model.issue.IssueStatement;
 import seedu.saveit.model.issue.Solution;
 import seedu.saveit.model.issue.SortType;
 import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.util.IssueContentHash;
 
 /**
  * Represents the in-memory model of the saveIt data.
@@ -33,6 +47,13 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedSaveIt versionedSaveIt;
     private FilteredList<Issue> filteredIssues;
     private SortedList<Issue> filteredAndSortedIssues;
+    /** The latest copy of the filtered and sorted issue list, which is stale once the list changes */
+    private volatile List<Issue> filteredAndSortedIssueSnapshot;
+    private volatile boolean isIssueSnapshotStale;
+    /** The thread that last changed the filtered and sorted issue list, the only one that can copy it */
+    private volatile Thread issueListOwner;
+    /** True if search frequencies changed since the saveIt was last reported as changed, and are not saved yet */
+    private boolean hasUnsavedSearchFrequencies;
 
     /**
      * Initializes a ModelManager with the given saveIt and userPrefs.
@@ -41,11 +62,17 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(saveIt, userPrefs);
 
-        logger.fine("Initializing with SaveIt: " + saveIt + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with SaveIt: " + saveIt + " and user prefs " + userPrefs);
 
         versionedSaveIt = new VersionedSaveIt(saveIt);
         filteredIssues = new FilteredList<>(versionedSaveIt.getIssueList());
         filteredAndSortedIssues = new SortedList<>(filteredIssues);
+        // added before any other listener of the list, so that the copy is stale by the time they are notified
+        filteredAndSortedIssues.addListener((ListChangeListener<Issue>) change -> {
+            issueListOwner = Thread.currentThread();
+            isIssueSnapshotStale = true;
+        });
+        filteredAndSortedIssueSnapshot = copyFilteredAndSortedIssues();
     }
 
     public ModelManager() {
@@ -79,9 +106,15 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedSaveIt;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public SaveItSnapshot getSnapshot() {
+        return versionedSaveIt.getLatestSnapshot();
+    }
+
+    /** Publishes a snapshot of the changed data and raises an event to indicate the model has changed */
     private void indicateSaveItChanged() {
-        raise(new SaveItChangedEvent(versionedSaveIt));
+        hasUnsavedSearchFrequencies = false;
+        raise(new SaveItChangedEvent(versionedSaveIt.publishSnapshot()));
     }
 
     @Override
@@ -115,6 +148,32 @@ public class ModelManager extends ComponentManager implements Model {
         indicateSaveItChanged();
     }
 
+    @Override
+    public void addIssues(List<Issue> issues) {
+        requireNonNull(issues);
+        versionedSaveIt.addIssues(issues);
+        updateFilteredIssueList(PREDICATE_SHOW_ALL_ISSUES);
+        indicateSaveItChanged();
+    }
+
+    @Override
+    public void appendLoadedIssues(List<Issue> issues) {
+        requireNonNull(issues);
+        versionedSaveIt.addIssues(issues);
+        versionedSaveIt.publishSnapshot();
+    }
+
+    @Override
+    public void discardLoadedIssues() {
+        versionedSaveIt.resetData(new SaveIt());
+        versionedSaveIt.publishSnapshot();
+    }
+
+    @Override
+    public void completeLoading() {
+        versionedSaveIt.resetHistory();
+    }
+
     @Override
     public void updateIssue(Issue target, Issue editedIssue) {
         requireAllNonNull(target, editedIssue);
@@ -123,12 +182,73 @@ public class ModelManager extends ComponentManager implements Model {
         indicateSaveItChanged();
     }
 
+    /**
+     * Applies the {@code changes} made to the data file outside of the app, and returns the number applied.
+     * A change is only applied if the issue is still as it was before the change, so that the changes made in the
+     * app that are not saved yet are kept; those issues are saved over the data file as they are.
+     * The changes applied cannot be undone, nor can the changes made before them, as undoing them would save the
+     * older issues over those in the data file.
+     */
+    public int applyIssueChanges(List<IssueChange> changes) {
+        requireNonNull(changes);
+        Map<IssueStatement, Issue> issues = new HashMap<>();
+        versionedSaveIt.getIssueList().forEach(issue -> issues.put(issue.getStatement(), issue));
+
+        int appliedCount = 0;
+        for (IssueChange change : changes) {
+            Optional<Issue> current = Optional.ofNullable(issues.get(change.getStatement()));
+            OptionalLong currentHash = getContentHash(current);
+            if (currentHash.equals(getContentHash(change.getNewIssue()))) {
+                continue;
+            }
+            if (!currentHash.equals(change.getPreviousContentHash())) {
+                logger.info("Keeping the unsaved changes to " + change.getStatement() + " over those in the file");
+                continue;
+            }
+
+            if (!change.getNewIssue().isPresent()) {
+                versionedSaveIt.removeIssue(current.get());
+            } else if (current.isPresent()) {
+                versionedSaveIt.updateIssue(current.get(), change.getNewIssue().get());
+            } else {
+                versionedSaveIt.addIssue(change.getNewIssue().get());
+            }
+            appliedCount++;
+        }
+
+        if (appliedCount > 0) {
+            versionedSaveIt.resetHistory();
+            indicateSaveItChanged();
+        }
+        return appliedCount;
+    }
+
+    private static OptionalLong getContentHash(Optional<Issue> issue) {
+        return issue.isPresent() ? OptionalLong.of(IssueContentHash.of(issue.get())) : OptionalLong.empty();
+    }
+
     @Override
     public void filterIssues(Predicate<Issue> predicate) {
         updateFilteredIssueList(predicate);
-        // Update the search frequencies after filtering
-        for (Issue issue : filteredIssues) {
-            issue.updateFrequency();
+        if (filteredIssues.isEmpty()) {
+            return;
+        }
+        // the issues are shared with the snapshots, so the issues found are replaced with copies searched once more
+        Set<Issue> foundIssues = Collections.newSetFromMap(new IdentityHashMap<>());
+        foundIssues.addAll(filteredIssues);
+        versionedSaveIt.updateIssues(issue -> foundIssues.contains(issue) ? issue.incrementFrequency() : issue);
+        // a search does not save the data file; the frequencies are saved with the next change that is
+        versionedSaveIt.publishSnapshot();
+        hasUnsavedSearchFrequencies = true;
+    }
+
+    /**
+     * Reports the search frequencies changed by {@link #filterIssues} since the last reported change, if any, so
+     * that they are saved.
+     */
+    public void saveSearchFrequencies() {
+        if (hasUnsavedSearchFrequencies) {
+            indicateSaveItChanged();
         }
     }
 
@@ -168,15 +288,20 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void sortIssues(SortType sortType) {
+        JfrSpan<SortEvent> span = JfrEvents.begin(() -> new SortEvent());
         Comparator comparator = sortType.getComparator();
         updateFilteredAndSortedIssueList(comparator);
         versionedSaveIt.setCurrentSortType(comparator);
+        span.end(event -> {
+            event.sortType = sortType.getSortType();
+            event.resultSize = filteredAndSortedIssues.size();
+        });
     }
 
     //=========== Filtered Issue List Accessors =============================================================
     /**
-     * Returns an unmodifiable view of the list of {@code Solution} backed by the internal list of
-     * {@code Issue}
+     * Returns an unmodifiable, sorted copy of the list of {@code Solution} of the selected {@code Issue}.
+     * The list of the issue itself is never sorted, as the issue is shared with the snapshots and the undo states.
      */
     @Override
     public ObservableList<Solution> getFilteredAndSortedSolutionList() {
@@ -184,8 +309,8 @@ public class ModelManager extends ComponentManager implements Model {
         if (directory.isRootLevel()) {
             return null;
         } else {
-            ObservableList<Solution> solutions =
-                    filteredAndSortedIssues.get(directory.getIssue() - 1).getObservableSolutions();
+            ObservableList<Solution> solutions = FXCollections.observableArrayList(
+                    filteredAndSortedIssues.get(directory.getIssue() - 1).getSolutions());
             solutions.sort(new SolutionComparator());
             return FXCollections.unmodifiableObservableList(solutions);
         }
@@ -194,7 +319,12 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredIssueList(Predicate<Issue> predicate) {
         requireNonNull(predicate);
+        JfrSpan<FilterEvent> span = JfrEvents.begin(() -> new FilterEvent());
         filteredIssues.setPredicate(predicate);
+        span.end(event -> {
+            event.resultSize = filteredIssues.size();
+            event.totalSize = versionedSaveIt.getIssueList().size();
+        });
     }
 
     //=========== Sorted Issue List Accessors =============================================================
@@ -214,11 +344,24 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredAndSortedIssues);
     }
 
+    @Override
+    public List<Issue> getFilteredAndSortedIssueSnapshot() {
+        if (isIssueSnapshotStale && Thread.currentThread() == issueListOwner) {
+            filteredAndSortedIssueSnapshot = copyFilteredAndSortedIssues();
+            isIssueSnapshotStale = false;
+        }
+        return filteredAndSortedIssueSnapshot;
+    }
+
+    private List<Issue> copyFilteredAndSortedIssues() {
+        return Collections.unmodifiableList(new ArrayList<>(filteredAndSortedIssues));
+    }
+
     //=========== Tag Set Accessors ======================================================================
     @Override
     public TreeSet<String> getCurrentTagSet() {
         TreeSet<String> tagSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        versionedSaveIt.getIssueList().forEach(issue -> issue.getTags()
+        getSnapshot().getIssues().forEach(issue -> issue.getTags()
                 .forEach(tag -> tagSet.add(tag.tagName)));
         return tagSet;
     }
@@ -227,7 +370,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public TreeSet<String> getCurrentIssueStatementSet() {
         TreeSet<String> statementSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        versionedSaveIt.getIssueList().forEach(issue -> statementSet.add(issue.getStatement().getValue()));
+        getSnapshot().getIssues().forEach(issue -> statementSet.add(issue.getStatement().getValue()));
         return statementSet;
     }
 
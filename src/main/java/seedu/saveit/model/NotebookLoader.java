@@ -0,0 +1,20 @@
+package seedu.saveit.model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+
+/**
+ * Reads the data of a notebook from its data file.
+ */
+@FunctionalInterface
+public interface NotebookLoader {
+
+    /**
+     * Returns the data in {@code filePath}, or an empty {@code Optional} if the file does not exist.
+     * Can be called from any thread.
+     */
+    Optional<ReadOnlySaveIt> load(Path filePath) throws DataConversionException, IOException;
+}
@@ -0,0 +1,523 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.core.ComponentManager;
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.commons.core.index.Index;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
+import seedu.saveit.commons.events.storage.DataFileChangedEvent;
+import seedu.saveit.commons.events.storage.NotebookPersistedEvent;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.SortType;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * Manages the notebooks of SaveIt, each kept in its own data file, and represents the model of the active one.
+ *
+ * Every {@code Model} operation is delegated to the {@code ModelManager} of the active notebook. The other notebooks
+ * that were opened stay in memory, so that switching back to them is immediate, until their estimated size exceeds
+ * the memory budget in the {@code UserPrefs}. The least recently used notebooks are then unloaded, to be read from
+ * their data file again when they are next switched to. The active notebook is never unloaded.
+ *
+ * Every change to the active notebook is saved by the storage, in the order the changes are made, so an unloaded
+ * notebook has nothing left to save. Until the storage reports with a {@code NotebookPersistedEvent} that the last
+ * changes of an unloaded notebook are written, its data is kept to be used instead of its data file.
+ *
+ * The changes made outside of the app to the data file of the active notebook, reported by a
+ * {@code DataFileChangedEvent}, are applied to it issue by issue. Like the commands, the events are handled on the
+ * {@code ModelThread}.
+ */
+public class NotebookManager extends ComponentManager implements Model {
+    public static final String DEFAULT_NOTEBOOK_NAME = "default";
+    public static final String NOTEBOOK_FILE_EXTENSION = ".xml";
+    public static final String NOTEBOOK_NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+    public static final String MESSAGE_NOTEBOOK_NAME_CONSTRAINTS =
+            "Notebook names should only contain letters, digits, underscores and hyphens, and should not be blank";
+    public static final String MESSAGE_NOTEBOOK_NOT_FOUND = "There is no notebook named %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(NotebookManager.class);
+    private static final String SEARCH_THREAD_NAME = "SaveIt-notebook-search";
+    private static final String EVICTION_METRIC = "notebook.evictions";
+    private static final String LOAD_METRIC = "notebook.load";
+    private static final String SEARCH_METRIC = "notebook.search";
+    /** The rough sizes of an issue, a solution and a tag, apart from their text, in bytes */
+    private static final int ISSUE_OVERHEAD_BYTES = 400;
+    private static final int SOLUTION_OVERHEAD_BYTES = 160;
+    private static final int TAG_OVERHEAD_BYTES = 64;
+
+    private final UserPrefs userPrefs;
+    private final NotebookLoader loader;
+    private final ExecutorService searchExecutor;
+    /** The notebooks in memory, least recently used first */
+    private final LinkedHashMap<String, ModelManager> residentNotebooks = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> estimatedSizes = new HashMap<>();
+    /** The number of times each notebook was switched away from, less the number of times it was persisted */
+    private final Map<String, Integer> unpersistedSwitchCounts = new HashMap<>();
+    /** The latest data of the unloaded notebooks that may not be fully written yet, read by the search threads */
+    private final Map<String, ReadOnlySaveIt> unpersistedData = new ConcurrentHashMap<>();
+    private volatile String activeNotebookName;
+    private volatile ModelManager activeModel;
+
+    /**
+     * Creates a NotebookManager whose active notebook is the default one, with the given data. The other notebooks
+     * in {@code userPrefs} are read with {@code loader} when they are first switched to.
+     */
+    public NotebookManager(ReadOnlySaveIt defaultNotebookData, UserPrefs userPrefs, NotebookLoader loader) {
+        super(EventsCenter.Dispatch.MODEL_THREAD);
+        requireAllNonNull(defaultNotebookData, userPrefs, loader);
+        this.userPrefs = userPrefs;
+        this.loader = loader;
+        searchExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                ThreadUtil.newDaemonThreadFactory(SEARCH_THREAD_NAME));
+
+        activeNotebookName = DEFAULT_NOTEBOOK_NAME;
+        activeModel = new ModelManager(defaultNotebookData, userPrefs);
+        residentNotebooks.put(activeNotebookName, activeModel);
+    }
+
+    /**
+     * Returns true if {@code name} is a valid notebook name.
+     */
+    public static boolean isValidNotebookName(String name) {
+        return name.matches(NOTEBOOK_NAME_VALIDATION_REGEX);
+    }
+
+    //=========== Notebooks =================================================================================
+
+    public String getActiveNotebookName() {
+        return activeNotebookName;
+    }
+
+    /**
+     * Returns the names of all the notebooks, in alphabetical order.
+     */
+    public Set<String> getNotebookNames() {
+        Set<String> names = new TreeSet<>(userPrefs.getNotebookFilePaths().keySet());
+        names.add(DEFAULT_NOTEBOOK_NAME);
+        return names;
+    }
+
+    /**
+     * Returns the data file of the notebook named {@code name}, if there is one.
+     */
+    public Optional<Path> getNotebookFilePath(String name) {
+        requireNonNull(name);
+        if (name.equals(DEFAULT_NOTEBOOK_NAME)) {
+            return Optional.of(userPrefs.getSaveItFilePath());
+        }
+        return Optional.ofNullable(userPrefs.getNotebookFilePaths().get(name));
+    }
+
+    /**
+     * Returns the data file of a new notebook named {@code name} when no file is given, next to the default one.
+     */
+    public Path getDefaultNotebookFilePath(String name) {
+        return userPrefs.getSaveItFilePath().resolveSibling(name + NOTEBOOK_FILE_EXTENSION);
+    }
+
+    /**
+     * Adds a notebook named {@code name} whose data is kept in {@code filePath}, which need not exist yet.
+     * There must not already be a notebook named {@code name}.
+     */
+    public void addNotebook(String name, Path filePath) {
+        requireAllNonNull(name, filePath);
+        checkArgument(isValidNotebookName(name), MESSAGE_NOTEBOOK_NAME_CONSTRAINTS);
+        checkArgument(!getNotebookFilePath(name).isPresent());
+        userPrefs.setNotebookFilePath(name, filePath);
+    }
+
+    /**
+     * Forgets the notebook named {@code name}, which must not be the default or the active notebook, without
+     * deleting its data file. A notebook added later under the same name is read from its own data file.
+     */
+    public void removeNotebook(String name) {
+        requireNonNull(name);
+        checkArgument(!name.equals(DEFAULT_NOTEBOOK_NAME) && !name.equals(activeNotebookName));
+        userPrefs.getNotebookFilePaths().remove(name);
+        residentNotebooks.remove(name);
+        estimatedSizes.remove(name);
+        unpersistedSwitchCounts.remove(name);
+        unpersistedData.remove(name);
+    }
+
+    /**
+     * Returns true if the notebook named {@code name} is in memory.
+     */
+    public boolean isResident(String name) {
+        return residentNotebooks.containsKey(name);
+    }
+
+    /**
+     * Makes the notebook named {@code name} the active one, reading it from its data file if it is not in memory,
+     * then unloads the least recently used notebooks that do not fit in the memory budget.
+     * Raises a {@code NotebookSwitchedEvent} so that the storage saves the changes to the new notebook.
+     *
+     * @throws IllegalArgumentException if there is no notebook named {@code name}.
+     * @throws DataConversionException if the data file of the notebook is not in the correct format.
+     * @throws IOException if the data file of the notebook cannot be read.
+     */
+    public void switchNotebook(String name) throws DataConversionException, IOException {
+        Path filePath = getNotebookFilePath(name).orElseThrow(() ->
+                new IllegalArgumentException(String.format(MESSAGE_NOTEBOOK_NOT_FOUND, name)));
+        if (name.equals(activeNotebookName)) {
+            return;
+        }
+
+        ModelManager model = residentNotebooks.get(name);
+        if (model == null) {
+            model = new ModelManager(load(name, filePath), userPrefs);
+            residentNotebooks.put(name, model);
+        }
+
+        String previousName = activeNotebookName;
+        // saved before the storage switches to the new notebook
+        activeModel.saveSearchFrequencies();
+        estimatedSizes.put(previousName, estimateSize(activeModel.getSnapshot()));
+        estimatedSizes.put(name, estimateSize(model.getSnapshot()));
+        unpersistedSwitchCounts.merge(previousName, 1, Integer::sum);
+        activeNotebookName = name;
+        activeModel = model;
+        logger.info("Switched from notebook " + previousName + " to " + name);
+        raise(new NotebookSwitchedEvent(previousName, name, filePath, model.getSnapshot()));
+
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Returns the data of the unloaded notebook named {@code name}, from its data file unless its last changes may
+     * not be written yet.
+     */
+    private ReadOnlySaveIt load(String name, Path filePath) throws DataConversionException, IOException {
+        ReadOnlySaveIt unpersisted = unpersistedData.get(name);
+        if (unpersisted != null) {
+            return unpersisted;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            return loader.load(filePath).orElseGet(SaveIt::new);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince(LOAD_METRIC, startTime);
+        }
+    }
+
+    /**
+     * Unloads the least recently used notebooks, other than the active one, until the estimated size of the
+     * notebooks in memory fits in the memory budget.
+     */
+    private void evictLeastRecentlyUsed() {
+        long totalSize = residentNotebooks.keySet().stream().mapToLong(estimatedSizes::get).sum();
+        Iterator<Map.Entry<String, ModelManager>> iterator = residentNotebooks.entrySet().iterator();
+        while (totalSize > userPrefs.getNotebookMemoryBudget() && iterator.hasNext()) {
+            Map.Entry<String, ModelManager> notebook = iterator.next();
+            String name = notebook.getKey();
+            if (name.equals(activeNotebookName)) {
+                continue;
+            }
+
+            iterator.remove();
+            totalSize -= estimatedSizes.remove(name);
+            if (unpersistedSwitchCounts.containsKey(name)) {
+                unpersistedData.put(name, notebook.getValue().getSnapshot());
+            }
+            MetricsCenter.getInstance().incrementCounter(EVICTION_METRIC);
+            logger.info("Unloaded notebook " + name + " to keep the notebooks in memory within the budget");
+        }
+    }
+
+    /**
+     * Returns the rough number of bytes taken by the issues of {@code saveIt} in memory.
+     */
+    static long estimateSize(ReadOnlySaveIt saveIt) {
+        long size = 0;
+        for (Issue issue : saveIt.getIssueList()) {
+            size += ISSUE_OVERHEAD_BYTES + 2L * (issue.getStatement().getValue().length()
+                    + issue.getDescription().getValue().length());
+            for (Solution solution : issue.getSolutions()) {
+                size += SOLUTION_OVERHEAD_BYTES + 2L * (solution.getLink().getValue().length()
+                        + solution.getRemark().getValue().length());
+            }
+            for (Tag tag : issue.getTags()) {
+                size += TAG_OVERHEAD_BYTES + 2L * tag.tagName.length();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a future that completes with the issues of every notebook that match {@code predicate}, keyed by
+     * notebook name. The notebooks are searched in parallel; those that are not in memory are read from their data
+     * file without being kept in memory. Notebooks that cannot be read are left out.
+     * The future completes on a search thread, so the calling thread is not held up by the search.
+     */
+    public CompletableFuture<SortedMap<String, List<Issue>>> findInAllNotebooks(Predicate<Issue> predicate) {
+        requireNonNull(predicate);
+        long startTime = System.nanoTime();
+        Map<String, CompletableFuture<Optional<List<Issue>>>> searches = new TreeMap<>();
+        for (String name : getNotebookNames()) {
+            // the snapshots of the notebooks in memory are taken on this thread, which owns the models
+            ModelManager model = residentNotebooks.get(name);
+            Optional<ReadOnlySaveIt> data = Optional.ofNullable(
+                    model != null ? model.getSnapshot() : unpersistedData.get(name));
+            Path filePath = getNotebookFilePath(name).get();
+            searches.put(name, CompletableFuture.supplyAsync(() -> search(name, data, filePath, predicate),
+                    searchExecutor));
+        }
+
+        return CompletableFuture.allOf(searches.values().toArray(new CompletableFuture<?>[0])).thenApply(unused -> {
+            SortedMap<String, List<Issue>> results = new TreeMap<>();
+            // every search is complete, so none of them blocks
+            searches.forEach((name, search) -> search.join().ifPresent(issues -> results.put(name, issues)));
+            MetricsCenter.getInstance().recordLatencySince(SEARCH_METRIC, startTime);
+            return results;
+        });
+    }
+
+    /**
+     * Returns the issues of {@code data}, or of the data file of the notebook if {@code data} is empty, that match
+     * {@code predicate}, or an empty {@code Optional} if the data file cannot be read.
+     */
+    private Optional<List<Issue>> search(String name, Optional<ReadOnlySaveIt> data, Path filePath,
+            Predicate<Issue> predicate) {
+        try {
+            ReadOnlySaveIt saveIt = data.isPresent() ? data.get() : loader.load(filePath).orElseGet(SaveIt::new);
+            SaveItSnapshot snapshot = saveIt instanceof SaveItSnapshot
+                    ? (SaveItSnapshot) saveIt : new SaveItSnapshot(saveIt, 0);
+            return Optional.of(snapshot.filter(predicate));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not search notebook " + name + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stops the search threads, and reports the search frequencies of the active notebook that are not saved yet,
+     * so that they are saved. The searches already started are completed.
+     * Must be called once the model thread is stopped.
+     */
+    public void shutdown() {
+        searchExecutor.shutdown();
+        activeModel.saveSearchFrequencies();
+    }
+
+    @Subscribe
+    private void handleNotebookPersistedEvent(NotebookPersistedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        unpersistedSwitchCounts.computeIfPresent(event.notebookName, (name, count) -> count > 1 ? count - 1 : null);
+        if (!unpersistedSwitchCounts.containsKey(event.notebookName)) {
+            unpersistedData.remove(event.notebookName);
+        }
+    }
+
+    @Subscribe
+    private void handleDataFileChangedEvent(DataFileChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // the changes are only detected in the data file of the active notebook, which may have been switched since
+        Optional<Path> activeFilePath = getNotebookFilePath(activeNotebookName);
+        if (!activeFilePath.isPresent()
+                || !event.filePath.toAbsolutePath().equals(activeFilePath.get().toAbsolutePath())) {
+            return;
+        }
+        int appliedCount = activeModel.applyIssueChanges(event.changes);
+        logger.info("Applied " + appliedCount + " of " + event.changes.size() + " issues changed in "
+                + event.filePath);
+    }
+
+    //=========== Model of the active notebook ==============================================================
+
+    @Override
+    public void resetData(ReadOnlySaveIt newData) {
+        activeModel.resetData(newData);
+    }
+
+    @Override
+    public void resetDirectory(Directory currentDirectory) {
+        activeModel.resetDirectory(currentDirectory);
+    }
+
+    @Override
+    public Directory getCurrentDirectory() {
+        return activeModel.getCurrentDirectory();
+    }
+
+    @Override
+    public Comparator<Issue> getCurrentSortType() {
+        return activeModel.getCurrentSortType();
+    }
+
+    @Override
+    public ReadOnlySaveIt getSaveIt() {
+        return activeModel.getSaveIt();
+    }
+
+    @Override
+    public SaveItSnapshot getSnapshot() {
+        return activeModel.getSnapshot();
+    }
+
+    @Override
+    public boolean hasIssue(Issue issue) {
+        return activeModel.hasIssue(issue);
+    }
+
+    @Override
+    public boolean hasSolution(Index index, Solution solution) {
+        return activeModel.hasSolution(index, solution);
+    }
+
+    @Override
+    public void deleteIssue(Issue target) {
+        activeModel.deleteIssue(target);
+    }
+
+    @Override
+    public void addSolution(Issue targetIssue, Solution solution) {
+        activeModel.addSolution(targetIssue, solution);
+    }
+
+    @Override
+    public void addIssue(Issue issue) {
+        activeModel.addIssue(issue);
+    }
+
+    @Override
+    public void addIssues(List<Issue> issues) {
+        activeModel.addIssues(issues);
+    }
+
+    @Override
+    public void appendLoadedIssues(List<Issue> issues) {
+        activeModel.appendLoadedIssues(issues);
+    }
+
+    @Override
+    public void discardLoadedIssues() {
+        activeModel.discardLoadedIssues();
+    }
+
+    @Override
+    public void completeLoading() {
+        activeModel.completeLoading();
+    }
+
+    @Override
+    public void updateIssue(Issue target, Issue editedIssue) {
+        activeModel.updateIssue(target, editedIssue);
+    }
+
+    @Override
+    public ObservableList<Solution> getFilteredAndSortedSolutionList() {
+        return activeModel.getFilteredAndSortedSolutionList();
+    }
+
+    @Override
+    public void filterIssues(Predicate<Issue> predicate) {
+        activeModel.filterIssues(predicate);
+    }
+
+    @Override
+    public void sortIssues(SortType sortType) {
+        activeModel.sortIssues(sortType);
+    }
+
+    @Override
+    public ObservableList<Issue> getFilteredAndSortedIssueList() {
+        return activeModel.getFilteredAndSortedIssueList();
+    }
+
+    @Override
+    public List<Issue> getFilteredAndSortedIssueSnapshot() {
+        return activeModel.getFilteredAndSortedIssueSnapshot();
+    }
+
+    @Override
+    public void updateFilteredIssueList(Predicate<Issue> predicate) {
+        activeModel.updateFilteredIssueList(predicate);
+    }
+
+    @Override
+    public void updateFilteredAndSortedIssueList(Comparator<Issue> sortType) {
+        activeModel.updateFilteredAndSortedIssueList(sortType);
+    }
+
+    @Override
+    public void addTag(Set<Index> indexSet, Set<Tag> tagList) {
+        activeModel.addTag(indexSet, tagList);
+    }
+
+    @Override
+    public TreeSet<String> getCurrentTagSet() {
+        return activeModel.getCurrentTagSet();
+    }
+
+    @Override
+    public TreeSet<String> getCurrentIssueStatementSet() {
+        return activeModel.getCurrentIssueStatementSet();
+    }
+
+    @Override
+    public boolean canUndoSaveIt() {
+        return activeModel.canUndoSaveIt();
+    }
+
+    @Override
+    public boolean canRedoSaveIt() {
+        return activeModel.canRedoSaveIt();
+    }
+
+    @Override
+    public void undoSaveIt() {
+        activeModel.undoSaveIt();
+    }
+
+    @Override
+    public void redoSaveIt() {
+        activeModel.redoSaveIt();
+    }
+
+    @Override
+    public void commitSaveIt() {
+        activeModel.commitSaveIt();
+    }
+
+    @Override
+    public boolean refactorTag(Tag oldTag, Tag newTag) {
+        return activeModel.refactorTag(oldTag, newTag);
+    }
+
+    @Override
+    public boolean refactorTag(Tag tag) {
+        return activeModel.refactorTag(tag);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.directory.Directory;
@@ -124,6 +125,14 @@ public class SaveIt implements ReadOnlySaveIt {
         issues.add(p);
     }
 
+    /**
+     * Adds all {@code issues} to the saveIt in a single batch.
+     * None of the issues may already exist in the saveIt.
+     */
+    public void addIssues(List<Issue> issues) {
+        this.issues.addAll(issues);
+    }
+
     /**
      * Adds an issue to the saveIt.
      * The issue must not already exist in the saveIt.
@@ -148,6 +157,14 @@ public class SaveIt implements ReadOnlySaveIt {
         issues.setIssue(target, editedIssue);
     }
 
+    /**
+     * Replaces every issue in the saveIt with the result of {@code updater} as a single change.
+     * {@code updater} must keep the identity of each issue.
+     */
+    public void updateIssues(UnaryOperator<Issue> updater) {
+        issues.updateAll(updater);
+    }
+
     /**
      * Adds tag(s) to the existing data of this {@code SaveIt} with {@code tagList} for a range of {@code issues}.
      */
@@ -0,0 +1,104 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.core.directory.Directory;
+
+/**
+ * An immutable, point-in-time view of a {@code SaveIt}.
+ *
+ * A snapshot only copies the list of references to the {@code Issue}s, which are themselves immutable and
+ * shared with the live saveIt and with every other snapshot. Once published, a snapshot can be read from any
+ * thread without locking while the live saveIt keeps being mutated on the model thread.
+ */
+public class SaveItSnapshot implements ReadOnlySaveIt {
+
+    private final List<Issue> issues;
+    private final Directory currentDirectory;
+    private final Comparator<Issue> currentSortType;
+    private final long version;
+
+    /**
+     * Captures the current state of {@code source} as the snapshot numbered {@code version}.
+     * Must be called on the thread that mutates {@code source}.
+     */
+    public SaveItSnapshot(ReadOnlySaveIt source, long version) {
+        requireNonNull(source);
+        if (source instanceof SaveItSnapshot) {
+            // already immutable, share the same backing list
+            this.issues = ((SaveItSnapshot) source).issues;
+        } else {
+            this.issues = Collections.unmodifiableList(new ArrayList<>(source.getIssueList()));
+        }
+        this.currentDirectory = source.getCurrentDirectory();
+        this.currentSortType = source.getCurrentSortType();
+        this.version = version;
+    }
+
+    /**
+     * Returns the version number of this snapshot. Later snapshots have larger version numbers.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the issues of this snapshot as an unmodifiable, thread-safe {@code List}.
+     */
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    public int size() {
+        return issues.size();
+    }
+
+    /**
+     * Returns the issues of this snapshot that match {@code predicate}, in their original order.
+     */
+    public List<Issue> filter(Predicate<Issue> predicate) {
+        requireNonNull(predicate);
+        return issues.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public ObservableList<Issue> getIssueList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(issues));
+    }
+
+    @Override
+    public Directory getCurrentDirectory() {
+        return currentDirectory;
+    }
+
+    @Override
+    public Comparator<Issue> getCurrentSortType() {
+        return currentSortType;
+    }
+
+    @Override
+    public String toString() {
+        return issues.size() + " issues (version " + version + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveItSnapshot // instanceof handles nulls
+                && issues.equals(((SaveItSnapshot) other).issues));
+    }
+
+    @Override
+    public int hashCode() {
+        return issues.hashCode();
+    }
+}
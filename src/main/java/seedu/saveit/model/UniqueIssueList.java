@@ -3,12 +3,17 @@ package seedu.saveit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.index.Index;
+import seedu.saveit.model.issue.IssueStatement;
 import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
 import seedu.saveit.model.issue.exceptions.IssueNotFoundException;
 
@@ -47,6 +52,37 @@ public class UniqueIssueList implements Iterable<Issue> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all {@code toAdd} issues to the list as a single change.
+     * None of the issues may already exist in the list or appear more than once in {@code toAdd}.
+     */
+    public void addAll(List<Issue> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<IssueStatement> statements = new HashSet<>();
+        for (Issue issue : internalList) {
+            statements.add(issue.getStatement());
+        }
+        for (Issue issue : toAdd) {
+            if (!statements.add(issue.getStatement())) {
+                throw new DuplicateIssueException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Replaces every issue in the list with the result of {@code updater} as a single change.
+     * {@code updater} must keep the identity of each issue.
+     */
+    public void updateAll(UnaryOperator<Issue> updater) {
+        requireNonNull(updater);
+        List<Issue> updatedIssues = new ArrayList<>(internalList.size());
+        for (Issue issue : internalList) {
+            updatedIssues.add(requireNonNull(updater.apply(issue)));
+        }
+        internalList.setAll(updatedIssues);
+    }
+
     public int size() {
         return internalList.size();
     }
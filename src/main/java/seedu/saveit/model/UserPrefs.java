@@ -2,17 +2,30 @@ package seedu.saveit.model;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import seedu.saveit.commons.core.GuiSettings;
+import seedu.saveit.commons.util.DataFileCodec;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    /** The default memory budget of the notebooks kept in memory, in bytes */
+    public static final long DEFAULT_NOTEBOOK_MEMORY_BUDGET = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private Path saveItFilePath = Paths.get("data" , "saveit.xml");
+    /** The number of shard files the data is split into, or 0 to keep the data in a single file */
+    private int saveItShardCount;
+    /** How the data files are compressed when saved */
+    private DataFileCodec saveItCodec = DataFileCodec.NONE;
+    /** The data files of the notebooks other than the default one, which is kept at {@code saveItFilePath} */
+    private Map<String, Path> notebookFilePaths = new TreeMap<>();
+    private long notebookMemoryBudget = DEFAULT_NOTEBOOK_MEMORY_BUDGET;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +51,41 @@ public class UserPrefs {
         this.saveItFilePath = saveItFilePath;
     }
 
+    public int getSaveItShardCount() {
+        return saveItShardCount;
+    }
+
+    public void setSaveItShardCount(int saveItShardCount) {
+        this.saveItShardCount = saveItShardCount;
+    }
+
+    public DataFileCodec getSaveItCodec() {
+        return saveItCodec;
+    }
+
+    public void setSaveItCodec(DataFileCodec saveItCodec) {
+        this.saveItCodec = saveItCodec;
+    }
+
+    /**
+     * Returns the data files of the notebooks other than the default one, keyed by notebook name.
+     */
+    public Map<String, Path> getNotebookFilePaths() {
+        return notebookFilePaths;
+    }
+
+    public void setNotebookFilePath(String notebookName, Path filePath) {
+        notebookFilePaths.put(notebookName, filePath);
+    }
+
+    public long getNotebookMemoryBudget() {
+        return notebookMemoryBudget;
+    }
+
+    public void setNotebookMemoryBudget(long notebookMemoryBudget) {
+        this.notebookMemoryBudget = notebookMemoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +98,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(saveItFilePath, o.saveItFilePath);
+                && Objects.equals(saveItFilePath, o.saveItFilePath)
+                && saveItShardCount == o.saveItShardCount
+                && saveItCodec == o.saveItCodec
+                && Objects.equals(notebookFilePaths, o.notebookFilePaths)
+                && notebookMemoryBudget == o.notebookMemoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, saveItFilePath);
+        return Objects.hash(guiSettings, saveItFilePath, saveItShardCount, saveItCodec, notebookFilePaths,
+                notebookMemoryBudget);
     }
 
     @Override
@@ -63,6 +116,10 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + saveItFilePath);
+        sb.append("\nLocal data shard count : " + saveItShardCount);
+        sb.append("\nLocal data codec : " + saveItCodec);
+        sb.append("\nNotebook data file locations : " + notebookFilePaths);
+        sb.append("\nNotebook memory budget : " + notebookMemoryBudget);
         return sb.toString();
     }
 
@@ -1,32 +1,96 @@
 package seedu.saveit.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.commons.jfr.JfrEvents;
+import seedu.saveit.commons.jfr.JfrSpan;
+import seedu.saveit.commons.jfr.ModelVersionEvent;
+
 /**
  * {@code SaveIt} that keeps track of its own history.
+ * Every committed state is kept as an immutable {@code SaveItSnapshot}, and the most recently published
+ * snapshot is available to readers on other threads through {@link #getLatestSnapshot()}.
+ * A snapshot is only captured if the saveIt changed since the latest one, so that a change that is published and
+ * then committed is copied once.
  */
 public class VersionedSaveIt extends SaveIt {
 
-    private final List<ReadOnlySaveIt> saveItStateList;
+    private final List<SaveItSnapshot> saveItStateList;
     private int currentStatePointer;
+    private long snapshotVersion;
+    private volatile SaveItSnapshot latestSnapshot;
+    /** Held so that the listener below lives as long as this saveIt */
+    private final ObservableList<Issue> issueList;
+    private boolean isChangedSinceSnapshot = true;
 
     public VersionedSaveIt(ReadOnlySaveIt initialState) {
         super(initialState);
+        issueList = getIssueList();
+        issueList.addListener((ListChangeListener<Issue>) change -> isChangedSinceSnapshot = true);
 
         saveItStateList = new ArrayList<>();
-        saveItStateList.add(new SaveIt(initialState));
+        saveItStateList.add(publishSnapshot());
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code SaveIt} state at the end of the state list.
+     * Saves a snapshot of the current {@code SaveIt} state at the end of the state list and publishes it.
      * Undone states are removed from the state list.
      */
     public void commit() {
+        JfrSpan<ModelVersionEvent> span = JfrEvents.begin(() -> new ModelVersionEvent());
         removeStatesAfterCurrentPointer();
-        saveItStateList.add(new SaveIt(this));
+        saveItStateList.add(publishSnapshot());
         currentStatePointer++;
+        endSpan(span, ModelVersionEvent.COMMIT);
+    }
+
+    /**
+     * Makes the current {@code SaveIt} state the only state in the state list, so that it cannot be undone.
+     */
+    public void resetHistory() {
+        saveItStateList.clear();
+        saveItStateList.add(publishSnapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Captures the current state as a new {@code SaveItSnapshot} and publishes it as the latest snapshot, or returns
+     * the latest snapshot if this saveIt has not changed since.
+     * Must be called on the thread that mutates this saveIt.
+     */
+    public SaveItSnapshot publishSnapshot() {
+        if (!isChangedSinceSnapshot) {
+            return latestSnapshot;
+        }
+        SaveItSnapshot snapshot = new SaveItSnapshot(this, ++snapshotVersion);
+        latestSnapshot = snapshot;
+        isChangedSinceSnapshot = false;
+        return snapshot;
+    }
+
+    @Override
+    public void setCurrentDirectory(Directory directory) {
+        super.setCurrentDirectory(directory);
+        isChangedSinceSnapshot = true;
+    }
+
+    @Override
+    public void setCurrentSortType(Comparator<Issue> sortType) {
+        super.setCurrentSortType(sortType);
+        isChangedSinceSnapshot = true;
+    }
+
+    /**
+     * Returns the most recently published snapshot. Safe to call from any thread.
+     */
+    public SaveItSnapshot getLatestSnapshot() {
+        return latestSnapshot;
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -40,8 +104,10 @@ public class VersionedSaveIt extends SaveIt {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        JfrSpan<ModelVersionEvent> span = JfrEvents.begin(() -> new ModelVersionEvent());
         currentStatePointer--;
         resetData(saveItStateList.get(currentStatePointer));
+        endSpan(span, ModelVersionEvent.UNDO);
     }
 
     /**
@@ -51,8 +117,22 @@ public class VersionedSaveIt extends SaveIt {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        JfrSpan<ModelVersionEvent> span = JfrEvents.begin(() -> new ModelVersionEvent());
         currentStatePointer++;
         resetData(saveItStateList.get(currentStatePointer));
+        endSpan(span, ModelVersionEvent.REDO);
+    }
+
+    /**
+     * Ends {@code span} and commits its event with the current state if it is being recorded.
+     */
+    private void endSpan(JfrSpan<ModelVersionEvent> span, String operation) {
+        span.end(event -> {
+            event.operation = operation;
+            event.stateIndex = currentStatePointer;
+            event.stateCount = saveItStateList.size();
+            event.issueCount = getIssueList().size();
+        });
     }
 
     /**
@@ -0,0 +1,30 @@
+package seedu.saveit.model.issue;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.saveit.model.Issue;
+
+/**
+ * Tests that any of an {@code Issue}'s {@code Solution}s links to one of the given links.
+ */
+public class IssueHasSolutionLinkPredicate implements Predicate<Issue> {
+    private final Set<String> links;
+
+    public IssueHasSolutionLinkPredicate(Set<String> links) {
+        this.links = links;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return !links.isEmpty() && issue.getSolutions().stream()
+                .anyMatch(solution -> links.contains(solution.getLink().getValue()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IssueHasSolutionLinkPredicate // instanceof handles nulls
+                && links.equals(((IssueHasSolutionLinkPredicate) other).links)); // state check
+    }
+}
@@ -8,14 +8,17 @@ package seedu.saveit.model.issue;
  *      So that the most frequently searched issues are listed at the top
  */
 public class IssueSearchFrequency {
-    private Integer value;
+    private final Integer value;
 
     public IssueSearchFrequency(int frequency) {
         value = frequency;
     }
 
-    public void increment() {
-        value = value + 1;
+    /**
+     * Returns the search frequency after one more search.
+     */
+    public IssueSearchFrequency increment() {
+        return new IssueSearchFrequency(value + 1);
     }
 
     public Integer getValue() {
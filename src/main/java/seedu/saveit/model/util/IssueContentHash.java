@@ -0,0 +1,85 @@
+package seedu.saveit.model.util;
+
+import java.util.List;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * Computes 64-bit FNV-1a hashes of the content of issues, i.e. of every field that is saved, so that issues whose
+ * hashes are equal can be taken to be saved the same way. The hashes are the same in every run of the app.
+ */
+public class IssueContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private IssueContentHash() {
+    } // prevents instantiation
+
+    /**
+     * Returns the hash of the content of {@code issue}.
+     */
+    public static long of(Issue issue) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = add(hash, issue.getStatement().getValue());
+        hash = add(hash, issue.getDescription().getValue());
+        hash = add(hash, issue.getSolutions().size());
+        for (Solution solution : issue.getSolutions()) {
+            hash = add(hash, solution.getLink().getValue());
+            hash = add(hash, solution.getRemark().getValue());
+            hash = add(hash, solution.isPrimarySolution() ? 1 : 0);
+        }
+        hash = add(hash, issue.getTags().size());
+        for (Tag tag : issue.getTags()) {
+            hash = add(hash, tag.tagName);
+        }
+        hash = add(hash, issue.getFrequency().getValue());
+        hash = add(hash, issue.getCreatedTime().getTime());
+        return add(hash, issue.getLastModifiedTime().getTime());
+    }
+
+    /**
+     * Returns the hash of the content of {@code issues}, in that order.
+     */
+    public static long ofIssues(List<Issue> issues) {
+        long hash = add(FNV_OFFSET_BASIS, issues.size());
+        for (Issue issue : issues) {
+            hash = add(hash, of(issue));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the content of {@code issues}, in that order, along with the position of each issue,
+     * where {@code positions} holds the position of each of {@code issues} in turn.
+     */
+    public static long ofIssues(List<Issue> issues, List<Long> positions) {
+        assert issues.size() == positions.size();
+        long hash = ofIssues(issues);
+        for (long position : positions) {
+            hash = add(hash, position);
+        }
+        return hash;
+    }
+
+    /**
+     * Adds the length then the characters of {@code value} to {@code hash}, so that consecutive strings cannot be
+     * confused with each other.
+     */
+    private static long add(long hash, String value) {
+        hash = add(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long add(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.saveit.model.util;
+
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.issue.IssueSearchFrequency;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.solution.Remark;
+import seedu.saveit.model.issue.solution.SolutionLink;
+
+/**
+ * Generates large amounts of realistic issues, e.g. to measure the performance of SaveIt at scale.
+ *
+ * The same seed always generates the same issues. As in real data, a few tags are used by most issues while most
+ * tags are rare, most issues have one or two solutions, and the lengths of the statements and descriptions vary.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of issues should not be negative";
+
+    private static final String[] TOPICS = {"NullPointer", "IndexOutOfBounds", "ClassCast", "StackOverflow",
+        "OutOfMemory", "Deadlock", "ConcurrentModification", "NumberFormat", "FileNotFound", "Timeout", "Merge",
+        "Regex", "Build", "Dependency", "Encoding", "Layout", "Query", "Login", "Cache", "Thread"};
+    private static final String[] WORDS = {"fails", "when", "the", "list", "is", "empty", "after", "update", "on",
+        "startup", "with", "large", "input", "in", "tests", "only", "sometimes", "a", "new", "user", "calls", "it",
+        "twice", "from", "another", "thread", "but", "works", "locally", "not", "on", "server", "config", "missing"};
+    private static final String[] TAG_STEMS = {"java", "python", "solved", "notSolved", "urgent", "TIL", "gradle",
+        "javafx", "regex", "git", "sql", "threads", "streams", "generics", "io", "network", "ui", "tests", "build",
+        "docs", "cpp", "js", "css", "linux", "windows", "mac", "docker", "maven", "spring", "android"};
+    private static final String[] DOMAINS = {"stackoverflow.com/questions/", "github.com/issues/",
+        "docs.oracle.com/javase/", "www.baeldung.com/", "medium.com/p/", "www.reddit.com/r/java/"};
+    private static final String[] REMARKS = {"works", "try this first", "only for Java 9", "outdated",
+        "explains why", "see the second answer", "workaround"};
+    private static final int TAG_VOCABULARY_SIZE = 200;
+    private static final double TAG_ZIPF_EXPONENT = 1.1;
+    private static final double[] TAG_COUNT_WEIGHTS = {0.05, 0.35, 0.30, 0.18, 0.08, 0.04};
+    private static final double FIRST_SOLUTION_PROBABILITY = 0.9;
+    private static final double NEXT_SOLUTION_PROBABILITY = 0.45;
+    private static final int MAX_SOLUTION_COUNT = 8;
+    private static final long LATEST_TIME = 1538352000000L; // 1 October 2018
+    private static final long TIME_SPAN = TimeUnit.DAYS.toMillis(2 * 365);
+
+    private static final List<String> TAG_VOCABULARY = createTagVocabulary();
+    private static final double[] TAG_CUMULATIVE_WEIGHTS = createZipfCumulativeWeights(TAG_VOCABULARY_SIZE);
+
+    private final Random random;
+
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns {@code count} issues with distinct statements.
+     */
+    public List<Issue> generateIssues(int count) {
+        checkArgument(count >= 0, MESSAGE_CONSTRAINTS);
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(generateIssue(i));
+        }
+        return issues;
+    }
+
+    /**
+     * Returns a SaveIt with {@code count} issues.
+     */
+    public SaveIt generateSaveIt(int count) {
+        SaveIt saveIt = new SaveIt();
+        saveIt.setIssues(generateIssues(count));
+        return saveIt;
+    }
+
+    /**
+     * Returns an issue whose statement is different from those of the issues generated with other {@code number}s.
+     */
+    public Issue generateIssue(int number) {
+        long createdTime = LATEST_TIME - (long) (random.nextDouble() * TIME_SPAN);
+        long lastModifiedTime = createdTime + (long) (random.nextDouble() * (LATEST_TIME - createdTime));
+        return new Issue(generateStatement(number), generateDescription(), generateSolutions(), generateTags(),
+                new IssueSearchFrequency(generateFrequency()), new Timestamp(createdTime),
+                new Timestamp(lastModifiedTime));
+    }
+
+    /**
+     * Returns a statement of varying length that ends with {@code number}, so that it is unique.
+     */
+    private IssueStatement generateStatement(int number) {
+        String suffix = " " + Integer.toString(number, Character.MAX_RADIX);
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        int maxTopicLength = IssueStatement.LENGTH_LIMIT - suffix.length();
+        int topicLength = Math.min(topic.length(), Math.max(4, maxTopicLength - random.nextInt(6)));
+        return new IssueStatement(topic.substring(0, topicLength) + suffix);
+    }
+
+    /**
+     * Returns a description of a few words to a few dozen words, most of them short.
+     */
+    private Description generateDescription() {
+        int wordCount = 2 + (int) Math.round(Math.exp(random.nextGaussian() * 0.8 + 1.8));
+        return new Description(generateWords(wordCount));
+    }
+
+    private String generateWords(int wordCount) {
+        StringBuilder builder = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < wordCount; i++) {
+            builder.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a few solutions, most issues having one or two.
+     */
+    private List<Solution> generateSolutions() {
+        List<Solution> solutions = new ArrayList<>();
+        while (solutions.size() < MAX_SOLUTION_COUNT && random.nextDouble()
+                < (solutions.isEmpty() ? FIRST_SOLUTION_PROBABILITY : NEXT_SOLUTION_PROBABILITY)) {
+            String link = "https://" + DOMAINS[random.nextInt(DOMAINS.length)] + random.nextInt(100000000);
+            solutions.add(new Solution(new SolutionLink(link), new Remark(REMARKS[random.nextInt(REMARKS.length)])));
+        }
+        return solutions;
+    }
+
+    /**
+     * Returns up to 5 tags, picked from the tag vocabulary in a Zipf distribution.
+     */
+    private Set<Tag> generateTags() {
+        int tagCount = sample(TAG_COUNT_WEIGHTS);
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = Arrays.binarySearch(TAG_CUMULATIVE_WEIGHTS, random.nextDouble());
+            tags.add(new Tag(TAG_VOCABULARY.get(index >= 0 ? index : -index - 1)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns how often the issue was searched for, which is 0 for most issues.
+     */
+    private int generateFrequency() {
+        return (int) Math.max(0, Math.round(Math.exp(random.nextGaussian() * 1.5) - 1));
+    }
+
+    /**
+     * Returns an index of {@code weights}, with a probability proportional to the weight at that index.
+     */
+    private int sample(double[] weights) {
+        double remaining = random.nextDouble() * Arrays.stream(weights).sum();
+        for (int i = 0; i < weights.length - 1; i++) {
+            remaining -= weights[i];
+            if (remaining < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Returns the tag names, the common ones first.
+     */
+    private static List<String> createTagVocabulary() {
+        List<String> vocabulary = new ArrayList<>(TAG_VOCABULARY_SIZE);
+        for (int i = 0; i < TAG_VOCABULARY_SIZE; i++) {
+            String stem = TAG_STEMS[i % TAG_STEMS.length];
+            vocabulary.add(i < TAG_STEMS.length ? stem : stem + (i / TAG_STEMS.length));
+        }
+        return vocabulary;
+    }
+
+    /**
+     * Returns the cumulative probabilities of the ranks 1 to {@code size} in a Zipf distribution, the last being 1.
+     */
+    private static double[] createZipfCumulativeWeights(int size) {
+        double[] cumulativeWeights = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, TAG_ZIPF_EXPONENT);
+            cumulativeWeights[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulativeWeights[i] /= total;
+        }
+        cumulativeWeights[size - 1] = 1;
+        return cumulativeWeights;
+    }
+}
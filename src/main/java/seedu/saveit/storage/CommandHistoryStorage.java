@@ -0,0 +1,31 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the history of commands entered.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest {@code maxCommands} commands in storage, from the earliest to the latest.
+     *   Returns an empty list if storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory(int maxCommands) throws IOException;
+
+    /**
+     * Appends the given command to the storage.
+     * @param commandText cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String commandText) throws IOException;
+
+}
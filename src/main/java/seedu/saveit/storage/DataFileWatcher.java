@@ -0,0 +1,280 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.saveit.commons.core.ComponentManager;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
+import seedu.saveit.commons.events.storage.DataFileChangedEvent;
+import seedu.saveit.commons.events.storage.SaveItSavedEvent;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.IssueChange;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.util.IssueContentHash;
+
+/**
+ * Watches the data file of the active notebook for changes made outside of the app, e.g. by a sync tool, another
+ * instance of the app or a script, and raises a {@code DataFileChangedEvent} with the issues that changed.
+ *
+ * The watcher keeps the content hash of each issue in the data file as the app last saved or read it. When the file
+ * changes, it is read again and compared with those hashes, so that only the issues that were actually changed are
+ * reported, along with their hashes before the change. The saves of the app itself are told apart by the modified
+ * time and size of the file they leave, and are not read again.
+ *
+ * The file is read once it has stayed unchanged for {@code SETTLE_MILLIS}, as it is often written in several steps.
+ * A file that is deleted or cannot be read is ignored until it changes again; the next save of the app writes it anew.
+ */
+public class DataFileWatcher extends ComponentManager {
+
+    /** How long the file must stay unchanged before it is read */
+    public static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+    private static final String THREAD_NAME = "SaveIt-data-file-watcher";
+
+    private final SaveItStorage saveItStorage;
+    private final WatchService watchService;
+    private final Thread watcherThread;
+    private Path filePath;
+    private WatchKey watchKey;
+    /** The content hash of each issue in the data file, keyed by statement, as the app last saved or read it */
+    private Map<IssueStatement, Long> knownContentHashes = new HashMap<>();
+    /** The modified time and size of the data file after the last save of the app, if it could be read */
+    private Optional<FileTime> savedModifiedTime = Optional.empty();
+    private long savedSize;
+    /** Counts the changes to the known content hashes, so that a read can tell whether they changed meanwhile */
+    private long knownVersion;
+
+    /**
+     * Creates a watcher of the data file of {@code saveItStorage}, which reads the file with it.
+     * The watching starts with {@link #start}.
+     */
+    public DataFileWatcher(SaveItStorage saveItStorage) throws IOException {
+        requireNonNull(saveItStorage);
+        this.saveItStorage = saveItStorage;
+        this.filePath = saveItStorage.getSaveItFilePath().toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        watcherThread = new Thread(this::runWatcher, THREAD_NAME);
+        watcherThread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the data file, which the app has read as {@code loadedData}.
+     */
+    public synchronized void start(ReadOnlySaveIt loadedData) throws IOException {
+        requireNonNull(loadedData);
+        watch(filePath, loadedData);
+        watcherThread.start();
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public void stop() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Could not stop watching the data file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Watches the data file at {@code newFilePath}, whose issues are taken to be those of {@code data}.
+     */
+    private void watch(Path newFilePath, ReadOnlySaveIt data) throws IOException {
+        Path folder = newFilePath.getParent();
+        if (watchKey == null || !watchKey.watchable().equals(folder)) {
+            if (watchKey != null) {
+                watchKey.cancel();
+            }
+            // the folder can only be watched if it exists, and the data file is created there on the first save
+            FileUtil.createParentDirsOfFile(newFilePath);
+            watchKey = folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        filePath = newFilePath;
+        knownContentHashes = getContentHashes(data.getIssueList());
+        knownVersion++;
+        savedModifiedTime = Optional.empty();
+    }
+
+    @Subscribe
+    public synchronized void handleSaveItSavedEvent(SaveItSavedEvent event) {
+        if (!event.filePath.toAbsolutePath().equals(filePath)) {
+            // a save of the previous notebook, made before the switch was handled by the storage
+            return;
+        }
+        knownContentHashes = getContentHashes(event.data.getIssueList());
+        knownVersion++;
+        try {
+            savedModifiedTime = Optional.of(Files.getLastModifiedTime(filePath));
+            savedSize = Files.size(filePath);
+        } catch (IOException e) {
+            savedModifiedTime = Optional.empty();
+        }
+    }
+
+    @Subscribe
+    public synchronized void handleNotebookSwitchedEvent(NotebookSwitchedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event, "Watching " + event.filePath));
+        try {
+            watch(event.filePath.toAbsolutePath(), event.data);
+        } catch (IOException e) {
+            logger.warning("Could not watch the data file " + event.filePath + ": " + e.getMessage());
+        }
+    }
+
+    private void runWatcher() {
+        try {
+            while (true) {
+                if (!isDataFileChanged(watchService.take())) {
+                    continue;
+                }
+                // the writes that follow within the settle time are part of the same change
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isDataFileChanged(key);
+                }
+                checkForChanges().ifPresent(this::raise);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching the data file");
+        }
+    }
+
+    /**
+     * Returns true if the events of {@code key} include a change to the data file, and readies the key for the
+     * next events.
+     */
+    private boolean isDataFileChanged(WatchKey key) {
+        boolean isChanged = false;
+        Path folder = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // events are lost when too many are raised at once, and any of them may be of the data file
+            isChanged |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || folder.resolve((Path) event.context()).equals(getFilePath());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    private synchronized Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the data file if it was changed outside of the app, and returns an event with the issues that changed,
+     * if any did.
+     *
+     * The file is read without holding the lock of the watcher, so that the saves and switches of notebook are not
+     * held up by the read. If either happens meanwhile, the read is dropped, as the known content hashes it would be
+     * compared with are no longer those of the file that was read.
+     */
+    Optional<DataFileChangedEvent> checkForChanges() {
+        Path checkedFilePath;
+        long checkedVersion;
+        synchronized (this) {
+            if (isSavedByApp()) {
+                return Optional.empty();
+            }
+            checkedFilePath = filePath;
+            checkedVersion = knownVersion;
+        }
+
+        Optional<ReadOnlySaveIt> data;
+        try {
+            data = saveItStorage.readSaveIt(checkedFilePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read the changed data file " + checkedFilePath + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        if (!data.isPresent()) {
+            logger.info("Data file " + checkedFilePath + " was deleted, it will be saved again on the next change");
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            if (knownVersion != checkedVersion) {
+                // the known hashes no longer describe the file that was read; a file changed since is read again
+                // on its next watch event
+                logger.fine("Data file " + checkedFilePath + " was saved or switched while it was read");
+                return Optional.empty();
+            }
+            return compareWithKnownContentHashes(data.get());
+        }
+    }
+
+    /**
+     * Returns an event with the issues of {@code data}, read from the data file, whose content hashes differ from the
+     * known ones, if any do, and keeps the hashes of {@code data} as the known ones.
+     */
+    private Optional<DataFileChangedEvent> compareWithKnownContentHashes(ReadOnlySaveIt data) {
+        List<IssueChange> changes = new ArrayList<>();
+        Map<IssueStatement, Long> contentHashes = new HashMap<>();
+        for (Issue issue : data.getIssueList()) {
+            long contentHash = IssueContentHash.of(issue);
+            Long knownContentHash = knownContentHashes.remove(issue.getStatement());
+            if (knownContentHash == null || knownContentHash != contentHash) {
+                changes.add(new IssueChange(issue.getStatement(), toOptionalLong(knownContentHash),
+                        Optional.of(issue)));
+            }
+            contentHashes.put(issue.getStatement(), contentHash);
+        }
+        // the issues left were removed from the file
+        knownContentHashes.forEach((statement, knownContentHash) ->
+                changes.add(new IssueChange(statement, OptionalLong.of(knownContentHash), Optional.empty())));
+        knownContentHashes = contentHashes;
+        knownVersion++;
+
+        logger.info(changes.size() + " issues changed in the data file " + filePath + " outside of the app");
+        return changes.isEmpty() ? Optional.empty() : Optional.of(new DataFileChangedEvent(filePath, changes));
+    }
+
+    /**
+     * Returns true if the data file is still as the last save of the app left it.
+     */
+    private boolean isSavedByApp() {
+        try {
+            return savedModifiedTime.isPresent() && savedModifiedTime.get().equals(Files.getLastModifiedTime(filePath))
+                    && savedSize == Files.size(filePath);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Map<IssueStatement, Long> getContentHashes(List<Issue> issues) {
+        Map<IssueStatement, Long> contentHashes = new HashMap<>();
+        for (Issue issue : issues) {
+            contentHashes.put(issue.getStatement(), IssueContentHash.of(issue));
+        }
+        return contentHashes;
+    }
+
+    private static OptionalLong toOptionalLong(Long value) {
+        return value == null ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+}
@@ -2,9 +2,13 @@ package seedu.saveit.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 
@@ -31,6 +35,21 @@ public interface SaveItStorage {
      */
     Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the issues of the SaveIt data like {@link #readSaveIt()}, but hands them to {@code batchConsumer} in
+     * batches as they are read, so that they can be used before all of them are read.
+     *   Returns false if storage file is not found.
+     * If the data is not in the expected format, the batches read before the problem was found have already been
+     * handed over.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean readIssues(Consumer<List<Issue>> batchConsumer) throws DataConversionException, IOException {
+        Optional<ReadOnlySaveIt> saveIt = readSaveIt();
+        saveIt.ifPresent(data -> batchConsumer.accept(new ArrayList<>(data.getIssueList())));
+        return saveIt.isPresent();
+    }
+
     /**
      * Saves the given {@link ReadOnlySaveIt} to the storage.
      * @param saveIt cannot be null.
@@ -0,0 +1,504 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.DataFileCodec;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.util.IssueContentHash;
+
+/**
+ * A class to access SaveIt data stored on the hard disk as a number of xml shard files, so that saving a change
+ * only rewrites the shards of the issues changed.
+ *
+ * Each issue is kept in the shard picked by the hash of its statement, and each shard file is an xml file like the
+ * one of {@code XmlSaveItStorage}. The file at the data file path is a small {@code XmlShardManifest}, which names
+ * the current file of each shard along with the content hash of its issues. A save writes the shards whose issues
+ * changed to new files, then replaces the manifest with an atomic move, so that the files on the hard disk hold
+ * either the data before the save or the data after it. The shard files no longer named are deleted afterwards.
+ *
+ * The shard files are saved with the given {@code DataFileCodec}, and read with the codec named in each; the
+ * manifest is always plain xml. When the codec changes, every shard is saved again with the new one.
+ *
+ * Each issue is saved with its position in the issue list, and the shards are read in parallel on reader threads
+ * shared by every storage, after which the issues are put back in the order of their positions. The positions need
+ * not be consecutive, so that the issues which stay in place keep the positions they were saved with, and removing
+ * an issue only rewrites its own shard. A data file that is a single xml file, e.g. written by
+ * {@code XmlSaveItStorage}, is read as such, and replaced by shards on the next save.
+ */
+public class ShardedXmlSaveItStorage implements SaveItStorage {
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "The number of shards should be positive";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Invalid shard file name: %1$s";
+    /** The shard files are kept in the folder named after the data file with this suffix, next to it */
+    public static final String SHARD_FOLDER_SUFFIX = ".shards";
+    public static final String SHARD_FILE_NAME_REGEX = "shard-\\d+-\\d+\\.xml";
+    public static final String MESSAGE_INVALID_ISSUE_ORDER = "Invalid positions of the issues in the shards";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedXmlSaveItStorage.class);
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%1$d-%2$d.xml";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String READER_THREAD_NAME = "SaveIt-shard-reader";
+    private static final long READER_KEEP_ALIVE_SECONDS = 30;
+    /** The readers of every storage, which stop when they are idle, so that they need not be shut down */
+    private static final ExecutorService READER_EXECUTOR = newReaderExecutor();
+
+    private final Path filePath;
+    private final int shardCount;
+    private final DataFileCodec codec;
+    /** The position each issue of the data file at {@code filePath} was last read or saved with, guarded by itself */
+    private final Map<IssueStatement, Long> savedPositions = new HashMap<>();
+
+    /**
+     * Creates a storage that keeps the data in {@code shardCount} shard files, and the manifest at {@code filePath}.
+     */
+    public ShardedXmlSaveItStorage(Path filePath, int shardCount) {
+        this(filePath, shardCount, DataFileCodec.NONE);
+    }
+
+    /**
+     * Creates a storage like {@link #ShardedXmlSaveItStorage(Path, int)}, which saves the shards with {@code codec}.
+     */
+    public ShardedXmlSaveItStorage(Path filePath, int shardCount, DataFileCodec codec) {
+        requireNonNull(filePath);
+        requireNonNull(codec);
+        checkArgument(shardCount > 0, MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.codec = codec;
+    }
+
+    private static ExecutorService newReaderExecutor() {
+        int readerCount = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(readerCount, readerCount, READER_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ThreadUtil.newDaemonThreadFactory(READER_THREAD_NAME));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the folder of the shard files of the data file at {@code filePath}.
+     */
+    public static Path getShardFolder(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_FOLDER_SUFFIX);
+    }
+
+    /**
+     * Returns the index of the shard that keeps {@code issue}.
+     */
+    int getShardIndex(Issue issue) {
+        // String#hashCode is the same in every run of the app
+        return Math.floorMod(issue.getStatement().getValue().hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        Optional<List<Issue>> issues = readAllIssues(filePath);
+        if (!issues.isPresent()) {
+            return Optional.empty();
+        }
+
+        SaveIt saveIt = new SaveIt();
+        saveIt.setIssues(issues.get());
+        return Optional.of(saveIt);
+    }
+
+    @Override
+    public boolean readIssues(Consumer<List<Issue>> batchConsumer) throws DataConversionException, IOException {
+        return readIssues(filePath, batchConsumer);
+    }
+
+    /**
+     * Similar to {@link #readIssues(Consumer)}, but the shards are all read before the first batch is handed over,
+     * as the issues of every shard are needed to put them back in order.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public boolean readIssues(Path filePath, Consumer<List<Issue>> batchConsumer) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(batchConsumer);
+
+        Optional<List<Issue>> issues = readAllIssues(filePath);
+        if (!issues.isPresent()) {
+            return false;
+        }
+
+        List<Issue> allIssues = issues.get();
+        for (int start = 0; start < allIssues.size(); start += XmlSaveItStorage.ISSUE_BATCH_SIZE) {
+            int end = Math.min(start + XmlSaveItStorage.ISSUE_BATCH_SIZE, allIssues.size());
+            batchConsumer.accept(new ArrayList<>(allIssues.subList(start, end)));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the issues of the data file at {@code filePath} in the order they were saved, or an empty
+     * {@code Optional} if the file is not found. The issues of a manifest saved before the order was kept are
+     * returned in the order they were created.
+     */
+    private Optional<List<Issue>> readAllIssues(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (!isManifest(filePath)) {
+            logger.info("SaveIt file " + filePath + " is not sharded yet");
+            List<Issue> issues = new ArrayList<>();
+            new XmlSaveItStorage(filePath).readIssues(issues::addAll);
+            return Optional.of(issues);
+        }
+
+        Path shardFolder = getShardFolder(filePath);
+        XmlShardManifest manifest = readManifest(filePath);
+        List<CompletableFuture<List<PositionedIssue>>> shardReads = new ArrayList<>();
+        for (XmlAdaptedShard shard : manifest.getShards()) {
+            Path shardFile = resolveShardFile(shardFolder, shard);
+            shardReads.add(CompletableFuture.supplyAsync(() -> readShard(shardFile), READER_EXECUTOR));
+        }
+
+        Set<IssueStatement> statements = new HashSet<>();
+        List<PositionedIssue> issues = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<PositionedIssue>> shardRead : shardReads) {
+                issues.addAll(shardRead.join());
+            }
+            sortByPosition(issues);
+            for (PositionedIssue issue : issues) {
+                if (!statements.add(issue.issue.getStatement())) {
+                    throw new IllegalValueException(XmlSerializableSaveIt.MESSAGE_DUPLICATE_ISSUE);
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            rememberPositions(issues);
+        }
+        return Optional.of(issues.stream().map(issue -> issue.issue).collect(Collectors.toList()));
+    }
+
+    /**
+     * Sorts {@code issues} by their positions, or by the time they were created if they were saved before the
+     * positions were kept.
+     * @throws IllegalValueException if only some of the issues have positions, or two of them have the same one.
+     */
+    private static void sortByPosition(List<PositionedIssue> issues) throws IllegalValueException {
+        if (issues.stream().noneMatch(issue -> issue.position.isPresent())) {
+            // the sort is stable, so issues created at the same time are kept in the order of their shard
+            issues.sort(Comparator.comparing(issue -> issue.issue.getCreatedTime()));
+            return;
+        }
+        if (!issues.stream().allMatch(issue -> issue.position.isPresent())) {
+            throw new IllegalValueException(MESSAGE_INVALID_ISSUE_ORDER);
+        }
+
+        issues.sort(Comparator.comparing(issue -> issue.position.get()));
+        for (int i = 1; i < issues.size(); i++) {
+            if (issues.get(i).position.equals(issues.get(i - 1).position)) {
+                throw new IllegalValueException(MESSAGE_INVALID_ISSUE_ORDER);
+            }
+        }
+    }
+
+    /**
+     * Returns the issues of the shard file, in the order they were saved, along with their positions.
+     * @throws CompletionException wrapping a {@code DataConversionException} or an {@code IOException} if the
+     *     file cannot be read.
+     */
+    private List<PositionedIssue> readShard(Path shardFile) {
+        List<PositionedIssue> issues = new ArrayList<>();
+        try {
+            XmlFileStorage.loadIssuesFromSaveFile(shardFile,
+                    xmlIssue -> issues.add(new PositionedIssue(xmlIssue.toModelType(), xmlIssue.getPosition())));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFile + ": " + ive.getMessage());
+            throw new CompletionException(new DataConversionException(ive));
+        } catch (DataConversionException | IOException e) {
+            throw new CompletionException(e);
+        }
+        return issues;
+    }
+
+    private static boolean isManifest(Path filePath) throws DataConversionException, IOException {
+        // a data file that is not sharded yet may be compressed
+        try (InputStream in = DataFileCodec.openDecoded(filePath)) {
+            return XmlUtil.getRootElementName(in).equals(XmlShardManifest.ROOT_ELEMENT_NAME);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static XmlShardManifest readManifest(Path filePath) throws DataConversionException, IOException {
+        try {
+            return XmlUtil.getDataFromFile(filePath, XmlShardManifest.class);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the file of {@code shard}, which must be in {@code shardFolder}.
+     */
+    private static Path resolveShardFile(Path shardFolder, XmlAdaptedShard shard) throws DataConversionException {
+        String fileName = shard.getFileName();
+        if (fileName == null || !fileName.matches(SHARD_FILE_NAME_REGEX)) {
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, fileName)));
+        }
+        return shardFolder.resolve(fileName);
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        List<PositionedIssue> positionedIssues = assignPositions(saveIt.getIssueList(), filePath);
+        List<List<Issue>> shards = new ArrayList<>();
+        List<List<Long>> shardPositions = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+            shardPositions.add(new ArrayList<>());
+        }
+        for (PositionedIssue issue : positionedIssues) {
+            int shardIndex = getShardIndex(issue.issue);
+            shards.get(shardIndex).add(issue.issue);
+            shardPositions.get(shardIndex).add(issue.position.get());
+        }
+
+        Optional<XmlShardManifest> savedManifest = readSavedManifest(filePath);
+        long generation = savedManifest.map(XmlShardManifest::getGeneration).orElse(0L) + 1;
+        List<XmlAdaptedShard> savedShards = savedManifest
+                .filter(manifest -> manifest.getCodec() == codec && manifest.getShards().size() == shardCount)
+                .map(XmlShardManifest::getShards)
+                .orElse(Collections.emptyList());
+
+        Path shardFolder = getShardFolder(filePath);
+        Files.createDirectories(shardFolder);
+        List<XmlAdaptedShard> newShards = new ArrayList<>();
+        int writtenCount = 0;
+        for (int i = 0; i < shardCount; i++) {
+            List<Issue> issues = shards.get(i);
+            List<Long> positions = shardPositions.get(i);
+            long contentHash = IssueContentHash.ofIssues(issues, positions);
+            if (!savedShards.isEmpty() && isSaved(shardFolder, savedShards.get(i), contentHash)) {
+                newShards.add(savedShards.get(i));
+                continue;
+            }
+
+            // a new file, so that the file named by the saved manifest is intact until the new manifest replaces it
+            String fileName = String.format(SHARD_FILE_NAME_FORMAT, i, generation);
+            writeDurably(shardFolder.resolve(fileName), new XmlSerializableSaveIt(issues, positions), codec);
+            newShards.add(new XmlAdaptedShard(fileName, issues.size(), contentHash));
+            writtenCount++;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            rememberPositions(positionedIssues);
+        }
+        if (writtenCount == 0 && savedManifest.isPresent()) {
+            logger.fine("No shard of " + filePath + " changed");
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        writeDurably(temporaryFile, new XmlShardManifest(generation, codec, newShards), DataFileCodec.NONE);
+        moveAtomically(temporaryFile, filePath);
+        logger.fine("Saved " + writtenCount + " of " + shardCount + " shards of " + filePath);
+
+        deleteUnusedShardFiles(shardFolder, newShards);
+    }
+
+    /**
+     * Returns {@code issues} along with increasing positions in that order. Each issue keeps the position it was last
+     * saved with in the data file at {@code filePath} if that is still greater than the position of the issue before
+     * it, so that moving or removing an issue does not change the positions, and so the shards, of the others.
+     */
+    private List<PositionedIssue> assignPositions(List<Issue> issues, Path filePath) {
+        Map<IssueStatement, Long> previousPositions;
+        synchronized (savedPositions) {
+            previousPositions = filePath.equals(this.filePath) ? new HashMap<>(savedPositions) : new HashMap<>();
+        }
+
+        List<PositionedIssue> positionedIssues = new ArrayList<>();
+        long lastPosition = -1;
+        for (Issue issue : issues) {
+            Long previousPosition = previousPositions.get(issue.getStatement());
+            long position = previousPosition != null && previousPosition > lastPosition
+                    ? previousPosition : lastPosition + 1;
+            positionedIssues.add(new PositionedIssue(issue, Optional.of(position)));
+            lastPosition = position;
+        }
+        return positionedIssues;
+    }
+
+    private void rememberPositions(List<PositionedIssue> issues) {
+        synchronized (savedPositions) {
+            savedPositions.clear();
+            issues.stream().filter(issue -> issue.position.isPresent())
+                    .forEach(issue -> savedPositions.put(issue.issue.getStatement(), issue.position.get()));
+        }
+    }
+
+    /**
+     * Returns the saved manifest of the data file at {@code filePath}, or an empty {@code Optional} if there is none
+     * or it cannot be read, in which case every shard is saved again.
+     */
+    private static Optional<XmlShardManifest> readSavedManifest(Path filePath) {
+        try {
+            if (Files.exists(filePath) && isManifest(filePath)) {
+                return Optional.of(readManifest(filePath));
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read the manifest " + filePath + ", saving all shards: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code savedShard} has the content hash {@code contentHash} and its file is still there.
+     */
+    private static boolean isSaved(Path shardFolder, XmlAdaptedShard savedShard, long contentHash) {
+        try {
+            return savedShard.hasContentHash(contentHash)
+                    && Files.exists(resolveShardFile(shardFolder, savedShard));
+        } catch (DataConversionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes {@code data} in xml format to {@code file}, encoded with {@code codec}, and waits until it is written
+     * to the hard disk.
+     */
+    private static void writeDurably(Path file, Object data, DataFileCodec codec) throws IOException {
+        try (OutputStream out = codec.encode(Files.newOutputStream(file))) {
+            XmlUtil.saveDataToStream(out, data);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        // closing the encoded stream closes the file, but forcing any channel of the file writes all of it
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("The file system cannot replace " + target + " atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code shardFolder} other than those of {@code shards}, i.e. those replaced by the
+     * save or left by a save that did not complete. The data is already saved, so failures are only logged.
+     */
+    private static void deleteUnusedShardFiles(Path shardFolder, List<XmlAdaptedShard> shards) {
+        Set<String> usedFileNames = shards.stream().map(XmlAdaptedShard::getFileName).collect(Collectors.toSet());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardFolder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.matches(SHARD_FILE_NAME_REGEX) && !usedFileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete the unused shard files in " + shardFolder + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * An issue along with its position in the issue list, which is empty for issues saved before positions were kept.
+     */
+    private static class PositionedIssue {
+        private final Issue issue;
+        private final Optional<Long> position;
+
+        PositionedIssue(Issue issue, Optional<Long> position) {
+            this.issue = issue;
+            this.position = position;
+        }
+    }
+}
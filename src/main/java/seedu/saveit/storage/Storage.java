@@ -2,18 +2,24 @@ package seedu.saveit.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import seedu.saveit.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
 import seedu.saveit.commons.events.storage.DataSavingExceptionEvent;
+import seedu.saveit.commons.events.storage.NotebookPersistedEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.UserPrefs;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends SaveItStorage, UserPrefsStorage {
+public interface Storage extends SaveItStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -27,6 +33,9 @@ public interface Storage extends SaveItStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException;
 
+    @Override
+    boolean readIssues(Consumer<List<Issue>> batchConsumer) throws DataConversionException, IOException;
+
     @Override
     void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException;
 
@@ -36,4 +45,23 @@ public interface Storage extends SaveItStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleSaveItChangedEvent(SaveItChangedEvent abce);
+
+    /**
+     * Saves the later versions of the SaveIt to the data file of the notebook switched to.
+     * Raises {@link NotebookPersistedEvent} for the previous notebook, whose changes have all been saved by then.
+     */
+    void handleNotebookSwitchedEvent(NotebookSwitchedEvent event);
+
+    @Override
+    List<String> readCommandHistory(int maxCommands) throws IOException;
+
+    @Override
+    void appendCommandHistory(String commandText) throws IOException;
+
+    /**
+     * Appends the command that was added to the command history to the hard disk.
+     *   Creates the history file if it is missing.
+     * Only logs a warning if there was an error during saving.
+     */
+    void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event);
 }
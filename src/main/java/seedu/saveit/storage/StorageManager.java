@@ -1,17 +1,32 @@
 package seedu.saveit.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.saveit.commons.core.ComponentManager;
+import seedu.saveit.commons.core.EventsCenter;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
 import seedu.saveit.commons.events.storage.DataSavingExceptionEvent;
+import seedu.saveit.commons.events.storage.NotebookPersistedEvent;
+import seedu.saveit.commons.events.storage.SaveItSavedEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.jfr.JfrEvents;
+import seedu.saveit.commons.jfr.JfrSpan;
+import seedu.saveit.commons.jfr.StorageReadEvent;
+import seedu.saveit.commons.jfr.StorageWriteEvent;
+import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.UserPrefs;
 
@@ -23,12 +38,18 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SaveItStorage saveItStorage;
     private UserPrefsStorage userPrefsStorage;
-
-
-    public StorageManager(SaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+    private CommandHistoryStorage commandHistoryStorage;
+    /** The data file of the notebook being worked on, to which the changes are saved */
+    private Path notebookFilePath;
+
+    public StorageManager(SaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage) {
+        // saving to the hard disk should not hold up the commands that change the data
+        super(EventsCenter.Dispatch.BACKGROUND);
         this.saveItStorage = saveItStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
+        this.notebookFilePath = saveItStorage.getSaveItFilePath();
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,7 +85,34 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return saveItStorage.readSaveIt(filePath);
+        long startTime = System.nanoTime();
+        JfrSpan<StorageReadEvent> span = JfrEvents.begin(() -> new StorageReadEvent());
+        try {
+            return saveItStorage.readSaveIt(filePath);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince("storage.load", startTime);
+            span.end(event -> {
+                event.path = filePath.toString();
+                event.bytes = getFileSize(filePath);
+            });
+        }
+    }
+
+    @Override
+    public boolean readIssues(Consumer<List<Issue>> batchConsumer) throws DataConversionException, IOException {
+        Path filePath = saveItStorage.getSaveItFilePath();
+        logger.fine("Attempting to read data from file: " + filePath);
+        long startTime = System.nanoTime();
+        JfrSpan<StorageReadEvent> span = JfrEvents.begin(() -> new StorageReadEvent());
+        try {
+            return saveItStorage.readIssues(batchConsumer);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince("storage.load", startTime);
+            span.end(event -> {
+                event.path = filePath.toString();
+                event.bytes = getFileSize(filePath);
+            });
+        }
     }
 
     @Override
@@ -75,19 +123,85 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        saveItStorage.saveSaveIt(saveIt, filePath);
+        long startTime = System.nanoTime();
+        JfrSpan<StorageWriteEvent> span = JfrEvents.begin(() -> new StorageWriteEvent());
+        try {
+            saveItStorage.saveSaveIt(saveIt, filePath);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince("storage.save", startTime);
+            span.end(event -> {
+                event.path = filePath.toString();
+                event.bytes = getFileSize(filePath);
+            });
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or 0 if it cannot be read.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
     }
 
 
     @Override
     @Subscribe
     public void handleSaveItChangedEvent(SaveItChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
-            saveSaveIt(event.data);
+            saveSaveIt(event.data, notebookFilePath);
+            raise(new SaveItSavedEvent(notebookFilePath, event.data));
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    @Subscribe
+    public void handleNotebookSwitchedEvent(NotebookSwitchedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Saving changes to " + event.filePath));
+        notebookFilePath = event.filePath;
+        // the changes to the previous notebook were made before the switch, so they are all handled by now
+        raise(new NotebookPersistedEvent(event.previousNotebookName));
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory(int maxCommands) throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory(maxCommands);
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        long startTime = System.nanoTime();
+        try {
+            commandHistoryStorage.appendCommandHistory(commandText);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince("storage.appendHistory", startTime);
+        }
+    }
+
+    @Override
+    @Subscribe
+    public void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event, "Command entered, appending to history file"));
+        try {
+            appendCommandHistory(event.commandText);
+        } catch (IOException e) {
+            // losing a command from the history is not worth interrupting the user
+            logger.warning("Failed to append to command history file : " + StringUtil.getDetails(e));
+        }
+    }
+
 }
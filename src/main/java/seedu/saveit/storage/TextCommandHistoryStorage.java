@@ -0,0 +1,117 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored in the hard disk as a text file, one command per line.
+ *
+ * Commands are only ever appended to the file, so saving a command does not rewrite the history. The file is
+ * compacted when it is read, if most of its commands are too old to be read anymore.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+    private static final int COMPACTION_FACTOR = 2;
+
+    private Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory(int maxCommands) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return new ArrayList<>();
+        }
+
+        Deque<String> latestCommands = new ArrayDeque<>();
+        int lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineCount++;
+                latestCommands.addLast(unescape(line));
+                if (latestCommands.size() > maxCommands) {
+                    latestCommands.removeFirst();
+                }
+            }
+        }
+
+        List<String> commands = new ArrayList<>(latestCommands);
+        if (lineCount > maxCommands * COMPACTION_FACTOR) {
+            logger.info("Compacting command history file: " + filePath);
+            compact(commands);
+        }
+        return commands;
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        requireNonNull(commandText);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, (escape(commandText) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replaces the file with one that only contains {@code commands}.
+     * The new file is written aside first, so that the history is never lost halfway.
+     */
+    private void compact(List<String> commands) throws IOException {
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(compactedFilePath, StandardCharsets.UTF_8)) {
+            for (String command : commands) {
+                writer.write(escape(command));
+                writer.newLine();
+            }
+        }
+        Files.move(compactedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Escapes the line breaks in {@code command} so that it fits in one line.
+     */
+    static String escape(String command) {
+        return command.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     */
+    static String unescape(String line) {
+        StringBuilder command = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i + 1 == line.length()) {
+                command.append(c);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            command.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return command.toString();
+    }
+}
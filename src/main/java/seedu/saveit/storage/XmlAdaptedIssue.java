@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -45,6 +46,9 @@ public class XmlAdaptedIssue {
     @XmlElement(required = true)
     private Long lastModifiedTime;
 
+    @XmlElement
+    private Long position;
+
     /**
      * Constructs an XmlAdaptedIssue. This is the no-arg constructor that is required by JAXB.
      */
@@ -87,6 +91,22 @@ public class XmlAdaptedIssue {
         lastModifiedTime = source.getLastModifiedTime().getTime();
     }
 
+    /**
+     * Converts a given Issue into this class for JAXB use, along with its {@code position} in the issue list, which
+     * is kept in shard files as the issues of a shard are not next to each other in the list.
+     */
+    public XmlAdaptedIssue(Issue source, long position) {
+        this(source);
+        this.position = position;
+    }
+
+    /**
+     * Returns the position of the issue in the issue list, if it was saved with one.
+     */
+    public Optional<Long> getPosition() {
+        return Optional.ofNullable(position);
+    }
+
     /**
      * Converts this jaxb-friendly adapted statement object into the model's Issue object.
      *
@@ -152,6 +172,7 @@ public class XmlAdaptedIssue {
                 && tagged.equals(otherIssue.tagged)
                 && frequency.equals(frequency)
                 && createdTime.equals(createdTime)
-                && lastModifiedTime.equals(lastModifiedTime);
+                && lastModifiedTime.equals(lastModifiedTime)
+                && Objects.equals(position, otherIssue.position);
     }
 }
@@ -0,0 +1,66 @@
+package seedu.saveit.storage;
+
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlElement;
+
+/**
+ * JAXB-friendly description of a shard in a {@code XmlShardManifest}.
+ */
+public class XmlAdaptedShard {
+
+    @XmlElement(required = true)
+    private String fileName;
+
+    @XmlElement(required = true)
+    private Integer issueCount;
+
+    @XmlElement(required = true)
+    private String contentHash;
+
+    /**
+     * Constructs an XmlAdaptedShard. This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedShard() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedShard} of the shard kept in the file named {@code fileName}, whose issues have
+     * the content hash {@code contentHash}.
+     */
+    public XmlAdaptedShard(String fileName, int issueCount, long contentHash) {
+        this.fileName = fileName;
+        this.issueCount = issueCount;
+        this.contentHash = Long.toHexString(contentHash);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Integer getIssueCount() {
+        return issueCount;
+    }
+
+    /**
+     * Returns true if the issues of the shard, when it was saved, had the content hash {@code contentHash}.
+     */
+    public boolean hasContentHash(long contentHash) {
+        return Long.toHexString(contentHash).equals(this.contentHash);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedShard)) {
+            return false;
+        }
+
+        XmlAdaptedShard otherShard = (XmlAdaptedShard) other;
+        return Objects.equals(fileName, otherShard.fileName)
+                && Objects.equals(issueCount, otherShard.issueCount)
+                && Objects.equals(contentHash, otherShard.contentHash);
+    }
+}
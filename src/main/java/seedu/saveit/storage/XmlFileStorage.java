@@ -1,24 +1,33 @@
 package seedu.saveit.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.DataFileCodec;
+import seedu.saveit.commons.util.FileUtil;
 import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.commons.util.XmlUtil.ElementHandler;
 
 /**
- * Stores saveit data in an XML file
+ * Stores saveit data in an XML file, which may be compressed with a {@code DataFileCodec}.
  */
 public class XmlFileStorage {
     /**
-     * Saves the given saveit data to the specified file.
+     * Saves the given saveit data to the specified file, encoded with {@code codec} as it is written.
      */
-    public static void saveDataToFile(Path file, XmlSerializableSaveIt saveIt)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, saveIt);
+    public static void saveDataToFile(Path file, XmlSerializableSaveIt saveIt, DataFileCodec codec)
+            throws IOException {
+        checkFileExists(file);
+        try (OutputStream out = codec.encode(Files.newOutputStream(file))) {
+            XmlUtil.saveDataToStream(out, saveIt);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
@@ -28,12 +37,33 @@ public class XmlFileStorage {
      * Returns saveIt in the file or an empty saveIt
      */
     public static XmlSerializableSaveIt loadDataFromSaveFile(Path file) throws DataConversionException,
-                                                                            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableSaveIt.class);
+                                                                            IOException {
+        checkFileExists(file);
+        try (InputStream in = DataFileCodec.openDecoded(file)) {
+            return XmlUtil.getDataFromStream(in, XmlSerializableSaveIt.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
     }
 
+    /**
+     * Hands the issues in the file to {@code issueHandler} one at a time, as they are read.
+     */
+    public static void loadIssuesFromSaveFile(Path file, ElementHandler<XmlAdaptedIssue, IllegalValueException>
+            issueHandler) throws DataConversionException, IllegalValueException, IOException {
+        checkFileExists(file);
+        try (InputStream in = DataFileCodec.openDecoded(file)) {
+            XmlUtil.streamDataFromStream(in, XmlSerializableSaveIt.ROOT_ELEMENT_NAME,
+                    XmlSerializableSaveIt.ISSUE_ELEMENT_NAME, XmlAdaptedIssue.class, issueHandler);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static void checkFileExists(Path file) throws FileNotFoundException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+    }
+
 }
@@ -2,30 +2,48 @@ package seedu.saveit.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.DataFileCodec;
 import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.issue.IssueStatement;
 
 /**
  * A class to access SaveIt data stored as an xml file on the hard disk.
+ * The file is saved with the given {@code DataFileCodec}, and read with the codec named in it.
  */
 public class XmlSaveItStorage implements SaveItStorage {
 
+    /** The number of issues handed over at a time by {@link #readIssues(Consumer)} */
+    public static final int ISSUE_BATCH_SIZE = 500;
+
     private static final Logger logger = LogsCenter.getLogger(XmlSaveItStorage.class);
 
     private Path filePath;
+    private final DataFileCodec codec;
 
     public XmlSaveItStorage(Path filePath) {
+        this(filePath, DataFileCodec.NONE);
+    }
+
+    public XmlSaveItStorage(Path filePath, DataFileCodec codec) {
+        requireNonNull(codec);
         this.filePath = filePath;
+        this.codec = codec;
     }
 
     public Path getSaveItFilePath() {
@@ -42,8 +60,7 @@ public class XmlSaveItStorage implements SaveItStorage {
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -60,6 +77,50 @@ public class XmlSaveItStorage implements SaveItStorage {
         }
     }
 
+    @Override
+    public boolean readIssues(Consumer<List<Issue>> batchConsumer) throws DataConversionException, IOException {
+        return readIssues(filePath, batchConsumer);
+    }
+
+    /**
+     * Similar to {@link #readIssues(Consumer)}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public boolean readIssues(Path filePath, Consumer<List<Issue>> batchConsumer) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(filePath);
+        requireNonNull(batchConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return false;
+        }
+
+        Set<IssueStatement> statements = new HashSet<>();
+        List<Issue> batch = new ArrayList<>(ISSUE_BATCH_SIZE);
+        try {
+            XmlFileStorage.loadIssuesFromSaveFile(filePath, xmlIssue -> {
+                Issue issue = xmlIssue.toModelType();
+                if (!statements.add(issue.getStatement())) {
+                    throw new IllegalValueException(XmlSerializableSaveIt.MESSAGE_DUPLICATE_ISSUE);
+                }
+                batch.add(issue);
+                if (batch.size() == ISSUE_BATCH_SIZE) {
+                    batchConsumer.accept(new ArrayList<>(batch));
+                    batch.clear();
+                }
+            });
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+        return true;
+    }
+
     @Override
     public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
         saveSaveIt(saveIt, filePath);
@@ -74,7 +135,7 @@ public class XmlSaveItStorage implements SaveItStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(saveIt));
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(saveIt), codec);
     }
 
 }
@@ -15,12 +15,14 @@ import seedu.saveit.model.SaveIt;
 /**
  * An Immutable SaveIt that is serializable to XML format
  */
-@XmlRootElement(name = "saveit")
+@XmlRootElement(name = XmlSerializableSaveIt.ROOT_ELEMENT_NAME)
 public class XmlSerializableSaveIt {
 
     public static final String MESSAGE_DUPLICATE_ISSUE = "Issues list contains duplicate issue(s).";
+    public static final String ROOT_ELEMENT_NAME = "saveit";
+    public static final String ISSUE_ELEMENT_NAME = "issues";
 
-    @XmlElement
+    @XmlElement(name = ISSUE_ELEMENT_NAME)
     private List<XmlAdaptedIssue> issues;
 
     /**
@@ -35,8 +37,27 @@ public class XmlSerializableSaveIt {
      * Conversion
      */
     public XmlSerializableSaveIt(ReadOnlySaveIt src) {
+        this(src.getIssueList());
+    }
+
+    /**
+     * Conversion of {@code issues} only.
+     */
+    public XmlSerializableSaveIt(List<Issue> issues) {
+        this();
+        this.issues.addAll(issues.stream().map(XmlAdaptedIssue::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Conversion of {@code issues} only, along with the position of each, where {@code positions} holds the position
+     * of each of {@code issues} in turn.
+     */
+    public XmlSerializableSaveIt(List<Issue> issues, List<Long> positions) {
         this();
-        issues.addAll(src.getIssueList().stream().map(XmlAdaptedIssue::new).collect(Collectors.toList()));
+        assert issues.size() == positions.size();
+        for (int i = 0; i < issues.size(); i++) {
+            this.issues.add(new XmlAdaptedIssue(issues.get(i), positions.get(i)));
+        }
     }
 
     /**
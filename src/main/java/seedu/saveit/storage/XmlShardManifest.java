@@ -0,0 +1,78 @@
+package seedu.saveit.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.saveit.commons.util.DataFileCodec;
+
+/**
+ * The manifest of SaveIt data kept in shard files, serializable to XML format.
+ * It names the current file of each shard and the codec the shard files are saved with, so its size depends on the
+ * number of shards only; each save of the data has a greater generation than the previous one.
+ */
+@XmlRootElement(name = XmlShardManifest.ROOT_ELEMENT_NAME)
+public class XmlShardManifest {
+
+    public static final String ROOT_ELEMENT_NAME = "saveitManifest";
+
+    @XmlElement(required = true)
+    private Long generation;
+
+    @XmlElement
+    private DataFileCodec codec;
+
+    @XmlElement(name = "shard")
+    private List<XmlAdaptedShard> shards;
+
+    /**
+     * Creates an empty XmlShardManifest.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlShardManifest() {
+        shards = new ArrayList<>();
+    }
+
+    /**
+     * Constructs an {@code XmlShardManifest} of the given {@code shards}.
+     */
+    public XmlShardManifest(long generation, DataFileCodec codec, List<XmlAdaptedShard> shards) {
+        this.generation = generation;
+        this.codec = codec;
+        this.shards = new ArrayList<>(shards);
+    }
+
+    public long getGeneration() {
+        return generation == null ? 0 : generation;
+    }
+
+    /**
+     * Returns the codec of the shard files, which is {@code NONE} for manifests saved before codecs were added.
+     */
+    public DataFileCodec getCodec() {
+        return codec == null ? DataFileCodec.NONE : codec;
+    }
+
+    public List<XmlAdaptedShard> getShards() {
+        return shards;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlShardManifest)) {
+            return false;
+        }
+
+        XmlShardManifest otherManifest = (XmlShardManifest) other;
+        return Objects.equals(generation, otherManifest.generation)
+                && Objects.equals(codec, otherManifest.codec)
+                && shards.equals(otherManifest.shards);
+    }
+}
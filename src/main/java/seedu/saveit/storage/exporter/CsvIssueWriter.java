@@ -0,0 +1,78 @@
+package seedu.saveit.storage.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.storage.importer.ImportFileReader;
+
+/**
+ * Writes issues as CSV, in the same layout that the {@code import} command reads.
+ * Each solution of an issue is written in a row of its own, the first of which holds the other fields of the issue;
+ * the rows of the other solutions only repeat the statement, which is what the import reads them by.
+ */
+public class CsvIssueWriter implements IssueWriter {
+
+    public static final String HEADER = "statement,description,tags,link,remark,primary";
+
+    private final Writer out;
+
+    public CsvIssueWriter(Writer out) throws IOException {
+        this.out = out;
+        out.write(HEADER);
+        out.write('\n');
+    }
+
+    @Override
+    public void write(Issue issue) throws IOException {
+        List<Solution> solutions = issue.getSolutions();
+        writeRow(issue, true, solutions.isEmpty() ? null : solutions.get(0));
+        for (int i = 1; i < solutions.size(); i++) {
+            writeRow(issue, false, solutions.get(i));
+        }
+    }
+
+    /**
+     * Writes a row of {@code issue} with {@code solution}, or with no solution if it is null.
+     * Only the statement of the issue is written unless {@code isFirstRow}.
+     */
+    private void writeRow(Issue issue, boolean isFirstRow, Solution solution) throws IOException {
+        writeField(issue.getStatement().getValue());
+        out.write(',');
+        writeField(isFirstRow ? issue.getDescription().getValue() : "");
+        out.write(',');
+        writeField(isFirstRow
+                ? issue.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "))
+                : "");
+        out.write(',');
+        writeField(solution == null ? "" : solution.getLink().getValue());
+        out.write(',');
+        writeField(solution == null ? "" : solution.getRemark().getValue());
+        out.write(',');
+        writeField(solution != null && solution.isPrimarySolution() ? ImportFileReader.CSV_PRIMARY_VALUE : "");
+        out.write('\n');
+    }
+
+    /**
+     * Writes {@code value}, quoting it if it contains a comma, a quote or a line break.
+     * Line breaks are replaced by spaces so that every issue stays on a single line.
+     */
+    private void writeField(String value) throws IOException {
+        String field = value.replaceAll("\\r?\\n|\\r", " ");
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        out.write(field.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.saveit.storage.exporter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats that issues can be exported to.
+ */
+public enum ExportFormat {
+    CSV("csv"),
+    JSON("json"),
+    HTML("html");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns a new {@code IssueWriter} that writes issues in this format to {@code out}.
+     */
+    public IssueWriter createWriter(Writer out) throws IOException {
+        switch (this) {
+        case CSV:
+            return new CsvIssueWriter(out);
+        case JSON:
+            return new JsonIssueWriter(out);
+        case HTML:
+            return new HtmlIssueWriter(out);
+        default:
+            throw new AssertionError("Unknown export format " + this);
+        }
+    }
+
+    /**
+     * Returns the format of {@code file} as determined by its file extension,
+     * or {@code Optional.empty()} if the extension is not supported.
+     */
+    public static Optional<ExportFormat> fromPath(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (name.endsWith("." + format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.saveit.storage.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * Writes issues as a self-contained static HTML page that can be opened in any browser.
+ */
+public class HtmlIssueWriter implements IssueWriter {
+
+    public static final String TITLE = "SaveIt";
+
+    private static final String HEADER = "<!DOCTYPE html>\n"
+            + "<html>\n"
+            + "<head>\n"
+            + "<meta charset=\"UTF-8\">\n"
+            + "<title>" + TITLE + "</title>\n"
+            + "<style>\n"
+            + "body { font-family: sans-serif; max-width: 60em; margin: auto; padding: 1em; }\n"
+            + "section { border-bottom: 1px solid #ccc; padding: 0.5em 0; }\n"
+            + ".tag { background: #3e7b91; color: white; border-radius: 2px; padding: 1px 4px; margin-right: 4px; }\n"
+            + ".primary { font-weight: bold; }\n"
+            + "</style>\n"
+            + "</head>\n"
+            + "<body>\n"
+            + "<h1>" + TITLE + "</h1>\n";
+    private static final String FOOTER = "</body>\n</html>\n";
+
+    private final Writer out;
+    private int issueCount;
+
+    public HtmlIssueWriter(Writer out) throws IOException {
+        this.out = out;
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(Issue issue) throws IOException {
+        issueCount++;
+        out.write("<section id=\"issue-" + issueCount + "\">\n<h2>");
+        out.write(escape(issue.getStatement().getValue()));
+        out.write("</h2>\n<p>");
+        out.write(escape(issue.getDescription().getValue()));
+        out.write("</p>\n");
+
+        if (!issue.getTags().isEmpty()) {
+            out.write("<p>");
+            for (Tag tag : issue.getTags()) {
+                out.write("<span class=\"tag\">" + escape(tag.tagName) + "</span>");
+            }
+            out.write("</p>\n");
+        }
+
+        if (!issue.getSolutions().isEmpty()) {
+            out.write("<ol>\n");
+            for (Solution solution : issue.getSolutions()) {
+                String link = escape(solution.getLink().getValue());
+                out.write(solution.isPrimarySolution() ? "<li class=\"primary\">" : "<li>");
+                out.write("<a href=\"" + link + "\">" + link + "</a> " + escape(solution.getRemark().getValue()));
+                out.write("</li>\n");
+            }
+            out.write("</ol>\n");
+        }
+        out.write("</section>\n");
+    }
+
+    /**
+     * Escapes the characters in {@code text} that have a special meaning in HTML.
+     */
+    static String escape(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+            case '<':
+                builder.append("&lt;");
+                break;
+            case '>':
+                builder.append("&gt;");
+                break;
+            case '&':
+                builder.append("&amp;");
+                break;
+            case '"':
+                builder.append("&quot;");
+                break;
+            case '\'':
+                builder.append("&#39;");
+                break;
+            default:
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.write(FOOTER);
+        } finally {
+            out.close();
+        }
+    }
+}
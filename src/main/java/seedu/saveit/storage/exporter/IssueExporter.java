@@ -0,0 +1,70 @@
+package seedu.saveit.storage.exporter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+
+/**
+ * Exports issues to a file.
+ *
+ * Issues are written one at a time through a fixed-size buffer on top of a {@code FileChannel}, so memory use
+ * does not grow with the number of issues exported.
+ */
+public class IssueExporter {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(IssueExporter.class);
+
+    private IssueExporter() {}
+
+    /**
+     * Writes {@code issues} to {@code file} in the given {@code format}, replacing any existing file.
+     * {@code issues} must not be modified while they are being exported.
+     *
+     * @return the number of issues written.
+     * @throws IOException if the file cannot be written.
+     */
+    public static int export(Iterable<Issue> issues, Path file, ExportFormat format) throws IOException {
+        requireNonNull(issues);
+        requireNonNull(file);
+        requireNonNull(format);
+
+        FileUtil.createParentDirsOfFile(file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE),
+                BUFFER_SIZE);
+
+        IssueWriter issueWriter;
+        try {
+            issueWriter = format.createWriter(out);
+        } catch (IOException ioe) {
+            out.close();
+            throw ioe;
+        }
+
+        int count = 0;
+        try (IssueWriter writer = issueWriter) {
+            for (Issue issue : issues) {
+                writer.write(issue);
+                count++;
+            }
+        }
+
+        logger.info(String.format("Exported %d issues to %s", count, file));
+        return count;
+    }
+}
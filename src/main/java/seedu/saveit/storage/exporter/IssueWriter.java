@@ -0,0 +1,18 @@
+package seedu.saveit.storage.exporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import seedu.saveit.model.Issue;
+
+/**
+ * Writes issues to an output one at a time, so that an export never has to be built up in memory.
+ * Closing the writer completes the output and closes the underlying stream.
+ */
+public interface IssueWriter extends Closeable {
+
+    /**
+     * Writes {@code issue} to the output.
+     */
+    void write(Issue issue) throws IOException;
+}
@@ -0,0 +1,59 @@
+package seedu.saveit.storage.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * Writes issues as a JSON array, in the same layout that the {@code import} command reads.
+ */
+public class JsonIssueWriter implements IssueWriter {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    public JsonIssueWriter(Writer out) throws IOException {
+        generator = jsonFactory.createGenerator(out).useDefaultPrettyPrinter();
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void write(Issue issue) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("statement", issue.getStatement().getValue());
+        generator.writeStringField("description", issue.getDescription().getValue());
+
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : issue.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("solutions");
+        for (Solution solution : issue.getSolutions()) {
+            generator.writeStartObject();
+            generator.writeStringField("link", solution.getLink().getValue());
+            generator.writeStringField("remark", solution.getRemark().getValue());
+            if (solution.isPrimarySolution()) {
+                generator.writeBooleanField("primary", true);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
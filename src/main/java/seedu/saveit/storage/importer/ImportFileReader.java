@@ -0,0 +1,348 @@
+package seedu.saveit.storage.importer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.saveit.storage.importer.ImportedIssue.ImportedSolution;
+
+/**
+ * Lazily reads the issues in an import file one record at a time, so that the whole file never has to be held
+ * in memory.
+ *
+ * CSV files must start with a header row naming the columns {@code statement}, {@code description},
+ * {@code tags} (separated by spaces), {@code link}, {@code remark} and optionally {@code primary}, in any order.
+ * Quoted fields may contain commas and doubled quotes, but not line breaks. A row with the same statement as the
+ * row before adds its solution to the issue of that row, and its other columns are ignored.
+ * JSON files must contain a top-level array of issue objects. An object with a field of the wrong type is read as a
+ * record that is rejected when it is validated, while a file that is not valid JSON cannot be read at all.
+ * Markdown files may contain any text; each list item of the form {@code - [statement](link) description}
+ * is read as an issue with a single solution.
+ */
+public class ImportFileReader {
+
+    public static final String CSV_COLUMN_STATEMENT = "statement";
+    public static final String CSV_COLUMN_DESCRIPTION = "description";
+    public static final String CSV_COLUMN_TAGS = "tags";
+    public static final String CSV_COLUMN_LINK = "link";
+    public static final String CSV_COLUMN_REMARK = "remark";
+    public static final String CSV_COLUMN_PRIMARY = "primary";
+    public static final String CSV_PRIMARY_VALUE = "true";
+    public static final String MARKDOWN_REMARK = "Imported link";
+    public static final String MESSAGE_WRONG_FIELD_TYPE = "Issue's %s field has the wrong type!";
+    public static final String JSON_RECORD_FIELD = "record";
+
+    private static final Pattern MARKDOWN_LINK_FORMAT =
+            Pattern.compile("^\\s*(?:[-*+]\\s+)?\\[(?<statement>[^\\]]+)\\]\\((?<link>[^)\\s]+)\\)(?<description>.*)$");
+    private static final Pattern TAG_SEPARATOR = Pattern.compile("\\s+");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ImportFileReader() {}
+
+    /**
+     * Returns a lazily populated stream of the issues in {@code file}.
+     * The returned stream holds the file open and must be closed after use.
+     * Errors encountered while the stream is consumed are thrown as {@code UncheckedIOException}.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public static Stream<ImportedIssue> read(Path file, ImportFormat format) throws IOException {
+        requireNonNull(file);
+        requireNonNull(format);
+        switch (format) {
+        case CSV:
+            return readCsv(file);
+        case JSON:
+            return readJson(file);
+        case MARKDOWN:
+            return readMarkdown(file);
+        default:
+            throw new AssertionError("Unknown import format " + format);
+        }
+    }
+
+    private static Stream<ImportedIssue> readCsv(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        Map<String, Integer> columns;
+        try {
+            String header = reader.readLine();
+            columns = header == null ? Collections.emptyMap() : parseCsvHeader(header);
+        } catch (IOException ioe) {
+            reader.close();
+            throw ioe;
+        }
+
+        Iterator<String> lines = reader.lines().iterator();
+        Iterator<ImportedIssue> rows = toStream(new Iterator<ImportedIssue>() {
+            // the header is row 1
+            private int row = 1;
+
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public ImportedIssue next() {
+                row++;
+                return parseCsvRow(row, lines.next(), columns);
+            }
+        }).filter(issue -> issue != null).iterator();
+
+        Iterator<ImportedIssue> issues = new Iterator<ImportedIssue>() {
+            // the row after the rows of the last issue, read to find where that issue ends
+            private ImportedIssue nextRow;
+
+            @Override
+            public boolean hasNext() {
+                return nextRow != null || rows.hasNext();
+            }
+
+            @Override
+            public ImportedIssue next() {
+                ImportedIssue issue = nextRow != null ? nextRow : rows.next();
+                nextRow = null;
+                while (rows.hasNext()) {
+                    ImportedIssue row = rows.next();
+                    if (!issue.hasSameStatement(row)) {
+                        nextRow = row;
+                        break;
+                    }
+                    issue.addSolutionsOf(row);
+                }
+                return issue;
+            }
+        };
+        return toStream(issues).onClose(() -> closeUnchecked(reader));
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String header) {
+        List<String> names = splitCsvLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the issue in the CSV {@code line}, or null if the line is blank.
+     */
+    private static ImportedIssue parseCsvRow(int row, String line, Map<String, Integer> columns) {
+        if (line.trim().isEmpty()) {
+            return null;
+        }
+
+        List<String> fields = splitCsvLine(line);
+        String tags = getCsvField(fields, columns, CSV_COLUMN_TAGS);
+        String link = getCsvField(fields, columns, CSV_COLUMN_LINK);
+        String remark = getCsvField(fields, columns, CSV_COLUMN_REMARK);
+        String primary = getCsvField(fields, columns, CSV_COLUMN_PRIMARY);
+
+        List<String> tagList = tags == null || tags.trim().isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(TAG_SEPARATOR.split(tags.trim()));
+        List<ImportedSolution> solutions = link == null || link.isEmpty()
+                ? Collections.emptyList()
+                : Collections.singletonList(new ImportedSolution(link, remark,
+                        CSV_PRIMARY_VALUE.equalsIgnoreCase(primary)));
+
+        return new ImportedIssue(row, getCsvField(fields, columns, CSV_COLUMN_STATEMENT),
+                getCsvField(fields, columns, CSV_COLUMN_DESCRIPTION), tagList, solutions);
+    }
+
+    private static String getCsvField(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    /**
+     * Splits a line of CSV into its fields, unquoting quoted fields.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Stream<ImportedIssue> readJson(Path file) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(Files.newBufferedReader(file,
+                StandardCharsets.UTF_8));
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of issues");
+            }
+        } catch (IOException ioe) {
+            parser.close();
+            throw ioe;
+        }
+
+        Iterator<ImportedIssue> issues = new Iterator<ImportedIssue>() {
+            private int row = 0;
+            private JsonToken nextToken;
+
+            @Override
+            public boolean hasNext() {
+                if (nextToken == null) {
+                    try {
+                        nextToken = parser.nextToken();
+                    } catch (IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    }
+                }
+                return nextToken == JsonToken.START_OBJECT;
+            }
+
+            @Override
+            public ImportedIssue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                nextToken = null;
+                row++;
+                JsonNode record;
+                try {
+                    // the whole object is read first, so that the next record is read from its start even if
+                    // this one cannot be mapped to an issue
+                    record = objectMapper.readTree(parser);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+                return parseJsonRecord(row, record);
+            }
+        };
+        return toStream(issues).onClose(() -> closeUnchecked(parser));
+    }
+
+    /**
+     * Returns the issue in the JSON {@code record}, or a malformed issue if a field of the record has the wrong type.
+     */
+    private static ImportedIssue parseJsonRecord(int row, JsonNode record) {
+        try {
+            ImportedIssue issue = objectMapper.treeToValue(record, ImportedIssue.class);
+            issue.setRow(row);
+            return issue;
+        } catch (JsonMappingException jme) {
+            return ImportedIssue.malformed(row, String.format(MESSAGE_WRONG_FIELD_TYPE, getFieldName(jme)));
+        } catch (IOException ioe) {
+            // the record has been read already, so only a mapping can fail
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Returns the path of the field that could not be mapped, e.g. {@code solutions.link}.
+     */
+    private static String getFieldName(JsonMappingException jme) {
+        String fieldName = jme.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(name -> name != null)
+                .collect(Collectors.joining("."));
+        return fieldName.isEmpty() ? JSON_RECORD_FIELD : fieldName;
+    }
+
+    private static Stream<ImportedIssue> readMarkdown(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        Iterator<String> lines = reader.lines().iterator();
+        Iterator<ImportedIssue> issues = new Iterator<ImportedIssue>() {
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public ImportedIssue next() {
+                row++;
+                return parseMarkdownLine(row, lines.next());
+            }
+        };
+        return toStream(issues).filter(issue -> issue != null).onClose(() -> closeUnchecked(reader));
+    }
+
+    /**
+     * Returns the issue in the Markdown {@code line}, or null if the line is not a link.
+     * The link text is used as the description if the line has no text after the link.
+     */
+    private static ImportedIssue parseMarkdownLine(int row, String line) {
+        Matcher matcher = MARKDOWN_LINK_FORMAT.matcher(line);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String statement = matcher.group("statement").trim();
+        String description = matcher.group("description").trim().replaceFirst("^[-:]\\s*", "");
+        return new ImportedIssue(row, statement, description.isEmpty() ? statement : description,
+                Collections.emptyList(),
+                Collections.singletonList(new ImportedSolution(matcher.group("link"), MARKDOWN_REMARK)));
+    }
+
+    private static Stream<ImportedIssue> toStream(Iterator<ImportedIssue> issues) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(issues, Spliterator.ORDERED), false);
+    }
+
+    private static void closeUnchecked(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.saveit.storage.importer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats that issues can be imported from.
+ */
+public enum ImportFormat {
+    CSV("csv"),
+    JSON("json"),
+    MARKDOWN("md", "markdown");
+
+    private final List<String> extensions;
+
+    ImportFormat(String... extensions) {
+        this.extensions = Arrays.asList(extensions);
+    }
+
+    /**
+     * Returns the format of {@code file} as determined by its file extension,
+     * or {@code Optional.empty()} if the extension is not supported.
+     */
+    public static Optional<ImportFormat> fromPath(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+
+        String extension = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(format -> format.extensions.contains(extension)).findFirst();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.saveit.storage.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.saveit.model.Issue;
+
+/**
+ * The valid issues read from an import file, together with a report of the rows that were rejected.
+ */
+public class ImportResult {
+
+    /** Only the first few rejected rows are described, so that a bad file cannot exhaust memory */
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+    public static final String REJECTED_ROW_FORMAT = "Row %1$d: %2$s";
+
+    private final List<Issue> issues = new ArrayList<>();
+    private final List<String> rejections = new ArrayList<>();
+    private int rejectedCount;
+
+    void addIssue(Issue issue) {
+        issues.add(issue);
+    }
+
+    void reject(int row, String reason) {
+        rejectedCount++;
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+            rejections.add(String.format(REJECTED_ROW_FORMAT, row, reason));
+        }
+    }
+
+    /**
+     * Returns the valid issues, in the order they appear in the import file.
+     */
+    public List<Issue> getIssues() {
+        return Collections.unmodifiableList(issues);
+    }
+
+    /**
+     * Returns descriptions of up to {@link #MAX_REPORTED_REJECTIONS} rejected rows.
+     */
+    public List<String> getRejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+}
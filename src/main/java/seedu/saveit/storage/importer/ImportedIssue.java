@@ -0,0 +1,196 @@
+package seedu.saveit.storage.importer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.PrimarySolution;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.solution.Remark;
+import seedu.saveit.model.issue.solution.SolutionLink;
+
+/**
+ * An issue read from an import file, before it is validated.
+ */
+public class ImportedIssue {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Issue's %s field is missing!";
+
+    @JsonProperty
+    private String statement;
+    @JsonProperty
+    private String description;
+    @JsonProperty
+    private List<String> tags = new ArrayList<>();
+    @JsonProperty
+    private List<ImportedSolution> solutions = new ArrayList<>();
+
+    /** The position of this issue in the import file, used when reporting rejected rows */
+    @JsonIgnore
+    private int row;
+
+    /** Why the record could not be read as an issue, if it could not */
+    @JsonIgnore
+    private String malformedReason;
+
+    /**
+     * Constructs an ImportedIssue. This is the no-arg constructor that is required by Jackson.
+     */
+    public ImportedIssue() {}
+
+    /**
+     * Constructs an {@code ImportedIssue} with the given details.
+     */
+    public ImportedIssue(int row, String statement, String description, List<String> tags,
+                         List<ImportedSolution> solutions) {
+        this.row = row;
+        this.statement = statement;
+        this.description = description;
+        if (tags != null) {
+            this.tags = new ArrayList<>(tags);
+        }
+        if (solutions != null) {
+            this.solutions = new ArrayList<>(solutions);
+        }
+    }
+
+    /**
+     * Returns an {@code ImportedIssue} for the record at {@code row} that could not be read as an issue for
+     * {@code reason}, so that it is rejected when it is validated.
+     */
+    static ImportedIssue malformed(int row, String reason) {
+        ImportedIssue issue = new ImportedIssue();
+        issue.row = row;
+        issue.malformedReason = reason;
+        return issue;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    void setRow(int row) {
+        this.row = row;
+    }
+
+    /**
+     * Returns true if {@code other} has a statement, and the same one as this issue.
+     */
+    boolean hasSameStatement(ImportedIssue other) {
+        return other.statement != null && Objects.equals(statement, other.statement);
+    }
+
+    /**
+     * Adds the solutions of {@code other} to this issue.
+     */
+    void addSolutionsOf(ImportedIssue other) {
+        solutions.addAll(other.solutions);
+    }
+
+    /**
+     * Converts this imported issue into the model's Issue object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the imported issue
+     */
+    public Issue toModelType() throws IllegalValueException {
+        if (malformedReason != null) {
+            throw new IllegalValueException(malformedReason);
+        }
+        if (statement == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    IssueStatement.class.getSimpleName()));
+        }
+        if (!IssueStatement.isValidIssueStatement(statement)) {
+            throw new IllegalValueException(IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
+        }
+        final IssueStatement modelStatement = new IssueStatement(statement);
+
+        if (description == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName()));
+        }
+        if (!Description.isValidDescription(description)) {
+            throw new IllegalValueException(Description.MESSAGE_DESCRIPTION_CONSTRAINTS);
+        }
+        final Description modelDescription = new Description(description);
+
+        final Set<Tag> modelTags = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag == null || !Tag.isValidTagName(tag)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            modelTags.add(new Tag(tag));
+        }
+
+        final List<Solution> modelSolutions = new ArrayList<>();
+        for (ImportedSolution solution : solutions) {
+            modelSolutions.add(solution.toModelType());
+        }
+
+        return new Issue(modelStatement, modelDescription, modelSolutions, modelTags);
+    }
+
+    /**
+     * A solution read from an import file, before it is validated.
+     */
+    public static class ImportedSolution {
+
+        @JsonProperty
+        private String link;
+        @JsonProperty
+        private String remark;
+        @JsonProperty
+        private boolean primary;
+
+        /**
+         * Constructs an ImportedSolution. This is the no-arg constructor that is required by Jackson.
+         */
+        public ImportedSolution() {}
+
+        public ImportedSolution(String link, String remark) {
+            this(link, remark, false);
+        }
+
+        public ImportedSolution(String link, String remark, boolean isPrimary) {
+            this.link = link;
+            this.remark = remark;
+            this.primary = isPrimary;
+        }
+
+        /**
+         * Converts this imported solution into the model's Solution object.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the imported solution
+         */
+        public Solution toModelType() throws IllegalValueException {
+            if (link == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        SolutionLink.class.getSimpleName()));
+            }
+            if (!SolutionLink.isValidLink(link)) {
+                throw new IllegalValueException(SolutionLink.MESSAGE_SOLUTION_LINK_CONSTRAINTS);
+            }
+            if (remark == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        Remark.class.getSimpleName()));
+            }
+            if (!Remark.isValidRemark(remark)) {
+                throw new IllegalValueException(Remark.MESSAGE_REMARK_CONSTRAINTS);
+            }
+            if (primary) {
+                return new PrimarySolution(new SolutionLink(link), new Remark(remark));
+            }
+            return new Solution(new SolutionLink(link), new Remark(remark));
+        }
+    }
+}
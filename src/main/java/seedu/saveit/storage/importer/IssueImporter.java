@@ -0,0 +1,116 @@
+package seedu.saveit.storage.importer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.IssueStatement;
+
+/**
+ * Reads and validates the issues in an import file.
+ *
+ * The file is streamed in batches of {@link #BATCH_SIZE} records. Each batch is validated in parallel and then
+ * checked for duplicates in file order, so memory use is bounded by the number of valid issues rather than by
+ * the size of the file.
+ */
+public class IssueImporter {
+
+    public static final int BATCH_SIZE = 1024;
+    public static final String MESSAGE_DUPLICATE_ISSUE = "Duplicate issue statement '%1$s'";
+
+    private static final Logger logger = LogsCenter.getLogger(IssueImporter.class);
+
+    private IssueImporter() {}
+
+    /**
+     * Reads the issues in {@code file}, rejecting those that are invalid or whose statement is in
+     * {@code existingStatements} or appears earlier in the file.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     */
+    public static ImportResult importIssues(Path file, ImportFormat format, Set<IssueStatement> existingStatements)
+            throws IOException {
+        requireNonNull(existingStatements);
+        ImportResult result = new ImportResult();
+        Set<IssueStatement> statements = new HashSet<>(existingStatements);
+
+        try (Stream<ImportedIssue> records = ImportFileReader.read(file, format)) {
+            Iterator<ImportedIssue> iterator = records.iterator();
+            List<ImportedIssue> batch = new ArrayList<>(BATCH_SIZE);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    processBatch(batch, statements, result);
+                    batch.clear();
+                }
+            }
+            processBatch(batch, statements, result);
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+
+        logger.info(String.format("Read %d issues from %s, rejected %d rows",
+                result.getIssues().size(), file, result.getRejectedCount()));
+        return result;
+    }
+
+    /**
+     * Validates {@code batch} in parallel, then records the results in file order.
+     */
+    private static void processBatch(List<ImportedIssue> batch, Set<IssueStatement> statements,
+            ImportResult result) {
+        List<ValidatedIssue> validated = batch.parallelStream()
+                .map(ValidatedIssue::new)
+                .collect(Collectors.toList());
+
+        for (ValidatedIssue validatedIssue : validated) {
+            int row = validatedIssue.source.getRow();
+            if (validatedIssue.error != null) {
+                result.reject(row, validatedIssue.error);
+                continue;
+            }
+
+            IssueStatement statement = validatedIssue.issue.getStatement();
+            if (!statements.add(statement)) {
+                result.reject(row, String.format(MESSAGE_DUPLICATE_ISSUE, statement.getValue()));
+                continue;
+            }
+            result.addIssue(validatedIssue.issue);
+        }
+    }
+
+    /**
+     * The outcome of validating a single {@code ImportedIssue}.
+     */
+    private static class ValidatedIssue {
+        private final ImportedIssue source;
+        private final Issue issue;
+        private final String error;
+
+        ValidatedIssue(ImportedIssue source) {
+            Issue converted = null;
+            String message = null;
+            try {
+                converted = source.toModelType();
+            } catch (IllegalValueException ive) {
+                message = ive.getMessage();
+            }
+            this.source = source;
+            this.issue = converted;
+            this.error = message;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.saveit.storage.pagecache;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An entry in the {@code PageCache} index, mapping a page's URL to the stored copy of its content.
+ * Entries are serialized to the index file by Jackson.
+ */
+class CachedPage {
+
+    private String url;
+    private String contentHash;
+    private String etag;
+    private String lastModified;
+    private long size;
+
+    /**
+     * Constructs an empty entry. This is the no-arg constructor that is required by Jackson.
+     */
+    private CachedPage() {}
+
+    /**
+     * {@code etag} and {@code lastModified} are the validators sent by the server, and may be null.
+     */
+    CachedPage(String url, String contentHash, String etag, String lastModified, long size) {
+        requireNonNull(url);
+        requireNonNull(contentHash);
+        this.url = url;
+        this.contentHash = contentHash;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.size = size;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the stored content, which is also the name of the file it is stored in.
+     */
+    String getContentHash() {
+        return contentHash;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    String getLastModified() {
+        return lastModified;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns true if the entry was read completely from the index file.
+     */
+    boolean isValid() {
+        return url != null && contentHash != null && size >= 0;
+    }
+}
@@ -0,0 +1,465 @@
+package seedu.saveit.storage.pagecache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.hash.Hashing;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.JsonUtil;
+import seedu.saveit.commons.util.ThreadUtil;
+import seedu.saveit.commons.web.HostRateLimiter;
+
+/**
+ * A size-bounded cache of web pages on the local disk, so that pages which have been viewed or prefetched before
+ * can be shown immediately and without a network connection.
+ *
+ * Page content is stored in files named by the SHA-256 hash of the content, and an index maps each URL to its
+ * content and to the validators (ETag and Last-Modified) sent by the server. Cached pages are revalidated with
+ * conditional requests. When the cache grows beyond its maximum size, the least recently used pages are evicted.
+ *
+ * The index in memory is guarded by the cache's lock, but page files and the index file are written and deleted
+ * outside it, so that looking up a page on the UI thread never waits for a download being stored.
+ */
+public class PageCache {
+
+    public static final long DEFAULT_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CONCURRENCY = 2;
+    public static final Duration DEFAULT_HOST_INTERVAL = Duration.ofMillis(250);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    public static final int MAX_PAGE_SIZE_BYTES = 8 * 1024 * 1024;
+
+    static final String INDEX_FILE_NAME = "index.json";
+    static final String PAGE_FILE_EXTENSION = ".html";
+
+    private static final Logger logger = LogsCenter.getLogger(PageCache.class);
+    private static final String HTML_CONTENT_TYPE = "text/html";
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final Pattern HEAD_TAG = Pattern.compile("<head(\\s[^>]*)?>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern BASE_TAG = Pattern.compile("<base\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern META_CHARSET = Pattern.compile("<meta\\s[^>]*charset=\"?([\\w.:-]+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern CHARSET_PARAMETER = Pattern.compile(";\\s*charset=\"?([\\w.:-]+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Path directory;
+    private final Path indexFile;
+    private final long maxSizeBytes;
+    private final int maxPageSizeBytes;
+    private final ExecutorService executor;
+    private final HostRateLimiter rateLimiter;
+    private final int timeoutMillis;
+    private final Map<String, CompletableFuture<Optional<Path>>> pendingFetches = new ConcurrentHashMap<>();
+
+    // pages in least recently used order, guarded by this
+    private final LinkedHashMap<String, CachedPage> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+    private long indexVersion;
+
+    // only one thread writes the index file at a time, and never an older index over a newer one
+    private final Object indexFileLock = new Object();
+    private long savedIndexVersion;
+
+    /**
+     * Creates a PageCache in {@code directory} with the default limits.
+     */
+    public PageCache(Path directory) {
+        this(directory, DEFAULT_MAX_SIZE_BYTES, DEFAULT_MAX_CONCURRENCY, DEFAULT_HOST_INTERVAL, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Creates a PageCache in {@code directory} that stores at most {@code maxSizeBytes} of pages, downloads at most
+     * {@code maxConcurrency} pages at a time and makes at most one request to each host every {@code hostInterval}.
+     * Pages already cached in {@code directory} are loaded from its index file.
+     */
+    public PageCache(Path directory, long maxSizeBytes, int maxConcurrency, Duration hostInterval,
+                     Duration timeout) {
+        requireNonNull(directory);
+        requireNonNull(timeout);
+        this.directory = directory;
+        this.indexFile = directory.resolve(INDEX_FILE_NAME);
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxPageSizeBytes = (int) Math.min(maxSizeBytes, MAX_PAGE_SIZE_BYTES);
+        this.executor = Executors.newFixedThreadPool(maxConcurrency,
+                ThreadUtil.newDaemonThreadFactory("SaveIt-pagecache"));
+        this.rateLimiter = new HostRateLimiter(hostInterval);
+        this.timeoutMillis = (int) timeout.toMillis();
+        loadIndex();
+    }
+
+    /**
+     * Returns the file holding the cached copy of {@code url}, if there is one.
+     * The page is marked as recently used.
+     */
+    public Optional<Path> getCachedPage(String url) {
+        requireNonNull(url);
+        CachedPage page;
+        synchronized (this) {
+            page = pages.get(url);
+        }
+        if (page == null) {
+            return Optional.empty();
+        }
+
+        Path pageFile = getPageFile(page);
+        if (!Files.exists(pageFile)) {
+            // the file was deleted by hand, or by an eviction racing with the store of the same content
+            remove(page);
+            return Optional.empty();
+        }
+        return Optional.of(pageFile);
+    }
+
+    /**
+     * Returns the content of the cached copy of {@code url}, if there is one that can be read, decoded with the
+     * charset declared in the page, or UTF-8 if it declares none. The page is marked as recently used.
+     */
+    public Optional<String> readCachedPage(String url) {
+        Optional<Path> pageFile = getCachedPage(url);
+        if (!pageFile.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(Files.readAllBytes(pageFile.get())));
+        } catch (IOException ioe) {
+            logger.warning("Could not read the cached copy of " + url + ": " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Downloads {@code url} into the cache in the background, or revalidates the cached copy if there is one.
+     * Concurrent fetches of the same url share one request.
+     *
+     * @return a future holding the file with the cached copy of the page once the fetch is done,
+     *     or an empty {@code Optional} if the page could not be cached.
+     */
+    public CompletableFuture<Optional<Path>> fetch(String url) {
+        requireNonNull(url);
+        CompletableFuture<Optional<Path>> result = new CompletableFuture<>();
+        CompletableFuture<Optional<Path>> pending = pendingFetches.putIfAbsent(url, result);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture.supplyAsync(() -> fetchPage(url), executor).whenComplete((pageFile, error) -> {
+            pendingFetches.remove(url);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(pageFile);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Downloads in the background each of {@code urls} that is not cached yet, in the given order.
+     */
+    public void prefetch(List<String> urls) {
+        requireNonNull(urls);
+        for (String url : urls) {
+            if (!isCached(url)) {
+                fetch(url);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code url} is cached. Unlike {@link #getCachedPage(String)}, the page is not marked as used.
+     */
+    public synchronized boolean isCached(String url) {
+        return pages.containsKey(url);
+    }
+
+    /**
+     * Returns the total size in bytes of the cached pages.
+     */
+    public synchronized long getSize() {
+        return totalSize;
+    }
+
+    /**
+     * Requests {@code url}, conditionally if it is already cached, and stores the response.
+     */
+    private Optional<Path> fetchPage(String url) {
+        CachedPage cached;
+        synchronized (this) {
+            cached = pages.get(url);
+        }
+
+        try {
+            URL target = new URL(url);
+            URLConnection connection = target.openConnection();
+            if (!(connection instanceof HttpURLConnection)) {
+                // local pages are always available, so they do not need to be cached
+                return Optional.empty();
+            }
+
+            rateLimiter.acquire(target.getHost());
+            return request(url, (HttpURLConnection) connection, cached);
+        } catch (MalformedURLException mue) {
+            return Optional.empty();
+        } catch (IOException ioe) {
+            logger.fine("Could not fetch " + url + ": " + ioe);
+            return getCachedPage(url);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return getCachedPage(url);
+        }
+    }
+
+    private Optional<Path> request(String url, HttpURLConnection connection, CachedPage cached) throws IOException {
+        try {
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setInstanceFollowRedirects(true);
+            if (cached != null && cached.getEtag() != null) {
+                connection.setRequestProperty("If-None-Match", cached.getEtag());
+            }
+            if (cached != null && cached.getLastModified() != null) {
+                connection.setRequestProperty("If-Modified-Since", cached.getLastModified());
+            }
+
+            int statusCode = connection.getResponseCode();
+            if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return getCachedPage(url);
+            }
+
+            String contentType = connection.getContentType();
+            if (statusCode != HttpURLConnection.HTTP_OK || contentType == null
+                    || !contentType.toLowerCase().startsWith(HTML_CONTENT_TYPE)
+                    || connection.getContentLengthLong() > maxPageSizeBytes) {
+                return getCachedPage(url);
+            }
+
+            Optional<byte[]> content;
+            try (InputStream body = connection.getInputStream()) {
+                content = readAtMost(body, maxPageSizeBytes);
+            }
+            if (!content.isPresent()) {
+                logger.fine("Not caching " + url + " as it is larger than " + maxPageSizeBytes + " bytes");
+                return getCachedPage(url);
+            }
+            byte[] page = withBaseUrl(content.get(), url, contentType);
+            if (page.length > maxPageSizeBytes) {
+                return getCachedPage(url);
+            }
+            return Optional.of(store(url, page, connection.getHeaderField("ETag"),
+                    connection.getHeaderField("Last-Modified")));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Returns the content of {@code body}, or an empty {@code Optional} if it is longer than {@code limit} bytes.
+     * At most {@code limit} bytes are buffered, however long the body is.
+     */
+    private static Optional<byte[]> readAtMost(InputStream body, int limit) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            if (content.size() + read > limit) {
+                return Optional.empty();
+            }
+            content.write(buffer, 0, read);
+        }
+        return Optional.of(content.toByteArray());
+    }
+
+    /**
+     * Writes {@code page} to its content-addressed file, adds it to the index and evicts pages if necessary.
+     * Only the index in memory is updated under the lock; the files are written and deleted outside it.
+     */
+    private Path store(String url, byte[] page, String etag, String lastModified) throws IOException {
+        String contentHash = Hashing.sha256().hashBytes(page).toString();
+        CachedPage cachedPage = new CachedPage(url, contentHash, etag, lastModified, page.length);
+        Path pageFile = getPageFile(cachedPage);
+        if (!Files.exists(pageFile)) {
+            // write to a temporary file first, so that readers never see a partially written page
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, contentHash, ".tmp");
+            Files.write(tempFile, page);
+            Files.move(tempFile, pageFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        List<CachedPage> removedPages = new ArrayList<>();
+        CachedPage[] index;
+        long version;
+        synchronized (this) {
+            CachedPage previous = pages.put(url, cachedPage);
+            totalSize += cachedPage.getSize();
+            if (previous != null) {
+                totalSize -= previous.getSize();
+                removedPages.add(previous);
+            }
+            evictLeastRecentlyUsed(removedPages);
+            removedPages.removeIf(this::isUsed);
+            index = pages.values().toArray(new CachedPage[0]);
+            version = ++indexVersion;
+        }
+
+        removedPages.forEach(this::deletePageFile);
+        saveIndex(index, version);
+        return pageFile;
+    }
+
+    /**
+     * Evicts the least recently used pages until the cache fits in its maximum size,
+     * adding the evicted pages to {@code evictedPages}.
+     */
+    private synchronized void evictLeastRecentlyUsed(List<CachedPage> evictedPages) {
+        Iterator<CachedPage> leastRecentlyUsed = pages.values().iterator();
+        while (totalSize > maxSizeBytes && leastRecentlyUsed.hasNext()) {
+            CachedPage page = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            totalSize -= page.getSize();
+            evictedPages.add(page);
+        }
+    }
+
+    /**
+     * Removes {@code page} from the index, unless its url has been stored again since.
+     */
+    private void remove(CachedPage page) {
+        synchronized (this) {
+            if (!pages.remove(page.getUrl(), page)) {
+                return;
+            }
+            totalSize -= page.getSize();
+            if (isUsed(page)) {
+                return;
+            }
+        }
+        deletePageFile(page);
+    }
+
+    /**
+     * Returns true if a cached url has the same content as {@code page}.
+     */
+    private synchronized boolean isUsed(CachedPage page) {
+        return pages.values().stream().anyMatch(other -> other.getContentHash().equals(page.getContentHash()));
+    }
+
+    private void deletePageFile(CachedPage page) {
+        try {
+            Files.deleteIfExists(getPageFile(page));
+        } catch (IOException ioe) {
+            logger.warning("Could not delete cached page " + page.getUrl() + ": " + ioe);
+        }
+    }
+
+    private Path getPageFile(CachedPage page) {
+        return directory.resolve(page.getContentHash() + PAGE_FILE_EXTENSION);
+    }
+
+    private synchronized void loadIndex() {
+        try {
+            Optional<CachedPage[]> savedPages = JsonUtil.readJsonFile(indexFile, CachedPage[].class);
+            if (!savedPages.isPresent()) {
+                return;
+            }
+
+            // saved from least to most recently used, so that the order of use is restored
+            for (CachedPage page : savedPages.get()) {
+                if (page != null && page.isValid() && Files.exists(getPageFile(page))) {
+                    pages.put(page.getUrl(), page);
+                    totalSize += page.getSize();
+                }
+            }
+            List<CachedPage> evictedPages = new ArrayList<>();
+            evictLeastRecentlyUsed(evictedPages);
+            evictedPages.removeIf(this::isUsed);
+            evictedPages.forEach(this::deletePageFile);
+        } catch (DataConversionException dce) {
+            logger.warning("Page cache index is not in the correct format. Starting with an empty page cache");
+        }
+    }
+
+    /**
+     * Saves {@code index}, the index at {@code version}, unless a newer version has been saved already.
+     */
+    private void saveIndex(CachedPage[] index, long version) {
+        synchronized (indexFileLock) {
+            if (version <= savedIndexVersion) {
+                return;
+            }
+            try {
+                JsonUtil.saveJsonFile(index, indexFile);
+                savedIndexVersion = version;
+            } catch (IOException ioe) {
+                logger.warning("Could not save page cache index: " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code page} decoded with the charset declared in its {@code <meta>} elements, or UTF-8 if it declares
+     * none or one that is not supported.
+     */
+    static String decode(byte[] page) {
+        Matcher charset = META_CHARSET.matcher(new String(page, StandardCharsets.ISO_8859_1));
+        if (charset.find()) {
+            try {
+                return new String(page, Charset.forName(charset.group(1)));
+            } catch (IllegalArgumentException iae) {
+                logger.fine("Unsupported charset " + charset.group(1) + " declared in a cached page");
+            }
+        }
+        return new String(page, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code page} with a {@code <base>} element pointing at {@code url}, so that relative links and
+     * resources still resolve against the original site when the page is loaded from the cache.
+     * The charset given in {@code contentType} is declared in the page as well, as it is lost once the page is saved.
+     */
+    static byte[] withBaseUrl(byte[] page, String url, String contentType) {
+        // ISO-8859-1 maps every byte to one char, so the page can be edited without knowing its real encoding
+        String html = new String(page, StandardCharsets.ISO_8859_1);
+        if (BASE_TAG.matcher(html).find()) {
+            return page;
+        }
+
+        StringBuilder header = new StringBuilder();
+        Matcher charset = CHARSET_PARAMETER.matcher(contentType);
+        if (charset.find()) {
+            header.append("<meta charset=\"").append(charset.group(1)).append("\">");
+        }
+        header.append("<base href=\"").append(url.replace("\"", "%22")).append("\">");
+
+        Matcher head = HEAD_TAG.matcher(html);
+        int insertAt = head.find() ? head.end() : 0;
+        return new StringBuilder(html).insert(insertAt, header).toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
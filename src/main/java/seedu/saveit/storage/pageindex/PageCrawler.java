@@ -0,0 +1,151 @@
+package seedu.saveit.storage.pageindex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.saveit.commons.core.ComponentManager;
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.storage.pagecache.PageCache;
+
+/**
+ * Keeps the {@code PageIndex} up to date with the solution links in SaveIt.
+ *
+ * Whenever SaveIt changes, pages of new solution links are fetched in the background through the
+ * {@code PageCache}, which limits how many pages are downloaded at a time, and their text is added to the index.
+ * Pages that are already indexed are not fetched again, and pages that are no longer linked are removed.
+ * The index is only saved if it changed. The events are handled on a background thread, as the index is updated
+ * and saved by the thread that crawls.
+ */
+public class PageCrawler extends ComponentManager {
+
+    private static final Logger logger = LogsCenter.getLogger(PageCrawler.class);
+
+    private final PageIndex pageIndex;
+    private final PageCache pageCache;
+    private final Path indexFile;
+    private final Set<String> pendingUrls = ConcurrentHashMap.newKeySet();
+    private final Set<String> failedUrls = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a PageCrawler that fetches pages through {@code pageCache}, adds them to {@code pageIndex} and saves
+     * {@code pageIndex} to {@code indexFile} after each crawl.
+     */
+    public PageCrawler(PageIndex pageIndex, PageCache pageCache, Path indexFile) {
+        super(EventsCenter.Dispatch.BACKGROUND);
+        requireNonNull(pageIndex);
+        requireNonNull(pageCache);
+        requireNonNull(indexFile);
+        this.pageIndex = pageIndex;
+        this.pageCache = pageCache;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Indexes the pages of the solution links in {@code saveIt} that have not been indexed yet, and removes the
+     * pages that are no longer linked.
+     * {@code saveIt} must not be modified while it is crawled, e.g. it should be a {@code SaveItSnapshot}.
+     *
+     * @return a future that completes once the new pages are indexed and the index is saved, if it changed.
+     */
+    public CompletableFuture<Void> crawl(ReadOnlySaveIt saveIt) {
+        requireNonNull(saveIt);
+        return crawl(getSolutionLinks(saveIt));
+    }
+
+    /**
+     * Indexes the pages at {@code urls} that have not been indexed yet, and removes all other pages from the index.
+     * Pages that could not be fetched before are not retried.
+     *
+     * @return a future that completes once the new pages are indexed and the index is saved, if it changed.
+     */
+    public CompletableFuture<Void> crawl(Set<String> urls) {
+        requireNonNull(urls);
+        long startTime = System.nanoTime();
+        boolean isAnyPageRemoved = pageIndex.retainAll(urls);
+        MetricsCenter.getInstance().recordLatencySince("pageindex.retain", startTime);
+
+        List<CompletableFuture<Boolean>> fetches = urls.stream()
+                .filter(url -> !pageIndex.contains(url) && !failedUrls.contains(url) && pendingUrls.add(url))
+                .map(url -> pageCache.fetch(url)
+                        .thenApply(page -> index(url, page))
+                        .whenComplete((unused, error) -> pendingUrls.remove(url)))
+                .collect(Collectors.toList());
+        logger.fine("Crawling " + fetches.size() + " new solution pages");
+
+        return CompletableFuture.allOf(fetches.toArray(new CompletableFuture[0]))
+                .handle((unused, error) -> {
+                    boolean isAnyPageAdded = fetches.stream()
+                            .anyMatch(fetch -> !fetch.isCompletedExceptionally() && fetch.join());
+                    if (isAnyPageRemoved || isAnyPageAdded) {
+                        saveIndex();
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Returns the links of all the solutions in {@code saveIt}.
+     */
+    static Set<String> getSolutionLinks(ReadOnlySaveIt saveIt) {
+        return saveIt.getIssueList().stream()
+                .flatMap(issue -> issue.getSolutions().stream())
+                .map(solution -> solution.getLink().getValue())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Adds the cached {@code page} of {@code url} to the index, and returns true if it was added.
+     */
+    private boolean index(String url, Optional<Path> page) {
+        if (!page.isPresent()) {
+            failedUrls.add(url);
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            String html = new String(Files.readAllBytes(page.get()), StandardCharsets.UTF_8);
+            pageIndex.add(url, PageTextExtractor.extractTerms(PageTextExtractor.extractText(html)));
+            MetricsCenter.getInstance().recordLatencySince("pageindex.add", startTime);
+            return true;
+        } catch (IOException ioe) {
+            // the page may have been evicted from the cache in the meantime, it will be fetched again next time
+            logger.fine("Could not read cached page of " + url + ": " + ioe);
+            return false;
+        }
+    }
+
+    private void saveIndex() {
+        long startTime = System.nanoTime();
+        try {
+            pageIndex.save(indexFile);
+        } catch (IOException ioe) {
+            logger.warning("Could not save page index: " + ioe);
+        } finally {
+            MetricsCenter.getInstance().recordLatencySince("pageindex.save", startTime);
+        }
+    }
+
+    @Subscribe
+    public void handleSaveItChangedEvent(SaveItChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Indexing new solution pages"));
+        crawl(event.data);
+    }
+}
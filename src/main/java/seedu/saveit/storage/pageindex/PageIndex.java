@@ -0,0 +1,201 @@
+package seedu.saveit.storage.pageindex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+
+/**
+ * A full-text index of the pages that solution links point to, so that issues can be found by the content of
+ * their solutions' pages without fetching the pages again.
+ *
+ * The index maps each term to the URLs of the pages that contain it. It is saved as a GZIP-compressed file that
+ * lists the sorted terms of each page, and is safe to use from multiple threads.
+ */
+public class PageIndex {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static PageIndex instance;
+
+    private final Map<String, List<String>> termsByUrl = new HashMap<>();
+    private final Map<String, Set<String>> urlsByTerm = new HashMap<>();
+
+    /**
+     * Returns the PageIndex shared by the app.
+     */
+    public static synchronized PageIndex getInstance() {
+        if (instance == null) {
+            instance = new PageIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Indexes {@code terms} as the content of the page at {@code url}, replacing its previous content.
+     */
+    public synchronized void add(String url, Collection<String> terms) {
+        requireNonNull(url);
+        requireNonNull(terms);
+        remove(url);
+
+        List<String> sortedTerms = terms.stream()
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        termsByUrl.put(url, sortedTerms);
+        for (String term : sortedTerms) {
+            urlsByTerm.computeIfAbsent(term, unused -> new HashSet<>()).add(url);
+        }
+    }
+
+    /**
+     * Removes the page at {@code url} from the index.
+     */
+    public synchronized void remove(String url) {
+        List<String> terms = termsByUrl.remove(url);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Set<String> urls = urlsByTerm.get(term);
+            urls.remove(url);
+            if (urls.isEmpty()) {
+                urlsByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Removes every page whose URL is not in {@code urls}.
+     * Returns true if any page was removed.
+     */
+    public synchronized boolean retainAll(Set<String> urls) {
+        requireNonNull(urls);
+        List<String> urlsToRemove = termsByUrl.keySet().stream()
+                .filter(url -> !urls.contains(url))
+                .collect(Collectors.toList());
+        urlsToRemove.forEach(this::remove);
+        return !urlsToRemove.isEmpty();
+    }
+
+    public synchronized boolean contains(String url) {
+        return termsByUrl.containsKey(url);
+    }
+
+    public synchronized int size() {
+        return termsByUrl.size();
+    }
+
+    /**
+     * Returns the URLs of the pages that contain a term which partially matches any of {@code keywords}.
+     * Matching is case insensitive, and a keyword matches every term that contains it.
+     */
+    public synchronized Set<String> findUrls(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> preppedKeywords = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+
+        Set<String> urls = new HashSet<>();
+        if (preppedKeywords.isEmpty()) {
+            return urls;
+        }
+        urlsByTerm.forEach((term, urlsWithTerm) -> {
+            if (preppedKeywords.stream().anyMatch(term::contains)) {
+                urls.addAll(urlsWithTerm);
+            }
+        });
+        return urls;
+    }
+
+    /**
+     * Saves the index to {@code file}, replacing it atomically.
+     */
+    public void save(Path file) throws IOException {
+        requireNonNull(file);
+        Map<String, List<String>> pages;
+        synchronized (this) {
+            pages = new HashMap<>(termsByUrl);
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(pages.size());
+            for (Map.Entry<String, List<String>> page : pages.entrySet()) {
+                out.writeUTF(page.getKey());
+                out.writeInt(page.getValue().size());
+                for (String term : page.getValue()) {
+                    out.writeUTF(term);
+                }
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replaces the content of the index with the pages saved in {@code file}.
+     * The index is left empty if {@code file} does not exist.
+     *
+     * @throws DataConversionException if {@code file} is not a saved index.
+     */
+    public void load(Path file) throws DataConversionException {
+        requireNonNull(file);
+        Map<String, List<String>> pages = new HashMap<>();
+        if (Files.exists(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(file))))) {
+                if (in.readInt() != FORMAT_VERSION) {
+                    throw new IOException("Unsupported page index version");
+                }
+                int pageCount = in.readInt();
+                for (int i = 0; i < pageCount; i++) {
+                    String url = in.readUTF();
+                    int termCount = in.readInt();
+                    List<String> terms = new ArrayList<>(termCount);
+                    for (int j = 0; j < termCount; j++) {
+                        terms.add(in.readUTF());
+                    }
+                    pages.put(url, terms);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        synchronized (this) {
+            termsByUrl.clear();
+            urlsByTerm.clear();
+            pages.forEach(this::add);
+        }
+    }
+}
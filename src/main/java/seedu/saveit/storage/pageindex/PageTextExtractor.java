@@ -0,0 +1,83 @@
+package seedu.saveit.storage.pageindex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the searchable text of an HTML page.
+ */
+public class PageTextExtractor {
+
+    /** Maximum number of distinct terms that are indexed for one page. */
+    public static final int MAX_TERMS_PER_PAGE = 20000;
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_TERM_LENGTH = 64;
+
+    private static final Pattern INVISIBLE_ELEMENT = Pattern.compile(
+            "<(script|style|noscript|template)\\b.*?</\\1\\s*>|<!--.*?-->", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}_]+");
+
+    /**
+     * Returns the visible text of {@code html}, with the markup removed and whitespace collapsed.
+     */
+    public static String extractText(String html) {
+        requireNonNull(html);
+        String text = INVISIBLE_ELEMENT.matcher(html).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll(" ");
+        text = decodeEntities(text);
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    /**
+     * Returns the distinct lower case words of {@code text} in the order they first appear.
+     * Words that are too short or too long to be useful search terms are left out.
+     */
+    public static Set<String> extractTerms(String text) {
+        requireNonNull(text);
+        Set<String> terms = new LinkedHashSet<>();
+        Matcher term = TERM.matcher(text);
+        while (term.find() && terms.size() < MAX_TERMS_PER_PAGE) {
+            int length = term.end() - term.start();
+            if (length >= MIN_TERM_LENGTH && length <= MAX_TERM_LENGTH) {
+                terms.add(term.group().toLowerCase(Locale.ROOT));
+            }
+        }
+        return terms;
+    }
+
+    private static String decodeEntities(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+
+        StringBuffer decoded = new StringBuffer();
+        Matcher entity = NUMERIC_ENTITY.matcher(text);
+        while (entity.find()) {
+            String codePoint;
+            try {
+                int value = Integer.parseInt(entity.group(2), entity.group(1).isEmpty() ? 10 : 16);
+                codePoint = new String(Character.toChars(value));
+            } catch (IllegalArgumentException iae) {
+                codePoint = " ";
+            }
+            entity.appendReplacement(decoded, Matcher.quoteReplacement(codePoint));
+        }
+        entity.appendTail(decoded);
+
+        return decoded.toString()
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.saveit.ui;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -17,9 +20,13 @@ import seedu.saveit.commons.events.ui.BrowserPanelFocusChangeEvent;
 import seedu.saveit.commons.events.ui.JumpToListRequestEvent;
 import seedu.saveit.commons.events.ui.SolutionPanelSelectionChangedEvent;
 import seedu.saveit.model.issue.Solution;
+import seedu.saveit.storage.pagecache.PageCache;
 
 /**
  * The Browser Panel of the App.
+ *
+ * As creating its {@code WebView} starts WebKit, which is one of the largest costs of starting the app,
+ * {@code MainWindow} only creates the panel when the first solution is selected.
  */
 public class BrowserPanel extends UiPart<Region> {
 
@@ -27,16 +34,22 @@ public class BrowserPanel extends UiPart<Region> {
     public static final String JAVADOC_PAGE =
             "https://docs.oracle.com/javase/7/docs/api/";
 
+    /** Number of solutions, other than the primary solution, that are prefetched when an issue is selected. */
+    public static final int PREFETCH_COUNT = 3;
+
     private static final String FXML = "BrowserPanel.fxml";
+    private static final String CACHED_PAGE_CONTENT_TYPE = "text/html";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final PageCache pageCache;
     private boolean isNewPageLoaded;
 
     @FXML
     private WebView browser;
 
-    public BrowserPanel() {
+    public BrowserPanel(PageCache pageCache) {
         super(FXML);
+        this.pageCache = pageCache;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -54,12 +67,64 @@ public class BrowserPanel extends UiPart<Region> {
     }
 
 
+    /**
+     * Loads the page of {@code solution}, from the page cache if it has been cached before.
+     * The cached copy is then refreshed in the background for the next visit.
+     */
     private void loadSolutionPage(Solution solution) {
-        loadPage(solution.getLink().getValue());
+        String url = solution.getLink().getValue();
+        Optional<String> cachedPage = pageCache.readCachedPage(url);
+        if (cachedPage.isPresent()) {
+            logger.fine("Loading " + url + " from the page cache");
+            loadCachedPage(cachedPage.get());
+        } else {
+            loadPage(url);
+        }
+        pageCache.fetch(url);
+    }
+
+    /**
+     * Shows the page of {@code solution}, which gives the focus to the browser when it is next focused.
+     */
+    void showSolution(Solution solution) {
+        loadSolutionPage(solution);
+        isNewPageLoaded = true;
+    }
+
+    /**
+     * Downloads the pages of the primary solution and of the first {@code PREFETCH_COUNT} other solutions in
+     * {@code solutions} into {@code pageCache} in the background, so that they can be shown immediately when
+     * selected. The browser panel need not have been created yet.
+     */
+    public static void prefetchSolutionPages(PageCache pageCache, List<Solution> solutions) {
+        List<String> urls = new ArrayList<>();
+        solutions.stream()
+                .filter(Solution::isPrimarySolution)
+                .forEach(solution -> urls.add(solution.getLink().getValue()));
+        solutions.stream()
+                .filter(solution -> !solution.isPrimarySolution())
+                .limit(PREFETCH_COUNT)
+                .forEach(solution -> urls.add(solution.getLink().getValue()));
+        pageCache.prefetch(urls);
     }
 
     public void loadPage(String url) {
-        Platform.runLater(() -> browser.getEngine().load(url));
+        Platform.runLater(() -> {
+            browser.getEngine().setJavaScriptEnabled(true);
+            browser.getEngine().load(url);
+        });
+    }
+
+    /**
+     * Shows {@code html}, the cached copy of a page, without running its scripts.
+     * The copy is shown as content rather than from its file, so that it is not given the file's origin, from
+     * which its scripts could read the other local files.
+     */
+    private void loadCachedPage(String html) {
+        Platform.runLater(() -> {
+            browser.getEngine().setJavaScriptEnabled(false);
+            browser.getEngine().loadContent(html, CACHED_PAGE_CONTENT_TYPE);
+        });
     }
 
     /**
@@ -79,20 +144,19 @@ public class BrowserPanel extends UiPart<Region> {
 
     @Subscribe
     private void handleSolutionPanelSelectionChangedEvent(SolutionPanelSelectionChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadSolutionPage(event.getNewSelection());
-        isNewPageLoaded = true;
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        showSolution(event.getNewSelection());
     }
 
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         loadDefaultPage();
     }
 
     @Subscribe
     private void handleChangeDirectoryRequestEvent(DirectoryChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         if (event.directory.isRootLevel()) {
             loadDefaultPage();
         }
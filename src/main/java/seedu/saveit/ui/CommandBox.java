@@ -1,13 +1,16 @@
 package seedu.saveit.ui;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import org.fxmisc.richtext.InlineCssTextArea;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -15,18 +18,22 @@ import javafx.geometry.Side;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.CustomMenuItem;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.storage.DataLoadingStateChangedEvent;
 import seedu.saveit.commons.events.ui.BrowserPanelFocusChangeEvent;
 import seedu.saveit.commons.events.ui.NewResultAvailableEvent;
 import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.ListElementPointer;
 import seedu.saveit.logic.Logic;
+import seedu.saveit.logic.SuggestionEngine;
 import seedu.saveit.logic.SuggestionLogic;
 import seedu.saveit.logic.commands.CommandResult;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.logic.suggestion.Suggestion;
 import seedu.saveit.logic.suggestion.SuggestionResult;
 import seedu.saveit.logic.suggestion.SuggestionValue;
 
@@ -37,15 +44,22 @@ import seedu.saveit.logic.suggestion.SuggestionValue;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "-fx-fill: #ff6060";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final int DEFAULT_CARET_OFFSET = 8;
-    private static final int MAX_NUMBER_SUGGESTIONS = 5;
+    private static final String MESSAGE_HISTORY_SEARCH = "(reverse-i-search)`%1$s': %2$s";
+    private static final String MESSAGE_HISTORY_SEARCH_FAILED = "(failed reverse-i-search)`%1$s': %2$s";
 
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private final SuggestionLogic suggestionLogic;
+    private final SuggestionEngine suggestionEngine;
     private ListElementPointer historySnapshot;
+    private int pendingCommandCount;
+    /** The substring searched for in the history, or null if the history is not being searched */
+    private String historySearchQuery;
+    private String inputBeforeHistorySearch;
 
     @FXML
     private InlineCssTextArea commandTextArea;
@@ -56,16 +70,19 @@ public class CommandBox extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
         this.suggestionLogic = suggestionLogic;
+        this.suggestionEngine = new SuggestionEngine(suggestionLogic, Platform::runLater);
         this.popUpWindow = new ContextMenu();
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextArea.textProperty().addListener((observable, oldValue, newValue) -> setStyleToDefault());
         commandTextArea.textProperty().addListener((observable, oldValue, newValue) -> {
             highlight(observable, oldValue, newValue);
-            suggestionLogic.updateCaretPosition(commandTextArea.getCaretPosition());
             handleSuggestion(newValue);
         });
 
-        historySnapshot = logic.getHistorySnapshot();
+        // typed characters are added to the search query instead of the input while searching the history
+        commandTextArea.addEventFilter(KeyEvent.KEY_TYPED, this::handleKeyTypedWhileSearchingHistory);
+
+        initHistory();
         registerAsAnEventHandler(this);
     }
 
@@ -82,13 +99,13 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Generates a {@code Suggestion} based on the {@code userInput}
-     * and handles the {@code SuggestionResult}
+     * Generates a {@code Suggestion} based on the {@code userInput} in the background
+     * and handles the {@code SuggestionResult} once the user pauses typing.
+     * Results of inputs that have been superseded by newer input are never displayed.
      * @param userInput
      */
     private void handleSuggestion(String userInput) {
-        SuggestionResult suggestionResult = suggestionLogic.evaluate(userInput);
-        displaySuggestion(suggestionResult);
+        suggestionEngine.submit(userInput, commandTextArea.getCaretPosition(), this::displaySuggestion);
     }
 
     /**
@@ -102,9 +119,9 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        int count = Math.min(suggestionResult.getSuggestionValue().size(), MAX_NUMBER_SUGGESTIONS);
+        int count = Math.min(suggestionResult.getSuggestionValue().size(), Suggestion.MAX_NUMBER_SUGGESTIONS);
         // Builds the dropdown
-        List<CustomMenuItem> menuItems = new LinkedList<>();
+        List<CustomMenuItem> menuItems = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             final SuggestionValue value = suggestionResult.getSuggestionValue().get(i);
             Label entryLabel = new Label(value.getLabel());
@@ -131,6 +148,15 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleKeyPress(KeyEvent keyEvent) {
+        if (keyEvent.isShortcutDown() && keyEvent.getCode() == KeyCode.R) {
+            keyEvent.consume();
+            searchHistory();
+            return;
+        }
+        if (isSearchingHistory() && handleKeyPressWhileSearchingHistory(keyEvent)) {
+            return;
+        }
+
         switch (keyEvent.getCode()) {
         case UP:
             // As up and down buttons will alter the position of the caret,
@@ -142,10 +168,6 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
-        case LEFT:
-        case RIGHT:
-            suggestionLogic.updateCaretPosition(commandTextArea.getCaretPosition());
-            break;
         case ENTER:
             keyEvent.consume();
             handleCommandEntered();
@@ -156,6 +178,108 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the key press event, {@code keyEvent}, while the history is being searched.
+     * Returns true if the key press has been handled, or false if it should be handled as usual, after the search
+     * is ended.
+     */
+    private boolean handleKeyPressWhileSearchingHistory(KeyEvent keyEvent) {
+        switch (keyEvent.getCode()) {
+        case BACK_SPACE:
+            keyEvent.consume();
+            if (!historySearchQuery.isEmpty()) {
+                // the current match also contains the shorter query
+                historySearchQuery = historySearchQuery.substring(0, historySearchQuery.length() - 1);
+                showHistorySearchResult(historySnapshot.hasCurrent() ? historySnapshot.current() : "", true);
+            }
+            return true;
+        case ESCAPE:
+            keyEvent.consume();
+            endHistorySearch();
+            setCommandInput(inputBeforeHistorySearch);
+            initHistory();
+            return true;
+        case UP:
+        case DOWN:
+        case LEFT:
+        case RIGHT:
+        case HOME:
+        case END:
+        case TAB:
+        case ENTER:
+            // keeps the match in the command box
+            endHistorySearch();
+            return false;
+        default:
+            // typed characters are handled by #handleKeyTypedWhileSearchingHistory(KeyEvent)
+            return true;
+        }
+    }
+
+    /**
+     * Adds the character typed in {@code keyEvent} to the history search query, if the history is being searched.
+     */
+    private void handleKeyTypedWhileSearchingHistory(KeyEvent keyEvent) {
+        String character = keyEvent.getCharacter();
+        if (!isSearchingHistory() || keyEvent.isShortcutDown() || character.isEmpty()
+                || Character.isISOControl(character.charAt(0))) {
+            return;
+        }
+        keyEvent.consume();
+        historySearchQuery += character;
+
+        // the current match is kept as long as it contains the longer query
+        if (historySnapshot.hasCurrent()
+                && historySnapshot.current().toLowerCase().contains(historySearchQuery.toLowerCase())) {
+            showHistorySearchResult(historySnapshot.current(), true);
+            return;
+        }
+        searchPreviousInHistory();
+    }
+
+    /**
+     * Starts searching the history backwards as the search query is typed, or shows the previous match of the
+     * current query if the history is already being searched.
+     */
+    private void searchHistory() {
+        if (!isSearchingHistory()) {
+            historySearchQuery = "";
+            inputBeforeHistorySearch = commandTextArea.getText();
+            popUpWindow.hide();
+            showHistorySearchResult("", true);
+            return;
+        }
+        searchPreviousInHistory();
+    }
+
+    /**
+     * Shows the closest input before the current match that contains the search query.
+     */
+    private void searchPreviousInHistory() {
+        assert historySnapshot != null;
+        try {
+            String match = historySnapshot.previousContaining(historySearchQuery);
+            setCommandInput(match);
+            showHistorySearchResult(match, true);
+        } catch (NoSuchElementException e) {
+            showHistorySearchResult(commandTextArea.getText(), false);
+        }
+    }
+
+    private void showHistorySearchResult(String match, boolean isFound) {
+        String format = isFound ? MESSAGE_HISTORY_SEARCH : MESSAGE_HISTORY_SEARCH_FAILED;
+        raise(new NewResultAvailableEvent(String.format(format, historySearchQuery, match)));
+    }
+
+    private boolean isSearchingHistory() {
+        return historySearchQuery != null;
+    }
+
+    private void endHistorySearch() {
+        historySearchQuery = null;
+        inputBeforeHistorySearch = null;
+    }
+
     /**
      * Updates the text field with the previous input in {@code historySnapshot},
      * if there exists a previous input in {@code historySnapshot}
@@ -183,26 +307,51 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is executed asynchronously; its result is processed on the JavaFX application thread.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextArea.getText().trim().replaceAll("\\r|\\n", ""));
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
+        String commandText = commandTextArea.getText().trim().replaceAll("\\r|\\n", "");
+        // suggestions for the entered command are no longer useful
+        suggestionEngine.cancel();
+        setStyleToIndicateCommandPending();
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                handleCommandSuccess(commandText, commandResult);
+            } else {
+                handleCommandFailure(error instanceof CompletionException ? error.getCause() : error);
+            }
+            setStyleToIndicateCommandCompleted();
+        }));
+    }
+
+    /**
+     * Processes the result of a successfully executed {@code commandText}.
+     */
+    private void handleCommandSuccess(String commandText, CommandResult commandResult) {
+        initHistory();
+        historySnapshot.next();
+        // the user may have started typing the next command while this one was executing
+        if (commandTextArea.getText().trim().replaceAll("\\r|\\n", "").equals(commandText)) {
             setCommandInput("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+        }
+        logger.info(() -> "Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setCommandInput(commandTextArea.getText());
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextArea.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+    /**
+     * Processes a failed command execution.
+     */
+    private void handleCommandFailure(Throwable error) {
+        if (!(error instanceof CommandException || error instanceof ParseException)) {
+            logger.warning("Unexpected error while executing command: " + StringUtil.getDetails(error));
         }
+        initHistory();
+        // handle command failure
+        setCommandInput(commandTextArea.getText());
+        setStyleToIndicateCommandFailure();
+        logger.info("Invalid command: " + commandTextArea.getText());
+        raise(new NewResultAvailableEvent(error.getMessage()));
     }
 
     private void setCommandInput(String string) {
@@ -239,6 +388,27 @@ public class CommandBox extends UiPart<Region> {
         commandTextArea.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Marks the command box as waiting for a command to complete.
+     */
+    private void setStyleToIndicateCommandPending() {
+        pendingCommandCount++;
+        ObservableList<String> styleClass = commandTextArea.getStyleClass();
+        if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Removes the pending mark once every entered command has completed.
+     */
+    private void setStyleToIndicateCommandCompleted() {
+        pendingCommandCount--;
+        if (pendingCommandCount == 0) {
+            commandTextArea.getStyleClass().remove(BUSY_STYLE_CLASS);
+        }
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
@@ -251,20 +421,30 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    @Subscribe
+    private void handleDataLoadingStateChangedEvent(DataLoadingStateChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // commands could conflict with the issues that are still being loaded
+        commandTextArea.setDisable(event.isLoading);
+        if (!event.isLoading) {
+            commandTextArea.requestFocus();
+        }
+    }
+
     @Subscribe
     private void handleBrowserPanelFocusChangeEvent(BrowserPanelFocusChangeEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         commandTextArea.requestFocus();
     }
 
     // ======================= Suggestion display util ==========================================================
 
     /**
-     * Checks if the input value is the same as the suggested keyword.
+     * Checks if the input value is the same as any of the suggested keywords.
      */
     private boolean checkInputValue(SuggestionResult suggestionResult) {
         String oldValue = suggestionResult.getOldValue();
-        return oldValue.equals(suggestionResult.getSuggestionValue().get(0).getResult());
+        return suggestionResult.getSuggestionValue().stream().anyMatch(value -> oldValue.equals(value.getResult()));
     }
 
     /**
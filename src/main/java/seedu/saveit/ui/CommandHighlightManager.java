@@ -1,9 +1,16 @@
 package seedu.saveit.ui;
 
 import static seedu.saveit.model.util.SampleDataUtil.isCommandWordNeedIndex;
-import static seedu.saveit.model.util.SampleDataUtil.isPrefixParameter;
+
+import java.util.Iterator;
 
 import org.fxmisc.richtext.InlineCssTextArea;
+import org.fxmisc.richtext.model.StyleSpan;
+import org.fxmisc.richtext.model.StyleSpans;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+
+import seedu.saveit.logic.parser.ArgumentTokenizer;
+import seedu.saveit.logic.parser.PrefixTokens;
 
 /**
  * Manager of command highlighter
@@ -14,73 +21,135 @@ public class CommandHighlightManager {
     public static final String STYLE_PARAMETER_KEY = "-fx-fill: #ffff00;";
     public static final String STYLE_INDEX = "-fx-fill: #55ae47;";
     public static final String STYLE_NORMAL_VALUE = "-fx-fill: #42c3f4;";
+    public static final String STYLE_DEFAULT = "";
 
 
     /**
      * highlight user input in different colors.
+     * The styles of the whole input are computed first, and only the part that differs from the current styles
+     * of {@code commandTextField} is restyled, in a single call.
      */
     public static void highlight(InlineCssTextArea commandTextField) {
         String userInput = commandTextField.getText();
-        StringBuilder commandWord = new StringBuilder();
+        if (userInput.isEmpty()) {
+            return;
+        }
+
+        StyleSpans<String> updatedStyles = computeHighlighting(userInput);
+        StyleSpans<String> currentStyles = commandTextField.getStyleSpans(0, userInput.length());
+        int firstChange = findFirstDifference(currentStyles, updatedStyles);
+        if (firstChange < updatedStyles.length()) {
+            commandTextField.setStyleSpans(firstChange, updatedStyles.subView(firstChange, updatedStyles.length()));
+        }
+    }
+
+    /**
+     * Returns the styles of {@code userInput} as runs of characters with the same style.
+     * The parameters are found with the tokenizer used by the parser, so the input is only scanned once.
+     * {@code userInput} must not be empty.
+     */
+    public static StyleSpans<String> computeHighlighting(String userInput) {
+        SpansBuilder spansBuilder = new SpansBuilder();
         int position = 0;
 
         // if there are space chars before command word, pos++
         while (isShorterThanInput(userInput, position) && isSpace(userInput, position)) {
             position++;
         }
+        spansBuilder.add(STYLE_DEFAULT, position);
 
         // highlight command word
+        int commandWordStart = position;
         while (isShorterThanInput(userInput, position) && !isSpace(userInput, position)) {
-            commandWord.append(userInput.charAt(position));
-            commandTextField.setStyle(position, position + 1, STYLE_COMMAND_WORD);
             position++;
         }
+        spansBuilder.add(STYLE_COMMAND_WORD, position - commandWordStart);
+        String commandWord = userInput.substring(commandWordStart, position);
 
-        highlightCommandKeyValue(commandTextField, userInput, commandWord, position);
+        highlightCommandKeyValue(spansBuilder, userInput, commandWord, position);
+        return spansBuilder.create();
+    }
+
+    /**
+     * Returns the position of the first character whose style in {@code updated} differs from {@code current},
+     * or the length of the shorter of the two if they do not differ.
+     */
+    static int findFirstDifference(StyleSpans<String> current, StyleSpans<String> updated) {
+        Iterator<StyleSpan<String>> currentSpans = current.iterator();
+        Iterator<StyleSpan<String>> updatedSpans = updated.iterator();
+        StyleSpan<String> currentSpan = null;
+        StyleSpan<String> updatedSpan = null;
+        int currentEnd = 0;
+        int updatedEnd = 0;
+        int position = 0;
 
+        while (true) {
+            while (position == currentEnd) {
+                if (!currentSpans.hasNext()) {
+                    return position;
+                }
+                currentSpan = currentSpans.next();
+                currentEnd += currentSpan.getLength();
+            }
+            while (position == updatedEnd) {
+                if (!updatedSpans.hasNext()) {
+                    return position;
+                }
+                updatedSpan = updatedSpans.next();
+                updatedEnd += updatedSpan.getLength();
+            }
+            if (!currentSpan.getStyle().equals(updatedSpan.getStyle())) {
+                return position;
+            }
+            position = Math.min(currentEnd, updatedEnd);
+        }
     }
 
     /**
-     * This is to highlight the command index, parameters and values
+     * This is to highlight the command index, parameters and values.
+     * The digits before the first parameter form the index, and every other character is a value.
      */
-    private static void highlightCommandKeyValue(InlineCssTextArea commandTextField, String userInput,
-        StringBuilder commandWord, int position) {
+    private static void highlightCommandKeyValue(SpansBuilder spansBuilder, String userInput, String commandWord,
+        int argumentsStart) {
 
-        boolean indexHighlighted = false;
-        boolean indexNeedToHighlight;
         // some command words do not require the index, to avoid confusing, the index will not be highlighted
-        indexNeedToHighlight = checkCommandWord(commandWord);
+        boolean indexNeedToHighlight = checkCommandWord(commandWord);
 
         // highlight the following parameters, which are key-value pairs
-        while (isShorterThanInput(userInput, position)) {
-            // highlight index
-            while (indexNeedToHighlight && !indexHighlighted && isIndex(userInput, position) && !isSpace(userInput,
-                position)) {
-                commandTextField.setStyle(position, position + 1, STYLE_INDEX);
-                position++;
-            }
-
-            // highlight parameters
-            if (isShorterThanInput(userInput, position) && isParameter(userInput, position)) {
-                commandTextField.setStyle(position - 1, position + 1, STYLE_PARAMETER_KEY);
-                position++;
-                indexHighlighted = true;
-            }
+        PrefixTokens parameters = ArgumentTokenizer.scan(userInput.substring(argumentsStart));
+        int position = argumentsStart;
+        for (int i = 0; i < parameters.size(); i++) {
+            int parameterStart = argumentsStart + parameters.getPosition(i);
+            highlightValue(spansBuilder, userInput, position, parameterStart, indexNeedToHighlight && i == 0);
+            int parameterLength = parameters.getPrefix(i).getPrefix().length();
+            spansBuilder.add(STYLE_PARAMETER_KEY, parameterLength);
+            position = parameterStart + parameterLength;
+        }
+        highlightValue(spansBuilder, userInput, position, userInput.length(),
+                indexNeedToHighlight && parameters.size() == 0);
+    }
 
-            if (!isShorterThanInput(userInput, position)) {
-                break;
-            }
+    /**
+     * Highlights the characters from {@code start} to {@code end} as a value, or as an index for the digits
+     * among them if {@code indexNeedToHighlight}.
+     */
+    private static void highlightValue(SpansBuilder spansBuilder, String userInput, int start, int end,
+        boolean indexNeedToHighlight) {
 
-            commandTextField.setStyle(position, position + 1, STYLE_NORMAL_VALUE);
-            position++;
+        if (!indexNeedToHighlight) {
+            spansBuilder.add(STYLE_NORMAL_VALUE, end - start);
+            return;
+        }
+        for (int position = start; position < end; position++) {
+            spansBuilder.add(isIndex(userInput, position) ? STYLE_INDEX : STYLE_NORMAL_VALUE, 1);
         }
     }
 
     /**
      * check if the commandWord requires index, return true if yes, otherwise false
      */
-    private static boolean checkCommandWord(StringBuilder userInput) {
-        return isCommandWordNeedIndex(userInput.toString());
+    private static boolean checkCommandWord(String commandWord) {
+        return isCommandWordNeedIndex(commandWord);
     }
 
     /**
@@ -105,19 +174,33 @@ public class CommandHighlightManager {
     }
 
     /**
-     * check if the character is parameter
-     * @return true if parameter, otherwise false
+     * Builds {@code StyleSpans}, merging consecutive spans of the same style.
      */
-    private static boolean isParameter(String userInput, int position) {
-        if (userInput.charAt(position) == '/' && userInput.charAt(position - 2) == ' ') {
-            StringBuilder input = new StringBuilder();
-            input.append(userInput.charAt(position - 1));
-            input.append(userInput.charAt(position));
-            String inputCheck = input.toString();
-            if (isPrefixParameter(inputCheck)) {
-                return true;
+    private static class SpansBuilder {
+        private final StyleSpansBuilder<String> builder = new StyleSpansBuilder<>();
+        private String style;
+        private int length;
+
+        void add(String spanStyle, int spanLength) {
+            if (spanLength == 0) {
+                return;
+            }
+            if (spanStyle.equals(style)) {
+                length += spanLength;
+                return;
+            }
+            if (length > 0) {
+                builder.add(style, length);
+            }
+            style = spanStyle;
+            length = spanLength;
+        }
+
+        StyleSpans<String> create() {
+            if (length > 0) {
+                builder.add(style, length);
             }
+            return builder.create();
         }
-        return false;
     }
 }
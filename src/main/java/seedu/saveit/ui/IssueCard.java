@@ -1,14 +1,21 @@
 package seedu.saveit.ui;
 
+import java.util.List;
+import java.util.Objects;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Tag;
 
 /**
  * An UI component that displays information of a {@code Issue}.
+ * A card can be rebound to a different {@code Issue}, so that list cells can reuse their card instead of
+ * loading a new one from FXML.
  */
 public class IssueCard extends UiPart<Region> {
 
@@ -22,7 +29,8 @@ public class IssueCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/saveit-level4/issues/336">The issue on SaveIt level 4</a>
      */
 
-    public final Issue issue;
+    private Issue issue;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -35,15 +43,49 @@ public class IssueCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public IssueCard(Issue issue, int displayedIndex) {
+    /**
+     * Creates an empty card. Use {@link #setIssue(Issue, int)} to display an issue in it.
+     */
+    public IssueCard() {
         super(FXML);
+        description.setWrapText(true);
+    }
+
+    public IssueCard(Issue issue, int displayedIndex) {
+        this();
+        setIssue(issue, displayedIndex);
+    }
+
+    /**
+     * Displays {@code issue} as the issue at {@code displayedIndex}, in place of the issue displayed previously.
+     * The existing tag labels are reused.
+     */
+    public void setIssue(Issue issue, int displayedIndex) {
+        if (issue == this.issue && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.issue = issue;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         statement.setText(issue.getStatement().getValue());
         description.setText(issue.getDescription().getValue());
-        description.setWrapText(true);
-        int index = 1;
-        issue.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        List<Node> tagLabels = tags.getChildren();
+        int tagCount = 0;
+        for (Tag tag : issue.getTags()) {
+            if (tagCount < tagLabels.size()) {
+                ((Label) tagLabels.get(tagCount)).setText(tag.tagName);
+            } else {
+                tagLabels.add(new Label(tag.tagName));
+            }
+            tagCount++;
+        }
+        tagLabels.remove(tagCount, tagLabels.size());
+    }
+
+    public Issue getIssue() {
+        return issue;
     }
 
 
@@ -62,6 +104,6 @@ public class IssueCard extends UiPart<Region> {
         // state check
         IssueCard card = (IssueCard) other;
         return id.getText().equals(card.id.getText())
-                && issue.equals(card.issue);
+                && Objects.equals(issue, card.issue);
     }
 }
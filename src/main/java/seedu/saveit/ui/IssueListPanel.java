@@ -59,8 +59,11 @@ public class IssueListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Issue} using a {@code IssueCard}.
+     * Each cell loads its card once, and rebinds it whenever the cell is reused for another issue.
      */
     class IssueListViewCell extends ListCell<Issue> {
+        private IssueCard issueCard;
+
         @Override
         protected void updateItem(Issue issue, boolean empty) {
             super.updateItem(issue, empty);
@@ -69,7 +72,11 @@ public class IssueListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new IssueCard(issue, getIndex() + 1).getRoot());
+                if (issueCard == null) {
+                    issueCard = new IssueCard();
+                }
+                issueCard.setIssue(issue, getIndex() + 1);
+                setGraphic(issueCard.getRoot());
             }
         }
     }
@@ -1,5 +1,6 @@
 package seedu.saveit.ui;
 
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,15 +16,18 @@ import javafx.stage.Stage;
 import seedu.saveit.commons.core.Config;
 import seedu.saveit.commons.core.GuiSettings;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.core.MetricsCenter;
 import seedu.saveit.commons.events.model.AddTagEvent;
 import seedu.saveit.commons.events.model.DirectoryChangedEvent;
-import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
 import seedu.saveit.commons.events.ui.ExitAppRequestEvent;
 import seedu.saveit.commons.events.ui.JumpToListRequestEvent;
 import seedu.saveit.commons.events.ui.ShowHelpRequestEvent;
+import seedu.saveit.commons.events.ui.SolutionPanelSelectionChangedEvent;
 import seedu.saveit.logic.Logic;
 import seedu.saveit.logic.SuggestionLogic;
 import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.pagecache.PageCache;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -32,6 +36,8 @@ import seedu.saveit.model.UserPrefs;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String BROWSER_PANEL_METRIC = "ui.browserPanel.create";
+    private static final String HELP_WINDOW_METRIC = "ui.helpWindow.create";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -40,11 +46,14 @@ public class MainWindow extends UiPart<Stage> {
     private SuggestionLogic suggestionLogic;
 
     // Independent Ui parts residing in this Ui container
+    /** Created on the first selection of a solution, a placeholder being shown until then */
     private BrowserPanel browserPanel;
     private IssueListPanel issueListPanel;
     private SolutionListPanel solutionListPanel;
     private Config config;
     private UserPrefs prefs;
+    private PageCache pageCache;
+    /** Created when the help is first requested */
     private HelpWindow helpWindow;
 
     @FXML
@@ -69,7 +78,7 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     public MainWindow(Stage primaryStage, Config config, UserPrefs prefs, Logic logic,
-            SuggestionLogic suggestionLogic) {
+            SuggestionLogic suggestionLogic, PageCache pageCache) {
         super(FXML, primaryStage);
 
         // Set dependencies
@@ -78,6 +87,7 @@ public class MainWindow extends UiPart<Stage> {
         this.suggestionLogic = suggestionLogic;
         this.config = config;
         this.prefs = prefs;
+        this.pageCache = pageCache;
 
         // Configure the UI
         setTitle(config.getAppTitle());
@@ -85,8 +95,6 @@ public class MainWindow extends UiPart<Stage> {
 
         setAccelerators();
         registerAsAnEventHandler(this);
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -131,9 +139,6 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        browserPanel = new BrowserPanel();
-        browserPlaceholder.getChildren().add(browserPanel.getRoot());
-
         issueListPanel = new IssueListPanel(logic.getFilteredAndSortedIssueList());
         issueListPanelPlaceholder.getChildren().add(issueListPanel.getRoot());
 
@@ -183,6 +188,12 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            long startTime = System.nanoTime();
+            helpWindow = new HelpWindow();
+            logCreation(HELP_WINDOW_METRIC, startTime);
+        }
+
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -208,41 +219,76 @@ public class MainWindow extends UiPart<Stage> {
         return issueListPanel;
     }
 
+    /**
+     * Creates the browser panel in place of its placeholder.
+     */
+    private void createBrowserPanel() {
+        long startTime = System.nanoTime();
+        browserPanel = new BrowserPanel(pageCache);
+        browserPlaceholder.getChildren().setAll(browserPanel.getRoot());
+        logCreation(BROWSER_PANEL_METRIC, startTime);
+    }
+
+    /**
+     * Records the time taken to create a lazily created Ui part under the metric {@code name}.
+     */
+    private void logCreation(String name, long startTime) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        MetricsCenter.getInstance().recordLatencySince(name, startTime);
+        logger.info(() -> "Created " + name + " in " + elapsedMillis + "ms");
+    }
+
     void releaseResources() {
-        browserPanel.freeResources();
+        if (browserPanel != null) {
+            browserPanel.freeResources();
+        }
     }
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         handleHelp();
     }
 
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         issueListPanelPlaceholder.getChildren().clear();
         issueListPanelPlaceholder.getChildren().add(solutionListPanel.getRoot());
+        BrowserPanel.prefetchSolutionPages(pageCache, logic.getFilteredSolutionList());
     }
 
     @Subscribe
-    private void handleSaveItChangedEvent(SaveItChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        solutionListPanel.setSolutionList(logic.getFilteredSolutionList());
+    private void handleSolutionPanelSelectionChangedEvent(SolutionPanelSelectionChangedEvent event) {
+        if (browserPanel == null) {
+            logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "creating the browser panel"));
+            createBrowserPanel();
+            // the panel is registered too late to be dispatched the event that created it
+            browserPanel.showSolution(event.getNewSelection());
+        }
     }
 
     @Subscribe
     private void handleDirectoryChangedEvent(DirectoryChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         if (event.directory.isRootLevel()) {
             issueListPanelPlaceholder.getChildren().clear();
             issueListPanelPlaceholder.getChildren().add(issueListPanel.getRoot());
         }
     }
 
+    @Subscribe
+    private void handleNotebookSwitchedEvent(NotebookSwitchedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // the issues of the notebook switched to are shown from the top, with none selected
+        issueListPanelPlaceholder.getChildren().clear();
+        issueListPanel = new IssueListPanel(logic.getFilteredAndSortedIssueList());
+        issueListPanelPlaceholder.getChildren().add(issueListPanel.getRoot());
+    }
+
     @Subscribe
     private void handleAddTagEvent(AddTagEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         issueListPanelPlaceholder.getChildren().clear();
         issueListPanel = new IssueListPanel(logic.getFilteredAndSortedIssueList());
         issueListPanelPlaceholder.getChildren().add(issueListPanel.getRoot());
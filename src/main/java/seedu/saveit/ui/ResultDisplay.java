@@ -54,20 +54,20 @@ public class ResultDisplay extends UiPart<Region> {
 
     @Subscribe
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         Platform.runLater(() -> displayed.setValue(event.message));
     }
 
 
     @Subscribe
     private void handleDirectoryChangedEvent(DirectoryChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         Platform.runLater(() -> currentDirectory.setValue(event.directory.toString()));
     }
 
     @Subscribe
     private void handleChangeSortTypeRequestEvent(SortTypeChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         String sortType = event.sortType == null ? "Default" : event.sortType.toString();
         Platform.runLater(() -> currentSortType.setValue(SORTED_BY + sortType));
     }
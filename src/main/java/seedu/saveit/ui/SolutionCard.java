@@ -1,5 +1,7 @@
 package seedu.saveit.ui;
 
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -9,6 +11,8 @@ import seedu.saveit.model.issue.Solution;
 
 /**
  * An UI component that displays information of a {@code Solution}.
+ * A card can be rebound to a different {@code Solution}, so that list cells can reuse their card instead of
+ * loading a new one from FXML.
  */
 public class SolutionCard extends UiPart<Region> {
 
@@ -23,7 +27,8 @@ public class SolutionCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/saveit-level4/issues/336">The issue on SaveIt level 4</a>
      */
 
-    public final Solution solution;
+    private Solution solution;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -36,24 +41,48 @@ public class SolutionCard extends UiPart<Region> {
     @FXML
     private Label remark;
 
-    public SolutionCard(Solution solution, int displayedIndex) {
+    /**
+     * Creates an empty card. Use {@link #setSolution(Solution, int)} to display a solution in it.
+     */
+    public SolutionCard() {
         super(FXML);
-        this.solution = solution;
-        id.setText(String.valueOf(displayedIndex) + ". Solution");
-        link.setText(solution.getLink().getValue());
         link.setWrapText(true);
-        remark.setText(solution.getRemark().toString());
         remark.setWrapText(true);
         solutionPane = (VBox) link.getParent();
+    }
+
+    public SolutionCard(Solution solution, int displayedIndex) {
+        this();
+        setSolution(solution, displayedIndex);
+    }
 
+    /**
+     * Displays {@code solution} as the solution at {@code displayedIndex},
+     * in place of the solution displayed previously.
+     */
+    public void setSolution(Solution solution, int displayedIndex) {
+        if (solution == this.solution && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
+        this.solution = solution;
+        this.displayedIndex = displayedIndex;
+        link.setText(solution.getLink().getValue());
+        remark.setText(solution.getRemark().toString());
+
+        solutionPane.getStyleClass().remove(STYLE_PRIMARY_SOLUTION);
         if (solution.isPrimarySolution()) {
             id.setText(String.valueOf(displayedIndex) + ". Primary Solution");
             solutionPane.getStyleClass().add(STYLE_PRIMARY_SOLUTION);
         } else {
-            solutionPane.getStyleClass().remove(STYLE_PRIMARY_SOLUTION);
+            id.setText(String.valueOf(displayedIndex) + ". Solution");
         }
     }
 
+    public Solution getSolution() {
+        return solution;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -70,6 +99,6 @@ public class SolutionCard extends UiPart<Region> {
         // state check
         SolutionCard card = (SolutionCard) other;
         return id.getText().equals(card.id.getText())
-                && solution.equals(card.solution);
+                && Objects.equals(solution, card.solution);
     }
 }
@@ -64,14 +64,17 @@ public class SolutionListPanel extends UiPart<Region> {
 
     @Subscribe
     private void handleJumpToSolutionListRequestEvent(JumpToSolutionListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Issue} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Solution} using a {@code SolutionCard}.
+     * Each cell loads its card once, and rebinds it whenever the cell is reused for another solution.
      */
     class SolutionListViewCell extends ListCell<Solution> {
+        private SolutionCard solutionCard;
+
         @Override
         protected void updateItem(Solution solution, boolean empty) {
             super.updateItem(solution, empty);
@@ -80,7 +83,11 @@ public class SolutionListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new SolutionCard(solution, getIndex() + 1).getRoot());
+                if (solutionCard == null) {
+                    solutionCard = new SolutionCard();
+                }
+                solutionCard.setSolution(solution, getIndex() + 1);
+                setGraphic(solutionCard.getRoot());
             }
         }
     }
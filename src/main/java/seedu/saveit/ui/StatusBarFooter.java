@@ -12,9 +12,13 @@ import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.logic.CommandExecutionStateChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.events.storage.DataLoadingStateChangedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +27,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_LOADING = "Loading data: %d issues loaded";
 
     /**
      * Used to generate time stamps.
@@ -77,7 +82,33 @@ public class StatusBarFooter extends UiPart<Region> {
     public void handleSaveItChangedEvent(SaveItChangedEvent abce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleNotebookSwitchedEvent(NotebookSwitchedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        setSaveLocation(Paths.get(".").resolve(event.filePath).toString());
+    }
+
+    @Subscribe
+    public void handleCommandExecutionStateChangedEvent(CommandExecutionStateChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // an indeterminate progress bar while commands are pending
+        double progress = event.isBusy ? ProgressBar.INDETERMINATE_PROGRESS : 0;
+        Platform.runLater(() -> syncStatus.setProgress(progress));
+    }
+
+    @Subscribe
+    public void handleDataLoadingStateChangedEvent(DataLoadingStateChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        if (event.isLoading) {
+            setSyncStatus(String.format(SYNC_STATUS_LOADING, event.loadedIssueCount));
+        } else {
+            setSyncStatus(SYNC_STATUS_INITIAL);
+        }
+        double progress = event.isLoading ? ProgressBar.INDETERMINATE_PROGRESS : 0;
+        Platform.runLater(() -> syncStatus.setProgress(progress));
+    }
 }
@@ -23,6 +23,7 @@ import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.Logic;
 import seedu.saveit.logic.SuggestionLogic;
 import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.pagecache.PageCache;
 
 /**
  * The manager of the UI component.
@@ -42,14 +43,17 @@ public class UiManager extends ComponentManager implements Ui {
     private SuggestionLogic suggestionLogic;
     private Config config;
     private UserPrefs prefs;
+    private PageCache pageCache;
     private MainWindow mainWindow;
 
-    public UiManager(Logic logic, SuggestionLogic suggestionLogic, Config config, UserPrefs prefs) {
-        super();
+    public UiManager(Logic logic, SuggestionLogic suggestionLogic, Config config, UserPrefs prefs,
+                     PageCache pageCache) {
+        super(EventsCenter.Dispatch.UI_THREAD);
         this.logic = logic;
         this.suggestionLogic = suggestionLogic;
         this.config = config;
         this.prefs = prefs;
+        this.pageCache = pageCache;
     }
 
     @Override
@@ -60,7 +64,7 @@ public class UiManager extends ComponentManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, config, prefs, logic, suggestionLogic);
+            mainWindow = new MainWindow(primaryStage, config, prefs, logic, suggestionLogic, pageCache);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -121,16 +125,19 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
     }
 
     @Subscribe
     private void handleChangeDirectoryRequestEvent(ChangeDirectoryRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        logic.resetDirectory(event.directory);
-        EventsCenter.getInstance().post(new DirectoryChangedEvent(event.directory));
-        EventsCenter.getInstance().post(new JumpToListRequestEvent(Index.fromOneBased(event.directory.getIssue())));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // the lists shown are updated before the panels are switched
+        logic.resetDirectory(event.directory).thenRunAsync(() -> {
+            EventsCenter.getInstance().post(new DirectoryChangedEvent(event.directory));
+            EventsCenter.getInstance().post(
+                    new JumpToListRequestEvent(Index.fromOneBased(event.directory.getIssue())));
+        }, Platform::runLater);
     }
 }
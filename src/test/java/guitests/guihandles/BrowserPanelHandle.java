@@ -1,43 +1,50 @@
 package guitests.guihandles;
 
 import java.net.URL;
+import java.util.Objects;
+import java.util.Optional;
 
-import guitests.GuiRobot;
 import javafx.concurrent.Worker;
 import javafx.scene.Node;
-import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
 
 /**
  * A handler for the {@code BrowserPanel} of the UI.
+ *
+ * As the browser panel is only created when the first solution is selected, the handle can be given the node that
+ * will contain the panel, and looks the {@code WebView} up each time it is needed.
  */
 public class BrowserPanelHandle extends NodeHandle<Node> {
 
     public static final String BROWSER_ID = "#browser";
-
-    private boolean isWebViewLoaded = true;
+    public static final String BROWSER_PLACEHOLDER_ID = "#browserPlaceholder";
 
     private URL lastRememberedUrl;
 
     public BrowserPanelHandle(Node browserPanelNode) {
         super(browserPanelNode);
+    }
+
+    /**
+     * Returns the {@code WebView} of the browser panel, or an empty {@code Optional} if the panel has yet to be
+     * created.
+     */
+    public Optional<WebView> getWebView() {
+        return guiRobot.from(getRootNode()).lookup(BROWSER_ID).tryQuery();
+    }
 
-        WebView webView = getChildNode(BROWSER_ID);
-        WebEngine engine = webView.getEngine();
-        new GuiRobot().interact(() -> engine.getLoadWorker().stateProperty().addListener((obs, oldState, newState) -> {
-            if (newState == Worker.State.RUNNING) {
-                isWebViewLoaded = false;
-            } else if (newState == Worker.State.SUCCEEDED) {
-                isWebViewLoaded = true;
-            }
-        }));
+    /**
+     * Returns true if the browser panel has been created.
+     */
+    public boolean isCreated() {
+        return getWebView().isPresent();
     }
 
     /**
-     * Returns the {@code URL} of the currently loaded page.
+     * Returns the {@code URL} of the currently loaded page, or null if the browser panel has yet to be created.
      */
     public URL getLoadedUrl() {
-        return WebViewUtil.getLoadedUrl(getChildNode(BROWSER_ID));
+        return getWebView().map(WebViewUtil::getLoadedUrl).orElse(null);
     }
 
     /**
@@ -52,13 +59,18 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
      * {@code rememberUrl()} call.
      */
     public boolean isUrlChanged() {
-        return !lastRememberedUrl.equals(getLoadedUrl());
+        return !Objects.equals(lastRememberedUrl, getLoadedUrl());
     }
 
     /**
      * Returns true if the browser is done loading a page, or if this browser has yet to load any page.
      */
     public boolean isLoaded() {
-        return isWebViewLoaded;
+        Optional<WebView> webView = getWebView();
+        if (!webView.isPresent()) {
+            return true;
+        }
+        Worker.State state = webView.get().getEngine().getLoadWorker().getState();
+        return state != Worker.State.SCHEDULED && state != Worker.State.RUNNING;
     }
 }
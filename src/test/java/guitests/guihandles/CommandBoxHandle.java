@@ -7,6 +7,7 @@ import org.fxmisc.richtext.InlineCssTextArea;
 
 import javafx.collections.ObservableList;
 import javafx.scene.input.KeyCode;
+import seedu.saveit.ui.CommandBox;
 
 /**
  * A handle to the {@code CommandBox} in the GUI.
@@ -43,6 +44,7 @@ public class CommandBoxHandle extends NodeHandle<InlineCssTextArea> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> !getStyleClass().contains(CommandBox.BUSY_STYLE_CLASS));
     }
 
     /**
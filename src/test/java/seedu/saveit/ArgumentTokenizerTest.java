@@ -3,13 +3,20 @@ package seedu.saveit;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_NEW_TAG;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_STATEMENT;
+import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
 
 import org.junit.Test;
 
 import seedu.saveit.logic.parser.ArgumentMultimap;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
 import seedu.saveit.logic.parser.Prefix;
+import seedu.saveit.logic.parser.PrefixTokens;
 
 public class ArgumentTokenizerTest {
 
@@ -140,6 +147,37 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenizeAndOffset_repeatedPrefixCloserThanOffset_allValuesFound() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAndOffset(" t/a t/b", 10, PREFIX_TAG);
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "a", "b");
+        assertEquals(15, argMultimap.findPrecedingPrefixKey(17).getPosition());
+    }
+
+    @Test
+    public void scan_commandPrefixes_foundInOrderOfPosition() {
+        PrefixTokens tokens = ArgumentTokenizer.scan(" i/issue t/java d/x/y t/ joinedt/ n/");
+        assertEquals(5, tokens.size());
+        assertToken(tokens, 0, PREFIX_STATEMENT, 1);
+        assertToken(tokens, 1, PREFIX_TAG, 9);
+        assertToken(tokens, 2, PREFIX_DESCRIPTION, 16);
+        assertToken(tokens, 3, PREFIX_TAG, 22);
+        assertToken(tokens, 4, PREFIX_NEW_TAG, 34);
+    }
+
+    @Test
+    public void scan_sameInput_tokensReused() {
+        String argsString = " t/python t/java";
+        PrefixTokens tokens = ArgumentTokenizer.scan(argsString);
+        assertSame(tokens, ArgumentTokenizer.scan(new String(argsString)));
+        assertNotSame(tokens, ArgumentTokenizer.scan(argsString + " "));
+    }
+
+    private void assertToken(PrefixTokens tokens, int index, Prefix expectedPrefix, int expectedPosition) {
+        assertEquals(expectedPrefix, tokens.getPrefix(index));
+        assertEquals(expectedPosition, tokens.getPosition(index));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -11,11 +11,13 @@ import seedu.saveit.commons.core.GuiSettings;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.util.FileUtil;
 import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.logic.CommandHistory;
 import seedu.saveit.model.Model;
 import seedu.saveit.model.ModelManager;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.Storage;
 import seedu.saveit.storage.UserPrefsStorage;
 import seedu.saveit.storage.XmlSerializableSaveIt;
 import seedu.saveit.testutil.TestUtil;
@@ -50,11 +52,21 @@ public class TestApp extends MainApp {
         }
     }
 
+    @Override
+    public void init() throws Exception {
+        super.init();
+        // the tests expect the data to be shown as soon as the window is
+        dataLoading.join();
+    }
+
     @Override
     protected Config initConfig(Path configFilePath) {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        // the tests read the data file as soon as a command completes, so the data is saved on the model thread
+        // before the result of the command is shown
+        config.setAsynchronousEventDispatch(false);
         return config;
     }
 
@@ -97,6 +109,17 @@ public class TestApp extends MainApp {
         return copy;
     }
 
+    @Override
+    protected void initPageIndex(UserPrefs userPrefs) {
+        // solution pages are not crawled, so that the results of find do not depend on the network
+    }
+
+    @Override
+    protected CommandHistory initCommandHistory(Storage storage) {
+        // every test starts with an empty history, regardless of the commands entered by earlier tests
+        return new CommandHistory();
+    }
+
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
@@ -0,0 +1,128 @@
+package seedu.saveit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_recordsWrittenInOrderOnBackgroundThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(Collections.singletonList(target), 16, Level.WARNING);
+        handler.setLevel(Level.INFO);
+
+        handler.publish(newRecord(Level.INFO, "first"));
+        handler.publish(newRecord(Level.FINE, "not logged"));
+        handler.publish(newRecord(Level.WARNING, "second"));
+        handler.close();
+
+        assertEquals(2, target.records.size());
+        assertEquals("first", target.records.get(0).getMessage());
+        assertEquals("second", target.records.get(1).getMessage());
+        assertTrue(target.threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_bufferFull_lowRecordsDroppedAndHighRecordsWrittenThrough() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(Collections.singletonList(target), 2, Level.WARNING);
+
+        // the background thread is blocked writing the first record, so the next two fill the buffer
+        handler.publish(newRecord(Level.INFO, "blocking"));
+        target.isWriting.await();
+        handler.publish(newRecord(Level.INFO, "buffered 1"));
+        handler.publish(newRecord(Level.INFO, "buffered 2"));
+
+        handler.publish(newRecord(Level.INFO, "dropped"));
+        handler.publish(newRecord(Level.SEVERE, "written through"));
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals("written through", target.records.get(0).getMessage());
+
+        target.canWrite.countDown();
+        handler.close();
+        List<String> messages = new ArrayList<>();
+        target.records.forEach(record -> messages.add(record.getMessage()));
+        assertEquals("blocking", messages.get(1));
+        assertEquals("buffered 2", messages.get(3));
+        assertTrue(messages.get(4).startsWith("1 log records dropped"));
+    }
+
+    @Test
+    public void log_keyValues_appendedToMessage() {
+        RecordingHandler target = new RecordingHandler();
+        Logger logger = Logger.getLogger(AsyncLogHandlerTest.class.getName());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(target);
+        try {
+            LogsCenter.log(logger, Level.INFO, "Command executed", "command", "list", "durationMs", 5);
+            LogsCenter.log(logger, Level.FINEST, "not logged");
+        } finally {
+            logger.removeHandler(target);
+        }
+
+        assertEquals(1, target.records.size());
+        assertEquals("Command executed command=list durationMs=5", target.records.get(0).getMessage());
+    }
+
+    private static LogRecord newRecord(Level level, String message) {
+        return new LogRecord(level, message);
+    }
+
+    /**
+     * A handler that keeps the records it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        protected final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+
+    /**
+     * A handler that blocks the background thread on the first record it writes, until it is allowed to write.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch canWrite = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            if (record.getMessage().equals("blocking")) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.publish(record);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.saveit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.saveit.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronous_nestedEventsDispatchedAfterCurrentEvent() {
+        List<String> handled = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleFirstEvent(FirstEvent event) {
+                handled.add("first");
+                eventsCenter.post(new SecondEvent());
+            }
+
+            @Subscribe
+            private void handleSecondEvent(SecondEvent event) {
+                handled.add("second");
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                handled.add("any " + event);
+            }
+        });
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first", "any FirstEvent", "second", "any SecondEvent"), handled);
+    }
+
+    @Test
+    public void post_subscriberThrowsException_otherSubscribersDispatched() {
+        List<String> handled = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                throw new IllegalStateException();
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                handled.add("first");
+            }
+        });
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first"), handled);
+    }
+
+    @Test
+    public void post_asynchronousBackgroundSubscriber_dispatchedOnBackgroundThreadInOrder() {
+        List<String> handled = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        eventsCenter.setAsynchronous(true);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                handled.add(event.toString());
+                threads.add(Thread.currentThread());
+            }
+        }, EventsCenter.Dispatch.BACKGROUND);
+
+        eventsCenter.post(new FirstEvent()).post(new SecondEvent()).post(new FirstEvent());
+        eventsCenter.shutdown(5000);
+
+        assertEquals(Arrays.asList("FirstEvent", "SecondEvent", "FirstEvent"), handled);
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+
+        EventStatistics firstEventStatistics = eventsCenter.getStatistics().get("FirstEvent");
+        assertEquals(2, firstEventStatistics.getPostCount());
+        assertEquals(2, firstEventStatistics.getDispatchCount());
+        assertEquals(0, firstEventStatistics.getQueueDepth());
+    }
+
+    @Test
+    public void post_threadConfinedModelSubscriber_dispatchedOnModelThread() {
+        List<Boolean> isOnModelThread = new ArrayList<>();
+        eventsCenter.setThreadConfined(true);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                isOnModelThread.add(ModelThread.getInstance().isCurrentThread());
+            }
+        }, EventsCenter.Dispatch.MODEL_THREAD);
+
+        eventsCenter.post(new FirstEvent());
+        // the dispatch is run before the tasks submitted after it
+        CompletableFuture.runAsync(() -> { }, ModelThread.getInstance()).join();
+        assertEquals(Arrays.asList(true), isOnModelThread);
+    }
+
+    @Test
+    public void post_asynchronousButNotThreadConfined_modelSubscriberOnPostingThread() {
+        List<Thread> threads = new ArrayList<>();
+        eventsCenter.setAsynchronous(true);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                threads.add(Thread.currentThread());
+            }
+        }, EventsCenter.Dispatch.MODEL_THREAD);
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void getStatistics_synchronous_countsEveryDispatch() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                // only counted
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleFirstEvent(FirstEvent event) {
+                // only counted
+            }
+        });
+
+        eventsCenter.post(new FirstEvent());
+        eventsCenter.post(new SecondEvent());
+
+        EventStatistics firstEventStatistics = eventsCenter.getStatistics().get("FirstEvent");
+        assertEquals(1, firstEventStatistics.getPostCount());
+        assertEquals(2, firstEventStatistics.getDispatchCount());
+        assertEquals(2, firstEventStatistics.getMaxQueueDepth());
+        assertEquals(0, eventsCenter.getStatistics().get("SecondEvent").getDispatchCount());
+    }
+
+    private static class FirstEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "FirstEvent";
+        }
+    }
+
+    private static class SecondEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "SecondEvent";
+        }
+    }
+}
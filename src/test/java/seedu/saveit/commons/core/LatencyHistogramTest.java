@@ -0,0 +1,66 @@
+package seedu.saveit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucketIndex_bucketsCoverEveryLatencyInOrder() {
+        long[] latencies = {0, 1, 31, 32, 63, 64, 65, 66, 1000, 123456789, Long.MAX_VALUE};
+        for (long latency : latencies) {
+            int index = LatencyHistogram.getBucketIndex(latency);
+            assertTrue(LatencyHistogram.getHighestLatency(index) >= latency);
+            assertTrue(index == 0 || LatencyHistogram.getHighestLatency(index - 1) < latency);
+        }
+    }
+
+    @Test
+    public void getSummary_noLatency_allZero() {
+        LatencyHistogram.Summary summary = new LatencyHistogram().getSummary();
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getP99Micros());
+        assertEquals(0, summary.getMaxMicros());
+    }
+
+    @Test
+    public void getPercentileNanos_randomLatencies_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(1);
+        long[] latencies = new long[10000];
+        for (int i = 0; i < latencies.length; i++) {
+            // from 1 microsecond to about 1 second
+            latencies[i] = (long) Math.pow(10, 3 + random.nextDouble() * 6);
+            histogram.record(latencies[i]);
+        }
+        Arrays.sort(latencies);
+
+        for (double percentile : new double[] {50, 90, 99, 100}) {
+            long expected = latencies[(int) Math.ceil(latencies.length * percentile / 100) - 1];
+            long actual = histogram.getPercentileNanos(percentile);
+            assertTrue(actual >= expected);
+            assertTrue(actual <= expected * 1.03);
+        }
+        assertEquals(latencies.length, histogram.getCount());
+    }
+
+    @Test
+    public void getSummary_latenciesRecorded_inMicroseconds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.record(3_000_000);
+        histogram.record(-5);
+
+        LatencyHistogram.Summary summary = histogram.getSummary();
+        assertEquals(3, summary.getCount());
+        assertEquals(1333, summary.getMeanMicros());
+        assertTrue(summary.getP50Micros() >= 1000 && summary.getP50Micros() <= 1030);
+        assertEquals(3000, summary.getP99Micros());
+        assertEquals(3000, summary.getMaxMicros());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.saveit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.util.FileUtil;
+
+public class MetricsCenterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final MetricsCenter metricsCenter = MetricsCenter.getInstance();
+
+    @Test
+    public void recordLatencySince_latencyRecordedInNamedHistogram() {
+        long count = metricsCenter.getHistogram("test.latency").getCount();
+        metricsCenter.recordLatencySince("test.latency", System.nanoTime());
+        assertEquals(count + 1, metricsCenter.getLatencySummaries().get("test.latency").getCount());
+    }
+
+    @Test
+    public void incrementCounter_counterIncremented() {
+        metricsCenter.incrementCounter("test.counter");
+        long count = metricsCenter.getCounters().get("test.counter");
+        metricsCenter.incrementCounter("test.counter");
+        assertEquals(count + 1, (long) metricsCenter.getCounters().get("test.counter"));
+    }
+
+    @Test
+    public void dump_metricsWrittenAsJson() throws Exception {
+        metricsCenter.recordLatencySince("test.dump", System.nanoTime());
+        metricsCenter.incrementCounter("test.dumpCounter");
+        Path file = testFolder.getRoot().toPath().resolve("metrics.json");
+
+        metricsCenter.dump(file);
+        String json = FileUtil.readFromFile(file);
+        assertTrue(json.contains("\"test.dump\""));
+        assertTrue(json.contains("\"p99Micros\""));
+        assertTrue(json.contains("\"test.dumpCounter\""));
+        assertTrue(json.contains("\"droppedLogRecords\""));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.saveit.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void constructor_capacityRoundedUpToPowerOfTwo() {
+        assertEquals(2, new RingBuffer<String>(1).capacity());
+        assertEquals(8, new RingBuffer<String>(5).capacity());
+        assertEquals(8, new RingBuffer<String>(8).capacity());
+    }
+
+    @Test
+    public void offerAndPoll_full_elementsInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(Integer.valueOf(0), buffer.poll());
+        assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(Integer.valueOf(i), buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void offer_concurrentProducers_everyElementPolledOnceInOrderOfEachProducer() throws Exception {
+        int producerCount = 4;
+        int elementCount = 20000;
+        RingBuffer<int[]> buffer = new RingBuffer<>(64);
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            int producerId = producer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < elementCount; i++) {
+                    while (!buffer.offer(new int[] {producerId, i})) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        int[] nextElements = new int[producerCount];
+        int polledCount = 0;
+        while (polledCount < producerCount * elementCount) {
+            int[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(nextElements[element[0]]++, element[1]);
+            polledCount++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
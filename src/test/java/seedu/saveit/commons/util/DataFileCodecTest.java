@@ -0,0 +1,84 @@
+package seedu.saveit.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DataFileCodecTest {
+    private static final String ISSUE_XML = "    <issues>\n        <tagged>java</tagged>\n    </issues>\n";
+    private static final byte[] XML_DATA = ("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<saveit>\n" + String.join("", Collections.nCopies(100, ISSUE_XML)) + "</saveit>\n")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void encode_none_plainData() throws Exception {
+        assertArrayEquals(XML_DATA, encode(DataFileCodec.NONE, XML_DATA));
+    }
+
+    @Test
+    public void encodeAndDecode_everyCodec_sameData() throws Exception {
+        for (DataFileCodec codec : DataFileCodec.values()) {
+            assertArrayEquals(XML_DATA, decode(encode(codec, XML_DATA)));
+        }
+    }
+
+    @Test
+    public void encode_compressed_smallerData() throws Exception {
+        int fastLength = encode(DataFileCodec.DEFLATE_FAST, XML_DATA).length;
+        int bestLength = encode(DataFileCodec.DEFLATE_BEST, XML_DATA).length;
+
+        assertTrue(fastLength < XML_DATA.length);
+        assertTrue(bestLength <= fastLength);
+    }
+
+    @Test
+    public void decode_dataShorterThanHeader_sameData() throws Exception {
+        byte[] data = {'<', 'a', '/', '>'};
+        assertArrayEquals(data, decode(data));
+        assertEquals(0, decode(new byte[0]).length);
+    }
+
+    @Test
+    public void decode_unknownCodec_throwsIOException() throws Exception {
+        byte[] data = encode(DataFileCodec.DEFLATE_FAST, XML_DATA);
+        data[4] = 99;
+
+        thrown.expect(IOException.class);
+        decode(data);
+    }
+
+    private static byte[] encode(DataFileCodec codec, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = codec.encode(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decode(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = DataFileCodec.decode(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.saveit.commons.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class HostRateLimiterTest {
+
+    @Test
+    public void acquire_sameHostTwice_secondRequestDelayed() throws Exception {
+        HostRateLimiter rateLimiter = new HostRateLimiter(Duration.ofMillis(50));
+        long startTime = System.nanoTime();
+        rateLimiter.acquire("example.com");
+        rateLimiter.acquire("example.com");
+
+        assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void acquire_manyHosts_hostsWithPassedIntervalForgotten() throws Exception {
+        HostRateLimiter rateLimiter = new HostRateLimiter(Duration.ZERO);
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.acquire("host" + i + ".example.com");
+        }
+        assertTrue(rateLimiter.getHostCount() <= 64);
+
+        // hosts still within their interval are remembered
+        HostRateLimiter slowRateLimiter = new HostRateLimiter(Duration.ofHours(1));
+        for (int i = 0; i < 100; i++) {
+            slowRateLimiter.acquire("host" + i + ".example.com");
+        }
+        assertEquals(100, slowRateLimiter.getHostCount());
+    }
+}
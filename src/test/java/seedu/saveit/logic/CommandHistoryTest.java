@@ -5,7 +5,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +38,59 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_historyFull_oldestDropped() {
+        history = new CommandHistory(3);
+        for (int i = 0; i < 2000; i++) {
+            history.add("select " + i);
+        }
+        assertEquals(Arrays.asList("select 1997", "select 1998", "select 1999"), history.getHistory());
+    }
+
+    @Test
+    public void getHistory_inputAddedLater_snapshotUnchanged() {
+        history = new CommandHistory(1500);
+        for (int i = 0; i < 1500; i++) {
+            history.add("select " + i);
+        }
+        List<String> snapshot = history.getHistory();
+        List<String> expectedSnapshot = new ArrayList<>(snapshot);
+
+        // fills a new chunk and drops the input of the first one
+        for (int i = 0; i < 1500; i++) {
+            history.add("list");
+        }
+        assertEquals(expectedSnapshot, snapshot);
+    }
+
+    @Test
+    public void findLastContaining() {
+        history = new CommandHistory(5);
+        history.add("find JAVA stream");
+        history.add("findtag python");
+        history.add("find java");
+        history.add("list");
+        CommandHistory.Snapshot snapshot = history.getHistory();
+
+        // latest match, ignoring case
+        assertEquals(2, snapshot.findLastContaining("Java", 3));
+        assertEquals(0, snapshot.findLastContaining("java", 1));
+        assertEquals(0, snapshot.findLastContaining("java st", 3));
+
+        // substring shorter than the indexed sequences
+        assertEquals(1, snapshot.findLastContaining("py", 3));
+
+        // no match
+        assertEquals(-1, snapshot.findLastContaining("delete", 3));
+        assertEquals(-1, snapshot.findLastContaining("list", 2));
+
+        // input dropped from the history after the snapshot was taken is still searched
+        history.add("exit");
+        history.add("help");
+        assertEquals(0, snapshot.findLastContaining("java st", 3));
+        assertEquals(-1, history.getHistory().findLastContaining("java st", 4));
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
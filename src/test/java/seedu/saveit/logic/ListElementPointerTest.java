@@ -78,6 +78,30 @@ public class ListElementPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void previousContaining() {
+        CommandHistory history = new CommandHistory();
+        history.add("find java");
+        history.add("list");
+        history.add("findtag java");
+        pointer = new ListElementPointer(history.getHistory());
+        pointer.add("");
+        pointer.next();
+
+        assertEquals("findtag java", pointer.previousContaining("JAVA"));
+        assertEquals("find java", pointer.previousContaining("java"));
+        assertCurrentSuccess("find java");
+        assertNextSuccess("list");
+
+        // cursor unchanged when there is no match before it
+        try {
+            pointer.previousContaining("list");
+            throw new AssertionError("The expected NoSuchElementException was not thrown.");
+        } catch (NoSuchElementException e) {
+            assertCurrentSuccess("list");
+        }
+    }
+
     @Test
     public void equals() {
         ListElementPointer firstPointer = new ListElementPointer(pointerElements);
@@ -1,11 +1,15 @@
 package seedu.saveit.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.saveit.commons.core.Messages.MESSAGE_INVALID_ISSUE_DISPLAYED_INDEX;
 import static seedu.saveit.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_ISSUE;
 import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_SOLUTION;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -75,6 +79,41 @@ public class LogicManagerTest {
         assertHistoryCorrect(input, clearCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_success() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        CommandResult result = logic.executeAsync(listCommand).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.feedbackToUser);
+        assertHistoryCorrect(listCommand);
+    }
+
+    @Test
+    public void executeAsync_invalidCommandFormat_completesExceptionally() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        try {
+            logic.executeAsync(invalidCommand).get();
+            throw new AssertionError("The expected ExecutionException was not thrown.");
+        } catch (ExecutionException ee) {
+            assertEquals(ParseException.class, ee.getCause().getClass());
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, ee.getCause().getMessage());
+        }
+        assertHistoryCorrect(invalidCommand);
+    }
+
+    @Test
+    public void executeAsync_confirmedDangerCommand_executedInOrder() throws Exception {
+        String clearCommand = ClearCommand.COMMAND_WORD;
+        model.addIssue(new IssueBuilder().build());
+        CompletableFuture<CommandResult> askResult = logic.executeAsync(clearCommand);
+        CompletableFuture<CommandResult> confirmResult = logic.executeAsync(LogicManager.CONFIRM_WORD);
+
+        assertEquals(String.format(DangerCommand.ASK_FOR_CONFIRMATION, ClearCommand.COMMAND_WORD),
+                askResult.get().feedbackToUser);
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, confirmResult.get().feedbackToUser);
+        assertTrue(model.getFilteredAndSortedIssueList().isEmpty());
+        assertHistoryCorrect(LogicManager.CONFIRM_WORD, clearCommand);
+    }
+
     @Test
     public void getFilteredAndSortedIssueList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -90,6 +129,20 @@ public class LogicManagerTest {
         logic.getFilteredSolutionList().add(new SolutionBuilder().build());
     }
 
+    @Test
+    public void getFilteredSolutionList_issueSelected_solutionsOfIssueShown() {
+        model.addIssue(new IssueBuilder().withSolutions(new SolutionBuilder().build()).build());
+        assertEquals(model.getFilteredAndSortedIssueList(), logic.getFilteredAndSortedIssueList());
+        assertTrue(logic.getFilteredSolutionList().isEmpty());
+
+        assertCommandSuccess(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_ISSUE.getOneBased(),
+                String.format(SelectCommand.MESSAGE_SELECT_ISSUE_SUCCESS, INDEX_FIRST_ISSUE.getOneBased()), model);
+        assertEquals(model.getFilteredAndSortedSolutionList(), logic.getFilteredSolutionList());
+
+        logic.resetDirectory(Directory.formRootDirectory());
+        assertTrue(logic.getFilteredSolutionList().isEmpty());
+    }
+
     @Test
     public void resetValidDirectory_success() {
         // reset to the root directory
@@ -0,0 +1,140 @@
+package seedu.saveit.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.saveit.logic.suggestion.Suggestion;
+import seedu.saveit.logic.suggestion.SuggestionResult;
+
+public class SuggestionEngineTest {
+
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(50);
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final ScheduledExecutorService suggestionExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<SuggestionResult> results = new LinkedBlockingQueue<>();
+
+    @After
+    public void tearDown() {
+        suggestionExecutor.shutdownNow();
+    }
+
+    @Test
+    public void submit_rapidInputs_onlyLatestInputEvaluated() throws Exception {
+        SuggestionLogicStub suggestionLogic = new SuggestionLogicStub();
+        SuggestionEngine engine = createEngine(suggestionLogic, Duration.ofMillis(500));
+
+        engine.submit("f", 1, results::add);
+        engine.submit("fi", 2, results::add);
+        engine.submit("fin", 3, results::add);
+
+        assertEquals("fin", results.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).getOldValue());
+        assertEquals(1, suggestionLogic.evaluatedInputs.size());
+        assertNoMoreResults();
+    }
+
+    @Test
+    public void submit_newInputDuringEvaluation_staleResultDiscarded() throws Exception {
+        CountDownLatch evaluationStarted = new CountDownLatch(1);
+        CountDownLatch newInputSubmitted = new CountDownLatch(1);
+        SuggestionLogicStub suggestionLogic = new SuggestionLogicStub() {
+            @Override
+            public SuggestionResult evaluate(String userInput, int caretPosition) {
+                if (userInput.equals("slow")) {
+                    evaluationStarted.countDown();
+                    awaitUninterruptibly(newInputSubmitted);
+                }
+                return super.evaluate(userInput, caretPosition);
+            }
+        };
+        SuggestionEngine engine = createEngine(suggestionLogic, DEBOUNCE_DELAY);
+
+        engine.submit("slow", 4, results::add);
+        assertTrue(evaluationStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        engine.submit("fast", 4, results::add);
+        newInputSubmitted.countDown();
+
+        assertEquals("fast", results.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).getOldValue());
+        assertNoMoreResults();
+    }
+
+    @Test
+    public void cancel_pendingInput_noResult() throws Exception {
+        SuggestionLogicStub suggestionLogic = new SuggestionLogicStub();
+        SuggestionEngine engine = createEngine(suggestionLogic, DEBOUNCE_DELAY);
+
+        engine.submit("find", 4, results::add);
+        engine.cancel();
+
+        assertNoMoreResults();
+        assertTrue(suggestionLogic.evaluatedInputs.isEmpty());
+    }
+
+    @Test
+    public void submit_evaluationFails_laterInputsStillEvaluated() throws Exception {
+        SuggestionLogicStub suggestionLogic = new SuggestionLogicStub() {
+            @Override
+            public SuggestionResult evaluate(String userInput, int caretPosition) {
+                if (userInput.equals("bad")) {
+                    throw new IllegalStateException();
+                }
+                return super.evaluate(userInput, caretPosition);
+            }
+        };
+        SuggestionEngine engine = createEngine(suggestionLogic, DEBOUNCE_DELAY);
+
+        engine.submit("bad", 3, results::add);
+        assertNoMoreResults();
+        engine.submit("good", 4, results::add);
+        assertEquals("good", results.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).getOldValue());
+    }
+
+    private SuggestionEngine createEngine(SuggestionLogic suggestionLogic, Duration debounceDelay) {
+        return new SuggestionEngine(suggestionLogic, Runnable::run, debounceDelay, suggestionExecutor);
+    }
+
+    private void assertNoMoreResults() throws InterruptedException {
+        assertNull(results.poll(DEBOUNCE_DELAY.toMillis() * 4, TimeUnit.MILLISECONDS));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A SuggestionLogic stub that records the evaluated inputs and returns them as the results' old values.
+     */
+    private static class SuggestionLogicStub implements SuggestionLogic {
+        private final List<String> evaluatedInputs = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Suggestion parseUserInput(String userInput, int caretPosition) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SuggestionResult evaluate(String userInput, int caretPosition) {
+            evaluatedInputs.add(userInput);
+            return new SuggestionResult(new LinkedList<>(), "", userInput, 0, caretPosition);
+        }
+    }
+}
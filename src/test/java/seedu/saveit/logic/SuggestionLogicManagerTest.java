@@ -110,8 +110,7 @@ public class SuggestionLogicManagerTest {
      * asserts that the given inputs will return a {@code Suggestion} object
      */
     private void assertParseSuccess(String userInput, int caretPosition) {
-        suggestionLogic.updateCaretPosition(caretPosition);
-        Suggestion suggestion = suggestionLogic.parseUserInput(userInput);
+        Suggestion suggestion = suggestionLogic.parseUserInput(userInput, caretPosition);
 
         // parseUserInput should return a Suggestion object if successful
         assertNotEquals(null, suggestion);
@@ -123,8 +122,7 @@ public class SuggestionLogicManagerTest {
      * and should return null instead
      */
     private void assertParseFailure(String userInput, int caretPosition) {
-        suggestionLogic.updateCaretPosition(caretPosition);
-        Suggestion suggestion = suggestionLogic.parseUserInput(userInput);
+        Suggestion suggestion = suggestionLogic.parseUserInput(userInput, caretPosition);
 
         // parseUserInput should return null if unsuccessful
         assertEquals(null, suggestion);
@@ -37,6 +37,7 @@ import seedu.saveit.model.Issue;
 import seedu.saveit.model.Model;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.SaveItSnapshot;
 import seedu.saveit.model.issue.Solution;
 import seedu.saveit.model.issue.SortType;
 import seedu.saveit.model.issue.Tag;
@@ -275,6 +276,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addIssues(List<Issue> issues) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void appendLoadedIssues(List<Issue> issues) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardLoadedIssues() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void completeLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlySaveIt newData) {
             throw new AssertionError("This method should not be called.");
@@ -300,6 +321,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public SaveItSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasIssue(Issue issue) {
             throw new AssertionError("This method should not be called.");
@@ -360,6 +386,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Issue> getFilteredAndSortedIssueSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         public TreeSet<String> getCurrentTagSet() {
             throw new AssertionError("This method should not be called.");
         }
@@ -0,0 +1,50 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.saveit.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.links.LinkStatus;
+import seedu.saveit.logic.links.LinkStatus.State;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.ModelManager;
+
+public class CheckLinksCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noLinks_nothingChecked() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new CheckLinksCommand(), model, commandHistory, CheckLinksCommand.MESSAGE_NO_LINKS,
+                new ModelManager());
+    }
+
+    @Test
+    public void formatReport_brokenLinks_listedWithTheirIssues() {
+        Instant now = Instant.now();
+        Map<String, LinkStatus> statuses = new LinkedHashMap<>();
+        statuses.put("http://ok.com", new LinkStatus(State.OK, 200, "OK", now));
+        statuses.put("http://missing.com", new LinkStatus(State.BROKEN, 404, "Error", now));
+
+        Map<String, List<String>> statementsByLink = new LinkedHashMap<>();
+        statementsByLink.put("http://ok.com", Collections.singletonList("Java NullPointer"));
+        statementsByLink.put("http://missing.com", Arrays.asList("Java NullPointer", "Quicksort bug"));
+
+        String expected = String.format(CheckLinksCommand.MESSAGE_SUCCESS, 2, 1)
+                + "\n" + String.format(CheckLinksCommand.MESSAGE_BROKEN_LINK, "Java NullPointer",
+                        "http://missing.com", "404 Error")
+                + "\n" + String.format(CheckLinksCommand.MESSAGE_BROKEN_LINK, "Quicksort bug",
+                        "http://missing.com", "404 Error");
+        assertEquals(expected, CheckLinksCommand.formatReport(statuses, statementsByLink));
+    }
+}
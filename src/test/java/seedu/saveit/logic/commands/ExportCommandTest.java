@@ -0,0 +1,73 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.ModelManager;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.exporter.ExportFormat;
+import seedu.saveit.storage.importer.ImportFormat;
+import seedu.saveit.storage.importer.IssueImporter;
+
+public class ExportCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_allIssues_allIssuesExported() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("issues.json");
+        model.updateFilteredIssueList(issue -> false);
+
+        CommandResult result = new ExportCommand(file, ExportFormat.JSON, false, Runnable::run)
+                .execute(model, commandHistory);
+        int expectedCount = model.getSaveIt().getIssueList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, expectedCount, file), result.feedbackToUser);
+        assertEquals(model.getSaveIt().getIssueList(),
+                IssueImporter.importIssues(file, ImportFormat.JSON, Collections.emptySet()).getIssues());
+    }
+
+    @Test
+    public void execute_currentView_onlyViewExported() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("issues.csv");
+        model.updateFilteredIssueList(issue -> issue.equals(model.getSaveIt().getIssueList().get(0)));
+
+        CommandResult result = new ExportCommand(file, ExportFormat.CSV, true, Runnable::run)
+                .execute(model, commandHistory);
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING, 1, file), result.feedbackToUser);
+        assertEquals(model.getFilteredAndSortedIssueList(),
+                IssueImporter.importIssues(file, ImportFormat.CSV, Collections.emptySet()).getIssues());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportAll = new ExportCommand(Paths.get("issues.json"), ExportFormat.JSON, false);
+
+        // same values -> returns true
+        assertTrue(exportAll.equals(new ExportCommand(Paths.get("issues.json"), ExportFormat.JSON, false)));
+
+        // same object -> returns true
+        assertTrue(exportAll.equals(exportAll));
+
+        // null -> returns false
+        assertFalse(exportAll.equals(null));
+
+        // different view -> returns false
+        assertFalse(exportAll.equals(new ExportCommand(Paths.get("issues.json"), ExportFormat.JSON, true)));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.RUBY_HASH_BUG;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.NotebookManager;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.storage.pageindex.PageIndex;
+import seedu.saveit.testutil.SaveItBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
+
+public class FindAllCommandTest {
+    private static final Path ALPHA_FILE = Paths.get("data", "alpha.xml");
+    private static final Path BROKEN_FILE = Paths.get("data", "broken.xml");
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private NotebookManager notebooks;
+
+    @Before
+    public void setUp() {
+        notebooks = new NotebookManager(new SaveItBuilder().withIssue(JAVA_NULL_POINTER).build(), new UserPrefs(),
+                this::load);
+        notebooks.addNotebook("alpha", ALPHA_FILE);
+    }
+
+    @After
+    public void tearDown() {
+        notebooks.shutdown();
+    }
+
+    private Optional<ReadOnlySaveIt> load(Path filePath) throws DataConversionException {
+        if (filePath.equals(BROKEN_FILE)) {
+            throw new DataConversionException(new Exception("broken"));
+        }
+        return Optional.of(new SaveItBuilder().withIssue(C_SEGMENTATION_FAULT).withIssue(RUBY_HASH_BUG).build());
+    }
+
+    @Test
+    public void execute_searchStarted() {
+        CommandResult result = new FindAllCommand(preparePredicate("java"), new PageIndex())
+                .execute(notebooks, commandHistory);
+        assertEquals(String.format(FindAllCommand.MESSAGE_SEARCHING, 2), result.feedbackToUser);
+    }
+
+    @Test
+    public void search_keywordsInSeveralNotebooks_listedByNotebook() throws Exception {
+        String report = new FindAllCommand(preparePredicate("java segmentation"), new PageIndex())
+                .search(notebooks).get();
+
+        assertEquals(String.format(FindAllCommand.MESSAGE_SUCCESS, 2, 2)
+                + "\n" + String.format(FindAllCommand.MESSAGE_NOTEBOOK_RESULTS, "alpha", 1)
+                + "\n  " + C_SEGMENTATION_FAULT.getStatement()
+                + "\n" + String.format(FindAllCommand.MESSAGE_NOTEBOOK_RESULTS, "default", 1)
+                + "\n  " + JAVA_NULL_POINTER.getStatement(), report);
+
+        // the issues listed in the active notebook are not changed
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER), notebooks.getFilteredAndSortedIssueList());
+    }
+
+    @Test
+    public void search_keywordInSolutionPage_issueFound() throws Exception {
+        PageIndex pageIndex = new PageIndex();
+        pageIndex.add(RUBY_HASH_BUG.getSolutions().get(0).getLink().getValue(), Arrays.asList("rubygems"));
+
+        String report = new FindAllCommand(preparePredicate("rubygems"), pageIndex).search(notebooks).get();
+
+        assertEquals(String.format(FindAllCommand.MESSAGE_SUCCESS, 1, 1)
+                + "\n" + String.format(FindAllCommand.MESSAGE_NOTEBOOK_RESULTS, "alpha", 1)
+                + "\n  " + RUBY_HASH_BUG.getStatement(), report);
+    }
+
+    @Test
+    public void search_unreadableNotebook_reported() throws Exception {
+        notebooks.addNotebook("broken", BROKEN_FILE);
+        String report = new FindAllCommand(preparePredicate("nothing"), new PageIndex()).search(notebooks).get();
+
+        assertEquals(String.format(FindAllCommand.MESSAGE_SUCCESS, 0, 0)
+                + "\n" + String.format(FindAllCommand.MESSAGE_UNREADABLE_NOTEBOOKS, "broken"), report);
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code IssueContainsKeywordsPredicate}.
+     */
+    private IssueContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new IssueContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
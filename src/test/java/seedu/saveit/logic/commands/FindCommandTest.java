@@ -28,6 +28,7 @@ import seedu.saveit.model.ModelManager;
 import seedu.saveit.model.SaveIt;
 import seedu.saveit.model.UserPrefs;
 import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.storage.pageindex.PageIndex;
 import seedu.saveit.testutil.DirectoryBuilder;
 
 /**
@@ -89,6 +90,18 @@ public class FindCommandTest {
                 model.getFilteredAndSortedIssueList());
     }
 
+    @Test
+    public void execute_keywordInSolutionPage_issueFound() {
+        PageIndex pageIndex = new PageIndex();
+        pageIndex.add(RUBY_HASH_BUG.getSolutions().get(0).getLink().getValue(), Arrays.asList("rubygems", "hash"));
+
+        String expectedMessage = String.format(MESSAGE_ISSUES_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate("RUBYGEM"), pageIndex);
+        expectedModel.updateFilteredIssueList(RUBY_HASH_BUG::isSameIssue);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(RUBY_HASH_BUG), model.getFilteredAndSortedIssueList());
+    }
+
     @Test
     public void execute_issueLevel_wrongDirectoryError() {
         SaveIt saveIt = getTypicalSaveIt();
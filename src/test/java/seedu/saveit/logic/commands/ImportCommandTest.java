@@ -0,0 +1,103 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.commons.core.Messages.MESSAGE_WRONG_DIRECTORY;
+import static seedu.saveit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_ISSUE;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.logic.commands.exceptions.CommandException;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.ModelManager;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.importer.ImportFormat;
+import seedu.saveit.testutil.DirectoryBuilder;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class ImportCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "IssueImporterTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Model model = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validFile_issuesAddedAsSingleChange() throws Exception {
+        int originalSize = model.getFilteredAndSortedIssueList().size();
+        Path file = TEST_DATA_FOLDER.resolve("validIssues.csv");
+
+        CommandResult result = new ImportCommand(file, ImportFormat.CSV).execute(model, commandHistory);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file, 0), result.feedbackToUser);
+        assertEquals(originalSize + 2, model.getFilteredAndSortedIssueList().size());
+
+        // a single undo removes every imported issue
+        model.undoSaveIt();
+        assertEquals(originalSize, model.getFilteredAndSortedIssueList().size());
+        assertFalse(model.canUndoSaveIt());
+    }
+
+    @Test
+    public void execute_rejectedRows_rowsReported() throws Exception {
+        Path file = TEST_DATA_FOLDER.resolve("mixedIssues.csv");
+
+        CommandResult result = new ImportCommand(file, ImportFormat.CSV).execute(model, commandHistory);
+        assertTrue(result.feedbackToUser.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file, 5)));
+        assertTrue(result.feedbackToUser.contains("Java NullPointer"));
+    }
+
+    @Test
+    public void execute_existingStatementsDifferingInCase_duplicateRowRejected() throws Exception {
+        model.addIssue(new IssueBuilder().withStatement("gradle build fails").build());
+        model.addIssue(new IssueBuilder().withStatement("Gradle build fails").build());
+        int originalSize = model.getFilteredAndSortedIssueList().size();
+        Path file = TEST_DATA_FOLDER.resolve("validIssues.csv");
+
+        CommandResult result = new ImportCommand(file, ImportFormat.CSV).execute(model, commandHistory);
+        assertTrue(result.feedbackToUser.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file, 1)));
+        assertEquals(originalSize + 1, model.getFilteredAndSortedIssueList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        new ImportCommand(TEST_DATA_FOLDER.resolve("NonExistentFile.csv"), ImportFormat.CSV)
+                .execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_notRootDirectory_failure() {
+        model.resetDirectory(new DirectoryBuilder().withIssueIndex(INDEX_FIRST_ISSUE).build());
+        ImportCommand importCommand = new ImportCommand(TEST_DATA_FOLDER.resolve("validIssues.csv"),
+                ImportFormat.CSV);
+        assertCommandFailure(importCommand, model, commandHistory, MESSAGE_WRONG_DIRECTORY);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("issues.csv"), ImportFormat.CSV);
+
+        // same values -> returns true
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("issues.csv"), ImportFormat.CSV)));
+
+        // same object -> returns true
+        assertTrue(importCsv.equals(importCsv));
+
+        // null -> returns false
+        assertFalse(importCsv.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsv.equals(new ImportCommand(Paths.get("other.csv"), ImportFormat.CSV)));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.ModelManager;
+import seedu.saveit.model.NotebookManager;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.testutil.SaveItBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
+
+public class OpenCommandTest {
+    private static final Path ALPHA_FILE = Paths.get("data", "alpha.xml");
+    private static final Path BROKEN_FILE = Paths.get("data", "broken.xml");
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final UserPrefs userPrefs = new UserPrefs();
+    private NotebookManager notebooks;
+
+    @Before
+    public void setUp() {
+        userPrefs.setSaveItFilePath(Paths.get("data", "saveit.xml"));
+        notebooks = new NotebookManager(getTypicalSaveIt(), userPrefs, this::load);
+    }
+
+    private Optional<ReadOnlySaveIt> load(Path filePath) throws IOException {
+        if (filePath.equals(BROKEN_FILE)) {
+            throw new IOException("broken");
+        }
+        return filePath.equals(ALPHA_FILE)
+                ? Optional.of(new SaveItBuilder().withIssue(C_SEGMENTATION_FAULT).build())
+                : Optional.empty();
+    }
+
+    @Test
+    public void execute_newNotebookWithFile_openedAndRemembered() throws Exception {
+        CommandResult result = new OpenCommand("alpha", Optional.of(ALPHA_FILE)).execute(notebooks, commandHistory);
+
+        assertEquals(String.format(OpenCommand.MESSAGE_SUCCESS, "alpha", 1, ALPHA_FILE), result.feedbackToUser);
+        assertEquals("alpha", notebooks.getActiveNotebookName());
+        assertEquals(ALPHA_FILE, userPrefs.getNotebookFilePaths().get("alpha"));
+    }
+
+    @Test
+    public void execute_newNotebookWithoutFile_keptNextToDefaultFile() throws Exception {
+        Path expectedFilePath = Paths.get("data", "beta.xml");
+        CommandResult result = new OpenCommand("beta", Optional.empty()).execute(notebooks, commandHistory);
+
+        assertEquals(String.format(OpenCommand.MESSAGE_SUCCESS, "beta", 0, expectedFilePath), result.feedbackToUser);
+        assertEquals(expectedFilePath, userPrefs.getNotebookFilePaths().get("beta"));
+    }
+
+    @Test
+    public void execute_existingNotebookWithDifferentFile_throwsCommandException() {
+        notebooks.addNotebook("alpha", ALPHA_FILE);
+        assertCommandFailure(new OpenCommand("alpha", Optional.of(BROKEN_FILE)), notebooks, commandHistory,
+                String.format(OpenCommand.MESSAGE_DIFFERENT_FILE, "alpha", ALPHA_FILE));
+    }
+
+    @Test
+    public void execute_unreadableNotebook_notRemembered() {
+        assertCommandFailure(new OpenCommand("broken", Optional.of(BROKEN_FILE)), notebooks, commandHistory,
+                String.format(NotebookCommand.MESSAGE_READ_FAILED, "broken", "broken"));
+        assertFalse(notebooks.getNotebookNames().contains("broken"));
+        assertEquals(NotebookManager.DEFAULT_NOTEBOOK_NAME, notebooks.getActiveNotebookName());
+    }
+
+    @Test
+    public void execute_modelWithoutNotebooks_throwsCommandException() {
+        assertCommandFailure(new OpenCommand("alpha", Optional.empty()), new ModelManager(), commandHistory,
+                NotebookCommand.MESSAGE_NOTEBOOKS_UNAVAILABLE);
+    }
+
+    @Test
+    public void equals() {
+        OpenCommand openAlphaCommand = new OpenCommand("alpha", Optional.of(ALPHA_FILE));
+
+        // same values -> returns true
+        assertTrue(openAlphaCommand.equals(new OpenCommand("alpha", Optional.of(ALPHA_FILE))));
+
+        // different types -> returns false
+        assertFalse(openAlphaCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(openAlphaCommand.equals(new OpenCommand("alpha", Optional.empty())));
+
+        // different name -> returns false
+        assertFalse(openAlphaCommand.equals(new OpenCommand("beta", Optional.of(ALPHA_FILE))));
+    }
+}
@@ -139,10 +139,15 @@ public class SortCommandTest {
     }
 
     /**
-     * Update frequency of data.
+     * Searches for each of the {@code issues} in both models, to increase their search frequency.
      */
     private void updateFrequency(Issue... issues) {
-        Arrays.stream(issues).forEach(i -> i.updateFrequency());
+        for (Issue issue : issues) {
+            model.filterIssues(issue::isSameIssue);
+            expectedModel.filterIssues(issue::isSameIssue);
+        }
+        model.updateFilteredIssueList(Model.PREDICATE_SHOW_ALL_ISSUES);
+        expectedModel.updateFilteredIssueList(Model.PREDICATE_SHOW_ALL_ISSUES);
     }
 
     /**
@@ -0,0 +1,27 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.saveit.commons.core.MetricsCenter;
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.Model;
+import seedu.saveit.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private CommandHistory history = new CommandHistory();
+
+    @Test
+    public void execute_showsRecordedMetrics() {
+        MetricsCenter.getInstance().recordLatencySince("command.TestCommand", System.nanoTime());
+        MetricsCenter.getInstance().incrementCounter("test.statsCounter");
+
+        String feedback = new StatsCommand().execute(model, history).feedbackToUser;
+        assertTrue(feedback.startsWith("Statistics since SaveIt was started:"));
+        assertTrue(feedback.contains("  command.TestCommand: count "));
+        assertTrue(feedback.contains("  test.statsCounter: "));
+        assertTrue(feedback.contains("Log records dropped: "));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.saveit.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.saveit.logic.CommandHistory;
+import seedu.saveit.model.NotebookManager;
+import seedu.saveit.model.UserPrefs;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
+
+public class SwitchCommandTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private NotebookManager notebooks;
+
+    @Before
+    public void setUp() {
+        notebooks = new NotebookManager(getTypicalSaveIt(), new UserPrefs(), filePath -> Optional.empty());
+        notebooks.addNotebook("alpha", Paths.get("data", "alpha.xml"));
+    }
+
+    @Test
+    public void execute_knownNotebook_switched() throws Exception {
+        CommandResult result = new SwitchCommand("alpha").execute(notebooks, commandHistory);
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, "alpha", 0), result.feedbackToUser);
+        assertEquals("alpha", notebooks.getActiveNotebookName());
+
+        int typicalIssueCount = getTypicalSaveIt().getIssueList().size();
+        result = new SwitchCommand(NotebookManager.DEFAULT_NOTEBOOK_NAME).execute(notebooks, commandHistory);
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, NotebookManager.DEFAULT_NOTEBOOK_NAME,
+                typicalIssueCount), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_unknownNotebook_throwsCommandException() {
+        assertCommandFailure(new SwitchCommand("beta"), notebooks, commandHistory,
+                String.format(SwitchCommand.MESSAGE_NOTEBOOK_NOT_FOUND, "beta", "alpha, default"));
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchAlphaCommand = new SwitchCommand("alpha");
+
+        // same values -> returns true
+        assertTrue(switchAlphaCommand.equals(new SwitchCommand("alpha")));
+
+        // different types -> returns false
+        assertFalse(switchAlphaCommand.equals(1));
+
+        // different name -> returns false
+        assertFalse(switchAlphaCommand.equals(new SwitchCommand("beta")));
+    }
+}
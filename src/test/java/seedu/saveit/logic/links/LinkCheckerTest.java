@@ -0,0 +1,159 @@
+package seedu.saveit.logic.links;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.saveit.logic.links.LinkStatus.State;
+
+public class LinkCheckerTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private HttpServer server;
+    private String baseUrl;
+    private Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private MutableClock clock = new MutableClock(Instant.parse("2018-11-01T00:00:00Z"));
+    private LinkChecker linkChecker;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200));
+        server.createContext("/missing", exchange -> respond(exchange, 404));
+        server.createContext("/noHead", exchange -> respond(exchange,
+                exchange.getRequestMethod().equals("HEAD") ? 405 : 200));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        linkChecker = new LinkChecker(4, Duration.ZERO, TTL, Duration.ofSeconds(5), clock);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void check_reachableLink_ok() {
+        LinkStatus status = linkChecker.check(baseUrl + "/ok").join();
+        assertEquals(State.OK, status.getState());
+        assertEquals(200, status.getStatusCode());
+        assertFalse(status.isBroken());
+    }
+
+    @Test
+    public void check_missingPage_broken() {
+        LinkStatus status = linkChecker.check(baseUrl + "/missing").join();
+        assertEquals(State.BROKEN, status.getState());
+        assertEquals(404, status.getStatusCode());
+        // HEAD failed, so GET was tried as well
+        assertEquals(2, requestCounts.get("/missing").get());
+    }
+
+    @Test
+    public void check_headNotSupported_fallsBackToGet() {
+        LinkStatus status = linkChecker.check(baseUrl + "/noHead").join();
+        assertEquals(State.OK, status.getState());
+        assertEquals(200, status.getStatusCode());
+    }
+
+    @Test
+    public void check_closedPort_unreachable() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        LinkStatus status = linkChecker.check("http://127.0.0.1:" + closedPort + "/ok").join();
+        assertEquals(State.UNREACHABLE, status.getState());
+        assertEquals(LinkStatus.NO_STATUS_CODE, status.getStatusCode());
+    }
+
+    @Test
+    public void check_malformedLink_broken() {
+        assertEquals(State.BROKEN, linkChecker.check("not a link").join().getState());
+    }
+
+    @Test
+    public void check_cachedUntilTtlExpires() {
+        String url = baseUrl + "/ok";
+        linkChecker.check(url).join();
+        linkChecker.check(url).join();
+        assertEquals(1, requestCounts.get("/ok").get());
+        assertTrue(linkChecker.getCachedStatus(url) != null);
+
+        clock.advance(TTL.plusSeconds(1));
+        assertNull(linkChecker.getCachedStatus(url));
+        linkChecker.check(url).join();
+        assertEquals(2, requestCounts.get("/ok").get());
+    }
+
+    @Test
+    public void checkAll_duplicateLinks_checkedOnceInOrder() {
+        Map<String, LinkStatus> statuses = linkChecker.checkAll(Arrays.asList(
+                baseUrl + "/missing", baseUrl + "/ok", baseUrl + "/missing")).join();
+
+        assertEquals(Arrays.asList(baseUrl + "/missing", baseUrl + "/ok"), Arrays.asList(
+                statuses.keySet().toArray()));
+        assertTrue(statuses.get(baseUrl + "/missing").isBroken());
+        assertFalse(statuses.get(baseUrl + "/ok").isBroken());
+        assertEquals(1, requestCounts.get("/ok").get());
+    }
+
+    private void respond(HttpExchange exchange, int statusCode) throws IOException {
+        requestCounts.computeIfAbsent(exchange.getRequestURI().getPath(), unused -> new AtomicInteger())
+                .incrementAndGet();
+        exchange.sendResponseHeaders(statusCode, -1);
+        exchange.close();
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.saveit.logic.parser;
+
+import static seedu.saveit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.saveit.logic.commands.ExportCommand;
+import seedu.saveit.storage.exporter.ExportFormat;
+
+public class ExportCommandParserTest {
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " issues.json",
+                new ExportCommand(Paths.get("issues.json"), ExportFormat.JSON, false));
+        assertParseSuccess(parser, " view  site/index.html ",
+                new ExportCommand(Paths.get("site/index.html"), ExportFormat.HTML, true));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, " view issues.md", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
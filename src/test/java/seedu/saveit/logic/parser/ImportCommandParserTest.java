@@ -0,0 +1,35 @@
+package seedu.saveit.logic.parser;
+
+import static seedu.saveit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.saveit.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.saveit.logic.commands.ImportCommand;
+import seedu.saveit.storage.importer.ImportFormat;
+
+public class ImportCommandParserTest {
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validPath_returnsImportCommand() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + "data/bookmarks.md",
+                new ImportCommand(Paths.get("data/bookmarks.md"), ImportFormat.MARKDOWN));
+        assertParseSuccess(parser, " issues.json ", new ImportCommand(Paths.get("issues.json"), ImportFormat.JSON));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, PREAMBLE_WHITESPACE,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "saveit.xml", ImportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
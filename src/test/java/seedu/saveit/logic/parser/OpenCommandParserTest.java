@@ -0,0 +1,39 @@
+package seedu.saveit.logic.parser;
+
+import static seedu.saveit.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.saveit.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.saveit.logic.commands.OpenCommand;
+import seedu.saveit.model.NotebookManager;
+
+public class OpenCommandParserTest {
+
+    private OpenCommandParser parser = new OpenCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "team/alpha", NotebookManager.MESSAGE_NOTEBOOK_NAME_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_nameOnly_returnsOpenCommand() {
+        assertParseSuccess(parser, " team-alpha ", new OpenCommand("team-alpha", Optional.empty()));
+    }
+
+    @Test
+    public void parse_nameAndFilePath_returnsOpenCommand() {
+        assertParseSuccess(parser, "alpha   data/my notes.xml",
+                new OpenCommand("alpha", Optional.of(Paths.get("data", "my notes.xml"))));
+    }
+}
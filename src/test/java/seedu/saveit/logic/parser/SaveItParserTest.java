@@ -14,9 +14,11 @@ import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_ISSUE;
 import static seedu.saveit.testutil.TypicalIndexes.INDEX_THIRD_ISSUE;
 import static seedu.saveit.testutil.TypicalIssues.INITIALIZED_ISSUE_FREQUENCY;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,12 +34,14 @@ import seedu.saveit.logic.commands.DeleteCommand;
 import seedu.saveit.logic.commands.EditCommand;
 import seedu.saveit.logic.commands.EditCommand.EditIssueDescriptor;
 import seedu.saveit.logic.commands.ExitCommand;
+import seedu.saveit.logic.commands.FindAllCommand;
 import seedu.saveit.logic.commands.FindByTagCommand;
 import seedu.saveit.logic.commands.FindCommand;
 import seedu.saveit.logic.commands.HelpCommand;
 import seedu.saveit.logic.commands.HistoryCommand;
 import seedu.saveit.logic.commands.HomeCommand;
 import seedu.saveit.logic.commands.ListCommand;
+import seedu.saveit.logic.commands.OpenCommand;
 import seedu.saveit.logic.commands.RedoCommand;
 import seedu.saveit.logic.commands.RefactorTagCommand;
 import seedu.saveit.logic.commands.ResetPrimaryCommand;
@@ -45,6 +49,8 @@ import seedu.saveit.logic.commands.RetrieveCommand;
 import seedu.saveit.logic.commands.SelectCommand;
 import seedu.saveit.logic.commands.SetPrimaryCommand;
 import seedu.saveit.logic.commands.SortCommand;
+import seedu.saveit.logic.commands.StatsCommand;
+import seedu.saveit.logic.commands.SwitchCommand;
 import seedu.saveit.logic.commands.UndoCommand;
 import seedu.saveit.logic.parser.exceptions.ParseException;
 import seedu.saveit.model.Issue;
@@ -117,6 +123,29 @@ public class SaveItParserTest {
         assertEquals(new FindCommand(new IssueContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findAll() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindAllCommand command = (FindAllCommand) parser.parseCommand(
+            FindAllCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindAllCommand(new IssueContainsKeywordsPredicate(keywords)), command);
+        assertTrue(parser.parseCommand(FindAllCommand.COMMAND_ALIAS + " foo") instanceof FindAllCommand);
+    }
+
+    @Test
+    public void parseCommand_open() throws Exception {
+        assertEquals(new OpenCommand("alpha", Optional.of(Paths.get("data", "alpha.xml"))),
+                parser.parseCommand(OpenCommand.COMMAND_WORD + " alpha data/alpha.xml"));
+        assertEquals(new OpenCommand("alpha", Optional.empty()),
+                parser.parseCommand(OpenCommand.COMMAND_ALIAS + " alpha"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchCommand("alpha"), parser.parseCommand(SwitchCommand.COMMAND_WORD + " alpha"));
+        assertEquals(new SwitchCommand("alpha"), parser.parseCommand(SwitchCommand.COMMAND_ALIAS + " alpha"));
+    }
+
     @Test
     public void parseCommand_findByTag() throws Exception {
         assertTrue(parser.parseCommand(FindByTagCommand.COMMAND_WORD + " "
@@ -129,6 +158,12 @@ public class SaveItParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_ALIAS + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -0,0 +1,63 @@
+package seedu.saveit.logic.suggestions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.saveit.logic.suggestion.SuggestionVocabulary;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.SaveItSnapshot;
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.testutil.SaveItBuilder;
+
+public class SuggestionVocabularyTest {
+
+    private final SaveItSnapshot snapshot = new SaveItSnapshot(new SaveItBuilder()
+            .withIssue(new IssueBuilder().withStatement("java stream").withTags("java", "javafx")
+                    .withFrequency(1).withLastModifiedTime(1000L).build())
+            .withIssue(new IssueBuilder().withStatement("Java generics").withTags("Java", "python")
+                    .withFrequency(5).withLastModifiedTime(2000L).build())
+            .withIssue(new IssueBuilder().withStatement("python loop").withTags("java", "javascript")
+                    .withFrequency(1).withLastModifiedTime(3000L).build())
+            .build(), 1);
+
+    @Test
+    public void getTopTags_rankedByPopularityThenRecency() {
+        SuggestionVocabulary vocabulary = SuggestionVocabulary.of(snapshot);
+
+        // java is on 3 issues, javascript was used more recently than javafx
+        assertEquals(Arrays.asList("java", "javascript", "javafx"), vocabulary.getTopTags("ja", 5));
+
+        // case-insensitive prefix
+        assertEquals(Collections.singletonList("python"), vocabulary.getTopTags("PY", 5));
+
+        // no match
+        assertTrue(vocabulary.getTopTags("c", 5).isEmpty());
+    }
+
+    @Test
+    public void getTopTags_limit_onlyBestReturned() {
+        SuggestionVocabulary vocabulary = SuggestionVocabulary.of(snapshot);
+        assertEquals(Arrays.asList("java", "javascript"), vocabulary.getTopTags("java", 2));
+        assertTrue(vocabulary.getTopTags("java", 0).isEmpty());
+    }
+
+    @Test
+    public void getTopStatements_rankedByFrequencyThenRecency() {
+        SuggestionVocabulary vocabulary = SuggestionVocabulary.of(snapshot);
+        assertEquals(Arrays.asList("Java generics", "java stream"), vocabulary.getTopStatements("java", 5));
+        assertEquals(Collections.singletonList("python loop"), vocabulary.getTopStatements(" python l", 5));
+    }
+
+    @Test
+    public void of_sameSnapshot_vocabularyReused() {
+        assertSame(SuggestionVocabulary.of(snapshot), SuggestionVocabulary.of(snapshot));
+        assertNotSame(SuggestionVocabulary.of(snapshot), SuggestionVocabulary.of(new SaveItSnapshot(new SaveIt(), 2)));
+    }
+}
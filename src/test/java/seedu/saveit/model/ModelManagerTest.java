@@ -1,25 +1,44 @@
 package seedu.saveit.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.saveit.model.Model.PREDICATE_SHOW_ALL_ISSUES;
 import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
 import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.RUBY_HASH_BUG;
+import static seedu.saveit.testutil.TypicalIssues.TRAVIS_BUILD;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.commons.events.model.SaveItChangedEvent;
 import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.util.IssueContentHash;
+import seedu.saveit.testutil.IssueBuilder;
 import seedu.saveit.testutil.SaveItBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -39,6 +58,177 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasIssue(JAVA_NULL_POINTER));
     }
 
+    @Test
+    public void getSnapshot_modelChanged_newSnapshotPublished() {
+        SaveItSnapshot initialSnapshot = modelManager.getSnapshot();
+        modelManager.addIssue(JAVA_NULL_POINTER);
+
+        // earlier snapshot is unaffected by the change
+        assertTrue(initialSnapshot.getIssues().isEmpty());
+
+        // latest snapshot reflects the change
+        SaveItSnapshot latestSnapshot = modelManager.getSnapshot();
+        assertTrue(latestSnapshot.getVersion() > initialSnapshot.getVersion());
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), latestSnapshot.getIssues());
+    }
+
+    @Test
+    public void filterIssues_issuesFound_frequencyIncreasedInNewSnapshotOnly() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        modelManager.addIssue(C_SEGMENTATION_FAULT);
+        SaveItSnapshot initialSnapshot = modelManager.getSnapshot();
+
+        modelManager.filterIssues(JAVA_NULL_POINTER::isSameIssue);
+        SaveItSnapshot latestSnapshot = modelManager.getSnapshot();
+        assertEquals(Integer.valueOf(1), latestSnapshot.getIssues().get(0).getFrequency().getValue());
+        assertEquals(Integer.valueOf(0), latestSnapshot.getIssues().get(1).getFrequency().getValue());
+
+        // the issues of earlier snapshots are not changed
+        assertEquals(Integer.valueOf(0), initialSnapshot.getIssues().get(0).getFrequency().getValue());
+    }
+
+    @Test
+    public void filterIssues_issuesFound_savedOnlyWithNextSave() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        eventsCollectorRule.eventsCollector.reset();
+
+        // a search does not save the data file
+        modelManager.filterIssues(JAVA_NULL_POINTER::isSameIssue);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.saveSearchFrequencies();
+        SaveItChangedEvent event = (SaveItChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Integer.valueOf(1), event.data.getIssueList().get(0).getFrequency().getValue());
+
+        // the frequencies are only saved once
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.saveSearchFrequencies();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void commitSaveIt_changePublished_snapshotReused() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        SaveItSnapshot publishedSnapshot = modelManager.getSnapshot();
+        modelManager.commitSaveIt();
+        assertSame(publishedSnapshot, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getFilteredAndSortedIssueSnapshot_listFiltered_snapshotUpdated() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        modelManager.addIssue(C_SEGMENTATION_FAULT);
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT),
+                modelManager.getFilteredAndSortedIssueSnapshot());
+
+        modelManager.updateFilteredIssueList(issue -> issue.equals(C_SEGMENTATION_FAULT));
+        assertEquals(Collections.singletonList(C_SEGMENTATION_FAULT),
+                modelManager.getFilteredAndSortedIssueSnapshot());
+    }
+
+    @Test
+    public void getFilteredAndSortedIssueSnapshot_readOnOtherThread_latestCopyReturned() throws Exception {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        List<Issue> copy = modelManager.getFilteredAndSortedIssueSnapshot();
+        assertSame(copy, modelManager.getFilteredAndSortedIssueSnapshot());
+
+        // only the thread that changed the list copies it
+        modelManager.addIssue(C_SEGMENTATION_FAULT);
+        assertSame(copy, CompletableFuture.supplyAsync(modelManager::getFilteredAndSortedIssueSnapshot).get());
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT),
+                modelManager.getFilteredAndSortedIssueSnapshot());
+    }
+
+    @Test
+    public void completeLoading_issuesAppended_loadedIssuesCannotBeUndone() {
+        modelManager.appendLoadedIssues(Collections.singletonList(JAVA_NULL_POINTER));
+        modelManager.appendLoadedIssues(Collections.singletonList(C_SEGMENTATION_FAULT));
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT), modelManager.getSnapshot().getIssues());
+
+        modelManager.completeLoading();
+        assertFalse(modelManager.canUndoSaveIt());
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT),
+                modelManager.getFilteredAndSortedIssueList());
+    }
+
+    @Test
+    public void discardLoadedIssues_issuesAppended_issuesRemoved() {
+        modelManager.appendLoadedIssues(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT));
+        modelManager.discardLoadedIssues();
+        assertTrue(modelManager.getSnapshot().getIssues().isEmpty());
+    }
+
+    @Test
+    public void applyIssueChanges_issuesUnchangedInApp_changesApplied() {
+        modelManager.appendLoadedIssues(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT));
+        modelManager.completeLoading();
+        Issue editedIssue = new IssueBuilder(JAVA_NULL_POINTER).withDescription("edited outside").build();
+        List<IssueChange> changes = Arrays.asList(
+                new IssueChange(JAVA_NULL_POINTER.getStatement(), getContentHash(JAVA_NULL_POINTER),
+                        Optional.of(editedIssue)),
+                new IssueChange(C_SEGMENTATION_FAULT.getStatement(), getContentHash(C_SEGMENTATION_FAULT),
+                        Optional.empty()),
+                new IssueChange(RUBY_HASH_BUG.getStatement(), OptionalLong.empty(), Optional.of(RUBY_HASH_BUG)));
+
+        assertEquals(3, modelManager.applyIssueChanges(changes));
+        assertEquals(Arrays.asList(editedIssue, RUBY_HASH_BUG), modelManager.getSnapshot().getIssues());
+        assertEquals("edited outside",
+                modelManager.getSnapshot().getIssues().get(0).getDescription().toString());
+
+        // the changes made outside of the app are not reverted by an undo
+        assertFalse(modelManager.canUndoSaveIt());
+    }
+
+    @Test
+    public void applyIssueChanges_changesMadeInAppBefore_cannotBeUndone() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        modelManager.commitSaveIt();
+        assertTrue(modelManager.canUndoSaveIt());
+
+        List<IssueChange> changes = Collections.singletonList(new IssueChange(RUBY_HASH_BUG.getStatement(),
+                OptionalLong.empty(), Optional.of(RUBY_HASH_BUG)));
+        assertEquals(1, modelManager.applyIssueChanges(changes));
+        assertFalse(modelManager.canUndoSaveIt());
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, RUBY_HASH_BUG), modelManager.getSnapshot().getIssues());
+    }
+
+    @Test
+    public void applyIssueChanges_issueChangedInApp_appChangesKept() {
+        Issue changedInApp = new IssueBuilder(JAVA_NULL_POINTER).withDescription("edited in app").build();
+        modelManager.addIssue(changedInApp);
+        Issue changedOutside = new IssueBuilder(JAVA_NULL_POINTER).withDescription("edited outside").build();
+        List<IssueChange> changes = Collections.singletonList(new IssueChange(JAVA_NULL_POINTER.getStatement(),
+                getContentHash(JAVA_NULL_POINTER), Optional.of(changedOutside)));
+
+        assertEquals(0, modelManager.applyIssueChanges(changes));
+        assertEquals("edited in app", modelManager.getSnapshot().getIssues().get(0).getDescription().toString());
+        assertFalse(modelManager.canUndoSaveIt());
+    }
+
+    @Test
+    public void applyIssueChanges_changeAlreadyMade_notApplied() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        List<IssueChange> changes = Collections.singletonList(new IssueChange(JAVA_NULL_POINTER.getStatement(),
+                OptionalLong.empty(), Optional.of(JAVA_NULL_POINTER)));
+
+        assertEquals(0, modelManager.applyIssueChanges(changes));
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), modelManager.getSnapshot().getIssues());
+    }
+
+    @Test
+    public void getFilteredAndSortedSolutionList_primarySolutionLast_issueSolutionsNotReordered() {
+        Issue issue = TRAVIS_BUILD.setPrimarySolution(1);
+        List<Solution> savedSolutions = issue.getSolutions();
+        modelManager.addIssue(issue);
+        modelManager.resetDirectory(new Directory(1, 0));
+
+        assertEquals(Arrays.asList(savedSolutions.get(1), savedSolutions.get(0)),
+                modelManager.getFilteredAndSortedSolutionList());
+        // the issue is shared with the snapshots, so its own list keeps its order
+        assertEquals(Arrays.asList(savedSolutions.get(0), savedSolutions.get(1)),
+                new ArrayList<>(issue.getSolutions()));
+    }
+
     @Test
     public void getFilteredAndSortedIssueList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -81,4 +271,8 @@ public class ModelManagerTest {
         differentUserPrefs.setSaveItFilePath(Paths.get("differentFilePath"));
         assertTrue(modelManager.equals(new ModelManager(saveIt, differentUserPrefs)));
     }
+
+    private static OptionalLong getContentHash(Issue issue) {
+        return OptionalLong.of(IssueContentHash.of(issue));
+    }
 }
@@ -0,0 +1,227 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.model.NotebookManager.DEFAULT_NOTEBOOK_NAME;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.RUBY_HASH_BUG;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.commons.core.EventsCenter;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
+import seedu.saveit.commons.events.storage.NotebookPersistedEvent;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.testutil.SaveItBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
+
+public class NotebookManagerTest {
+    private static final Path DEFAULT_FILE = Paths.get("data", "saveit.xml");
+    private static final Path FIRST_FILE = Paths.get("data", "first.xml");
+    private static final Path SECOND_FILE = Paths.get("data", "second.xml");
+    private static final Path BROKEN_FILE = Paths.get("data", "broken.xml");
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ReadOnlySaveIt defaultNotebookData = new SaveItBuilder().withIssue(JAVA_NULL_POINTER).build();
+    private final UserPrefs userPrefs = new UserPrefs();
+    private final Map<Path, ReadOnlySaveIt> dataFiles = new ConcurrentHashMap<>();
+    private final List<Path> loadedFiles = Collections.synchronizedList(new ArrayList<>());
+    private NotebookManager notebooks;
+
+    @Before
+    public void setUp() {
+        userPrefs.setSaveItFilePath(DEFAULT_FILE);
+        dataFiles.put(FIRST_FILE, new SaveItBuilder().withIssue(C_SEGMENTATION_FAULT).build());
+        dataFiles.put(SECOND_FILE, new SaveItBuilder().withIssue(RUBY_HASH_BUG).build());
+        notebooks = new NotebookManager(defaultNotebookData, userPrefs, this::load);
+        notebooks.addNotebook("first", FIRST_FILE);
+        notebooks.addNotebook("second", SECOND_FILE);
+    }
+
+    @After
+    public void tearDown() {
+        notebooks.shutdown();
+    }
+
+    private Optional<ReadOnlySaveIt> load(Path filePath) throws DataConversionException {
+        loadedFiles.add(filePath);
+        if (filePath.equals(BROKEN_FILE)) {
+            throw new DataConversionException(new Exception("broken"));
+        }
+        return Optional.ofNullable(dataFiles.get(filePath));
+    }
+
+    @Test
+    public void constructor_defaultNotebookActive() {
+        assertEquals(DEFAULT_NOTEBOOK_NAME, notebooks.getActiveNotebookName());
+        assertEquals(Arrays.asList("default", "first", "second"), new ArrayList<>(notebooks.getNotebookNames()));
+        assertTrue(notebooks.hasIssue(JAVA_NULL_POINTER));
+        assertTrue(loadedFiles.isEmpty());
+    }
+
+    @Test
+    public void addNotebook_existingName_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        notebooks.addNotebook("first", SECOND_FILE);
+    }
+
+    @Test
+    public void addNotebook_invalidName_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        notebooks.addNotebook("not valid", SECOND_FILE);
+    }
+
+    @Test
+    public void switchNotebook_unknownName_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        notebooks.switchNotebook("unknown");
+    }
+
+    @Test
+    public void switchNotebook_notInMemory_readFromDataFile() throws Exception {
+        notebooks.switchNotebook("first");
+
+        assertEquals("first", notebooks.getActiveNotebookName());
+        assertTrue(notebooks.hasIssue(C_SEGMENTATION_FAULT));
+        assertFalse(notebooks.hasIssue(JAVA_NULL_POINTER));
+        assertEquals(Collections.singletonList(FIRST_FILE), loadedFiles);
+
+        NotebookSwitchedEvent event = (NotebookSwitchedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(DEFAULT_NOTEBOOK_NAME, event.previousNotebookName);
+        assertEquals("first", event.notebookName);
+        assertEquals(FIRST_FILE, event.filePath);
+    }
+
+    @Test
+    public void switchNotebook_missingDataFile_emptyNotebook() throws Exception {
+        notebooks.addNotebook("new", notebooks.getDefaultNotebookFilePath("new"));
+        notebooks.switchNotebook("new");
+
+        assertEquals(Paths.get("data", "new.xml"), loadedFiles.get(0));
+        assertTrue(notebooks.getSaveIt().getIssueList().isEmpty());
+    }
+
+    @Test
+    public void switchNotebook_inMemory_changesKept() throws Exception {
+        notebooks.addIssue(C_SEGMENTATION_FAULT);
+        notebooks.switchNotebook("first");
+        notebooks.switchNotebook(DEFAULT_NOTEBOOK_NAME);
+
+        assertTrue(notebooks.hasIssue(C_SEGMENTATION_FAULT));
+        assertEquals(Collections.singletonList(FIRST_FILE), loadedFiles);
+    }
+
+    @Test
+    public void switchNotebook_overBudget_leastRecentlyUsedUnloaded() throws Exception {
+        // fits the default and the first notebook, but not the second one as well
+        userPrefs.setNotebookMemoryBudget(NotebookManager.estimateSize(defaultNotebookData)
+                + NotebookManager.estimateSize(getFirstNotebookData()));
+        notebooks.switchNotebook("first");
+        assertTrue(notebooks.isResident(DEFAULT_NOTEBOOK_NAME));
+
+        notebooks.switchNotebook("second");
+        assertFalse(notebooks.isResident(DEFAULT_NOTEBOOK_NAME));
+        assertTrue(notebooks.isResident("first"));
+        assertTrue(notebooks.isResident("second"));
+    }
+
+    @Test
+    public void switchNotebook_unloadedBeforePersisted_changesKept() throws Exception {
+        userPrefs.setNotebookMemoryBudget(0);
+        notebooks.addIssue(C_SEGMENTATION_FAULT);
+        notebooks.switchNotebook("first");
+        assertFalse(notebooks.isResident(DEFAULT_NOTEBOOK_NAME));
+
+        // the changes are not saved yet, so the data file must not be read
+        notebooks.switchNotebook(DEFAULT_NOTEBOOK_NAME);
+        assertTrue(notebooks.hasIssue(C_SEGMENTATION_FAULT));
+        assertFalse(loadedFiles.contains(DEFAULT_FILE));
+    }
+
+    @Test
+    public void switchNotebook_unloadedAfterPersisted_readFromDataFile() throws Exception {
+        userPrefs.setNotebookMemoryBudget(0);
+        notebooks.switchNotebook("first");
+        EventsCenter.getInstance().post(new NotebookPersistedEvent(DEFAULT_NOTEBOOK_NAME));
+
+        notebooks.switchNotebook(DEFAULT_NOTEBOOK_NAME);
+        assertTrue(loadedFiles.contains(DEFAULT_FILE));
+    }
+
+    @Test
+    public void removeNotebook_unloadedBeforePersisted_addedAgainReadFromDataFile() throws Exception {
+        userPrefs.setNotebookMemoryBudget(0);
+        notebooks.switchNotebook("first");
+        notebooks.addIssue(RUBY_HASH_BUG);
+        notebooks.switchNotebook(DEFAULT_NOTEBOOK_NAME);
+        assertFalse(notebooks.isResident("first"));
+
+        // the changes of the removed notebook are not used for a notebook added under its name
+        notebooks.removeNotebook("first");
+        notebooks.addNotebook("first", SECOND_FILE);
+        notebooks.switchNotebook("first");
+        assertEquals(Arrays.asList(FIRST_FILE, SECOND_FILE), loadedFiles);
+        assertFalse(notebooks.hasIssue(C_SEGMENTATION_FAULT));
+    }
+
+    @Test
+    public void findInAllNotebooks_matchesInEveryNotebook() throws Exception {
+        notebooks.switchNotebook("first");
+        SortedMap<String, List<Issue>> results = notebooks.findInAllNotebooks(issue -> true).get();
+
+        assertEquals(Arrays.asList("default", "first", "second"), new ArrayList<>(results.keySet()));
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), results.get(DEFAULT_NOTEBOOK_NAME));
+        assertEquals(Collections.singletonList(C_SEGMENTATION_FAULT), results.get("first"));
+        assertEquals(Collections.singletonList(RUBY_HASH_BUG), results.get("second"));
+
+        // notebooks searched from their data file are not kept in memory
+        assertFalse(notebooks.isResident("second"));
+    }
+
+    @Test
+    public void findInAllNotebooks_unreadableNotebook_leftOut() throws Exception {
+        notebooks.addNotebook("broken", BROKEN_FILE);
+        SortedMap<String, List<Issue>> results = notebooks.findInAllNotebooks(JAVA_NULL_POINTER::equals).get();
+
+        assertFalse(results.containsKey("broken"));
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), results.get(DEFAULT_NOTEBOOK_NAME));
+        assertTrue(results.get("first").isEmpty());
+    }
+
+    @Test
+    public void estimateSize_moreIssues_larger() {
+        long oneIssueSize = NotebookManager.estimateSize(getFirstNotebookData());
+        long twoIssuesSize = NotebookManager.estimateSize(new SaveItBuilder().withIssue(C_SEGMENTATION_FAULT)
+                .withIssue(RUBY_HASH_BUG).build());
+
+        assertEquals(0, NotebookManager.estimateSize(new SaveIt()));
+        assertTrue(oneIssueSize > 0);
+        assertTrue(twoIssuesSize > oneIssueSize);
+    }
+
+    private ReadOnlySaveIt getFirstNotebookData() {
+        return dataFiles.get(FIRST_FILE);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.testutil.SaveItBuilder;
+
+public class SaveItSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new SaveItSnapshot(null, 0);
+    }
+
+    @Test
+    public void constructor_sourceModifiedAfterwards_snapshotUnchanged() {
+        SaveIt saveIt = new SaveItBuilder().withIssue(JAVA_NULL_POINTER).build();
+        SaveItSnapshot snapshot = new SaveItSnapshot(saveIt, 1);
+
+        saveIt.addIssue(C_SEGMENTATION_FAULT);
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), snapshot.getIssues());
+        assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    public void constructor_fromSnapshot_sharesIssueList() {
+        SaveItSnapshot snapshot = new SaveItSnapshot(new SaveItBuilder().withIssue(JAVA_NULL_POINTER).build(), 1);
+        SaveItSnapshot copy = new SaveItSnapshot(snapshot, 2);
+        assertSame(snapshot.getIssues(), copy.getIssues());
+        assertEquals(2, copy.getVersion());
+    }
+
+    @Test
+    public void getIssues_modifyList_throwsUnsupportedOperationException() {
+        SaveItSnapshot snapshot = new SaveItSnapshot(new SaveIt(), 1);
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.getIssues().add(JAVA_NULL_POINTER);
+    }
+
+    @Test
+    public void filter() {
+        SaveIt saveIt = new SaveItBuilder().withIssue(JAVA_NULL_POINTER).withIssue(C_SEGMENTATION_FAULT).build();
+        SaveItSnapshot snapshot = new SaveItSnapshot(saveIt, 1);
+        assertEquals(Arrays.asList(C_SEGMENTATION_FAULT), snapshot.filter(C_SEGMENTATION_FAULT::isSameIssue));
+    }
+
+    @Test
+    public void equals() {
+        SaveIt saveIt = new SaveItBuilder().withIssue(JAVA_NULL_POINTER).build();
+        SaveItSnapshot snapshot = new SaveItSnapshot(saveIt, 1);
+
+        // same issues, different version -> returns true
+        assertTrue(snapshot.equals(new SaveItSnapshot(saveIt, 2)));
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different issues -> returns false
+        assertFalse(snapshot.equals(new SaveItSnapshot(new SaveIt(), 1)));
+    }
+}
@@ -3,21 +3,34 @@ package seedu.saveit.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.saveit.testutil.TypicalIssues.RUBY_HASH_BUG;
 import static seedu.saveit.testutil.TypicalIssues.VALID_C_ISSUE;
 import static seedu.saveit.testutil.TypicalIssues.VALID_JAVA_ISSUE;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.saveit.commons.jfr.ModelVersionEvent;
 import seedu.saveit.testutil.SaveItBuilder;
 
 public class VersionedSaveItTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private final ReadOnlySaveIt saveItWithAmy = new SaveItBuilder().withIssue(VALID_JAVA_ISSUE).build();
     private final ReadOnlySaveIt saveItWithBob = new SaveItBuilder().withIssue(VALID_C_ISSUE).build();
     private final ReadOnlySaveIt saveItWithCarl = new SaveItBuilder().withIssue(RUBY_HASH_BUG).build();
@@ -207,6 +220,32 @@ public class VersionedSaveItTest {
         assertThrows(VersionedSaveIt.NoRedoableStateException.class, versionedSaveIt::redo);
     }
 
+    @Test
+    public void commitUndoRedo_recording_modelVersionEventsCommitted() throws Exception {
+        assumeTrue(FlightRecorder.isAvailable());
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(emptySaveIt);
+        Path recordingFile = testFolder.getRoot().toPath().resolve("model.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ModelVersionEvent.class).withoutThreshold();
+            recording.start();
+            versionedSaveIt.resetData(saveItWithAmy);
+            versionedSaveIt.commit();
+            versionedSaveIt.undo();
+            versionedSaveIt.redo();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<String> operations = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+            operations.add(event.getString("operation"));
+            assertEquals(2, event.getInt("stateCount"));
+        }
+        assertEquals(Arrays.asList(ModelVersionEvent.COMMIT, ModelVersionEvent.UNDO, ModelVersionEvent.REDO),
+                operations);
+    }
+
     @Test
     public void equals() {
         VersionedSaveIt versionedSaveIt = prepareSaveItList(saveItWithAmy, saveItWithBob);
@@ -0,0 +1,62 @@
+package seedu.saveit.model.issue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.testutil.SolutionBuilder;
+
+public class IssueHasSolutionLinkPredicateTest {
+
+    private static final String LINK = "https://stackoverflow.com/questions/1";
+
+    @Test
+    public void equals() {
+        Set<String> firstLinks = Collections.singleton(LINK);
+        IssueHasSolutionLinkPredicate firstPredicate = new IssueHasSolutionLinkPredicate(firstLinks);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IssueHasSolutionLinkPredicate(new HashSet<>(firstLinks))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different links -> returns false
+        assertFalse(firstPredicate.equals(new IssueHasSolutionLinkPredicate(Collections.emptySet())));
+    }
+
+    @Test
+    public void test_issueHasLink_returnsTrue() {
+        IssueHasSolutionLinkPredicate predicate = new IssueHasSolutionLinkPredicate(Collections.singleton(LINK));
+        assertTrue(predicate.test(new IssueBuilder()
+                .withSolutions(new SolutionBuilder().withLink("https://example.com").build(),
+                        new SolutionBuilder().withLink(LINK).build())
+                .build()));
+    }
+
+    @Test
+    public void test_issueDoesNotHaveLink_returnsFalse() {
+        // no solutions
+        IssueHasSolutionLinkPredicate predicate = new IssueHasSolutionLinkPredicate(Collections.singleton(LINK));
+        assertFalse(predicate.test(new IssueBuilder().withSolutions().build()));
+
+        // different link
+        assertFalse(predicate.test(new IssueBuilder()
+                .withSolutions(new SolutionBuilder().withLink("https://example.com").build()).build()));
+
+        // no links
+        assertFalse(new IssueHasSolutionLinkPredicate(Collections.emptySet()).test(new IssueBuilder().build()));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.saveit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.saveit.testutil.IssueBuilder;
+
+public class IssueContentHashTest {
+
+    @Test
+    public void of_sameContent_sameHash() {
+        assertEquals(IssueContentHash.of(JAVA_NULL_POINTER),
+                IssueContentHash.of(new IssueBuilder(JAVA_NULL_POINTER).build()));
+    }
+
+    @Test
+    public void of_differentContent_differentHash() {
+        long hash = IssueContentHash.of(JAVA_NULL_POINTER);
+
+        // different description
+        assertNotEquals(hash, IssueContentHash.of(new IssueBuilder(JAVA_NULL_POINTER)
+                .withDescription("different").build()));
+
+        // different tags
+        assertNotEquals(hash, IssueContentHash.of(new IssueBuilder(JAVA_NULL_POINTER).withTags("different").build()));
+
+        // different search frequency
+        assertNotEquals(hash, IssueContentHash.of(new IssueBuilder(JAVA_NULL_POINTER).withFrequency(42).build()));
+
+        // different last modified time
+        assertNotEquals(hash, IssueContentHash.of(new IssueBuilder(JAVA_NULL_POINTER)
+                .withLastModifiedTime(JAVA_NULL_POINTER.getLastModifiedTime().getTime() + 1).build()));
+    }
+
+    @Test
+    public void ofIssues_differentOrder_differentHash() {
+        assertNotEquals(IssueContentHash.ofIssues(Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT)),
+                IssueContentHash.ofIssues(Arrays.asList(C_SEGMENTATION_FAULT, JAVA_NULL_POINTER)));
+    }
+}
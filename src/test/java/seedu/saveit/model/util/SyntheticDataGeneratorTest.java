@@ -0,0 +1,55 @@
+package seedu.saveit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Tag;
+
+public class SyntheticDataGeneratorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void generateIssues_negativeCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SyntheticDataGenerator(1).generateIssues(-1);
+    }
+
+    @Test
+    public void generateIssues_sameSeed_sameIssues() {
+        assertEquals(toStrings(new SyntheticDataGenerator(7).generateIssues(100)),
+                toStrings(new SyntheticDataGenerator(7).generateIssues(100)));
+        assertNotEquals(toStrings(new SyntheticDataGenerator(7).generateIssues(100)),
+                toStrings(new SyntheticDataGenerator(8).generateIssues(100)));
+    }
+
+    @Test
+    public void generateIssues_statementsDistinct() {
+        List<Issue> issues = new SyntheticDataGenerator(1).generateIssues(5000);
+        assertEquals(issues.size(), issues.stream().map(Issue::getStatement).distinct().count());
+    }
+
+    @Test
+    public void generateIssues_commonTagsOnManyIssues() {
+        List<Issue> issues = new SyntheticDataGenerator(1).generateIssues(1000);
+        long javaIssueCount = issues.stream().filter(issue -> issue.getTags().contains(new Tag("java"))).count();
+        long rareTagIssueCount = issues.stream().filter(issue -> issue.getTags().contains(new Tag("docs6")))
+                .count();
+        assertTrue(javaIssueCount > 250);
+        assertTrue(rareTagIssueCount < 10);
+    }
+
+    private static List<String> toStrings(List<Issue> issues) {
+        return issues.stream().map(Issue::toString).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.DUMMY_ISSUE;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
+import seedu.saveit.commons.events.storage.DataFileChangedEvent;
+import seedu.saveit.commons.events.storage.SaveItSavedEvent;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.IssueChange;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.util.IssueContentHash;
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
+
+public class DataFileWatcherTest {
+    private static final long SWITCH_TIMEOUT_SECONDS = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Path filePath;
+    private XmlSaveItStorage saveItStorage;
+    private DataFileWatcher dataFileWatcher;
+
+    @Before
+    public void setUp() throws IOException {
+        filePath = testFolder.getRoot().toPath().resolve("saveit.xml").toAbsolutePath();
+        saveItStorage = new XmlSaveItStorage(filePath);
+        dataFileWatcher = new DataFileWatcher(saveItStorage);
+        // watches the file without starting the watcher thread, so that the changes are only checked in the tests
+        dataFileWatcher.handleNotebookSwitchedEvent(
+                new NotebookSwitchedEvent("other", "default", filePath, getTypicalSaveIt()));
+    }
+
+    @After
+    public void tearDown() {
+        dataFileWatcher.stop();
+    }
+
+    @Test
+    public void checkForChanges_fileChangedOutsideApp_changedIssuesReported() throws Exception {
+        SaveIt changedSaveIt = getTypicalSaveIt();
+        Issue editedIssue = new IssueBuilder(JAVA_NULL_POINTER).withDescription("edited outside").build();
+        changedSaveIt.updateIssue(JAVA_NULL_POINTER, editedIssue);
+        changedSaveIt.removeIssue(C_SEGMENTATION_FAULT);
+        changedSaveIt.addIssue(DUMMY_ISSUE);
+        saveItStorage.saveSaveIt(changedSaveIt);
+
+        DataFileChangedEvent event = dataFileWatcher.checkForChanges().get();
+        assertEquals(filePath, event.filePath);
+        assertEquals(Arrays.asList(
+                new IssueChange(JAVA_NULL_POINTER.getStatement(), getContentHash(JAVA_NULL_POINTER),
+                        Optional.of(editedIssue)),
+                new IssueChange(DUMMY_ISSUE.getStatement(), OptionalLong.empty(), Optional.of(DUMMY_ISSUE)),
+                new IssueChange(C_SEGMENTATION_FAULT.getStatement(), getContentHash(C_SEGMENTATION_FAULT),
+                        Optional.empty())),
+                event.changes);
+
+        // the changes are only reported once
+        assertFalse(dataFileWatcher.checkForChanges().isPresent());
+    }
+
+    @Test
+    public void checkForChanges_fileSavedByApp_noChangesReported() throws Exception {
+        SaveIt changedSaveIt = getTypicalSaveIt();
+        changedSaveIt.addIssue(DUMMY_ISSUE);
+        saveItStorage.saveSaveIt(changedSaveIt);
+        dataFileWatcher.handleSaveItSavedEvent(new SaveItSavedEvent(filePath, changedSaveIt));
+
+        assertFalse(dataFileWatcher.checkForChanges().isPresent());
+    }
+
+    @Test
+    public void checkForChanges_otherNotebookSaved_changesStillReported() throws Exception {
+        SaveIt changedSaveIt = getTypicalSaveIt();
+        changedSaveIt.addIssue(DUMMY_ISSUE);
+        saveItStorage.saveSaveIt(changedSaveIt);
+        dataFileWatcher.handleSaveItSavedEvent(new SaveItSavedEvent(filePath.resolveSibling("other.xml"),
+                changedSaveIt));
+
+        assertEquals(1, dataFileWatcher.checkForChanges().get().changes.size());
+    }
+
+    @Test
+    public void checkForChanges_notebookSwitchedWhileReading_switchNotBlockedAndReadDropped() throws Exception {
+        Path otherFilePath = filePath.resolveSibling("other.xml");
+        // switches the notebook on another thread while the data file is read
+        XmlSaveItStorage switchingStorage = new XmlSaveItStorage(filePath) {
+            @Override
+            public Optional<ReadOnlySaveIt> readSaveIt(Path readFilePath)
+                    throws DataConversionException, IOException {
+                Optional<ReadOnlySaveIt> data = super.readSaveIt(readFilePath);
+                CompletableFuture.runAsync(() -> dataFileWatcher.handleNotebookSwitchedEvent(
+                        new NotebookSwitchedEvent("default", "other", otherFilePath, new SaveIt())))
+                        .get(SWITCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return data;
+            }
+        };
+        dataFileWatcher.stop();
+        dataFileWatcher = new DataFileWatcher(switchingStorage);
+        dataFileWatcher.handleNotebookSwitchedEvent(
+                new NotebookSwitchedEvent("other", "default", filePath, getTypicalSaveIt()));
+        SaveIt changedSaveIt = getTypicalSaveIt();
+        changedSaveIt.addIssue(DUMMY_ISSUE);
+        saveItStorage.saveSaveIt(changedSaveIt);
+
+        // the changes read from the previous notebook are not reported against the new one
+        assertFalse(dataFileWatcher.checkForChanges().isPresent());
+    }
+
+    @Test
+    public void checkForChanges_fileMissing_noChangesReported() {
+        assertFalse(dataFileWatcher.checkForChanges().isPresent());
+    }
+
+    @Test
+    public void checkForChanges_fileNotInXmlFormat_noChangesReported() throws Exception {
+        FileUtil.writeToFile(filePath, "<saveit><issues>");
+        assertFalse(dataFileWatcher.checkForChanges().isPresent());
+    }
+
+    private static OptionalLong getContentHash(Issue issue) {
+        return OptionalLong.of(IssueContentHash.of(issue));
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.DataFileCodec;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.util.IssueContentHash;
+import seedu.saveit.model.util.SyntheticDataGenerator;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class ShardedXmlSaveItStorageTest {
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlSaveItStorageTest",
+            "NotXmlFormatSaveIt.xml");
+    private static final int SHARD_COUNT = 8;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private ShardedXmlSaveItStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        storage = new ShardedXmlSaveItStorage(filePath, SHARD_COUNT);
+    }
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ShardedXmlSaveItStorage(filePath, 0);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readSaveIt().isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        storage.readSaveIt(NOT_XML_FILE);
+    }
+
+    @Test
+    public void readAndSaveSaveIt_allInOrder_success() throws Exception {
+        SaveIt original = new SyntheticDataGenerator(1).generateSaveIt(200);
+        storage.saveSaveIt(original);
+
+        // issues are read back in the order they were saved, not in the order they were created
+        ReadOnlySaveIt readBack = storage.readSaveIt().get();
+        assertEquals(getOrderedContentHashes(original), getOrderedContentHashes(readBack));
+
+        // one file per shard, all of them named by the manifest
+        assertEquals(XmlShardManifest.ROOT_ELEMENT_NAME, XmlUtil.getRootElementName(filePath));
+        assertEquals(SHARD_COUNT, getShardFileNames().size());
+    }
+
+    @Test
+    public void saveSaveIt_oneIssueChanged_onlyItsShardRewritten() throws Exception {
+        SaveIt saveIt = new SyntheticDataGenerator(1).generateSaveIt(200);
+        storage.saveSaveIt(saveIt);
+        Set<String> initialFileNames = getShardFileNames();
+
+        Issue target = saveIt.getIssueList().get(42);
+        saveIt.updateIssue(target, new IssueBuilder(target).withDescription("changed").build());
+        storage.saveSaveIt(saveIt);
+        Set<String> newFileNames = getShardFileNames();
+
+        Set<String> writtenFileNames = new HashSet<>(newFileNames);
+        writtenFileNames.removeAll(initialFileNames);
+        assertEquals(Collections.singleton(String.format("shard-%d-2.xml", storage.getShardIndex(target))),
+                writtenFileNames);
+        // the replaced file is deleted
+        assertEquals(SHARD_COUNT, newFileNames.size());
+        assertEquals(getContentHashes(saveIt), getContentHashes(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_issueRemoved_onlyItsShardRewritten() throws Exception {
+        SaveIt saveIt = new SyntheticDataGenerator(1).generateSaveIt(200);
+        storage.saveSaveIt(saveIt);
+        Set<String> initialFileNames = getShardFileNames();
+
+        // the issues after the removed one keep their positions, so their shards are not rewritten
+        Issue target = saveIt.getIssueList().get(0);
+        saveIt.removeIssue(target);
+        storage.saveSaveIt(saveIt);
+
+        Set<String> writtenFileNames = getShardFileNames();
+        writtenFileNames.removeAll(initialFileNames);
+        assertEquals(Collections.singleton(String.format("shard-%d-2.xml", storage.getShardIndex(target))),
+                writtenFileNames);
+        assertEquals(getOrderedContentHashes(saveIt), getOrderedContentHashes(storage.readSaveIt().get()));
+
+        // positions are also kept by a storage which has only read the data
+        ShardedXmlSaveItStorage reopened = new ShardedXmlSaveItStorage(filePath, SHARD_COUNT);
+        ReadOnlySaveIt readBack = reopened.readSaveIt().get();
+        reopened.saveSaveIt(readBack);
+        assertEquals(2, XmlUtil.getDataFromFile(filePath, XmlShardManifest.class).getGeneration());
+    }
+
+    @Test
+    public void saveSaveIt_issueMovedToEnd_orderKept() throws Exception {
+        SaveIt saveIt = new SyntheticDataGenerator(1).generateSaveIt(50);
+        storage.saveSaveIt(saveIt);
+
+        List<Issue> issues = new ArrayList<>(saveIt.getIssueList());
+        issues.add(issues.remove(0));
+        saveIt.setIssues(issues);
+        storage.saveSaveIt(saveIt);
+        assertEquals(getOrderedContentHashes(saveIt), getOrderedContentHashes(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_nothingChanged_manifestKept() throws Exception {
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        storage.saveSaveIt(saveIt);
+
+        assertEquals(1, XmlUtil.getDataFromFile(filePath, XmlShardManifest.class).getGeneration());
+        assertFalse(Files.exists(filePath.resolveSibling("saveit.xml.tmp")));
+    }
+
+    @Test
+    public void saveSaveIt_singleFile_replacedByShards() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        new XmlSaveItStorage(filePath).saveSaveIt(original);
+        assertEquals(getContentHashes(original), getContentHashes(storage.readSaveIt().get()));
+
+        storage.saveSaveIt(storage.readSaveIt().get());
+        assertEquals(XmlShardManifest.ROOT_ELEMENT_NAME, XmlUtil.getRootElementName(filePath));
+        assertEquals(getContentHashes(original), getContentHashes(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_shardCountChanged_allShardsRewritten() throws Exception {
+        SaveIt original = new SyntheticDataGenerator(2).generateSaveIt(100);
+        storage.saveSaveIt(original);
+
+        ShardedXmlSaveItStorage resharded = new ShardedXmlSaveItStorage(filePath, 3);
+        resharded.saveSaveIt(original);
+        assertEquals(new HashSet<>(Arrays.asList("shard-0-2.xml", "shard-1-2.xml", "shard-2-2.xml")),
+                getShardFileNames());
+        assertEquals(getContentHashes(original), getContentHashes(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void saveSaveIt_codecChanged_allShardsRewritten() throws Exception {
+        SaveIt original = new SyntheticDataGenerator(2).generateSaveIt(100);
+        storage.saveSaveIt(original);
+
+        ShardedXmlSaveItStorage compressed = new ShardedXmlSaveItStorage(filePath, SHARD_COUNT,
+                DataFileCodec.DEFLATE_FAST);
+        compressed.saveSaveIt(original);
+        assertEquals(DataFileCodec.DEFLATE_FAST, XmlUtil.getDataFromFile(filePath, XmlShardManifest.class).getCodec());
+        assertTrue(getShardFileNames().stream().allMatch(fileName -> fileName.endsWith("-2.xml")));
+        assertEquals(getContentHashes(original), getContentHashes(storage.readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_missingShardFile_throwsIOException() throws Exception {
+        storage.saveSaveIt(getTypicalSaveIt());
+        Files.delete(ShardedXmlSaveItStorage.getShardFolder(filePath).resolve("shard-0-1.xml"));
+
+        thrown.expect(IOException.class);
+        storage.readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_samePositionInTwoShards_throwsDataConversionException() throws Exception {
+        Path shardFolder = ShardedXmlSaveItStorage.getShardFolder(filePath);
+        Files.createDirectories(shardFolder);
+        List<XmlAdaptedShard> shards = new ArrayList<>();
+        for (Issue issue : Arrays.asList(JAVA_NULL_POINTER, C_SEGMENTATION_FAULT)) {
+            String fileName = String.format("shard-%d-1.xml", shards.size());
+            Path shardFile = shardFolder.resolve(fileName);
+            FileUtil.createIfMissing(shardFile);
+            XmlUtil.saveDataToFile(shardFile, new XmlSerializableSaveIt(Collections.singletonList(issue),
+                    Collections.singletonList(0L)));
+            shards.add(new XmlAdaptedShard(fileName, 1, 0));
+        }
+        FileUtil.createIfMissing(filePath);
+        XmlUtil.saveDataToFile(filePath, new XmlShardManifest(1, DataFileCodec.NONE, shards));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_shardFileOutsideFolder_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(filePath);
+        XmlUtil.saveDataToFile(filePath, new XmlShardManifest(1, DataFileCodec.NONE,
+                Collections.singletonList(new XmlAdaptedShard("../saveit.xml", 0, 0))));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSaveIt();
+    }
+
+    @Test
+    public void readIssues_manyIssues_handedOverInBatches() throws Exception {
+        storage.saveSaveIt(new SyntheticDataGenerator(1).generateSaveIt(1200));
+
+        List<Integer> batchSizes = new ArrayList<>();
+        assertTrue(storage.readIssues(batch -> batchSizes.add(batch.size())));
+        assertEquals(Arrays.asList(500, 500, 200), batchSizes);
+    }
+
+    private Set<String> getShardFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(ShardedXmlSaveItStorage.getShardFolder(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Returns the content hashes of the issues of {@code saveIt}, in the order of the issue list.
+     */
+    private List<Long> getOrderedContentHashes(ReadOnlySaveIt saveIt) {
+        return saveIt.getIssueList().stream().map(IssueContentHash::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the content hashes of the issues of {@code saveIt}, in ascending order.
+     */
+    private List<Long> getContentHashes(ReadOnlySaveIt saveIt) {
+        return saveIt.getIssueList().stream().map(IssueContentHash::of).sorted().collect(Collectors.toList());
+    }
+}
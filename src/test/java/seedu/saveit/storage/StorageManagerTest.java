@@ -1,21 +1,28 @@
 package seedu.saveit.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.saveit.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.saveit.commons.events.model.NotebookSwitchedEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.events.storage.NotebookPersistedEvent;
 import seedu.saveit.commons.events.storage.DataSavingExceptionEvent;
+import seedu.saveit.commons.events.storage.SaveItSavedEvent;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 import seedu.saveit.model.UserPrefs;
@@ -34,7 +41,9 @@ public class StorageManagerTest {
     public void setUp() {
         XmlSaveItStorage saveItStorage = new XmlSaveItStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(saveItStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(getTempFilePath("history"));
+        storageManager = new StorageManager(saveItStorage, userPrefsStorage, commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -69,16 +78,55 @@ public class StorageManagerTest {
         assertEquals(original, new SaveIt(retrieved));
     }
 
+    @Test
+    public void commandHistoryReadAppend() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextCommandHistoryStorage} class.
+         * More extensive testing of command history saving/reading is done in {@link TextCommandHistoryStorageTest}.
+         */
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("list"));
+        storageManager.appendCommandHistory("history");
+        assertEquals(Arrays.asList("list", "history"), storageManager.readCommandHistory(10));
+    }
+
     @Test
     public void getSaveItFilePath() {
         assertNotNull(storageManager.getSaveItFilePath());
     }
 
+    @Test
+    public void handleNotebookSwitchedEvent_laterChangesSavedToNotebookFile() throws Exception {
+        Path notebookFilePath = getTempFilePath("notebook");
+        storageManager.handleNotebookSwitchedEvent(
+                new NotebookSwitchedEvent("default", "notebook", notebookFilePath, new SaveIt()));
+
+        // the changes to the previous notebook were all saved before the switch
+        NotebookPersistedEvent persistedEvent =
+                (NotebookPersistedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals("default", persistedEvent.notebookName);
+
+        SaveIt original = getTypicalSaveIt();
+        storageManager.handleSaveItChangedEvent(new SaveItChangedEvent(original));
+        assertEquals(original, new SaveIt(storageManager.readSaveIt(notebookFilePath).get()));
+        assertFalse(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void handleSaveItChangedEvent_saved_savedEventRaised() {
+        SaveIt original = getTypicalSaveIt();
+        storageManager.handleSaveItChangedEvent(new SaveItChangedEvent(original));
+        SaveItSavedEvent savedEvent = (SaveItSavedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(getTempFilePath("ab"), savedEvent.filePath);
+        assertEquals(original, savedEvent.data);
+    }
+
     @Test
     public void handleSaveItChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlSaveItStorageExceptionThrowingStub(Paths.get("dummy")),
-                                             new JsonUserPrefsStorage(Paths.get("dummy")));
+                                             new JsonUserPrefsStorage(Paths.get("dummy")),
+                                             new TextCommandHistoryStorage(Paths.get("dummy")));
         storage.handleSaveItChangedEvent(new SaveItChangedEvent(new SaveIt()));
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
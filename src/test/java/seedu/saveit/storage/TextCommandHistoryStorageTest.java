@@ -0,0 +1,56 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws IOException {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getTempFilePath("NonExistentFile.txt"));
+        assertTrue(storage.readCommandHistory(10).isEmpty());
+    }
+
+    @Test
+    public void appendCommandHistory_specialCharacters_readBackUnchanged() throws IOException {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getTempFilePath("folder/history.txt"));
+        storage.appendCommandHistory("find java");
+        storage.appendCommandHistory("add i/multi\nline s/C:\\temp\\n");
+        storage.appendCommandHistory("");
+
+        assertEquals(Arrays.asList("find java", "add i/multi\nline s/C:\\temp\\n", ""),
+                storage.readCommandHistory(10));
+    }
+
+    @Test
+    public void readCommandHistory_moreCommandsThanMax_latestReadAndFileCompacted() throws IOException {
+        Path filePath = getTempFilePath("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        for (int i = 0; i < 7; i++) {
+            storage.appendCommandHistory("select " + i);
+        }
+
+        assertEquals(Arrays.asList("select 5", "select 6"), storage.readCommandHistory(2));
+        assertEquals(2, Files.readAllLines(filePath).size());
+
+        // the compacted file can still be appended to
+        storage.appendCommandHistory("list");
+        assertEquals(Arrays.asList("select 5", "select 6", "list"), storage.readCommandHistory(5));
+    }
+}
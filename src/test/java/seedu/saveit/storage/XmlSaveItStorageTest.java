@@ -2,14 +2,20 @@ package seedu.saveit.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
 import static seedu.saveit.testutil.TypicalIssues.MYSQL_ERROR;
 import static seedu.saveit.testutil.TypicalIssues.POSTGRESQL_ERROR;
 import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,11 +23,16 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.util.DataFileCodec;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.util.SyntheticDataGenerator;
 
 public class XmlSaveItStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSaveItStorageTest");
+    private static final Path DUPLICATE_ISSUES_FILE =
+            Paths.get("src", "test", "data", "XmlSerializableSaveItTest", "duplicateIssuesSaveIt.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -93,6 +104,57 @@ public class XmlSaveItStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveSaveIt_compressed_readWithAnyCodec() throws Exception {
+        Path plainFilePath = testFolder.getRoot().toPath().resolve("PlainSaveIt.xml");
+        Path compressedFilePath = testFolder.getRoot().toPath().resolve("CompressedSaveIt.xml");
+        SaveIt original = new SyntheticDataGenerator(1).generateSaveIt(100);
+        new XmlSaveItStorage(plainFilePath).saveSaveIt(original);
+        new XmlSaveItStorage(compressedFilePath, DataFileCodec.DEFLATE_BEST).saveSaveIt(original);
+
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        assertEquals(original, new SaveIt(new XmlSaveItStorage(compressedFilePath).readSaveIt().get()));
+
+        List<Issue> issues = new ArrayList<>();
+        new XmlSaveItStorage(compressedFilePath, DataFileCodec.NONE).readIssues(issues::addAll);
+        assertEquals(original.getIssueList(), issues);
+    }
+
+    @Test
+    public void readIssues_missingFile_returnsFalse() throws Exception {
+        List<List<Issue>> batches = new ArrayList<>();
+        assertFalse(new XmlSaveItStorage(addToTestDataPathIfNotNull("NonExistentFile.xml")).readIssues(batches::add));
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void readIssues_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlSaveItStorage(addToTestDataPathIfNotNull("NotXmlFormatSaveIt.xml")).readIssues(unused -> { });
+    }
+
+    @Test
+    public void readIssues_duplicateIssues_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlSaveItStorage(DUPLICATE_ISSUES_FILE).readIssues(unused -> { });
+    }
+
+    @Test
+    public void readIssues_moreIssuesThanBatchSize_issuesHandedOverInBatches() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        SaveIt original = new SyntheticDataGenerator(1).generateSaveIt(XmlSaveItStorage.ISSUE_BATCH_SIZE * 2 + 1);
+        XmlSaveItStorage xmlSaveItStorage = new XmlSaveItStorage(filePath);
+        xmlSaveItStorage.saveSaveIt(original);
+
+        List<List<Issue>> batches = new ArrayList<>();
+        assertTrue(xmlSaveItStorage.readIssues(batches::add));
+        assertEquals(Arrays.asList(XmlSaveItStorage.ISSUE_BATCH_SIZE, XmlSaveItStorage.ISSUE_BATCH_SIZE, 1),
+                batches.stream().map(List::size).collect(Collectors.toList()));
+        SaveIt readBack = new SaveIt();
+        batches.forEach(readBack::addIssues);
+        assertEquals(original, readBack);
+    }
+
     @Test
     public void saveSaveIt_nullSaveIt_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,118 @@
+package seedu.saveit.storage.exporter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.TRAVIS_BUILD;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalIssues;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.storage.importer.ImportFormat;
+import seedu.saveit.storage.importer.ImportResult;
+import seedu.saveit.storage.importer.IssueImporter;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class IssueExporterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void export_json_canBeImported() throws Exception {
+        List<Issue> issues = getTypicalIssues();
+        Path file = getTempFilePath("issues.json");
+        assertEquals(issues.size(), IssueExporter.export(issues, file, ExportFormat.JSON));
+
+        ImportResult result = IssueImporter.importIssues(file, ImportFormat.JSON, Collections.emptySet());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals(issues, result.getIssues());
+        assertEquals(issues.get(0).getTags(), result.getIssues().get(0).getTags());
+    }
+
+    @Test
+    public void export_csv_canBeImported() throws Exception {
+        List<Issue> issues = Collections.singletonList(new IssueBuilder()
+                .withStatement("Quote \"and\" comma, issue").withDescription("Line one\nline two").build());
+        Path file = getTempFilePath("issues.csv");
+        IssueExporter.export(issues, file, ExportFormat.CSV);
+
+        ImportResult result = IssueImporter.importIssues(file, ImportFormat.CSV, Collections.emptySet());
+        assertEquals(issues, result.getIssues());
+        assertEquals("Line one line two", result.getIssues().get(0).getDescription().getValue());
+    }
+
+    @Test
+    public void export_csvSeveralSolutions_allSolutionsImported() throws Exception {
+        Issue withSolutions = TRAVIS_BUILD.setPrimarySolution(1);
+        Issue withoutSolutions = new IssueBuilder().withStatement("No solution").build();
+        List<Issue> issues = Arrays.asList(withSolutions, withoutSolutions);
+        Path file = getTempFilePath("issues.csv");
+        IssueExporter.export(issues, file, ExportFormat.CSV);
+
+        ImportResult result = IssueImporter.importIssues(file, ImportFormat.CSV, Collections.emptySet());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals(issues, result.getIssues());
+        Issue imported = result.getIssues().get(0);
+        assertEquals(withSolutions.getSolutions(), imported.getSolutions());
+        assertEquals(withSolutions.getDescription(), imported.getDescription());
+        assertEquals(withSolutions.getTags(), imported.getTags());
+        assertFalse(imported.getSolutions().get(0).isPrimarySolution());
+        assertTrue(imported.getSolutions().get(1).isPrimarySolution());
+        assertTrue(result.getIssues().get(1).getSolutions().isEmpty());
+    }
+
+    @Test
+    public void export_jsonPrimarySolution_primarySolutionImported() throws Exception {
+        Path file = getTempFilePath("issues.json");
+        IssueExporter.export(Collections.singletonList(TRAVIS_BUILD.setPrimarySolution(1)), file, ExportFormat.JSON);
+
+        Issue imported = IssueImporter.importIssues(file, ImportFormat.JSON, Collections.emptySet()).getIssues().get(0);
+        assertFalse(imported.getSolutions().get(0).isPrimarySolution());
+        assertTrue(imported.getSolutions().get(1).isPrimarySolution());
+    }
+
+    @Test
+    public void export_html_specialCharactersEscaped() throws Exception {
+        List<Issue> issues = Collections.singletonList(new IssueBuilder().withStatement("<b>Bold</b> & more")
+                .build());
+        Path file = getTempFilePath("site/index.html");
+        IssueExporter.export(issues, file, ExportFormat.HTML);
+
+        String html = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("&lt;b&gt;Bold&lt;/b&gt; &amp; more"));
+        assertTrue(html.trim().endsWith("</html>"));
+    }
+
+    @Test
+    public void export_existingFile_fileReplaced() throws Exception {
+        Path file = getTempFilePath("issues.json");
+        IssueExporter.export(getTypicalIssues(), file, ExportFormat.JSON);
+        IssueExporter.export(Collections.emptyList(), file, ExportFormat.JSON);
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertEquals("[ ]", json.trim());
+    }
+
+    @Test
+    public void fromPath() {
+        assertEquals(ExportFormat.HTML, ExportFormat.fromPath(Paths.get("site", "INDEX.HTML")).get());
+        assertTrue(!ExportFormat.fromPath(Paths.get("issues.md")).isPresent());
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.saveit.storage.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.solution.SolutionLink;
+
+public class IssueImporterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "IssueImporterTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void importIssues_validCsv_success() throws Exception {
+        ImportResult result = importIssues("validIssues.csv", ImportFormat.CSV);
+
+        assertEquals(Arrays.asList("Gradle build fails", "JavaFX thread error"), getStatements(result));
+        assertEquals(0, result.getRejectedCount());
+
+        Issue first = result.getIssues().get(0);
+        assertEquals("Missing dependency, offline", first.getDescription().getValue());
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("gradle"), new Tag("build"))), first.getTags());
+        assertEquals(new SolutionLink("https://docs.gradle.org"), first.getSolutions().get(0).getLink());
+        assertTrue(result.getIssues().get(1).getSolutions().isEmpty());
+    }
+
+    @Test
+    public void importIssues_invalidAndDuplicateRows_rowsRejected() throws Exception {
+        ImportResult result = IssueImporter.importIssues(TEST_DATA_FOLDER.resolve("mixedIssues.csv"),
+                ImportFormat.CSV, Collections.singleton(new IssueStatement("Java NullPointer")));
+
+        assertEquals(Collections.singletonList("Gradle build fails"), getStatements(result));
+        assertEquals(5, result.getRejectedCount());
+        assertEquals(Arrays.asList(
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 4, IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 5, IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 6,
+                        String.format(IssueImporter.MESSAGE_DUPLICATE_ISSUE, "Gradle build fails")),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 7,
+                        String.format(IssueImporter.MESSAGE_DUPLICATE_ISSUE, "Java NullPointer")),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 8, SolutionLink.MESSAGE_SOLUTION_LINK_CONSTRAINTS)),
+                result.getRejections());
+    }
+
+    @Test
+    public void importIssues_validJson_success() throws Exception {
+        ImportResult result = importIssues("validIssues.json", ImportFormat.JSON);
+
+        assertEquals(Arrays.asList("Gradle build fails", "JavaFX thread error"), getStatements(result));
+        assertEquals(0, result.getRejectedCount());
+        assertEquals("Check the offline flag",
+                result.getIssues().get(0).getSolutions().get(0).getRemark().getValue());
+    }
+
+    @Test
+    public void importIssues_jsonFieldsOfWrongType_recordsRejected() throws Exception {
+        ImportResult result = importIssues("mixedIssues.json", ImportFormat.JSON);
+
+        // the records after those of the wrong type are still read
+        assertEquals(Arrays.asList("Gradle build fails", "JavaFX thread error"), getStatements(result));
+        assertEquals(Arrays.asList(
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 2,
+                        String.format(ImportFileReader.MESSAGE_WRONG_FIELD_TYPE, "tags")),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 3,
+                        String.format(ImportFileReader.MESSAGE_WRONG_FIELD_TYPE, "statement")),
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 4,
+                        String.format(ImportFileReader.MESSAGE_WRONG_FIELD_TYPE, "solutions.link"))),
+                result.getRejections());
+    }
+
+    @Test
+    public void importIssues_notJsonArray_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        importIssues("notJsonArray.json", ImportFormat.JSON);
+    }
+
+    @Test
+    public void importIssues_markdownLinks_success() throws Exception {
+        ImportResult result = importIssues("links.md", ImportFormat.MARKDOWN);
+
+        assertEquals(Arrays.asList("Gradle build fails", "JavaFX thread error"), getStatements(result));
+        assertEquals("Missing dependency", result.getIssues().get(0).getDescription().getValue());
+        // the link text is used when there is no description
+        assertEquals("JavaFX thread error", result.getIssues().get(1).getDescription().getValue());
+
+        assertEquals(Collections.singletonList(
+                String.format(ImportResult.REJECTED_ROW_FORMAT, 7, SolutionLink.MESSAGE_SOLUTION_LINK_CONSTRAINTS)),
+                result.getRejections());
+    }
+
+    @Test
+    public void importIssues_moreRowsThanBatchSize_allRowsReadInOrder() throws Exception {
+        int rowCount = IssueImporter.BATCH_SIZE * 2 + 5;
+        List<String> lines = new ArrayList<>();
+        lines.add("statement,description");
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Issue " + i + ",Description " + i);
+        }
+        Path file = testFolder.getRoot().toPath().resolve("large.csv");
+        Files.write(file, lines);
+
+        ImportResult result = IssueImporter.importIssues(file, ImportFormat.CSV, Collections.emptySet());
+        assertEquals(rowCount, result.getIssues().size());
+        assertEquals("Issue " + (rowCount - 1), result.getIssues().get(rowCount - 1).getStatement().getValue());
+    }
+
+    @Test
+    public void importIssues_missingFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        importIssues("NonExistentFile.csv", ImportFormat.CSV);
+    }
+
+    @Test
+    public void fromPath() {
+        assertEquals(ImportFormat.CSV, ImportFormat.fromPath(Paths.get("issues.CSV")).get());
+        assertEquals(ImportFormat.MARKDOWN, ImportFormat.fromPath(Paths.get("dir", "links.markdown")).get());
+        assertTrue(!ImportFormat.fromPath(Paths.get("issues.xml")).isPresent());
+        assertTrue(!ImportFormat.fromPath(Paths.get("issues")).isPresent());
+    }
+
+    private ImportResult importIssues(String fileInTestDataFolder, ImportFormat format) throws IOException {
+        Set<IssueStatement> noExistingStatements = Collections.emptySet();
+        return IssueImporter.importIssues(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), format,
+                noExistingStatements);
+    }
+
+    private List<String> getStatements(ImportResult result) {
+        return result.getIssues().stream()
+                .map(issue -> issue.getStatement().getValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.saveit.storage.pagecache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class PageCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final int PAGE_SIZE = 1000;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private HttpServer server;
+    private String baseUrl;
+    private Map<String, AtomicInteger> fullResponseCounts = new ConcurrentHashMap<>();
+    private Path cacheFolder;
+    private PageCache pageCache;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> respondWithPage(exchange, "text/html; charset=UTF-8", ""));
+        server.createContext("/based", exchange -> respondWithPage(exchange, "text/html", "<base href=\"/\">"));
+        server.createContext("/image", exchange -> respondWithPage(exchange, "image/png", ""));
+        server.createContext("/chunked", exchange -> respondWithPage(exchange, "text/html", "", true));
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        cacheFolder = testFolder.getRoot().toPath();
+        pageCache = createPageCache(PageCache.DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void fetch_htmlPage_cachedWithBaseUrl() throws IOException {
+        String url = baseUrl + "/page/a";
+        Optional<Path> pageFile = pageCache.fetch(url).join();
+
+        assertTrue(pageFile.isPresent());
+        assertEquals(pageFile, pageCache.getCachedPage(url));
+        String content = new String(Files.readAllBytes(pageFile.get()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("<base href=\"" + url + "\">"));
+        assertTrue(content.contains("<meta charset=\"UTF-8\">"));
+    }
+
+    @Test
+    public void readCachedPage_cachedPage_contentRead() {
+        String url = baseUrl + "/page/a";
+        assertFalse(pageCache.readCachedPage(url).isPresent());
+
+        pageCache.fetch(url).join();
+        assertTrue(pageCache.readCachedPage(url).get().contains("<base href=\"" + url + "\">"));
+    }
+
+    @Test
+    public void fetch_cachedPage_revalidatedWithEtag() {
+        String url = baseUrl + "/page/a";
+        Optional<Path> pageFile = pageCache.fetch(url).join();
+        Optional<Path> revalidatedPageFile = pageCache.fetch(url).join();
+
+        // the server answered the second request with 304 Not Modified
+        assertEquals(pageFile, revalidatedPageFile);
+        assertEquals(1, fullResponseCounts.get("/page/a").get());
+    }
+
+    @Test
+    public void fetch_notHtml_notCached() {
+        assertFalse(pageCache.fetch(baseUrl + "/image").join().isPresent());
+        assertFalse(pageCache.isCached(baseUrl + "/image"));
+    }
+
+    @Test
+    public void fetch_missingPage_notCached() {
+        assertFalse(pageCache.fetch(baseUrl + "/missing").join().isPresent());
+        assertEquals(0, pageCache.getSize());
+    }
+
+    @Test
+    public void fetch_pageLargerThanCache_notCached() throws IOException {
+        pageCache = createPageCache(PAGE_SIZE / 2);
+
+        // without a Content-Length, the page is only known to be too large once it is being read
+        assertFalse(pageCache.fetch(baseUrl + "/chunked").join().isPresent());
+        assertFalse(pageCache.fetch(baseUrl + "/page/a").join().isPresent());
+        assertEquals(0, pageCache.getSize());
+        assertEquals(0, countPageFiles());
+    }
+
+    @Test
+    public void fetch_sameContent_storedOnce() throws IOException {
+        // the pages have their own base url, so their content is the same
+        Path first = pageCache.fetch(baseUrl + "/based/a").join().get();
+        Path second = pageCache.fetch(baseUrl + "/based/b").join().get();
+        assertEquals(first, second);
+        assertEquals(1, countPageFiles());
+
+        // pages with a different base url are stored separately
+        pageCache.fetch(baseUrl + "/page/a").join();
+        assertEquals(2, countPageFiles());
+    }
+
+    @Test
+    public void fetch_cacheFull_leastRecentlyUsedEvicted() throws IOException {
+        pageCache = createPageCache(PAGE_SIZE * 5 / 2);
+        String first = baseUrl + "/page/1";
+        String second = baseUrl + "/page/2";
+        String third = baseUrl + "/page/3";
+        pageCache.fetch(first).join();
+        pageCache.fetch(second).join();
+
+        // first is now more recently used than second
+        pageCache.getCachedPage(first);
+        pageCache.fetch(third).join();
+
+        assertTrue(pageCache.isCached(first));
+        assertFalse(pageCache.isCached(second));
+        assertTrue(pageCache.isCached(third));
+        assertTrue(pageCache.getSize() <= PAGE_SIZE * 5 / 2);
+        assertEquals(2, countPageFiles());
+    }
+
+    @Test
+    public void prefetch_cachesAllPages() {
+        pageCache.prefetch(Arrays.asList(baseUrl + "/page/1", baseUrl + "/page/2"));
+        pageCache.fetch(baseUrl + "/page/1").join();
+        pageCache.fetch(baseUrl + "/page/2").join();
+
+        assertTrue(pageCache.isCached(baseUrl + "/page/1"));
+        assertTrue(pageCache.isCached(baseUrl + "/page/2"));
+        assertEquals(1, fullResponseCounts.get("/page/1").get());
+    }
+
+    @Test
+    public void constructor_existingIndex_pagesRestored() {
+        String url = baseUrl + "/page/a";
+        Optional<Path> pageFile = pageCache.fetch(url).join();
+
+        PageCache reopenedPageCache = createPageCache(PageCache.DEFAULT_MAX_SIZE_BYTES);
+        assertEquals(pageFile, reopenedPageCache.getCachedPage(url));
+        assertEquals(pageCache.getSize(), reopenedPageCache.getSize());
+    }
+
+    @Test
+    public void constructor_corruptedIndex_emptyCache() throws IOException {
+        Files.write(cacheFolder.resolve(PageCache.INDEX_FILE_NAME), "not json".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, createPageCache(PageCache.DEFAULT_MAX_SIZE_BYTES).getSize());
+    }
+
+    @Test
+    public void withBaseUrl() {
+        String url = "https://example.com/docs/";
+
+        // base inserted at the start of head
+        assertEquals("<html><head lang=\"en\"><base href=\"" + url + "\"><title>t</title></head></html>",
+                withBaseUrl("<html><head lang=\"en\"><title>t</title></head></html>", url, "text/html"));
+
+        // charset declared before base
+        assertEquals("<head><meta charset=\"ISO-8859-1\"><base href=\"" + url + "\"></head>",
+                withBaseUrl("<head></head>", url, "text/html; charset=ISO-8859-1"));
+
+        // no head -> inserted at the start
+        assertEquals("<base href=\"" + url + "\"><p>text</p>", withBaseUrl("<p>text</p>", url, "text/html"));
+
+        // existing base -> unchanged
+        String pageWithBase = "<head><base href=\"/\"></head>";
+        assertEquals(pageWithBase, withBaseUrl(pageWithBase, url, "text/html"));
+
+        // bytes outside the head are preserved
+        byte[] page = {'<', 'h', 'e', 'a', 'd', '>', (byte) 0xE2, (byte) 0x82, (byte) 0xAC};
+        byte[] result = PageCache.withBaseUrl(page, url, "text/html");
+        assertArrayEquals(Arrays.copyOfRange(page, 6, 9), Arrays.copyOfRange(result, result.length - 3,
+                result.length));
+    }
+
+    @Test
+    public void decode() {
+        byte[] euro = {(byte) 0xE2, (byte) 0x82, (byte) 0xAC};
+
+        // no charset declared -> UTF-8
+        assertEquals("\u20AC", PageCache.decode(euro));
+
+        // declared charset used
+        byte[] page = concat("<meta charset=\"ISO-8859-1\">".getBytes(StandardCharsets.ISO_8859_1), euro);
+        assertEquals("<meta charset=\"ISO-8859-1\">\u00E2\u0082\u00AC", PageCache.decode(page));
+
+        // unsupported charset -> UTF-8
+        page = concat("<meta charset=\"no-such-charset\">".getBytes(StandardCharsets.ISO_8859_1), euro);
+        assertEquals("<meta charset=\"no-such-charset\">\u20AC", PageCache.decode(page));
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private String withBaseUrl(String page, String url, String contentType) {
+        return new String(PageCache.withBaseUrl(page.getBytes(StandardCharsets.ISO_8859_1), url, contentType),
+                StandardCharsets.ISO_8859_1);
+    }
+
+    private PageCache createPageCache(long maxSizeBytes) {
+        return new PageCache(cacheFolder, maxSizeBytes, 2, Duration.ZERO, Duration.ofSeconds(5));
+    }
+
+    private long countPageFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheFolder)) {
+            return files.filter(file -> file.toString().endsWith(PageCache.PAGE_FILE_EXTENSION)).count();
+        }
+    }
+
+    /**
+     * Responds with a page of about {@code PAGE_SIZE} bytes with {@code head} as its head element's content.
+     * The page has the same ETag every time, so requests with a matching ETag get 304 Not Modified.
+     */
+    private void respondWithPage(HttpExchange exchange, String contentType, String head) throws IOException {
+        respondWithPage(exchange, contentType, head, false);
+    }
+
+    /**
+     * Responds like {@link #respondWithPage(HttpExchange, String, String)}, without a Content-Length header
+     * if {@code isChunked} is true.
+     */
+    private void respondWithPage(HttpExchange exchange, String contentType, String head, boolean isChunked)
+            throws IOException {
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        fullResponseCounts.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger())
+                .incrementAndGet();
+        char[] text = new char[PAGE_SIZE - 100];
+        Arrays.fill(text, 'x');
+        String html = "<html><head>" + head + "</head><body>" + new String(text) + "</body></html>";
+        byte[] page = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        exchange.sendResponseHeaders(200, isChunked ? 0 : page.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(page);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.saveit.storage.pageindex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.storage.pagecache.PageCache;
+
+public class PageCrawlerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private HttpServer server;
+    private String baseUrl;
+    private Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private Path indexFile;
+    private PageIndex pageIndex;
+    private PageCrawler pageCrawler;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/java", exchange -> respond(exchange, 200,
+                "<html><body><p>Fix the NullPointerException</p><script>var hidden;</script></body></html>"));
+        server.createContext("/python", exchange -> respond(exchange, 200,
+                "<html><body>IndentationError: unexpected indent</body></html>"));
+        server.createContext("/missing", exchange -> respond(exchange, 404, "Not found"));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        Path folder = testFolder.getRoot().toPath();
+        indexFile = folder.resolve("pageindex.gz");
+        pageIndex = new PageIndex();
+        PageCache pageCache = new PageCache(folder.resolve("pagecache"), PageCache.DEFAULT_MAX_SIZE_BYTES, 2,
+                Duration.ZERO, Duration.ofSeconds(5));
+        pageCrawler = new PageCrawler(pageIndex, pageCache, indexFile);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void crawl_newPages_indexedAndSaved() throws Exception {
+        pageCrawler.crawl(urls("/java", "/python", "/missing")).join();
+
+        assertEquals(Collections.singleton(baseUrl + "/java"),
+                pageIndex.findUrls(Collections.singletonList("nullpointer")));
+        assertEquals(Collections.singleton(baseUrl + "/python"),
+                pageIndex.findUrls(Collections.singletonList("indentationerror")));
+        assertFalse(pageIndex.contains(baseUrl + "/missing"));
+
+        // text of scripts is not indexed
+        assertTrue(pageIndex.findUrls(Collections.singletonList("hidden")).isEmpty());
+
+        PageIndex savedPageIndex = new PageIndex();
+        savedPageIndex.load(indexFile);
+        assertEquals(2, savedPageIndex.size());
+    }
+
+    @Test
+    public void crawl_indexedAndFailedPages_notFetchedAgain() {
+        pageCrawler.crawl(urls("/java", "/missing")).join();
+        pageCrawler.crawl(urls("/java", "/missing", "/python")).join();
+
+        assertEquals(1, requestCounts.get("/java").get());
+        assertEquals(1, requestCounts.get("/missing").get());
+        assertEquals(1, requestCounts.get("/python").get());
+    }
+
+    @Test
+    public void crawl_indexUnchanged_notSaved() throws Exception {
+        pageCrawler.crawl(urls("/java")).join();
+        Files.delete(indexFile);
+
+        pageCrawler.crawl(urls("/java", "/missing")).join();
+        assertFalse(Files.exists(indexFile));
+    }
+
+    @Test
+    public void crawl_pageNoLongerLinked_removed() {
+        pageCrawler.crawl(urls("/java", "/python")).join();
+        pageCrawler.crawl(urls("/python")).join();
+
+        assertFalse(pageIndex.contains(baseUrl + "/java"));
+        assertTrue(pageIndex.contains(baseUrl + "/python"));
+    }
+
+    @Test
+    public void getSolutionLinks() {
+        SaveIt saveIt = getTypicalSaveIt();
+        Set<String> expectedLinks = saveIt.getIssueList().stream()
+                .flatMap(issue -> issue.getSolutions().stream())
+                .map(solution -> solution.getLink().getValue())
+                .collect(Collectors.toSet());
+        assertEquals(expectedLinks, PageCrawler.getSolutionLinks(saveIt));
+        assertTrue(PageCrawler.getSolutionLinks(new SaveIt()).isEmpty());
+    }
+
+    private Set<String> urls(String... paths) {
+        return Arrays.stream(paths).map(path -> baseUrl + path).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        requestCounts.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger())
+                .incrementAndGet();
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(statusCode, content.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(content);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.saveit.storage.pageindex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+
+public class PageIndexTest {
+
+    private static final String URL_JAVA = "https://example.com/java";
+    private static final String URL_PYTHON = "https://example.com/python";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PageIndex pageIndex = new PageIndex();
+
+    @Test
+    public void findUrls() {
+        pageIndex.add(URL_JAVA, Arrays.asList("NullPointerException", "java"));
+        pageIndex.add(URL_PYTHON, Arrays.asList("traceback", "python"));
+
+        // exact term
+        assertEquals(Collections.singleton(URL_JAVA), pageIndex.findUrls(Collections.singletonList("java")));
+
+        // partial and mixed-case term
+        assertEquals(Collections.singleton(URL_JAVA), pageIndex.findUrls(Collections.singletonList("pOINTER")));
+
+        // any keyword matches
+        assertEquals(new HashSet<>(Arrays.asList(URL_JAVA, URL_PYTHON)),
+                pageIndex.findUrls(Arrays.asList("java", "trace")));
+
+        // no match
+        assertTrue(pageIndex.findUrls(Collections.singletonList("ruby")).isEmpty());
+
+        // blank keyword
+        assertTrue(pageIndex.findUrls(Collections.singletonList(" ")).isEmpty());
+    }
+
+    @Test
+    public void add_existingUrl_contentReplaced() {
+        pageIndex.add(URL_JAVA, Collections.singletonList("java"));
+        pageIndex.add(URL_JAVA, Collections.singletonList("kotlin"));
+
+        assertTrue(pageIndex.findUrls(Collections.singletonList("java")).isEmpty());
+        assertEquals(Collections.singleton(URL_JAVA), pageIndex.findUrls(Collections.singletonList("kotlin")));
+        assertEquals(1, pageIndex.size());
+    }
+
+    @Test
+    public void retainAll() {
+        pageIndex.add(URL_JAVA, Collections.singletonList("java"));
+        pageIndex.add(URL_PYTHON, Collections.singletonList("python"));
+
+        assertTrue(pageIndex.retainAll(Collections.singleton(URL_PYTHON)));
+        assertFalse(pageIndex.contains(URL_JAVA));
+        assertTrue(pageIndex.contains(URL_PYTHON));
+        assertTrue(pageIndex.findUrls(Collections.singletonList("java")).isEmpty());
+
+        // nothing removed -> returns false
+        assertFalse(pageIndex.retainAll(Collections.singleton(URL_PYTHON)));
+    }
+
+    @Test
+    public void saveAndLoad_allInOrder_success() throws Exception {
+        Path indexFile = testFolder.getRoot().toPath().resolve("pageindex.gz");
+        pageIndex.add(URL_JAVA, Arrays.asList("java", "exception"));
+        pageIndex.add(URL_PYTHON, Collections.singletonList("python"));
+        pageIndex.save(indexFile);
+
+        PageIndex loadedPageIndex = new PageIndex();
+        loadedPageIndex.add("https://example.com/other", Collections.singletonList("other"));
+        loadedPageIndex.load(indexFile);
+        assertEquals(2, loadedPageIndex.size());
+        assertFalse(loadedPageIndex.contains("https://example.com/other"));
+        assertEquals(Collections.singleton(URL_JAVA), loadedPageIndex.findUrls(Collections.singletonList("except")));
+    }
+
+    @Test
+    public void load_missingFile_emptyIndex() throws Exception {
+        pageIndex.add(URL_JAVA, Collections.singletonList("java"));
+        pageIndex.load(testFolder.getRoot().toPath().resolve("missing.gz"));
+        assertEquals(0, pageIndex.size());
+    }
+
+    @Test
+    public void load_notIndexFile_throwsDataConversionException() throws IOException, DataConversionException {
+        Path indexFile = testFolder.getRoot().toPath().resolve("pageindex.gz");
+        Files.write(indexFile, "not an index".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        pageIndex.load(indexFile);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.saveit.storage.pageindex;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+
+public class PageTextExtractorTest {
+
+    @Test
+    public void extractText() {
+        // markup removed and whitespace collapsed
+        assertEquals("Title Some bold text", PageTextExtractor.extractText(
+                "<html><head><title>Title</title></head>\n<body><p>Some <b>bold</b>\n  text</p></body></html>"));
+
+        // scripts, styles and comments removed
+        assertEquals("visible", PageTextExtractor.extractText(
+                "<script type=\"text/javascript\">var hidden = 1;</script><STYLE>p {}</STYLE>"
+                        + "<!-- <p>comment</p> -->visible"));
+
+        // entities decoded
+        assertEquals("a < b & \"c\" € €", PageTextExtractor.extractText(
+                "a &lt; b &amp; &quot;c&quot;&nbsp;&#8364; &#x20AC;"));
+
+        // no markup
+        assertEquals("", PageTextExtractor.extractText(""));
+    }
+
+    @Test
+    public void extractTerms() {
+        // lower case, distinct, in order of appearance
+        assertEquals(new LinkedHashSet<>(Arrays.asList("nullpointerexception", "in", "java_util", "10")),
+                PageTextExtractor.extractTerms("NullPointerException in java_util.NullPointerException 10"));
+
+        // terms that are too short or too long are left out
+        char[] longTerm = new char[PageTextExtractor.MAX_TERM_LENGTH + 1];
+        Arrays.fill(longTerm, 'x');
+        assertEquals(Collections.singleton("ok"), PageTextExtractor.extractTerms("a ok " + new String(longTerm)));
+    }
+}
@@ -10,7 +10,9 @@ import static seedu.saveit.ui.UiPart.FXML_FILE_FOLDER;
 import java.net.URL;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import guitests.guihandles.BrowserPanelHandle;
 import seedu.saveit.MainApp;
@@ -19,8 +21,12 @@ import seedu.saveit.commons.core.index.Index;
 import seedu.saveit.commons.events.model.DirectoryChangedEvent;
 import seedu.saveit.commons.events.ui.JumpToListRequestEvent;
 import seedu.saveit.commons.events.ui.SolutionPanelSelectionChangedEvent;
+import seedu.saveit.storage.pagecache.PageCache;
 
 public class BrowserPanelTest extends GuiUnitTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private SolutionPanelSelectionChangedEvent selectionChangedEventStub;
     private JumpToListRequestEvent jumpToListRequestEventStub;
     private DirectoryChangedEvent directoryChangedEventStub;
@@ -34,7 +40,7 @@ public class BrowserPanelTest extends GuiUnitTest {
         jumpToListRequestEventStub = new JumpToListRequestEvent(Index.fromOneBased(1));
         directoryChangedEventStub = new DirectoryChangedEvent(new Directory(0, 0));
 
-        guiRobot.interact(() -> browserPanel = new BrowserPanel());
+        guiRobot.interact(() -> browserPanel = new BrowserPanel(new PageCache(testFolder.getRoot().toPath())));
         uiPartRule.setUiPart(browserPanel);
 
         browserPanelHandle = new BrowserPanelHandle(browserPanel.getRoot());
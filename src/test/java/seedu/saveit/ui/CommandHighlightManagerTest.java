@@ -0,0 +1,90 @@
+package seedu.saveit.ui;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.saveit.ui.CommandHighlightManager.STYLE_COMMAND_WORD;
+import static seedu.saveit.ui.CommandHighlightManager.STYLE_DEFAULT;
+import static seedu.saveit.ui.CommandHighlightManager.STYLE_INDEX;
+import static seedu.saveit.ui.CommandHighlightManager.STYLE_NORMAL_VALUE;
+import static seedu.saveit.ui.CommandHighlightManager.STYLE_PARAMETER_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fxmisc.richtext.model.StyleSpan;
+import org.fxmisc.richtext.model.StyleSpans;
+import org.fxmisc.richtext.model.StyleSpansBuilder;
+import org.junit.Test;
+
+public class CommandHighlightManagerTest {
+
+    @Test
+    public void computeHighlighting_commandWithIndexAndParameters_oneSpanPerToken() {
+        StyleSpans<String> spans = CommandHighlightManager.computeHighlighting("edit 12 t/java");
+        assertSpans(spans,
+                new StyleSpan<>(STYLE_COMMAND_WORD, 4), // "edit"
+                new StyleSpan<>(STYLE_NORMAL_VALUE, 1), // " "
+                new StyleSpan<>(STYLE_INDEX, 2), // "12"
+                new StyleSpan<>(STYLE_NORMAL_VALUE, 1), // " "
+                new StyleSpan<>(STYLE_PARAMETER_KEY, 2), // "t/"
+                new StyleSpan<>(STYLE_NORMAL_VALUE, 4)); // "java"
+    }
+
+    @Test
+    public void computeHighlighting_leadingSpacesAndCommandWithoutIndex_indexNotHighlighted() {
+        StyleSpans<String> spans = CommandHighlightManager.computeHighlighting("  findtag 123");
+        assertSpans(spans,
+                new StyleSpan<>(STYLE_DEFAULT, 2),
+                new StyleSpan<>(STYLE_COMMAND_WORD, 7),
+                new StyleSpan<>(STYLE_NORMAL_VALUE, 4));
+    }
+
+    @Test
+    public void computeHighlighting_invalidPrefix_highlightedAsValue() {
+        StyleSpans<String> spans = CommandHighlightManager.computeHighlighting("add g/map");
+        assertSpans(spans,
+                new StyleSpan<>(STYLE_COMMAND_WORD, 3),
+                new StyleSpan<>(STYLE_NORMAL_VALUE, 6));
+    }
+
+    @Test
+    public void findFirstDifference() {
+        StyleSpans<String> spans = CommandHighlightManager.computeHighlighting("edit 1 t/java");
+
+        // same styles -> end of spans
+        assertEquals(spans.length(), CommandHighlightManager.findFirstDifference(spans, spans));
+
+        // text appended -> end of previous spans
+        StyleSpans<String> longerSpans = CommandHighlightManager.computeHighlighting("edit 1 t/java t/");
+        assertEquals(spans.length(), CommandHighlightManager.findFirstDifference(spans, longerSpans));
+
+        // style changed in the middle of a span
+        StyleSpans<String> changedSpans = new StyleSpansBuilder<String>()
+                .add(STYLE_COMMAND_WORD, 2)
+                .add(STYLE_NORMAL_VALUE, 11)
+                .create();
+        assertEquals(2, CommandHighlightManager.findFirstDifference(spans, changedSpans));
+
+        // differently split spans with the same styles -> no difference
+        StyleSpans<String> splitSpans = new StyleSpansBuilder<String>()
+                .add(STYLE_COMMAND_WORD, 2)
+                .add(STYLE_COMMAND_WORD, 2)
+                .add(STYLE_NORMAL_VALUE, 1)
+                .add(STYLE_INDEX, 1)
+                .add(STYLE_NORMAL_VALUE, 1)
+                .add(STYLE_PARAMETER_KEY, 2)
+                .add(STYLE_NORMAL_VALUE, 4)
+                .create();
+        assertEquals(spans.length(), CommandHighlightManager.findFirstDifference(spans, splitSpans));
+    }
+
+    @SafeVarargs
+    private final void assertSpans(StyleSpans<String> actual, StyleSpan<String>... expected) {
+        List<String> actualSpans = new ArrayList<>();
+        actual.forEach(span -> actualSpans.add(span.getStyle() + "x" + span.getLength()));
+        List<String> expectedSpans = new ArrayList<>();
+        for (StyleSpan<String> span : expected) {
+            expectedSpans.add(span.getStyle() + "x" + span.getLength());
+        }
+        assertEquals(expectedSpans, actualSpans);
+    }
+}
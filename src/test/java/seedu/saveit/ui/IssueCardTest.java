@@ -28,6 +28,28 @@ public class IssueCardTest extends GuiUnitTest {
         assertCardDisplay(issueCard, issueWithTags, 2);
     }
 
+    @Test
+    public void setIssue_reusedCard_displaysNewIssue() {
+        IssueCard issueCard = new IssueCard();
+        uiPartRule.setUiPart(issueCard);
+
+        // more tags than before
+        Issue issueWithTags = new IssueBuilder().withTags("java", "bug", "syntax").build();
+        guiRobot.interact(() -> issueCard.setIssue(issueWithTags, 1));
+        assertCardDisplay(issueCard, issueWithTags, 1);
+
+        // fewer tags than before
+        Issue issueWithOneTag = new IssueBuilder().withStatement("Other problem").withTags("python").build();
+        guiRobot.interact(() -> issueCard.setIssue(issueWithOneTag, 2));
+        assertCardDisplay(issueCard, issueWithOneTag, 2);
+
+        // no tags
+        Issue issueWithNoTags = new IssueBuilder().withTags(new String[0]).build();
+        guiRobot.interact(() -> issueCard.setIssue(issueWithNoTags, 3));
+        assertCardDisplay(issueCard, issueWithNoTags, 3);
+        assertEquals(issueWithNoTags, issueCard.getIssue());
+    }
+
     @Test
     public void equals() {
         Issue issue = new IssueBuilder().build();
@@ -52,6 +74,10 @@ public class IssueCardTest extends GuiUnitTest {
 
         // same issue, different index -> returns false
         assertFalse(issueCard.equals(new IssueCard(issue, 1)));
+
+        // card not bound to an issue yet -> returns false
+        assertFalse(new IssueCard().equals(issueCard));
+        assertTrue(new IssueCard().equals(new IssueCard()));
     }
 
     /**
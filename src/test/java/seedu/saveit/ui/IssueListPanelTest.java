@@ -15,6 +15,7 @@ import guitests.guihandles.IssueCardHandle;
 import guitests.guihandles.IssueListPanelHandle;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
 import seedu.saveit.commons.util.FileUtil;
 import seedu.saveit.commons.util.XmlUtil;
 import seedu.saveit.model.Issue;
@@ -28,8 +29,10 @@ public class IssueListPanelTest extends GuiUnitTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "sandbox");
 
     private static final long CARD_CREATION_AND_DELETION_TIMEOUT = 5000;
+    private static final long SCROLLING_TIMEOUT = 5000;
 
     private IssueListPanelHandle issueListPanelHandle;
+    private ListView<Issue> issueListView;
 
     @Test
     public void display() {
@@ -59,6 +62,29 @@ public class IssueListPanelTest extends GuiUnitTest {
         }, "Creation and deletion of issue cards exceeded time limit");
     }
 
+    /**
+     * Verifies that scrolling through a large number of issues in {@code IssueListPanel}, which rebinds the cards
+     * of the reused cells, requires lesser than {@code SCROLLING_TIMEOUT} milliseconds to execute.
+     * Run with the {@code headless} task to measure it without a display.
+     */
+    @Test
+    public void scrollPerformanceTest() throws Exception {
+        ObservableList<Issue> backingList = createBackingList(10000);
+        initUi(backingList);
+
+        assertTimeoutPreemptively(ofMillis(SCROLLING_TIMEOUT), () -> guiRobot.interact(() -> {
+            for (int i = 0; i < backingList.size(); i += 10) {
+                issueListView.scrollTo(i);
+                // lays out the cells immediately, so that every scroll position is rendered
+                issueListView.layout();
+            }
+            issueListView.scrollTo(0);
+            issueListView.layout();
+        }), "Scrolling through issue cards exceeded time limit");
+
+        assertEquals("1. ", issueListPanelHandle.getIssueCardHandle(0).getId());
+    }
+
     /**
      * Returns a list of issues containing {@code issueCount} issues that is used to populate the
      * {@code IssueListPanel}.
@@ -108,7 +134,7 @@ public class IssueListPanelTest extends GuiUnitTest {
         IssueListPanel issueListPanel = new IssueListPanel(backingList);
         uiPartRule.setUiPart(issueListPanel);
 
-        issueListPanelHandle = new IssueListPanelHandle(getChildNode(issueListPanel.getRoot(),
-                IssueListPanelHandle.ISSUE_LIST_VIEW_ID));
+        issueListView = getChildNode(issueListPanel.getRoot(), IssueListPanelHandle.ISSUE_LIST_VIEW_ID);
+        issueListPanelHandle = new IssueListPanelHandle(issueListView);
     }
 }
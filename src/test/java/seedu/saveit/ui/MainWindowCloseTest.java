@@ -17,6 +17,8 @@ import seedu.saveit.logic.LogicManager;
 import seedu.saveit.logic.SuggestionLogicManager;
 import seedu.saveit.model.ModelManager;
 import seedu.saveit.model.UserPrefs;
+import seedu.saveit.storage.pagecache.PageCache;
+import seedu.saveit.testutil.TestUtil;
 import seedu.saveit.ui.testutil.EventsCollectorRule;
 
 /**
@@ -35,7 +37,8 @@ public class MainWindowCloseTest extends GuiUnitTest {
         FxToolkit.setupStage(stage -> {
             this.stage = stage;
             mainWindow = new MainWindow(stage, new Config(), new UserPrefs(), new LogicManager(new ModelManager()),
-                    new SuggestionLogicManager(new ModelManager()));
+                    new SuggestionLogicManager(new ModelManager()),
+                    new PageCache(TestUtil.getFilePathInSandboxFolder("pagecache")));
             mainWindowHandle = new EmptyMainWindowHandle(stage);
 
             stage.setScene(mainWindow.getRoot().getScene());
@@ -23,6 +23,21 @@ public class SolutionCardTest extends GuiUnitTest {
         assertCardDisplay(solutionCard, solution, 1);
     }
 
+    @Test
+    public void setSolution_reusedCard_displaysNewSolution() {
+        SolutionCard solutionCard = new SolutionCard();
+        uiPartRule.setUiPart(solutionCard);
+
+        Solution solution = new SolutionBuilder().build();
+        guiRobot.interact(() -> solutionCard.setSolution(solution, 1));
+        assertCardDisplay(solutionCard, solution, 1);
+
+        Solution otherSolution = new SolutionBuilder().withLink("https://www.example.com").withRemark("other").build();
+        guiRobot.interact(() -> solutionCard.setSolution(otherSolution, 2));
+        assertCardDisplay(solutionCard, otherSolution, 2);
+        assertEquals(otherSolution, solutionCard.getSolution());
+    }
+
     @Test
     public void equals() {
         Issue issue = new IssueBuilder().build();
@@ -47,6 +62,11 @@ public class SolutionCardTest extends GuiUnitTest {
 
         // same issue, different index -> returns false
         assertFalse(issueCard.equals(new IssueCard(issue, 1)));
+
+        // card not bound to a solution yet -> returns false
+        SolutionCard solutionCard = new SolutionCard(new SolutionBuilder().build(), 1);
+        assertFalse(new SolutionCard().equals(solutionCard));
+        assertTrue(new SolutionCard().equals(new SolutionCard()));
     }
 
     /**
@@ -3,8 +3,12 @@ package systemtests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_ISSUE;
+import static seedu.saveit.testutil.TypicalIndexes.INDEX_FIRST_SOLUTION;
+import static seedu.saveit.testutil.TypicalIndexes.INDEX_SECOND_ISSUE;
 import static seedu.saveit.ui.testutil.GuiTestAssert.assertListMatching;
 
 import org.junit.Ignore;
@@ -12,8 +16,10 @@ import org.junit.Test;
 
 import guitests.GuiRobot;
 import guitests.guihandles.HelpWindowHandle;
+import javafx.scene.web.WebView;
 import seedu.saveit.logic.commands.DeleteCommand;
 import seedu.saveit.logic.commands.HelpCommand;
+import seedu.saveit.logic.commands.HomeCommand;
 import seedu.saveit.logic.commands.SelectCommand;
 import seedu.saveit.ui.BrowserPanel;
 import seedu.saveit.ui.StatusBarFooter;
@@ -45,9 +51,17 @@ public class HelpCommandSystemTest extends SaveItSystemTest {
         getMainMenu().openHelpWindowUsingAccelerator();
         assertHelpWindowOpen();
 
+        // the placeholder shown until the browser panel is created does not consume the accelerator
+        getBrowserPanel().click();
+        getMainMenu().openHelpWindowUsingAccelerator();
+        assertHelpWindowOpen();
+
+        // the browser consumes the accelerator once the browser panel is created
+        selectFirstSolution();
         getBrowserPanel().click();
         getMainMenu().openHelpWindowUsingAccelerator();
         assertHelpWindowNotOpen();
+        executeCommand(HomeCommand.COMMAND_WORD);
 
         //use menu button
         getMainMenu().openHelpWindowUsingMenu();
@@ -89,6 +103,40 @@ public class HelpCommandSystemTest extends SaveItSystemTest {
         assertEquals(1, guiRobot.getNumberOfWindowsShown(HelpWindowHandle.HELP_WINDOW_TITLE));
     }
 
+    @Test
+    public void selectSolution_browserPanelNotCreated_browserPanelCreated() {
+        assertFalse(getBrowserPanel().isCreated());
+
+        // selecting an issue only shows its solutions
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_ISSUE.getOneBased());
+        assertFalse(getBrowserPanel().isCreated());
+
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_SOLUTION.getOneBased());
+        assertTrue(getBrowserPanel().isCreated());
+        assertNotNull(getBrowserPanel().getLoadedUrl());
+    }
+
+    @Test
+    public void selectSolution_browserPanelCreated_solutionShownInSameBrowserPanel() {
+        selectFirstSolution();
+        WebView browser = getBrowserPanel().getWebView().get();
+
+        executeCommand(HomeCommand.COMMAND_WORD);
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_SECOND_ISSUE.getOneBased());
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_SOLUTION.getOneBased());
+        assertSame(browser, getBrowserPanel().getWebView().get());
+        assertTrue(getBrowserPanel().isUrlChanged());
+    }
+
+    /**
+     * Selects the first solution of the first issue, creating the browser panel if it has yet to be created.
+     */
+    private void selectFirstSolution() {
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_ISSUE.getOneBased());
+        executeCommand(SelectCommand.COMMAND_WORD + " " + INDEX_FIRST_SOLUTION.getOneBased());
+        assertTrue(getBrowserPanel().isCreated());
+    }
+
     /**
      * Asserts that the help window is open, and closes it after checking.
      */